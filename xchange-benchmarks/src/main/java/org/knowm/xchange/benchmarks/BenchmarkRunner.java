@@ -0,0 +1,28 @@
+package org.knowm.xchange.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, which reports the allocation rate per operation next to
+ * the time. The usual JMH options are accepted, e.g.
+ *
+ * <pre>
+ * mvn -pl xchange-benchmarks -am package -DskipTests
+ * java -jar xchange-benchmarks/target/benchmarks.jar OrderBook -f 1 -wi 3 -i 5
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws Exception {
+    Options options =
+        new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,96 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.binance.dto.DepthBinanceWebSocketTransaction;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses Binance's diff depth messages and applies their levels to a 1000 level {@link OrderBook},
+ * as the streaming service does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinanceStreamingBenchmark {
+
+  private static final int DEPTH = 1000;
+  private static final BigDecimal TICK = new BigDecimal("0.01");
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  private byte[] payload;
+  private DepthBinanceWebSocketTransaction transaction;
+  private OrderBook orderBook;
+
+  @Setup
+  public void setUp() throws IOException {
+    payload = Payloads.read("binance-depth-update.json");
+    transaction = parse();
+    BinanceOrderbook diff = transaction.getOrderBook();
+    List<LimitOrder> asks = new ArrayList<>(DEPTH);
+    List<LimitOrder> bids = new ArrayList<>(DEPTH);
+    for (int i = 0; i < DEPTH; i++) {
+      BigDecimal offset = TICK.multiply(BigDecimal.valueOf(i));
+      asks.add(limitOrder(OrderType.ASK, diff.asks.firstKey().add(offset)));
+      bids.add(limitOrder(OrderType.BID, diff.bids.firstKey().subtract(offset)));
+    }
+    orderBook = new OrderBook(null, asks, bids);
+  }
+
+  private static LimitOrder limitOrder(OrderType type, BigDecimal price) {
+    return new LimitOrder(type, BigDecimal.ONE, CurrencyPair.BTC_USDT, "", null, price);
+  }
+
+  @Benchmark
+  public DepthBinanceWebSocketTransaction parse() throws IOException {
+    return mapper.readValue(payload, DepthBinanceWebSocketTransaction.class);
+  }
+
+  @Benchmark
+  public OrderBook apply() {
+    BinanceOrderbook diff = transaction.getOrderBook();
+    long exchangeTimeNanos = TimeUnit.MILLISECONDS.toNanos(transaction.getEventTime().getTime());
+    apply(OrderType.BID, diff.bids, exchangeTimeNanos);
+    apply(OrderType.ASK, diff.asks, exchangeTimeNanos);
+    return orderBook;
+  }
+
+  private void apply(OrderType type, Map<BigDecimal, BigDecimal> levels, long exchangeTimeNanos) {
+    for (Map.Entry<BigDecimal, BigDecimal> level : levels.entrySet()) {
+      orderBook.update(
+          new OrderBookUpdate(
+              type,
+              level.getValue(),
+              CurrencyPair.BTC_USDT,
+              level.getKey(),
+              exchangeTimeNanos,
+              exchangeTimeNanos,
+              level.getValue()));
+    }
+  }
+}
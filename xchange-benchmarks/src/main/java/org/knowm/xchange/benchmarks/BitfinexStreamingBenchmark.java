@@ -0,0 +1,72 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexOrderbook;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSnapshotOrderbook;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUpdateOrderbook;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.bitfinex.service.BitfinexAdapters;
+import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses Bitfinex's book messages and adapts the book, which the streaming service does for every
+ * update: apply the level, then sort the whole book into a {@link BitfinexDepth} and adapt it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitfinexStreamingBenchmark {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  private byte[] snapshotPayload;
+  private byte[] updatePayload;
+  private BitfinexWebSocketUpdateOrderbook update;
+  private BitfinexOrderbook orderbook;
+
+  @Setup
+  public void setUp() throws IOException {
+    snapshotPayload = Payloads.read("bitfinex-book-snapshot.json");
+    updatePayload = Payloads.read("bitfinex-book-update.json");
+    update = parseUpdate();
+    orderbook = parseSnapshot().toBitfinexOrderBook(null);
+  }
+
+  @Benchmark
+  public BitfinexWebSocketSnapshotOrderbook parseSnapshot() throws IOException {
+    return mapper.readValue(snapshotPayload, BitfinexWebSocketSnapshotOrderbook.class);
+  }
+
+  @Benchmark
+  public BitfinexWebSocketUpdateOrderbook parseUpdate() throws IOException {
+    return mapper.readValue(updatePayload, BitfinexWebSocketUpdateOrderbook.class);
+  }
+
+  @Benchmark
+  public BitfinexDepth toBitfinexDepth() {
+    return orderbook.toBitfinexDepth();
+  }
+
+  @Benchmark
+  public OrderBook applyUpdate() {
+    return BitfinexAdapters.adaptOrderBook(
+        update.toBitfinexOrderBook(orderbook).toBitfinexDepth(), CurrencyPair.BTC_USD);
+  }
+}
@@ -0,0 +1,88 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.coinbasepro.CoinbaseProStreamingAdapters;
+import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses Coinbase Pro's ticker and level 2 messages, and applies the level 2 updates to the books
+ * kept by the streaming service, which builds an {@link OrderBook} of the given depth from them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoinbaseProStreamingBenchmark {
+
+  private static final int BOOK_LEVELS = 1000;
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  @Param({"0", "50"})
+  public int maxDepth;
+
+  private byte[] tickerPayload;
+  private byte[] updatePayload;
+  private String time;
+  private CoinbaseProWebSocketTransaction update;
+  private SortedMap<BigDecimal, BigDecimal> bids;
+  private SortedMap<BigDecimal, BigDecimal> asks;
+
+  @Setup
+  public void setUp() throws IOException {
+    tickerPayload = Payloads.read("coinbasepro-ticker.json");
+    updatePayload = Payloads.read("coinbasepro-l2update.json");
+    time = parseTicker().getTime();
+    update = parseUpdate();
+    bids = new TreeMap<>(Collections.reverseOrder());
+    asks = new TreeMap<>();
+    BigDecimal mid = new BigDecimal("9414.885");
+    for (int i = 0; i < BOOK_LEVELS; i++) {
+      BigDecimal offset = BigDecimal.valueOf(5 + 10 * i, 3);
+      bids.put(mid.subtract(offset).setScale(2), BigDecimal.ONE);
+      asks.put(mid.add(offset).setScale(2), BigDecimal.ONE);
+    }
+  }
+
+  @Benchmark
+  public CoinbaseProWebSocketTransaction parseTicker() throws IOException {
+    return mapper.readValue(tickerPayload, CoinbaseProWebSocketTransaction.class);
+  }
+
+  @Benchmark
+  public CoinbaseProWebSocketTransaction parseUpdate() throws IOException {
+    return mapper.readValue(updatePayload, CoinbaseProWebSocketTransaction.class);
+  }
+
+  @Benchmark
+  public long parseTime() {
+    return CoinbaseProStreamingAdapters.parseTimeNanos(time);
+  }
+
+  @Benchmark
+  public OrderBook applyUpdate() {
+    return update.toOrderBook(bids, asks, maxDepth, CurrencyPair.BTC_USD);
+  }
+}
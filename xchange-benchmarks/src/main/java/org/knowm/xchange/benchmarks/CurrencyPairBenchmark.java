@@ -0,0 +1,53 @@
+package org.knowm.xchange.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing and formatting of the currency pairs, done for most messages of most venues. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrencyPairBenchmark {
+
+  @Param({"BTC/USD", "USDT/DAI"})
+  public String symbol;
+
+  private CurrencyPair pair;
+  private String base;
+
+  @Setup
+  public void setUp() {
+    pair = new CurrencyPair(symbol);
+    base = pair.base.getCurrencyCode();
+  }
+
+  @Benchmark
+  public CurrencyPair parse() {
+    return new CurrencyPair(symbol);
+  }
+
+  @Benchmark
+  public String format() {
+    return pair.toString();
+  }
+
+  @Benchmark
+  public Currency currencyInstance() {
+    return Currency.getInstance(base);
+  }
+}
@@ -0,0 +1,118 @@
+package org.knowm.xchange.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.binance.BinanceAuthenticated;
+import org.knowm.xchange.binance.service.BinanceHmacDigest;
+import org.knowm.xchange.kraken.KrakenAuthenticated;
+import org.knowm.xchange.kraken.service.KrakenDigest;
+import org.knowm.xchange.service.BaseParamsDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import si.mazi.rescu.FormUrlEncodedRequestWriter;
+import si.mazi.rescu.Params;
+import si.mazi.rescu.ParamsDigest;
+import si.mazi.rescu.RequestWriterResolver;
+import si.mazi.rescu.RestInvocation;
+import si.mazi.rescu.RestMethodMetadata;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * Signs the requests of the authenticated APIs, as rescu does for every private call: Kraken's
+ * SHA-256 and HMAC-SHA512 of a form body, and Binance's HMAC-SHA256 of a query string.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigestBenchmark {
+
+  private static final String SECRET_KEY_BASE64 =
+      "kQH5HW/8p1uGOVjbgWA7FunAmGO8lsSUXNsu3eow76sz84Q18fWxnyRzBHCd3pd5nE9qa99HAZtuZuj6F1huXg==";
+
+  private BaseParamsDigest krakenDigest;
+  private RestInvocation krakenInvocation;
+
+  private BaseParamsDigest binanceDigest;
+  private RestInvocation binanceInvocation;
+
+  @Setup
+  public void setUp() throws Exception {
+    krakenDigest = KrakenDigest.createInstance(SECRET_KEY_BASE64);
+    Map<Class<? extends Annotation>, Params> krakenParams =
+        RestInvocation.createEmptyParamsMap(null);
+    krakenParams.put(FormParam.class, Params.of("nonce", 1616492376594L));
+    krakenInvocation =
+        new RestInvocation(
+            krakenParams,
+            Collections.emptyList(),
+            RestMethodMetadata.create(
+                KrakenAuthenticated.class.getMethod(
+                    "balance", String.class, ParamsDigest.class, SynchronizedValueFactory.class),
+                "https://api.kraken.com",
+                "0"),
+            "private/Balance",
+            "https://api.kraken.com/0/private/Balance",
+            "",
+            "0/private/Balance",
+            formWriter());
+
+    binanceDigest = BinanceHmacDigest.createInstance(SECRET_KEY_BASE64);
+    Map<Class<? extends Annotation>, Params> binanceParams =
+        RestInvocation.createEmptyParamsMap(null);
+    binanceParams.put(
+        QueryParam.class,
+        Params.of("symbol", "BTCUSDT", "recvWindow", 5000L, "timestamp", 1616492376594L));
+    String query = binanceParams.get(QueryParam.class).asQueryString();
+    binanceInvocation =
+        new RestInvocation(
+            binanceParams,
+            Collections.emptyList(),
+            RestMethodMetadata.create(
+                BinanceAuthenticated.class.getMethod(
+                    "openOrders",
+                    String.class,
+                    Long.class,
+                    SynchronizedValueFactory.class,
+                    String.class,
+                    ParamsDigest.class),
+                "https://api.binance.com",
+                ""),
+            "api/v3/openOrders",
+            "https://api.binance.com/api/v3/openOrders?" + query + "&signature=",
+            query,
+            "api/v3/openOrders",
+            formWriter());
+  }
+
+  private static RequestWriterResolver formWriter() {
+    RequestWriterResolver resolver = new RequestWriterResolver();
+    resolver.addWriter(MediaType.APPLICATION_FORM_URLENCODED, new FormUrlEncodedRequestWriter());
+    return resolver;
+  }
+
+  @Benchmark
+  public String krakenSign() {
+    return krakenDigest.digestParams(krakenInvocation);
+  }
+
+  @Benchmark
+  public String binanceSign() {
+    return binanceDigest.digestParams(binanceInvocation);
+  }
+}
@@ -0,0 +1,65 @@
+package org.knowm.xchange.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import info.bitrich.xchangestream.kraken.KrakenStreamingAdapters;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parses Kraken's book messages and adapts them onto the {@link OrderBook}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KrakenStreamingBenchmark {
+
+  private static final CurrencyPair XBT_EUR = new CurrencyPair("XBT/EUR");
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  private byte[] updatePayload;
+  private ArrayNode snapshot;
+  private ArrayNode update;
+  private OrderBook orderBook;
+
+  @Setup
+  public void setUp() throws IOException {
+    updatePayload = Payloads.read("kraken-book-update.json");
+    snapshot = (ArrayNode) mapper.readTree(Payloads.read("kraken-book-snapshot.json"));
+    update = (ArrayNode) mapper.readTree(updatePayload);
+    orderBook = adaptSnapshot();
+  }
+
+  @Benchmark
+  public JsonNode parseUpdate() throws IOException {
+    return mapper.readTree(updatePayload);
+  }
+
+  @Benchmark
+  public OrderBook adaptSnapshot() {
+    return KrakenStreamingAdapters.adaptOrderbookMessage(
+        new OrderBook(null, new ArrayList<>(), new ArrayList<>()), XBT_EUR, snapshot);
+  }
+
+  @Benchmark
+  public OrderBook adaptUpdate() {
+    return KrakenStreamingAdapters.adaptOrderbookMessage(orderBook, XBT_EUR, update);
+  }
+}
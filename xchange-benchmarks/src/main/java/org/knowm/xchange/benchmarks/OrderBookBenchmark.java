@@ -0,0 +1,110 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies level updates to an {@link OrderBook}. The updates replace, remove and add back levels
+ * near the top of the book, as most updates do, so the depth of the book stays the same.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookBenchmark {
+
+  private static final int UPDATES = 1024;
+  private static final BigDecimal MID = new BigDecimal("9415.00");
+  private static final BigDecimal TICK = new BigDecimal("0.50");
+
+  @Param({"25", "1000"})
+  public int depth;
+
+  private OrderBook orderBook;
+  private LimitOrder[] limitOrders;
+  private OrderBookUpdate[] orderBookUpdates;
+  private int next;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    List<LimitOrder> asks = new ArrayList<>(depth);
+    List<LimitOrder> bids = new ArrayList<>(depth);
+    for (int i = 1; i <= depth; i++) {
+      asks.add(limitOrder(OrderType.ASK, i, BigDecimal.ONE));
+      bids.add(limitOrder(OrderType.BID, i, BigDecimal.ONE));
+    }
+    orderBook = new OrderBook(null, asks, bids);
+
+    Random random = new Random(42);
+    limitOrders = new LimitOrder[UPDATES];
+    orderBookUpdates = new OrderBookUpdate[UPDATES];
+    for (int i = 0; i < UPDATES; i += 2) {
+      OrderType type = random.nextBoolean() ? OrderType.ASK : OrderType.BID;
+      // geometric, so the top levels are updated most
+      int level = 1 + Math.min(depth - 1, (int) (-Math.log(random.nextDouble()) * 5));
+      BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(100_000), 4);
+      // every other update removes the level that the next one adds back
+      BigDecimal first = random.nextInt(4) == 0 ? BigDecimal.ZERO : amount;
+      limitOrders[i] = limitOrder(type, level, first);
+      limitOrders[i + 1] = limitOrder(type, level, amount);
+      orderBookUpdates[i] = orderBookUpdate(limitOrders[i]);
+      orderBookUpdates[i + 1] = orderBookUpdate(limitOrders[i + 1]);
+    }
+  }
+
+  private static LimitOrder limitOrder(OrderType type, int level, BigDecimal amount) {
+    BigDecimal offset = TICK.multiply(BigDecimal.valueOf(level));
+    BigDecimal price = type == OrderType.ASK ? MID.add(offset) : MID.subtract(offset);
+    return new LimitOrder(type, amount, CurrencyPair.BTC_USD, "", null, price);
+  }
+
+  private static OrderBookUpdate orderBookUpdate(LimitOrder limitOrder) {
+    return new OrderBookUpdate(
+        limitOrder.getType(),
+        limitOrder.getOriginalAmount(),
+        CurrencyPair.BTC_USD,
+        limitOrder.getLimitPrice(),
+        1592326800123_000000L,
+        1592326800125_000000L,
+        limitOrder.getOriginalAmount());
+  }
+
+  @Benchmark
+  public OrderBook updateLimitOrder() {
+    orderBook.update(limitOrders[next++ & (UPDATES - 1)]);
+    return orderBook;
+  }
+
+  @Benchmark
+  public OrderBook updateOrderBookUpdate() {
+    orderBook.update(orderBookUpdates[next++ & (UPDATES - 1)]);
+    return orderBook;
+  }
+
+  @Benchmark
+  public LimitOrder bestBid() {
+    return orderBook.getBids().get(0);
+  }
+}
@@ -0,0 +1,34 @@
+package org.knowm.xchange.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The payloads the benchmarks are fed with. They are read from the classpath, so the benchmarks
+ * run offline. The Kraken ones were recorded from the exchange, the others are written after the
+ * messages documented by the exchanges.
+ */
+public final class Payloads {
+
+  private Payloads() {}
+
+  /** @param name The name of the payload in the payloads directory, e.g. kraken-book-update.json */
+  public static byte[] read(String name) {
+    try (InputStream in = Payloads.class.getResourceAsStream("/payloads/" + name)) {
+      if (in == null) {
+        throw new IllegalArgumentException("No such payload: " + name);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package org.knowm.xchange.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/** Runs each benchmark once, so that a benchmark measuring a failure is caught by the build. */
+public class BenchmarksTest {
+
+  @Test
+  public void testCurrencyPair() {
+    CurrencyPairBenchmark benchmark = new CurrencyPairBenchmark();
+    benchmark.symbol = "BTC/USD";
+    benchmark.setUp();
+    assertThat(benchmark.parse().counter.getCurrencyCode()).isEqualTo("USD");
+    assertThat(benchmark.format()).isEqualTo("BTC/USD");
+    assertThat(benchmark.currencyInstance().getCurrencyCode()).isEqualTo("BTC");
+  }
+
+  @Test
+  public void testOrderBook() {
+    OrderBookBenchmark benchmark = new OrderBookBenchmark();
+    benchmark.depth = 25;
+    benchmark.setUp();
+    for (int i = 0; i < 1024; i++) {
+      benchmark.updateLimitOrder();
+    }
+    assertThat(benchmark.updateOrderBookUpdate().getAsks()).hasSize(25);
+    assertThat(benchmark.bestBid().getLimitPrice()).isEqualByComparingTo("9414.50");
+  }
+
+  @Test
+  public void testDigest() throws Exception {
+    DigestBenchmark benchmark = new DigestBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.krakenSign()).hasSize(88);
+    assertThat(benchmark.binanceSign()).hasSize(64);
+  }
+
+  @Test
+  public void testKraken() throws Exception {
+    KrakenStreamingBenchmark benchmark = new KrakenStreamingBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.parseUpdate().isArray()).isTrue();
+    assertThat(benchmark.adaptSnapshot().getAsks()).hasSize(25);
+    assertThat(benchmark.adaptUpdate().getAsks()).hasSize(26);
+  }
+
+  @Test
+  public void testBitfinex() throws Exception {
+    BitfinexStreamingBenchmark benchmark = new BitfinexStreamingBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.parseSnapshot().levels).hasSize(50);
+    assertThat(benchmark.parseUpdate().level.getPrice()).isEqualByComparingTo("9415.8");
+    assertThat(benchmark.toBitfinexDepth().getBids()).hasSize(25);
+    assertThat(benchmark.applyUpdate().getAsks()).hasSize(25);
+  }
+
+  @Test
+  public void testBinance() throws Exception {
+    BinanceStreamingBenchmark benchmark = new BinanceStreamingBenchmark();
+    benchmark.setUp();
+    assertThat(benchmark.parse().getOrderBook().bids).hasSize(20);
+    assertThat(benchmark.apply().getBids()).isNotEmpty();
+  }
+
+  @Test
+  public void testCoinbasePro() throws Exception {
+    CoinbaseProStreamingBenchmark benchmark = new CoinbaseProStreamingBenchmark();
+    benchmark.maxDepth = 50;
+    benchmark.setUp();
+    assertThat(benchmark.parseTicker().getPrice()).isEqualByComparingTo("9414.89");
+    assertThat(benchmark.parseUpdate().getType()).isEqualTo("l2update");
+    assertThat(benchmark.parseTime()).isEqualTo(1592326800_123456000L);
+    assertThat(benchmark.applyUpdate().getBids()).hasSize(50);
+  }
+}
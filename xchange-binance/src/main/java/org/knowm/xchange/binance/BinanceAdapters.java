@@ -5,6 +5,7 @@ import java.math.MathContext;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.knowm.xchange.binance.dto.account.AssetDetail;
+import org.knowm.xchange.binance.dto.marketdata.BinanceKline;
 import org.knowm.xchange.binance.dto.marketdata.BinancePriceQuantity;
 import org.knowm.xchange.binance.dto.trade.BinanceOrder;
 import org.knowm.xchange.binance.dto.trade.OrderSide;
@@ -14,6 +15,8 @@ import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.meta.CurrencyMetaData;
 import org.knowm.xchange.dto.meta.WalletHealth;
@@ -161,6 +164,25 @@ public class BinanceAdapters {
         .build();
   }
 
+  public static CandleStickData adaptCandleStickData(CurrencyPair pair, List<BinanceKline> klines) {
+    List<CandleStick> candleSticks =
+        klines.stream().map(BinanceAdapters::adaptKline).collect(Collectors.toList());
+    return new CandleStickData(pair, candleSticks);
+  }
+
+  public static CandleStick adaptKline(BinanceKline kline) {
+    return new CandleStick.Builder()
+        .open(kline.getOpenPrice())
+        .high(kline.getHighPrice())
+        .low(kline.getLowPrice())
+        .close(kline.getClosePrice())
+        .volume(kline.getVolume())
+        .quoteVolume(kline.getQuoteAssetVolume())
+        .tradeCount(kline.getNumberOfTrades())
+        .timestamp(new Date(kline.getOpenTime()))
+        .build();
+  }
+
   public static List<Ticker> adaptPriceQuantities(List<BinancePriceQuantity> priceQuantities) {
     return priceQuantities.stream()
         .map(BinanceAdapters::adaptPriceQuantity)
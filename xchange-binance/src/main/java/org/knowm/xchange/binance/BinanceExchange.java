@@ -1,8 +1,10 @@
 package org.knowm.xchange.binance;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.ExchangeSpecification;
@@ -19,6 +21,7 @@ import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.CurrencyMetaData;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.utils.AuthUtils;
 import org.slf4j.Logger;
@@ -33,7 +36,7 @@ public class BinanceExchange extends BaseExchange {
   
   private static ResilienceRegistries RESILIENCE_REGISTRIES;
 
-  private BinanceExchangeInfo exchangeInfo;
+  private volatile BinanceExchangeInfo exchangeInfo;
   private BinanceAuthenticated binance;
   private SynchronizedValueFactory<Long> timestampFactory;
 
@@ -88,7 +91,28 @@ public class BinanceExchange extends BaseExchange {
 
   public BinanceExchangeInfo getExchangeInfo() {
 
-    return exchangeInfo;
+    BinanceExchangeInfo info = exchangeInfo;
+    if (info == null && exchangeSpecification.getMetaDataCacheDirectory() != null) {
+      // the meta data was loaded from the cache, fetch the exchange info on first use
+      synchronized (this) {
+        info = exchangeInfo;
+        if (info == null) {
+          try {
+            info = ((BinanceMarketDataService) marketDataService).getExchangeInfo();
+          } catch (IOException e) {
+            throw new ExchangeException("Failed to get the exchange info: " + e.getMessage(), e);
+          }
+          exchangeInfo = info;
+        }
+      }
+    }
+    return info;
+  }
+
+  @Override
+  protected boolean isMetaDataCacheSupported() {
+
+    return true;
   }
 
   @Override
@@ -96,19 +120,22 @@ public class BinanceExchange extends BaseExchange {
 
     try {
       // populate currency pair keys only, exchange does not provide any other metadata for download
-      Map<CurrencyPair, CurrencyPairMetaData> currencyPairs = exchangeMetaData.getCurrencyPairs();
-      Map<Currency, CurrencyMetaData> currencies = exchangeMetaData.getCurrencies();
+      // into copies, the current meta data may be in use while it is refreshed
+      // the pairs are rebuilt from the exchange info, so pairs delisted since a cached copy go
+      ExchangeMetaData staticMetaData = exchangeMetaData;
+      Map<CurrencyPair, CurrencyPairMetaData> currencyPairs = new HashMap<>();
+      Map<Currency, CurrencyMetaData> currencies = new HashMap<>();
 
       BinanceMarketDataService marketDataService =
           (BinanceMarketDataService) this.marketDataService;
-      exchangeInfo = marketDataService.getExchangeInfo();
+      BinanceExchangeInfo exchangeInfo = marketDataService.getExchangeInfo();
       Symbol[] symbols = exchangeInfo.getSymbols();
 
       BinanceAccountService accountService = (BinanceAccountService) getAccountService();
       Map<String, AssetDetail> assetDetailMap = accountService.getAssetDetails();
-      // Clear all hardcoded currencies when loading dynamically from exchange.
-      if (assetDetailMap != null) {
-        currencies.clear();
+      // Drop all hardcoded currencies when loading dynamically from exchange.
+      if (assetDetailMap == null) {
+        currencies.putAll(staticMetaData.getCurrencies());
       }
       
       for (Symbol symbol : symbols) {
@@ -120,11 +147,21 @@ public class BinanceExchange extends BaseExchange {
         int basePrecision = Integer.parseInt(symbol.getBaseAssetPrecision());
         int counterPrecision = Integer.parseInt(symbol.getQuotePrecision());
       
-        addCurrencyPairMetaData(currencyPairs, symbol, pair);
+        addCurrencyPairMetaData(
+            currencyPairs, staticMetaData.getCurrencyPairs().get(pair), symbol, pair);
   
         addCurrencyMetadata(currencies, assetDetailMap, pair.base, basePrecision);
         addCurrencyMetadata(currencies, assetDetailMap, pair.counter, counterPrecision);
       }
+
+      this.exchangeInfo = exchangeInfo;
+      exchangeMetaData =
+          new ExchangeMetaData(
+              currencyPairs,
+              currencies,
+              staticMetaData.getPublicRateLimits(),
+              staticMetaData.getPrivateRateLimits(),
+              staticMetaData.isShareRateLimits());
     } catch (Exception e) {
       throw new ExchangeException("Failed to initialize: " + e.getMessage(), e);
     }
@@ -132,11 +169,11 @@ public class BinanceExchange extends BaseExchange {
   
   private void addCurrencyPairMetaData(
     Map<CurrencyPair, CurrencyPairMetaData> currencyPairs, 
+    CurrencyPairMetaData existingPairMetaData,
 	Symbol symbol,
 	CurrencyPair pair) {
 	
-    CurrencyPairMetaData existingPairMetaData = currencyPairs.get(pair);
-    
+
     // defaults
     int priceScale = 8;
     int amountScale = 8;
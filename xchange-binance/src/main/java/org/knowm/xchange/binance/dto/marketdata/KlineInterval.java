@@ -4,6 +4,8 @@ import static java.util.concurrent.TimeUnit.DAYS;
 import static java.util.concurrent.TimeUnit.HOURS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
+import java.util.Optional;
+
 public enum KlineInterval {
   m1("1m", MINUTES.toMillis(1)),
   m3("3m", MINUTES.toMillis(3)),
@@ -40,4 +42,14 @@ public enum KlineInterval {
   public String code() {
     return code;
   }
+
+  /** @return The interval of the given length, if any. */
+  public static Optional<KlineInterval> fromPeriodInSecs(long periodInSecs) {
+    for (KlineInterval interval : values()) {
+      if (interval.millis == periodInSecs * 1000) {
+        return Optional.of(interval);
+      }
+    }
+    return Optional.empty();
+  }
 }
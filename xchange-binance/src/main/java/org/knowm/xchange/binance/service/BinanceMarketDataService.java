@@ -10,12 +10,15 @@ import org.knowm.xchange.binance.BinanceErrorAdapter;
 import org.knowm.xchange.binance.BinanceExchange;
 import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.marketdata.BinanceAggTrades;
+import org.knowm.xchange.binance.dto.marketdata.BinanceKline;
 import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinancePriceQuantity;
 import org.knowm.xchange.binance.dto.marketdata.BinanceTicker24h;
+import org.knowm.xchange.binance.dto.marketdata.KlineInterval;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -24,6 +27,7 @@ import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.params.CandleStickDataParams;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
@@ -144,6 +148,33 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
     }
   }
 
+  /**
+   * The period of the params must match a {@link KlineInterval}, the limit defaults to 500 and is
+   * at most 1000.
+   */
+  @Override
+  public CandleStickData getCandleStickData(CurrencyPair pair, CandleStickDataParams params)
+      throws IOException {
+    KlineInterval interval =
+        KlineInterval.fromPeriodInSecs(params.getPeriodInSecs())
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Unsupported candle period: " + params.getPeriodInSecs() + "s"));
+    try {
+      List<BinanceKline> klines =
+          klines(
+              pair,
+              interval,
+              params.getLimit(),
+              params.getStartDate() == null ? null : params.getStartDate().getTime(),
+              params.getEndDate() == null ? null : params.getEndDate().getTime());
+      return BinanceAdapters.adaptCandleStickData(pair, klines);
+    } catch (BinanceException e) {
+      throw BinanceErrorAdapter.adapt(e);
+    }
+  }
+
   public List<Ticker> getAllBookTickers() throws IOException {
     List<BinancePriceQuantity> binanceTickers = tickerAllBookTickers();
     return BinanceAdapters.adaptPriceQuantities(binanceTickers);
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,11 +28,13 @@ import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.dto.trade.OrderQueryResult;
 import org.knowm.xchange.dto.trade.StopOrder;
 import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.service.trade.ConcurrentOrderQuery;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByCurrencyPair;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
@@ -51,6 +54,8 @@ import org.knowm.xchange.utils.Assert;
 
 public class BinanceTradeService extends BinanceTradeServiceRaw implements TradeService {
 
+  private static final int ORDER_QUERY_PARALLELISM = 10;
+
   public BinanceTradeService(
       BinanceExchange exchange,
       BinanceAuthenticated binance,
@@ -306,34 +311,47 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
 
   @Override
   public Collection<Order> getOrder(OrderQueryParams... params) throws IOException {
-    try {
-      Collection<Order> orders = new ArrayList<>();
-      for (OrderQueryParams param : params) {
-        if (!(param instanceof OrderQueryParamCurrencyPair)) {
-          throw new ExchangeException(
-              "Parameters must be an instance of OrderQueryParamCurrencyPair");
-        }
-        OrderQueryParamCurrencyPair orderQueryParamCurrencyPair =
-            (OrderQueryParamCurrencyPair) param;
-        if (orderQueryParamCurrencyPair.getCurrencyPair() == null
-            || orderQueryParamCurrencyPair.getOrderId() == null) {
-          throw new ExchangeException(
-              "You need to provide the currency pair and the order id to query an order.");
-        }
+    for (OrderQueryParams param : params) {
+      checkOrderQueryParams(param);
+    }
+    return ConcurrentOrderQuery.queryAll(params, this::queryOrder, ORDER_QUERY_PARALLELISM);
+  }
 
-        orders.add(
-            BinanceAdapters.adaptOrder(
-                super.orderStatus(
-                    orderQueryParamCurrencyPair.getCurrencyPair(),
-                    BinanceAdapters.id(orderQueryParamCurrencyPair.getOrderId()),
-                    null)));
-      }
-      return orders;
+  /**
+   * Queries the orders concurrently, each request waiting for its permit of the request weight
+   * rate limiter.
+   */
+  @Override
+  public Iterator<OrderQueryResult> getOrderResults(OrderQueryParams... params) {
+    return ConcurrentOrderQuery.query(params, this::queryOrder, ORDER_QUERY_PARALLELISM);
+  }
+
+  private Order queryOrder(OrderQueryParams param) throws IOException {
+    checkOrderQueryParams(param);
+    OrderQueryParamCurrencyPair orderQueryParamCurrencyPair = (OrderQueryParamCurrencyPair) param;
+    try {
+      return BinanceAdapters.adaptOrder(
+          super.orderStatus(
+              orderQueryParamCurrencyPair.getCurrencyPair(),
+              BinanceAdapters.id(orderQueryParamCurrencyPair.getOrderId()),
+              null));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  private static void checkOrderQueryParams(OrderQueryParams param) {
+    if (!(param instanceof OrderQueryParamCurrencyPair)) {
+      throw new ExchangeException("Parameters must be an instance of OrderQueryParamCurrencyPair");
+    }
+    OrderQueryParamCurrencyPair orderQueryParamCurrencyPair = (OrderQueryParamCurrencyPair) param;
+    if (orderQueryParamCurrencyPair.getCurrencyPair() == null
+        || orderQueryParamCurrencyPair.getOrderId() == null) {
+      throw new ExchangeException(
+          "You need to provide the currency pair and the order id to query an order.");
+    }
+  }
+
   public interface BinanceOrderFlags extends IOrderFlags {
 
     static BinanceOrderFlags withClientId(String clientId) {
@@ -37,6 +37,7 @@ import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexOrderFlags;
 import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexOrderStatusResponse;
 import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexTradeResponse;
 import org.knowm.xchange.bitfinex.v2.dto.account.Movement;
+import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexCandle;
 import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexPublicTrade;
 import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexTickerFundingCurrency;
 import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexTickerTraidingPair;
@@ -49,6 +50,8 @@ import org.knowm.xchange.dto.account.Balance;
 import org.knowm.xchange.dto.account.Fee;
 import org.knowm.xchange.dto.account.FundingRecord;
 import org.knowm.xchange.dto.account.Wallet;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -900,6 +903,23 @@ public final class BitfinexAdapters {
 
   ////// v2
 
+  public static CandleStickData adaptCandleStickData(
+      List<BitfinexCandle> candles, CurrencyPair currencyPair) {
+    List<CandleStick> candleSticks = new ArrayList<>(candles.size());
+    for (BitfinexCandle candle : candles) {
+      candleSticks.add(
+          new CandleStick.Builder()
+              .open(BigDecimal.valueOf(candle.getOpen()))
+              .high(BigDecimal.valueOf(candle.getHigh()))
+              .low(BigDecimal.valueOf(candle.getLow()))
+              .close(BigDecimal.valueOf(candle.getClose()))
+              .volume(BigDecimal.valueOf(candle.getVolume()))
+              .timestamp(new Date(candle.getMillisecondTimestamp()))
+              .build());
+    }
+    return new CandleStickData(currencyPair, candleSticks);
+  }
+
   public static String adaptCurrencyPairsToTickersParam(Collection<CurrencyPair> currencyPairs) {
     return currencyPairs == null || currencyPairs.isEmpty()
         ? "ALL"
@@ -3,7 +3,9 @@ package org.knowm.xchange.bitfinex.service;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.bitfinex.BitfinexErrorAdapter;
@@ -14,6 +16,7 @@ import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexLendDepth;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexTrade;
 import org.knowm.xchange.bitfinex.v2.dto.marketdata.BitfinexTicker;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.LoanOrderBook;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
@@ -22,6 +25,7 @@ import org.knowm.xchange.dto.trade.FixedRateLoanOrder;
 import org.knowm.xchange.dto.trade.FloatingRateLoanOrder;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.params.CandleStickDataParams;
 import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
 import org.knowm.xchange.service.marketdata.params.Params;
 
@@ -35,6 +39,22 @@ import org.knowm.xchange.service.marketdata.params.Params;
 public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
     implements MarketDataService {
 
+  private static final Map<Long, String> CANDLE_TIMEFRAMES = new HashMap<>();
+
+  static {
+    CANDLE_TIMEFRAMES.put(60L, "1m");
+    CANDLE_TIMEFRAMES.put(300L, "5m");
+    CANDLE_TIMEFRAMES.put(900L, "15m");
+    CANDLE_TIMEFRAMES.put(1800L, "30m");
+    CANDLE_TIMEFRAMES.put(3600L, "1h");
+    CANDLE_TIMEFRAMES.put(10800L, "3h");
+    CANDLE_TIMEFRAMES.put(21600L, "6h");
+    CANDLE_TIMEFRAMES.put(43200L, "12h");
+    CANDLE_TIMEFRAMES.put(86400L, "1D");
+    CANDLE_TIMEFRAMES.put(604800L, "1W");
+    CANDLE_TIMEFRAMES.put(1209600L, "14D");
+  }
+
   /**
    * Constructor
    *
@@ -248,4 +268,30 @@ public class BitfinexMarketDataService extends BitfinexMarketDataServiceRaw
       throw BitfinexErrorAdapter.adapt(e);
     }
   }
+
+  /**
+   * The period of the params must be one of the Bitfinex time frames, 1m, 5m, 15m, 30m, 1h, 3h,
+   * 6h, 12h, 1D, 1W or 14D. The limit defaults to 100 and is at most 10000.
+   */
+  @Override
+  public CandleStickData getCandleStickData(
+      CurrencyPair currencyPair, CandleStickDataParams params) throws IOException {
+    String timeframe = CANDLE_TIMEFRAMES.get(params.getPeriodInSecs());
+    if (timeframe == null) {
+      throw new IllegalArgumentException(
+          "Unsupported candle period: " + params.getPeriodInSecs() + "s");
+    }
+    try {
+      return BitfinexAdapters.adaptCandleStickData(
+          getBitfinexHistoricCandles(
+              currencyPair,
+              timeframe,
+              params.getLimit(),
+              params.getStartDate() == null ? null : params.getStartDate().getTime(),
+              params.getEndDate() == null ? null : params.getEndDate().getTime()),
+          currencyPair);
+    } catch (BitfinexException e) {
+      throw BitfinexErrorAdapter.adapt(e);
+    }
+  }
 }
@@ -149,6 +149,42 @@ public class BitfinexMarketDataServiceRaw extends BitfinexBaseService {
     }
   }
 
+  /**
+   * @param timeframe One of 1m, 5m, 15m, 30m, 1h, 3h, 6h, 12h, 1D, 1W, 14D, 1M
+   * @param limit Number of candles, null for the default of 100
+   * @param startTimestamp Unix millisecs, null for none
+   * @param endTimestamp Unix millisecs, null for none
+   * @return The candles, oldest first. Without a start, the latest candles up to the end.
+   */
+  public List<BitfinexCandle> getBitfinexHistoricCandles(
+      CurrencyPair currencyPair,
+      String timeframe,
+      Integer limit,
+      Long startTimestamp,
+      Long endTimestamp)
+      throws IOException {
+    try {
+      // sorted oldest first, Bitfinex returns the candles after the start, or its oldest candles
+      // if there is no start, so the latest ones are requested newest first and reversed
+      boolean oldestFirst = startTimestamp != null;
+      List<BitfinexCandle> candles =
+          bitfinexV2.getHistoricCandles(
+              timeframe,
+              BitfinexAdapters.adaptCurrencyPair(currencyPair),
+              limit,
+              startTimestamp,
+              endTimestamp,
+              oldestFirst ? 1 : -1);
+      if (!oldestFirst) {
+        candles = new ArrayList<>(candles);
+        Collections.reverse(candles);
+      }
+      return candles;
+    } catch (HttpStatusIOException e) {
+      throw new BitfinexException(e.getHttpBody());
+    }
+  }
+
   public List<BitfinexCandle> getFundingHistoricCandles(
       String candlePeriod, String pair, int fundingPeriod, int numOfCandles) throws IOException {
     final String fundingPeriodStr = "p" + fundingPeriod;
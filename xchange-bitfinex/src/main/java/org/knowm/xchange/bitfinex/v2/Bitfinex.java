@@ -49,6 +49,17 @@ public interface Bitfinex {
       @QueryParam("sort") int sort)
       throws IOException, BitfinexExceptionV2;
 
+  @GET
+  @Path("candles/trade:{timeframe}:{symbol}/hist")
+  List<BitfinexCandle> getHistoricCandles(
+      @PathParam("timeframe") String timeframe,
+      @PathParam("symbol") String symbol,
+      @QueryParam("limit") Integer limit,
+      @QueryParam("start") Long startTimestamp,
+      @QueryParam("end") Long endTimestamp,
+      @QueryParam("sort") Integer sort)
+      throws IOException, BitfinexExceptionV2;
+
   @GET
   @Path("candles/trade:{candlePeriod}:{symbol}:{fundingPeriod}/hist")
   List<BitfinexCandle> getHistoricFundingCandles(
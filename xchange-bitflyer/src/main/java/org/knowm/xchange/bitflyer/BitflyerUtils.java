@@ -1,48 +1,19 @@
 package org.knowm.xchange.bitflyer;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.utils.Timestamps;
 
 public class BitflyerUtils {
 
-  private static final SimpleDateFormat DATE_FORMAT =
-      new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-
-  private static final SimpleDateFormat DATE_FORMAT_SHORT =
-      new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-
-  static {
-    DATE_FORMAT.setTimeZone(TimeZone.getTimeZone("UTC"));
-  }
-
   private BitflyerUtils() {}
 
+  /** Parses the timestamps of bitFlyer, in UTC with or without a fraction of second. */
   public static Date parseDate(final String date) {
-    if (date.contains(".")) {
-      return parseLongDate(date);
-    } else {
-      return parseShortDate(date);
-    }
-  }
-
-  private static Date parseLongDate(final String date) {
-    try {
-      SimpleDateFormat threadSafeClone = (SimpleDateFormat) DATE_FORMAT.clone();
-      return threadSafeClone.parse(date);
-    } catch (final ParseException e) {
-      throw new ExchangeException("Illegal date/time format: " + date, e);
-    }
-  }
-
-  private static Date parseShortDate(final String date) {
     try {
-      SimpleDateFormat threadSafeClone = (SimpleDateFormat) DATE_FORMAT_SHORT.clone();
-      return threadSafeClone.parse(date);
-    } catch (final ParseException e) {
+      return new Date(Timestamps.parseIso8601Millis(date));
+    } catch (final IllegalArgumentException e) {
       throw new ExchangeException("Illegal date/time format: " + date, e);
     }
   }
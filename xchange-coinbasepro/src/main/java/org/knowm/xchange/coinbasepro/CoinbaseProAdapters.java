@@ -2,8 +2,6 @@ package org.knowm.xchange.coinbasepro;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +22,8 @@ import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.account.Balance;
 import org.knowm.xchange.dto.account.FundingRecord;
 import org.knowm.xchange.dto.account.Wallet;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -39,6 +39,7 @@ import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
 import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.utils.Timestamps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,47 +50,10 @@ public class CoinbaseProAdapters {
   private CoinbaseProAdapters() {}
 
   protected static Date parseDate(final String rawDate) {
-
-    String modified;
-    if (rawDate.length() > 23) {
-      modified = rawDate.substring(0, 23);
-    } else if (rawDate.endsWith("Z")) {
-      switch (rawDate.length()) {
-        case 20:
-          modified = rawDate.substring(0, 19) + ".000";
-          break;
-        case 22:
-          modified = rawDate.substring(0, 21) + "00";
-          break;
-        case 23:
-          modified = rawDate.substring(0, 22) + "0";
-          break;
-        default:
-          modified = rawDate;
-          break;
-      }
-    } else {
-      switch (rawDate.length()) {
-        case 19:
-          modified = rawDate + ".000";
-          break;
-        case 21:
-          modified = rawDate + "00";
-          break;
-        case 22:
-          modified = rawDate + "0";
-          break;
-        default:
-          modified = rawDate;
-          break;
-      }
-    }
     try {
-      SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-      dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-      return dateFormat.parse(modified);
-    } catch (ParseException e) {
-      logger.warn("unable to parse rawDate={} modified={}", rawDate, modified, e);
+      return new Date(Timestamps.parseIso8601Millis(rawDate));
+    } catch (IllegalArgumentException e) {
+      logger.warn("unable to parse rawDate={}", rawDate, e);
       return null;
     }
   }
@@ -295,6 +259,25 @@ public class CoinbaseProAdapters {
     return OrderStatus.UNKNOWN;
   }
 
+  /** Coinbase Pro returns the newest candle first, the candle data is in ascending order. */
+  public static CandleStickData adaptCandleStickData(
+      CoinbaseProCandle[] candles, CurrencyPair currencyPair) {
+    List<CandleStick> candleSticks = new ArrayList<>(candles.length);
+    for (int i = candles.length - 1; i >= 0; i--) {
+      CoinbaseProCandle candle = candles[i];
+      candleSticks.add(
+          new CandleStick.Builder()
+              .open(candle.getOpen())
+              .high(candle.getHigh())
+              .low(candle.getLow())
+              .close(candle.getClose())
+              .volume(candle.getVolume())
+              .timestamp(candle.getTime())
+              .build());
+    }
+    return new CandleStickData(currencyPair, candleSticks);
+  }
+
   public static Trades adaptTrades(
       List<CoinbaseProTrade> coinbaseProTradesList, CurrencyPair currencyPair) {
     CoinbaseProTrade[] tradeArray = new CoinbaseProTrade[coinbaseProTradesList.size()];
@@ -373,11 +356,16 @@ public class CoinbaseProAdapters {
       CoinbaseProProduct[] products,
       CoinbaseProCurrency[] cbCurrencies) {
 
+    // copies, the given meta data may be in use while it is refreshed
     Map<CurrencyPair, CurrencyPairMetaData> currencyPairs =
-        exchangeMetaData == null ? new HashMap<>() : exchangeMetaData.getCurrencyPairs();
+        exchangeMetaData == null
+            ? new HashMap<>()
+            : new HashMap<>(exchangeMetaData.getCurrencyPairs());
 
     Map<Currency, CurrencyMetaData> currencies =
-        exchangeMetaData == null ? new HashMap<>() : exchangeMetaData.getCurrencies();
+        exchangeMetaData == null
+            ? new HashMap<>()
+            : new HashMap<>(exchangeMetaData.getCurrencies());
 
     for (CoinbaseProProduct product : products) {
       if (!product.getStatus().equals("online")) {
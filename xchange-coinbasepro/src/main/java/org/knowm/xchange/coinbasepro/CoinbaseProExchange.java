@@ -14,6 +14,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProCurrency;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProduct;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProAccountService;
@@ -24,6 +25,8 @@ import si.mazi.rescu.SynchronizedValueFactory;
 
 public class CoinbaseProExchange extends BaseExchange {
 
+  private static ResilienceRegistries RESILIENCE_REGISTRIES;
+
   /** Adjust host parameters depending on exchange specific parameters */
   private static void concludeHostParams(ExchangeSpecification exchangeSpecification) {
 
@@ -105,6 +108,14 @@ public class CoinbaseProExchange extends BaseExchange {
     return exchangeSpecification;
   }
 
+  @Override
+  public ResilienceRegistries getResilienceRegistries() {
+    if (RESILIENCE_REGISTRIES == null) {
+      RESILIENCE_REGISTRIES = CoinbaseProResilience.createRegistries();
+    }
+    return RESILIENCE_REGISTRIES;
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
     throw new UnsupportedOperationException("CoinbasePro uses timestamp rather than a nonce");
@@ -120,6 +131,11 @@ public class CoinbaseProExchange extends BaseExchange {
         CoinbaseProAdapters.adaptToExchangeMetaData(exchangeMetaData, products, currencies);
   }
 
+  @Override
+  protected boolean isMetaDataCacheSupported() {
+    return true;
+  }
+
   @NoArgsConstructor(access = AccessLevel.PRIVATE)
   public static final class Parameters {
     public static final String PARAM_USE_SANDBOX = "Use_Sandbox";
@@ -0,0 +1,26 @@
+package org.knowm.xchange.coinbasepro;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import java.time.Duration;
+import org.knowm.xchange.client.ResilienceRegistries;
+
+public final class CoinbaseProResilience {
+
+  /** Private endpoints allow 5 requests per second per profile. */
+  public static final String PRIVATE_REST_ENDPOINT_RATE_LIMITER = "privateRestEndpoint";
+
+  private CoinbaseProResilience() {}
+
+  public static ResilienceRegistries createRegistries() {
+    ResilienceRegistries registries = new ResilienceRegistries();
+    registries
+        .rateLimiters()
+        .rateLimiter(
+            PRIVATE_REST_ENDPOINT_RATE_LIMITER,
+            RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .limitForPeriod(5)
+                .build());
+    return registries;
+  }
+}
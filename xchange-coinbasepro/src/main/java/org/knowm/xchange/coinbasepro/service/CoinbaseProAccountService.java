@@ -6,8 +6,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProTransfer;
@@ -30,10 +28,13 @@ import org.knowm.xchange.service.trade.params.DefaultWithdrawFundsParams;
 import org.knowm.xchange.service.trade.params.HistoryParamsFundingType;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
+import org.knowm.xchange.utils.PagedIterator;
 
 public class CoinbaseProAccountService extends CoinbaseProAccountServiceRaw
     implements AccountService {
 
+  private static final int FUNDING_PAGE_SIZE = 100;
+
   public CoinbaseProAccountService(Exchange exchange) {
 
     super(exchange);
@@ -145,14 +146,30 @@ public class CoinbaseProAccountService extends CoinbaseProAccountServiceRaw
     return new CoinbaseProTradeHistoryParams();
   }
 
-  @Override
-  /*
-   * Warning - this method makes several API calls. The reason is that the paging functionality
-   * isn't implemented properly yet.
+  /**
+   * Collects the whole funding history of the requested type.
    *
-   * <p>It honours TradeHistoryParamCurrency for filtering to a single ccy.
+   * <p>Warning - this method makes several API calls, one per page of 100 transfers. Use {@link
+   * #getFundingHistoryIterator(TradeHistoryParams)} to process the history page by page.
    */
+  @Override
   public List<FundingRecord> getFundingHistory(TradeHistoryParams params) throws IOException {
+    List<FundingRecord> fundingHistory = new ArrayList<>();
+    try (PagedIterator<FundingRecord, ?> records = getFundingHistoryIterator(params)) {
+      records.forEachRemaining(fundingHistory::add);
+    }
+    return fundingHistory;
+  }
+
+  /**
+   * Walks the transfers of the requested type lazily, following the {@code Cb-After} cursor of
+   * each page while the previous one is consumed.
+   *
+   * <p>Requires {@link HistoryParamsFundingType} with a deposit or withdrawal type.
+   */
+  @Override
+  public PagedIterator<FundingRecord, String> getFundingHistoryIterator(
+      TradeHistoryParams params) {
 
     String fundingRecordType;
     if (params instanceof HistoryParamsFundingType
@@ -164,37 +181,29 @@ public class CoinbaseProAccountService extends CoinbaseProAccountServiceRaw
           "Type 'deposit' or 'withdraw' must be supplied using FundingRecord.Type");
     }
 
-    int maxPageSize = 100;
-
-    List<FundingRecord> fundingHistory = new ArrayList<>();
-
-    Map<String, String> accountToCurrencyMap =
-        Stream.of(getCoinbaseProAccountInfo())
-            .collect(
-                Collectors.toMap(
-                    org.knowm.xchange.coinbasepro.dto.account.CoinbaseProAccount::getId,
-                    org.knowm.xchange.coinbasepro.dto.account.CoinbaseProAccount::getCurrency));
-
-    String createdAt = null; // use to get next page
-    while (true) {
-      String createdAtFinal = createdAt;
-      CoinbaseProTransfers transfers =
-          transfers(fundingRecordType, null, null, createdAtFinal, maxPageSize);
-
-      for (CoinbaseProTransfer coinbaseProTransfer : transfers) {
-        Currency currency =
-            Currency.getInstance(accountToCurrencyMap.get(coinbaseProTransfer.getAccountId()));
-        fundingHistory.add(CoinbaseProAdapters.adaptFundingRecord(currency, coinbaseProTransfer));
-      }
-
-      if (transfers.size() < maxPageSize) {
-        break;
-      }
-
-      createdAt = transfers.getHeader("Cb-After");
-    }
-
-    return fundingHistory;
+    Map<String, String> accountToCurrencyMap = new HashMap<>();
+    return new PagedIterator<>(
+        after -> {
+          if (accountToCurrencyMap.isEmpty()) {
+            for (org.knowm.xchange.coinbasepro.dto.account.CoinbaseProAccount account :
+                getCoinbaseProAccountInfo()) {
+              accountToCurrencyMap.put(account.getId(), account.getCurrency());
+            }
+          }
+          CoinbaseProTransfers transfers =
+              transfers(fundingRecordType, null, null, after, FUNDING_PAGE_SIZE);
+
+          List<FundingRecord> records = new ArrayList<>(transfers.size());
+          for (CoinbaseProTransfer coinbaseProTransfer : transfers) {
+            Currency currency =
+                Currency.getInstance(accountToCurrencyMap.get(coinbaseProTransfer.getAccountId()));
+            records.add(CoinbaseProAdapters.adaptFundingRecord(currency, coinbaseProTransfer));
+          }
+          String next =
+              transfers.size() < FUNDING_PAGE_SIZE ? null : transfers.getHeader("Cb-After");
+          return new PagedIterator.Page<>(records, next);
+        },
+        null);
   }
 
   public static class CoinbaseProMoveFundsParams implements WithdrawFundsParams {
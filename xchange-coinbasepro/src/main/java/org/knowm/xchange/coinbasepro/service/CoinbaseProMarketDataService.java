@@ -1,25 +1,34 @@
 package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProTrades;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProCandle;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductStats;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.exceptions.RateLimitExceededException;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.params.CandleStickDataParams;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 @Slf4j
 public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRaw
     implements MarketDataService {
 
+  private static final List<Long> CANDLE_GRANULARITIES =
+      Arrays.asList(60L, 300L, 900L, 3600L, 21600L, 86400L);
+
   public CoinbaseProMarketDataService(Exchange exchange) {
 
     super(exchange);
@@ -125,4 +134,36 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
 
     throw new IllegalArgumentException("Invalid arguments passed to getTrades");
   }
+
+  /**
+   * The period of the params must be 60, 300, 900, 3600, 21600 or 86400 seconds. Coinbase Pro
+   * returns at most 300 candles, the start and end dates must be both set or both null and the
+   * limit is applied to the most recent candles.
+   */
+  @Override
+  public CandleStickData getCandleStickData(
+      CurrencyPair currencyPair, CandleStickDataParams params) throws IOException {
+
+    if (!CANDLE_GRANULARITIES.contains(params.getPeriodInSecs())) {
+      throw new IllegalArgumentException(
+          "Unsupported candle period: " + params.getPeriodInSecs() + "s");
+    }
+    CoinbaseProCandle[] candles =
+        getCoinbaseProHistoricalCandles(
+            currencyPair,
+            params.getStartDate() == null ? null : params.getStartDate().toInstant().toString(),
+            params.getEndDate() == null ? null : params.getEndDate().toInstant().toString(),
+            String.valueOf(params.getPeriodInSecs()));
+    CandleStickData data = CoinbaseProAdapters.adaptCandleStickData(candles, currencyPair);
+    List<CandleStick> candleSticks = data.getCandleSticks();
+    if (params.getLimit() != null && candleSticks.size() > params.getLimit()) {
+      data =
+          new CandleStickData(
+              currencyPair,
+              new ArrayList<>(
+                  candleSticks.subList(
+                      candleSticks.size() - params.getLimit(), candleSticks.size())));
+    }
+    return data;
+  }
 }
@@ -1,11 +1,13 @@
 package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.client.ResilienceUtils;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
+import org.knowm.xchange.coinbasepro.CoinbaseProResilience;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProFill;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProIdResponse;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
@@ -17,19 +19,29 @@ import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.dto.trade.OrderQueryResult;
 import org.knowm.xchange.dto.trade.StopOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.service.trade.ConcurrentOrderQuery;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamLimit;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.orders.DefaultOpenOrdersParamCurrencyPair;
+import org.knowm.xchange.service.trade.params.orders.DefaultQueryOrderParam;
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
 import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+import org.knowm.xchange.utils.PagedIterator;
 
 public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implements TradeService {
 
+  private static final int FILLS_PAGE_SIZE = 100;
+
+  private static final int ORDER_QUERY_PARALLELISM = 5;
+
   public CoinbaseProTradeService(Exchange exchange) {
     super(exchange);
   }
@@ -98,26 +110,75 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
     return CoinbaseProAdapters.adaptTradeHistory(coinbaseExFills);
   }
 
+  /**
+   * Walks the fills lazily from the most recent one backwards, requesting the fills older than
+   * the last trade id of each page while the previous page is consumed. The page size is the
+   * {@link TradeHistoryParamLimit limit} of the params, 100 by default.
+   */
+  @Override
+  public PagedIterator<UserTrade, Integer> getTradeHistoryIterator(TradeHistoryParams params) {
+    CoinbaseProTradeHistoryParams historyParams =
+        params instanceof CoinbaseProTradeHistoryParams
+            ? (CoinbaseProTradeHistoryParams) params
+            : new CoinbaseProTradeHistoryParams();
+    if (historyParams.getLimit() == null) {
+      historyParams.setLimit(FILLS_PAGE_SIZE);
+    }
+    int pageSize = historyParams.getLimit();
+    return new PagedIterator<>(
+        after -> {
+          historyParams.setAfterTradeId(after);
+          CoinbaseProFill[] fills = getCoinbaseProFills(historyParams);
+          Integer next =
+              fills.length < pageSize
+                  ? null
+                  : Integer.valueOf(fills[fills.length - 1].getTradeId());
+          return new PagedIterator.Page<>(
+              CoinbaseProAdapters.adaptTradeHistory(fills).getUserTrades(), next);
+        },
+        historyParams.getAfterTradeId());
+  }
+
   @Override
   public TradeHistoryParams createTradeHistoryParams() {
 
     return new CoinbaseProTradeHistoryParams();
   }
 
+  /** Queries the orders concurrently, see {@link #getOrderResults(OrderQueryParams...)}. */
   @Override
   public Collection<Order> getOrder(String... orderIds) throws IOException {
-    Collection<Order> orders = new ArrayList<>(orderIds.length);
-
-    for (String orderId : orderIds) {
-      orders.add(CoinbaseProAdapters.adaptOrder(super.getOrder(orderId)));
-    }
-
-    return orders;
+    return getOrder(
+        Arrays.stream(orderIds).map(DefaultQueryOrderParam::new).toArray(OrderQueryParams[]::new));
   }
 
   @Override
   public Collection<Order> getOrder(OrderQueryParams... orderQueryParams) throws IOException {
-    return getOrder(
-        Arrays.stream(orderQueryParams).map(OrderQueryParams::getOrderId).toArray(String[]::new));
+    return ConcurrentOrderQuery.queryAll(
+        orderQueryParams, this::queryOrder, ORDER_QUERY_PARALLELISM);
+  }
+
+  /**
+   * Queries the orders with up to five requests in flight. If rate limiting is enabled in the
+   * {@link org.knowm.xchange.ExchangeSpecification.ResilienceSpecification}, each request takes a
+   * permit of the {@link CoinbaseProResilience#PRIVATE_REST_ENDPOINT_RATE_LIMITER}, otherwise
+   * large batches can exceed the private endpoint rate limit.
+   */
+  @Override
+  public Iterator<OrderQueryResult> getOrderResults(OrderQueryParams... orderQueryParams) {
+    return ConcurrentOrderQuery.query(
+        orderQueryParams, this::queryOrder, ORDER_QUERY_PARALLELISM);
+  }
+
+  private Order queryOrder(OrderQueryParams params) throws IOException {
+    return CoinbaseProAdapters.adaptOrder(
+        ResilienceUtils.decorateApiCall(
+                exchange.getExchangeSpecification(), () -> super.getOrder(params.getOrderId()))
+            .withRateLimiter(
+                exchange
+                    .getResilienceRegistries()
+                    .rateLimiters()
+                    .rateLimiter(CoinbaseProResilience.PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+            .call());
   }
 }
@@ -4,9 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
@@ -22,9 +27,20 @@ import si.mazi.rescu.SynchronizedValueFactory;
 
 public abstract class BaseExchange implements Exchange {
 
+  /** Shared by all exchanges, an {@link ObjectMapper} is thread safe once configured. */
+  private static final ObjectMapper META_DATA_MAPPER = new ObjectMapper();
+
+  private static final Executor META_DATA_REFRESH_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r, "xchange-metadata-refresh");
+            thread.setDaemon(true);
+            return thread;
+          });
+
   protected final Logger logger = LoggerFactory.getLogger(getClass());
   protected ExchangeSpecification exchangeSpecification;
-  protected ExchangeMetaData exchangeMetaData;
+  protected volatile ExchangeMetaData exchangeMetaData;
   protected MarketDataService marketDataService;
   protected TradeService tradeService;
   protected AccountService accountService;
@@ -108,12 +124,76 @@ public abstract class BaseExchange implements Exchange {
     initServices();
 
     if (this.exchangeSpecification.isShouldLoadRemoteMetaData()) {
+      if (this.exchangeSpecification.getMetaDataCacheDirectory() != null
+          && isMetaDataCacheSupported()) {
+        initFromMetaDataCache(
+            new ExchangeMetaDataCache(
+                Paths.get(this.exchangeSpecification.getMetaDataCacheDirectory()),
+                this.exchangeSpecification.getMetaDataCacheTimeToLive()));
+      } else {
+        try {
+          logger.info("Calling Remote Init...");
+          remoteInit();
+        } catch (IOException e) {
+          throw new ExchangeException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Whether {@link #remoteInit()} only builds the {@link #exchangeMetaData}, so that it can be
+   * replaced by meta data from the {@link ExchangeMetaDataCache}. Exchanges keeping any other state
+   * from the remote calls must not return true, unless they can rebuild that state lazily.
+   *
+   * <p>Stale cached meta data is refreshed by calling {@link #remoteInit()} on a background thread
+   * while the exchange is in use, so it must build a new {@link ExchangeMetaData} and assign it
+   * once it is complete, instead of updating the current one in place.
+   *
+   * @return false by default
+   */
+  protected boolean isMetaDataCacheSupported() {
+
+    return false;
+  }
+
+  private void initFromMetaDataCache(ExchangeMetaDataCache cache) {
+
+    ExchangeMetaDataCache.Entry entry = cache.load(exchangeSpecification);
+    if (entry == null) {
       try {
         logger.info("Calling Remote Init...");
         remoteInit();
       } catch (IOException e) {
         throw new ExchangeException(e);
       }
+      saveMetaData(cache);
+      return;
+    }
+
+    logger.info("Using meta data cached at {}", Instant.ofEpochMilli(entry.getSavedAt()));
+    exchangeMetaData = entry.getMetaData();
+    if (!cache.isFresh(entry)) {
+      CompletableFuture.runAsync(
+          () -> {
+            try {
+              logger.info("Refreshing cached meta data...");
+              remoteInit();
+              saveMetaData(cache);
+            } catch (Exception e) {
+              logger.warn("Failed to refresh the meta data, keeping the cached copy", e);
+            }
+          },
+          META_DATA_REFRESH_EXECUTOR);
+    }
+  }
+
+  private void saveMetaData(ExchangeMetaDataCache cache) {
+
+    try {
+      cache.save(exchangeSpecification, exchangeMetaData);
+    } catch (IOException e) {
+      logger.warn("Failed to save the meta data cache", e);
     }
   }
 
@@ -138,10 +218,8 @@ public abstract class BaseExchange implements Exchange {
   protected <T> T loadMetaData(InputStream is, Class<T> type) {
 
     // Use Jackson to parse it
-    ObjectMapper mapper = new ObjectMapper();
-
     try {
-      T result = mapper.readValue(is, type);
+      T result = META_DATA_MAPPER.readValue(is, type);
       logger.debug(result.toString());
       return result;
     } catch (Exception e) {
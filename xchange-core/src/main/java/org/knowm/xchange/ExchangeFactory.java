@@ -2,6 +2,13 @@ package org.knowm.xchange;
 
 import static org.knowm.xchange.ExchangeClassUtils.exchangeClassForName;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.utils.Assert;
 import org.slf4j.Logger;
@@ -131,6 +138,89 @@ public enum ExchangeFactory {
     return exchange;
   }
 
+  /**
+   * Create several Exchange objects in parallel, one thread per exchange, so their remote
+   * initialization calls overlap.
+   *
+   * @param exchangeSpecifications the exchange specifications
+   * @return the new exchange instances, in the order of the specifications
+   * @throws ExchangeException if any exchange fails to initialize, with the other failures
+   *     suppressed
+   */
+  public List<Exchange> createExchanges(List<ExchangeSpecification> exchangeSpecifications) {
+
+    Assert.notNull(exchangeSpecifications, "exchangeSpecifications cannot be null");
+    if (exchangeSpecifications.isEmpty()) {
+      return new ArrayList<>();
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            exchangeSpecifications.size(),
+            r -> {
+              Thread thread = new Thread(r, "xchange-init");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      return createExchanges(exchangeSpecifications, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Create several Exchange objects in parallel on the given executor.
+   *
+   * @param exchangeSpecifications the exchange specifications
+   * @param executor the executor running the initializations
+   * @return the new exchange instances, in the order of the specifications
+   * @throws ExchangeException if any exchange fails to initialize, with the other failures
+   *     suppressed
+   */
+  public List<Exchange> createExchanges(
+      List<ExchangeSpecification> exchangeSpecifications, Executor executor) {
+
+    Assert.notNull(exchangeSpecifications, "exchangeSpecifications cannot be null");
+
+    log.debug("Creating {} exchanges in parallel", exchangeSpecifications.size());
+
+    List<CompletableFuture<Exchange>> futures = new ArrayList<>();
+    for (ExchangeSpecification exchangeSpecification : exchangeSpecifications) {
+      futures.add(
+          CompletableFuture.supplyAsync(() -> createExchange(exchangeSpecification), executor));
+    }
+
+    List<Exchange> exchanges = new ArrayList<>();
+    ExchangeException failure = null;
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        exchanges.add(futures.get(i).join());
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause() == null ? e : e.getCause();
+        if (failure == null) {
+          failure =
+              new ExchangeException(
+                  "Problem creating " + describe(exchangeSpecifications.get(i)), cause);
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return exchanges;
+  }
+
+  private static String describe(ExchangeSpecification exchangeSpecification) {
+
+    if (exchangeSpecification.getExchangeName() != null) {
+      return exchangeSpecification.getExchangeName();
+    }
+    Class<? extends Exchange> exchangeClass = exchangeSpecification.getExchangeClass();
+    return exchangeClass == null ? "exchange" : exchangeClass.getSimpleName();
+  }
+
   /**
    * Create an Exchange object without default ExchangeSpecification
    *
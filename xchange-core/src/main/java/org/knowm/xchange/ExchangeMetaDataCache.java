@@ -0,0 +1,135 @@
+package org.knowm.xchange;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of the {@link ExchangeMetaData} built by {@link Exchange#remoteInit()}, one JSON
+ * file per exchange class and endpoint in a directory, so a restarted process can use the last
+ * known metadata instead of downloading it again. The endpoint is the {@link
+ * ExchangeSpecification#getSslUri()}, or the host if there is none, so e.g. the sandbox and the
+ * production setups of an exchange don't share a file.
+ *
+ * <p>Files are written to a temporary file and atomically moved in place. Files with another
+ * {@link #FORMAT_VERSION}, or that can't be read, are ignored.
+ *
+ * @see ExchangeSpecification#setMetaDataCacheDirectory(String)
+ */
+public final class ExchangeMetaDataCache {
+
+  /** Version of the cache file format, bumped whenever {@link ExchangeMetaData} changes. */
+  public static final int FORMAT_VERSION = 1;
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExchangeMetaDataCache.class);
+
+  private static final ObjectMapper mapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final Path directory;
+  private final Duration timeToLive;
+
+  public ExchangeMetaDataCache(Path directory, Duration timeToLive) {
+    this.directory = directory;
+    this.timeToLive = timeToLive;
+  }
+
+  /** @return The cached metadata, or null if there is none or it can't be read. */
+  public Entry load(ExchangeSpecification specification) {
+    Path file = fileFor(specification);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (InputStream is = Files.newInputStream(file)) {
+      Entry entry = mapper.readValue(is, Entry.class);
+      if (entry.version != FORMAT_VERSION || entry.metaData == null) {
+        LOG.debug("Ignoring metadata cache {} with format version {}", file, entry.version);
+        return null;
+      }
+      return entry;
+    } catch (IOException e) {
+      LOG.warn("Ignoring unreadable metadata cache {}", file, e);
+      return null;
+    }
+  }
+
+  public void save(ExchangeSpecification specification, ExchangeMetaData metaData)
+      throws IOException {
+    Files.createDirectories(directory);
+    Path file = fileFor(specification);
+    Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream os = Files.newOutputStream(tmp)) {
+        mapper.writeValue(os, new Entry(FORMAT_VERSION, System.currentTimeMillis(), metaData));
+      }
+      try {
+        Files.move(
+            tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /** @return true if the entry is younger than the time to live of this cache. */
+  public boolean isFresh(Entry entry) {
+    return System.currentTimeMillis() - entry.savedAt < timeToLive.toMillis();
+  }
+
+  Path fileFor(ExchangeSpecification specification) {
+    String endpoint =
+        specification.getSslUri() != null ? specification.getSslUri() : specification.getHost();
+    String name = specification.getExchangeClass().getName();
+    if (endpoint != null) {
+      name += "-" + endpoint.replaceFirst("^[a-zA-Z]+://", "").replaceAll("[^a-zA-Z0-9.-]", "_");
+    }
+    return directory.resolve(name + ".json");
+  }
+
+  public static final class Entry {
+
+    @JsonProperty("version")
+    private final int version;
+
+    @JsonProperty("saved_at")
+    private final long savedAt;
+
+    @JsonProperty("meta_data")
+    private final ExchangeMetaData metaData;
+
+    public Entry(
+        @JsonProperty("version") int version,
+        @JsonProperty("saved_at") long savedAt,
+        @JsonProperty("meta_data") ExchangeMetaData metaData) {
+      this.version = version;
+      this.savedAt = savedAt;
+      this.metaData = metaData;
+    }
+
+    public int getVersion() {
+      return version;
+    }
+
+    /** @return When the metadata was saved, in milliseconds since the epoch. */
+    public long getSavedAt() {
+      return savedAt;
+    }
+
+    public ExchangeMetaData getMetaData() {
+      return metaData;
+    }
+  }
+}
@@ -2,8 +2,10 @@ package org.knowm.xchange;
 
 import static org.knowm.xchange.ExchangeClassUtils.exchangeClassForName;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import org.knowm.xchange.client.RestMetrics;
 
 /**
  * Specification to provide the following to {@link ExchangeFactory}:
@@ -31,8 +33,11 @@ public class ExchangeSpecification {
   private int httpConnTimeout = 0; // default rescu configuration will be used if value not changed
   private int httpReadTimeout = 0; // default rescu configuration will be used if value not changed
   private ResilienceSpecification resilience = new ResilienceSpecification();
+  private RestMetrics restMetrics = RestMetrics.NO_OP;
   private String metaDataJsonFileOverride = null;
   private boolean shouldLoadRemoteMetaData = true; // default value
+  private String metaDataCacheDirectory = null;
+  private Duration metaDataCacheTimeToLive = Duration.ofHours(1);
   /** arbitrary exchange params that can be set for unique cases */
   private Map<String, Object> exchangeSpecificParameters = new HashMap<>();
 
@@ -426,6 +431,21 @@ public class ExchangeSpecification {
     this.resilience = resilience;
   }
 
+  public RestMetrics getRestMetrics() {
+    return restMetrics;
+  }
+
+  /**
+   * Set the metrics receiving the latency and outcome of the REST calls, the retries and the rate
+   * limiter wait times of the exchange. Must be set before the exchange is created, null disables
+   * the metrics.
+   *
+   * @see org.knowm.xchange.client.HistogramRestMetrics
+   */
+  public void setRestMetrics(RestMetrics restMetrics) {
+    this.restMetrics = restMetrics == null ? RestMetrics.NO_OP : restMetrics;
+  }
+
   /**
    * Get the override file for generating the {@link org.knowm.xchange.dto.meta.ExchangeMetaData}
    * object. By default, the {@link org.knowm.xchange.dto.meta.ExchangeMetaData} object is loaded at
@@ -475,6 +495,43 @@ public class ExchangeSpecification {
     this.shouldLoadRemoteMetaData = shouldLoadRemoteMetaData;
   }
 
+  /**
+   * @see #setMetaDataCacheDirectory(String)
+   * @return the metadata cache directory, null if caching is disabled
+   */
+  public String getMetaDataCacheDirectory() {
+
+    return metaDataCacheDirectory;
+  }
+
+  /**
+   * Set a directory in which the exchange meta data loaded remotely is cached. If the exchange
+   * supports it, a cached copy younger than {@link #getMetaDataCacheTimeToLive()} is used instead
+   * of calling {@link Exchange#remoteInit()}, and an older copy is used while the meta data is
+   * refreshed in the background. Ignored if {@link #isShouldLoadRemoteMetaData()} is false.
+   *
+   * @param metaDataCacheDirectory the cache directory, null to disable caching
+   */
+  public void setMetaDataCacheDirectory(String metaDataCacheDirectory) {
+
+    this.metaDataCacheDirectory = metaDataCacheDirectory;
+  }
+
+  public Duration getMetaDataCacheTimeToLive() {
+
+    return metaDataCacheTimeToLive;
+  }
+
+  /**
+   * Set how long cached meta data is used without refreshing it, one hour by default.
+   *
+   * @see #setMetaDataCacheDirectory(String)
+   */
+  public void setMetaDataCacheTimeToLive(Duration metaDataCacheTimeToLive) {
+
+    this.metaDataCacheTimeToLive = metaDataCacheTimeToLive;
+  }
+
   public static class ResilienceSpecification {
     private boolean retryEnabled = false;
     private boolean rateLimiterEnabled = false;
@@ -77,8 +77,15 @@ public final class ExchangeRestProxyBuilder<T> {
     }
     clientConfigCustomizers.forEach(
         clientConfigCustomizer -> clientConfigCustomizer.customize(clientConfig));
+    List<Interceptor> interceptors = new ArrayList<>(customInterceptors);
+    RestMetrics restMetrics = exchangeSpecification.getRestMetrics();
+    if (restMetrics != null && restMetrics.isEnabled()) {
+      interceptors.add(
+          new RestMetricsInterceptor(
+              ResilienceUtils.metricsName(exchangeSpecification), restMetrics));
+    }
     return restProxyFactory.createProxy(
-        restInterface, baseUrl, clientConfig, customInterceptors.toArray(new Interceptor[0]));
+        restInterface, baseUrl, clientConfig, interceptors.toArray(new Interceptor[0]));
   }
 
   /**
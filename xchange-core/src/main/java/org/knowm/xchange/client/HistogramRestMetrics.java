@@ -0,0 +1,116 @@
+package org.knowm.xchange.client;
+
+import info.bitrich.xchangestream.service.metrics.LatencyHistogram;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RestMetrics} keeping a {@link LatencyHistogram} and outcome counters per exchange and
+ * rest method, retry counters and rate limiter wait histograms.
+ *
+ * <pre>{@code
+ * HistogramRestMetrics metrics = new HistogramRestMetrics();
+ * spec.setRestMetrics(metrics);
+ * ...
+ * metrics.getLatency("Binance", "BinanceAuthenticated.newOrder").getValueAtPercentile(99);
+ * }</pre>
+ */
+public class HistogramRestMetrics implements RestMetrics {
+
+  private static final int OUTCOME_COUNT = RestCallOutcome.values().length;
+
+  private final Map<String, Map<String, MethodStats>> calls = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, LongAdder>> retries = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, LatencyHistogram>> rateLimiterWaits = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void recordCall(String exchange, String method, long nanos, RestCallOutcome outcome) {
+    MethodStats stats = get(calls, exchange, method);
+    if (stats == null) {
+      stats = forExchange(calls, exchange).computeIfAbsent(method, m -> new MethodStats());
+    }
+    stats.latency.record(nanos);
+    stats.outcomes[outcome.ordinal()].increment();
+  }
+
+  @Override
+  public void recordRetry(String exchange, String retry) {
+    LongAdder count = get(retries, exchange, retry);
+    if (count == null) {
+      count = forExchange(retries, exchange).computeIfAbsent(retry, r -> new LongAdder());
+    }
+    count.increment();
+  }
+
+  @Override
+  public void recordRateLimiterWait(String exchange, String rateLimiter, long nanos) {
+    LatencyHistogram histogram = get(rateLimiterWaits, exchange, rateLimiter);
+    if (histogram == null) {
+      histogram =
+          forExchange(rateLimiterWaits, exchange)
+              .computeIfAbsent(rateLimiter, r -> new LatencyHistogram());
+    }
+    histogram.record(nanos);
+  }
+
+  private static <V> V get(Map<String, Map<String, V>> map, String exchange, String key) {
+    Map<String, V> values = map.get(exchange);
+    return values == null ? null : values.get(key);
+  }
+
+  private static <V> Map<String, V> forExchange(Map<String, Map<String, V>> map, String exchange) {
+    return map.computeIfAbsent(exchange, e -> new ConcurrentHashMap<>());
+  }
+
+  /** @return The rest methods of the exchange for which calls have been recorded. */
+  public Set<String> getMethods(String exchange) {
+    Map<String, MethodStats> methods = calls.get(exchange);
+    return methods == null ? Collections.emptySet() : Collections.unmodifiableSet(methods.keySet());
+  }
+
+  /** @return The latency histogram of all calls of the method, or null if none was recorded. */
+  public LatencyHistogram getLatency(String exchange, String method) {
+    MethodStats stats = get(calls, exchange, method);
+    return stats == null ? null : stats.latency;
+  }
+
+  public long getCount(String exchange, String method, RestCallOutcome outcome) {
+    MethodStats stats = get(calls, exchange, method);
+    return stats == null ? 0 : stats.outcomes[outcome.ordinal()].sum();
+  }
+
+  public long getRetryCount(String exchange, String retry) {
+    LongAdder count = get(retries, exchange, retry);
+    return count == null ? 0 : count.sum();
+  }
+
+  /** @return The histogram of the rate limiter wait times, or null if none was recorded. */
+  public LatencyHistogram getRateLimiterWait(String exchange, String rateLimiter) {
+    return get(rateLimiterWaits, exchange, rateLimiter);
+  }
+
+  public void reset() {
+    calls.clear();
+    retries.clear();
+    rateLimiterWaits.clear();
+  }
+
+  private static final class MethodStats {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] outcomes = new LongAdder[OUTCOME_COUNT];
+
+    private MethodStats() {
+      for (int i = 0; i < OUTCOME_COUNT; i++) {
+        outcomes[i] = new LongAdder();
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.knowm.xchange.client;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.retry.Retry;
 import java.io.IOException;
 import java.util.concurrent.Callable;
@@ -13,7 +14,34 @@ public final class ResilienceUtils {
   public static <T> DecorateCallableApi<T> decorateApiCall(
       ExchangeSpecification.ResilienceSpecification resilienceSpecification,
       CallableApi<T> callable) {
-    return new DecorateCallableApi<>(resilienceSpecification, callable);
+    return new DecorateCallableApi<>(resilienceSpecification, RestMetrics.NO_OP, null, callable);
+  }
+
+  /**
+   * Like {@link #decorateApiCall(ExchangeSpecification.ResilienceSpecification, CallableApi)}, also
+   * reporting retries and rate limiter wait times to the {@link RestMetrics} of the specification.
+   */
+  public static <T> DecorateCallableApi<T> decorateApiCall(
+      ExchangeSpecification exchangeSpecification, CallableApi<T> callable) {
+    RestMetrics restMetrics = exchangeSpecification.getRestMetrics();
+    if (restMetrics == null || !restMetrics.isEnabled()) {
+      return decorateApiCall(exchangeSpecification.getResilience(), callable);
+    }
+    return new DecorateCallableApi<>(
+        exchangeSpecification.getResilience(),
+        restMetrics,
+        metricsName(exchangeSpecification),
+        callable);
+  }
+
+  /** @return The exchange name, or the exchange class name if none is set. */
+  static String metricsName(ExchangeSpecification exchangeSpecification) {
+    if (exchangeSpecification.getExchangeName() != null) {
+      return exchangeSpecification.getExchangeName();
+    }
+    return exchangeSpecification.getExchangeClass() == null
+        ? "unknown"
+        : exchangeSpecification.getExchangeClass().getSimpleName();
   }
 
   public interface CallableApi<T> extends Callable<T> {
@@ -35,23 +63,44 @@ public final class ResilienceUtils {
 
   public static class DecorateCallableApi<T> {
     private final ExchangeSpecification.ResilienceSpecification resilienceSpecification;
+    private final RestMetrics restMetrics;
+    private final String exchangeName;
     private CallableApi<T> callable;
 
     private DecorateCallableApi(
         ExchangeSpecification.ResilienceSpecification resilienceSpecification,
+        RestMetrics restMetrics,
+        String exchangeName,
         CallableApi<T> callable) {
       this.resilienceSpecification = resilienceSpecification;
+      this.restMetrics = restMetrics;
+      this.exchangeName = exchangeName;
       this.callable = callable;
     }
 
     public DecorateCallableApi<T> withRetry(Retry retryContext) {
       if (resilienceSpecification.isRetryEnabled()) {
-        this.callable =
-            CallableApi.wrapCallable(Retry.decorateCallable(retryContext, this.callable));
+        CallableApi<T> attempt = this.callable;
+        if (restMetrics.isEnabled()) {
+          attempt = countingRetries(retryContext.getName(), attempt);
+        }
+        this.callable = CallableApi.wrapCallable(Retry.decorateCallable(retryContext, attempt));
       }
       return this;
     }
 
+    private CallableApi<T> countingRetries(String retryName, CallableApi<T> callable) {
+      boolean[] firstAttempt = {true};
+      return () -> {
+        if (firstAttempt[0]) {
+          firstAttempt[0] = false;
+        } else {
+          restMetrics.recordRetry(exchangeName, retryName);
+        }
+        return callable.call();
+      };
+    }
+
     public DecorateCallableApi<T> withRateLimiter(RateLimiter rateLimiter) {
       if (resilienceSpecification.isRateLimiterEnabled()) {
         return this.withRateLimiter(rateLimiter, 1);
@@ -61,13 +110,42 @@ public final class ResilienceUtils {
 
     public DecorateCallableApi<T> withRateLimiter(RateLimiter rateLimiter, int permits) {
       if (resilienceSpecification.isRateLimiterEnabled()) {
-        this.callable =
-            CallableApi.wrapCallable(
-                RateLimiter.decorateCallable(rateLimiter, permits, this.callable));
+        if (restMetrics.isEnabled()) {
+          this.callable = timingWait(rateLimiter, permits, this.callable);
+        } else {
+          this.callable =
+              CallableApi.wrapCallable(
+                  RateLimiter.decorateCallable(rateLimiter, permits, this.callable));
+        }
       }
       return this;
     }
 
+    private CallableApi<T> timingWait(
+        RateLimiter rateLimiter, int permits, CallableApi<T> callable) {
+      return () -> {
+        long start = System.nanoTime();
+        boolean[] permitted = {false};
+        Callable<T> timed =
+            () -> {
+              permitted[0] = true;
+              restMetrics.recordRateLimiterWait(
+                  exchangeName, rateLimiter.getName(), System.nanoTime() - start);
+              return callable.call();
+            };
+        try {
+          return CallableApi.wrapCallable(RateLimiter.decorateCallable(rateLimiter, permits, timed))
+              .call();
+        } catch (RequestNotPermitted e) {
+          if (!permitted[0]) {
+            restMetrics.recordRateLimiterWait(
+                exchangeName, rateLimiter.getName(), System.nanoTime() - start);
+          }
+          throw e;
+        }
+      };
+    }
+
     public T call() throws IOException {
       return this.callable.call();
     }
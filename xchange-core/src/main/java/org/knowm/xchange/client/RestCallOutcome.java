@@ -0,0 +1,117 @@
+package org.knowm.xchange.client;
+
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import org.knowm.xchange.exceptions.CurrencyPairNotValidException;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.exceptions.ExchangeSecurityException;
+import org.knowm.xchange.exceptions.ExchangeUnavailableException;
+import org.knowm.xchange.exceptions.FrequencyLimitExceededException;
+import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.exceptions.InstrumentNotValidException;
+import org.knowm.xchange.exceptions.InternalServerException;
+import org.knowm.xchange.exceptions.MarketSuspendedException;
+import org.knowm.xchange.exceptions.NonceException;
+import org.knowm.xchange.exceptions.OperationTimeoutException;
+import org.knowm.xchange.exceptions.OrderNotValidException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import si.mazi.rescu.HttpStatusException;
+
+/**
+ * Classification of the outcome of a REST call, see {@link #classifyCallFailure(Throwable)} and
+ * {@link #classify(Throwable)}.
+ */
+public enum RestCallOutcome {
+  SUCCESS,
+  RATE_LIMITED,
+  AUTHENTICATION,
+  NONCE,
+  INSUFFICIENT_FUNDS,
+  INVALID_ORDER,
+  INVALID_INSTRUMENT,
+  UNAVAILABLE,
+  TIMEOUT,
+  NETWORK,
+  CLIENT_ERROR,
+  SERVER_ERROR,
+  OTHER;
+
+  /**
+   * Classifies an exception thrown by a service method, first by the {@link
+   * org.knowm.xchange.exceptions} type the exchange modules adapt their errors to, then as {@link
+   * #classifyCallFailure(Throwable)}. The exchange exceptions are only raised above the rest
+   * proxies, so this is meant for the code calling the services, e.g. to count order rejections by
+   * cause.
+   */
+  public static RestCallOutcome classify(Throwable error) {
+    if (error instanceof RateLimitExceededException
+        || error instanceof FrequencyLimitExceededException) {
+      return RATE_LIMITED;
+    }
+    if (error instanceof ExchangeSecurityException) {
+      return AUTHENTICATION;
+    }
+    if (error instanceof NonceException) {
+      return NONCE;
+    }
+    if (error instanceof FundsExceededException) {
+      return INSUFFICIENT_FUNDS;
+    }
+    if (error instanceof OperationTimeoutException) {
+      return TIMEOUT;
+    }
+    if (error instanceof OrderNotValidException) {
+      return INVALID_ORDER;
+    }
+    if (error instanceof InstrumentNotValidException
+        || error instanceof CurrencyPairNotValidException) {
+      return INVALID_INSTRUMENT;
+    }
+    if (error instanceof ExchangeUnavailableException
+        || error instanceof InternalServerException
+        || error instanceof MarketSuspendedException) {
+      return UNAVAILABLE;
+    }
+    if (error instanceof ExchangeException) {
+      return CLIENT_ERROR;
+    }
+    return classifyCallFailure(error);
+  }
+
+  /**
+   * Classifies an exception thrown by a rest proxy call, as seen by the {@link
+   * RestMetricsInterceptor}: by the HTTP status of the exchange specific exceptions rescu raises
+   * for error responses, then as a timeout or network failure for any other {@link IOException}.
+   */
+  public static RestCallOutcome classifyCallFailure(Throwable error) {
+    if (error instanceof RequestNotPermitted) {
+      return RATE_LIMITED;
+    }
+    if (error instanceof HttpStatusException) {
+      int status = ((HttpStatusException) error).getHttpStatusCode();
+      if (status == 429 || status == 418) {
+        return RATE_LIMITED;
+      }
+      if (status == 401 || status == 403) {
+        return AUTHENTICATION;
+      }
+      if (status == 502 || status == 503 || status == 504) {
+        return UNAVAILABLE;
+      }
+      if (status >= 500) {
+        return SERVER_ERROR;
+      }
+      if (status >= 400) {
+        return CLIENT_ERROR;
+      }
+    }
+    if (error instanceof SocketTimeoutException) {
+      return TIMEOUT;
+    }
+    if (error instanceof IOException) {
+      return NETWORK;
+    }
+    return OTHER;
+  }
+}
@@ -0,0 +1,56 @@
+package org.knowm.xchange.client;
+
+/**
+ * Receives timings of the REST calls made by exchange modules: the latency of every call of a
+ * rest interface method and its outcome, the retries made by {@link
+ * ResilienceUtils.DecorateCallableApi#withRetry} and the time spent waiting on rate limiters.
+ *
+ * <p>Set it with {@link org.knowm.xchange.ExchangeSpecification#setRestMetrics(RestMetrics)}. The
+ * default {@link #NO_OP} instance installs no interceptor and takes no timestamp, so it costs
+ * nothing on the hot path.
+ *
+ * @see HistogramRestMetrics
+ */
+public interface RestMetrics {
+
+  RestMetrics NO_OP =
+      new RestMetrics() {
+        @Override
+        public boolean isEnabled() {
+          return false;
+        }
+
+        @Override
+        public void recordCall(
+            String exchange, String method, long nanos, RestCallOutcome outcome) {}
+
+        @Override
+        public void recordRetry(String exchange, String retry) {}
+
+        @Override
+        public void recordRateLimiterWait(String exchange, String rateLimiter, long nanos) {}
+      };
+
+  boolean isEnabled();
+
+  /**
+   * @param exchange Name of the exchange.
+   * @param method Rest interface method, e.g. {@code BinanceAuthenticated.newOrder}.
+   * @param nanos Duration of the HTTP call in nanoseconds, including the response parsing.
+   * @param outcome Outcome of the call.
+   */
+  void recordCall(String exchange, String method, long nanos, RestCallOutcome outcome);
+
+  /**
+   * @param exchange Name of the exchange.
+   * @param retry Name of the {@link io.github.resilience4j.retry.Retry} which made the attempt.
+   */
+  void recordRetry(String exchange, String retry);
+
+  /**
+   * @param exchange Name of the exchange.
+   * @param rateLimiter Name of the {@link io.github.resilience4j.ratelimiter.RateLimiter}.
+   * @param nanos Time spent waiting for permission in nanoseconds.
+   */
+  void recordRateLimiterWait(String exchange, String rateLimiter, long nanos);
+}
@@ -0,0 +1,55 @@
+package org.knowm.xchange.client;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import si.mazi.rescu.Interceptor;
+
+/**
+ * Times every call of a rest interface and reports it to a {@link RestMetrics} together with its
+ * {@link RestCallOutcome}. Added by {@link ExchangeRestProxyBuilder} when the {@link RestMetrics}
+ * of the exchange specification is enabled.
+ */
+public class RestMetricsInterceptor implements Interceptor {
+
+  private final String exchange;
+  private final RestMetrics metrics;
+  private final Map<Method, String> methodNames = new ConcurrentHashMap<>();
+
+  public RestMetricsInterceptor(String exchange, RestMetrics metrics) {
+    this.exchange = exchange;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public Object aroundInvoke(
+      InvocationHandler invocationHandler, Object proxy, Method method, Object[] args)
+      throws Throwable {
+    long start = System.nanoTime();
+    Object result;
+    try {
+      result = invocationHandler.invoke(proxy, method, args);
+    } catch (Throwable e) {
+      metrics.recordCall(
+          exchange,
+          methodName(method),
+          System.nanoTime() - start,
+          RestCallOutcome.classifyCallFailure(e));
+      throw e;
+    }
+    metrics.recordCall(
+        exchange, methodName(method), System.nanoTime() - start, RestCallOutcome.SUCCESS);
+    return result;
+  }
+
+  private String methodName(Method method) {
+    String name = methodNames.get(method);
+    if (name == null) {
+      name =
+          methodNames.computeIfAbsent(
+              method, m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+    }
+    return name;
+  }
+}
@@ -0,0 +1,67 @@
+package org.knowm.xchange.derivative;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Parses and formats the yyMMdd expiry dates of the contract symbols, at the start of the day in
+ * the default time zone, without a date format per thread.
+ */
+final class ExpiryDates {
+
+  private static final int LENGTH = 6;
+
+  private ExpiryDates() {}
+
+  /**
+   * @param start The index of the first digit of the date in the symbol
+   * @param end The index after the last digit of the date
+   * @throws IllegalArgumentException if the characters are not a yyMMdd date
+   */
+  static Date parse(String symbol, int start, int end) {
+    if (end - start != LENGTH) {
+      throw notADate(symbol, start, end);
+    }
+    for (int i = start; i < end; i++) {
+      if (symbol.charAt(i) < '0' || symbol.charAt(i) > '9') {
+        throw notADate(symbol, start, end);
+      }
+    }
+    try {
+      LocalDate date =
+          LocalDate.of(
+              2000 + twoDigits(symbol, start),
+              twoDigits(symbol, start + 2),
+              twoDigits(symbol, start + 4));
+      return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    } catch (DateTimeException e) {
+      throw notADate(symbol, start, end);
+    }
+  }
+
+  private static int twoDigits(String symbol, int index) {
+    return (symbol.charAt(index) - '0') * 10 + symbol.charAt(index + 1) - '0';
+  }
+
+  private static IllegalArgumentException notADate(String symbol, int start, int end) {
+    return new IllegalArgumentException(
+        "Could not parse expire date from '"
+            + symbol
+            + "'. It has to be a 'yyMMdd' date, not '"
+            + symbol.substring(start, end)
+            + "'");
+  }
+
+  static StringBuilder format(StringBuilder sb, Date date) {
+    LocalDate localDate = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    appendTwoDigits(sb, localDate.getYear() % 100);
+    appendTwoDigits(sb, localDate.getMonthValue());
+    return appendTwoDigits(sb, localDate.getDayOfMonth());
+  }
+
+  private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+    return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+  }
+}
@@ -3,9 +3,6 @@ package org.knowm.xchange.derivative;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.io.Serializable;
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Objects;
@@ -17,8 +14,6 @@ public class FuturesContract extends Instrument
 
   private static final long serialVersionUID = 6876906648149216819L;
 
-  private static final ThreadLocal<DateFormat> DATE_PARSER =
-      ThreadLocal.withInitial(() -> new SimpleDateFormat("yyMMdd"));
   private static final String PERPETUAL = "perpetual";
 
   private static final Comparator<FuturesContract> COMPARATOR =
@@ -38,26 +33,25 @@ public class FuturesContract extends Instrument
 
   @JsonCreator
   public FuturesContract(final String symbol) {
-    String[] parts = symbol.split("/");
-    if (parts.length < 3) {
+    int counterStart = symbol.indexOf('/') + 1;
+    int expireDateStart = counterStart == 0 ? 0 : symbol.indexOf('/', counterStart) + 1;
+    if (expireDateStart == 0) {
       throw new IllegalArgumentException("Could not parse futures contract from '" + symbol + "'");
     }
+    int expireDateEnd = symbol.indexOf('/', expireDateStart);
+    if (expireDateEnd < 0) {
+      expireDateEnd = symbol.length();
+    }
 
-    String base = parts[0];
-    String counter = parts[1];
-    String expireDate = parts[2];
-    this.currencyPair = new CurrencyPair(base, counter);
-    if (!PERPETUAL.equalsIgnoreCase(expireDate)) {
-      try {
-        this.expireDate = DATE_PARSER.get().parse(expireDate);
-      } catch (ParseException e) {
-        throw new IllegalArgumentException(
-            "Could not parse expire date from '"
-                + symbol
-                + "'. It has to be either a 'yyMMdd' date or 'perpetual'");
-      }
-    } else {
+    this.currencyPair =
+        new CurrencyPair(
+            symbol.substring(0, counterStart - 1),
+            symbol.substring(counterStart, expireDateStart - 1));
+    if (expireDateEnd - expireDateStart == PERPETUAL.length()
+        && symbol.regionMatches(true, expireDateStart, PERPETUAL, 0, PERPETUAL.length())) {
       this.expireDate = null;
+    } else {
+      this.expireDate = ExpiryDates.parse(symbol, expireDateStart, expireDateEnd);
     }
   }
 
@@ -97,8 +91,9 @@ public class FuturesContract extends Instrument
   @Override
   public String toString() {
 
-    return currencyPair
-        + "/"
-        + (expireDate == null ? PERPETUAL : DATE_PARSER.get().format(this.expireDate));
+    StringBuilder sb = new StringBuilder().append(currencyPair).append('/');
+    return expireDate == null
+        ? sb.append(PERPETUAL).toString()
+        : ExpiryDates.format(sb, expireDate).toString();
   }
 }
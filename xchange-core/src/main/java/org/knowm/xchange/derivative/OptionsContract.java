@@ -0,0 +1,154 @@
+package org.knowm.xchange.derivative;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Objects;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * An option on a currency pair. Its symbol is Base/Counter/Expiry/Strike/Type, e.g.
+ * BTC/USD/200925/8956.67/P for a put expiring on 2020-09-25.
+ */
+public class OptionsContract extends Instrument
+    implements Derivative, Comparable<OptionsContract>, Serializable {
+
+  private static final long serialVersionUID = -2553373383447853553L;
+
+  private static final Comparator<OptionsContract> COMPARATOR =
+      Comparator.comparing(OptionsContract::getCurrencyPair)
+          .thenComparing(OptionsContract::getExpireDate)
+          .thenComparing(OptionsContract::getStrike)
+          .thenComparing(OptionsContract::getType);
+
+  public enum OptionType {
+    CALL('C'),
+    PUT('P');
+
+    private final char symbol;
+
+    OptionType(char symbol) {
+      this.symbol = symbol;
+    }
+
+    public char getSymbol() {
+      return symbol;
+    }
+
+    public static OptionType fromSymbol(char symbol) {
+      switch (Character.toUpperCase(symbol)) {
+        case 'C':
+          return CALL;
+        case 'P':
+          return PUT;
+        default:
+          throw new IllegalArgumentException("Unknown option type: " + symbol);
+      }
+    }
+  }
+
+  /** The CurrencyPair the OptionsContract is based upon */
+  private final CurrencyPair currencyPair;
+
+  /** The Date when the OptionsContract expires */
+  private final Date expireDate;
+
+  /** The price at which the option can be exercised, in the counter currency */
+  private final BigDecimal strike;
+
+  private final OptionType type;
+
+  public OptionsContract(
+      CurrencyPair currencyPair, Date expireDate, BigDecimal strike, OptionType type) {
+    this.currencyPair = Objects.requireNonNull(currencyPair);
+    this.expireDate = Objects.requireNonNull(expireDate);
+    this.strike = Objects.requireNonNull(strike);
+    this.type = Objects.requireNonNull(type);
+  }
+
+  @JsonCreator
+  public OptionsContract(final String symbol) {
+    int counterStart = next(symbol, 0);
+    int expireDateStart = next(symbol, counterStart);
+    int strikeStart = next(symbol, expireDateStart);
+    int typeStart = next(symbol, strikeStart);
+    if (typeStart != symbol.length() - 1) {
+      throw new IllegalArgumentException("Could not parse options contract from '" + symbol + "'");
+    }
+
+    this.currencyPair =
+        new CurrencyPair(
+            symbol.substring(0, counterStart - 1),
+            symbol.substring(counterStart, expireDateStart - 1));
+    this.expireDate = ExpiryDates.parse(symbol, expireDateStart, strikeStart - 1);
+    try {
+      this.strike = new BigDecimal(symbol.substring(strikeStart, typeStart - 1));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Could not parse strike price from '" + symbol + "'");
+    }
+    this.type = OptionType.fromSymbol(symbol.charAt(typeStart));
+  }
+
+  /** @return The index after the next '/' from the index */
+  private static int next(String symbol, int from) {
+    int slash = symbol.indexOf('/', from);
+    if (slash < 0) {
+      throw new IllegalArgumentException("Could not parse options contract from '" + symbol + "'");
+    }
+    return slash + 1;
+  }
+
+  @Override
+  public CurrencyPair getCurrencyPair() {
+    return currencyPair;
+  }
+
+  public Date getExpireDate() {
+    return expireDate;
+  }
+
+  public BigDecimal getStrike() {
+    return strike;
+  }
+
+  public OptionType getType() {
+    return type;
+  }
+
+  @Override
+  public int compareTo(final OptionsContract that) {
+    return COMPARATOR.compare(this, that);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    final OptionsContract contract = (OptionsContract) o;
+    return Objects.equals(currencyPair, contract.currencyPair)
+        && Objects.equals(expireDate, contract.expireDate)
+        && strike.compareTo(contract.strike) == 0
+        && type == contract.type;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(currencyPair, expireDate, strike.stripTrailingZeros(), type);
+  }
+
+  @JsonValue
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder().append(currencyPair).append('/');
+    return ExpiryDates.format(sb, expireDate)
+        .append('/')
+        .append(strike.toPlainString())
+        .append('/')
+        .append(type.getSymbol())
+        .toString();
+  }
+}
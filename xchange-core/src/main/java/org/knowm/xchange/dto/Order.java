@@ -15,6 +15,7 @@ import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.StopOrder;
 import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.utils.Timestamps;
 
 /** Data object representing an order */
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "trigger")
@@ -52,6 +53,13 @@ public abstract class Order implements Serializable {
   private BigDecimal fee;
   /** The leverage to use for margin related to this order */
   private String leverage = null;
+  /**
+   * The time of the order according to the exchange's server in nanoseconds since the epoch, 0 if
+   * not provided
+   */
+  private long exchangeTimeNanos;
+  /** The local time the order was received in nanoseconds since the epoch, 0 if unknown */
+  private long receiveTimeNanos;
 
   /**
    * @param type Either BID (buying) or ASK (selling)
@@ -132,6 +140,7 @@ public abstract class Order implements Serializable {
     this.instrument = instrument;
     this.id = id;
     this.timestamp = timestamp;
+    this.exchangeTimeNanos = Timestamps.toEpochNanos(timestamp);
     this.averagePrice = averagePrice;
     this.cumulativeAmount = cumulativeAmount;
     this.fee = fee;
@@ -258,9 +267,44 @@ public abstract class Order implements Serializable {
     return userReference;
   }
 
+  /**
+   * @return The timestamp of the order according to the exchange's server, created from the
+   *     exchange time if the order was created without one
+   */
   public Date getTimestamp() {
 
-    return timestamp;
+    return timestamp != null ? timestamp : Timestamps.toDate(exchangeTimeNanos);
+  }
+
+  /**
+   * @return The time of the order according to the exchange's server in nanoseconds since the
+   *     epoch, 0 if not provided
+   */
+  @JsonIgnore
+  public long getExchangeTimeNanos() {
+
+    return exchangeTimeNanos;
+  }
+
+  /**
+   * @param exchangeTimeNanos The time of the order according to the exchange's server in
+   *     nanoseconds since the epoch, with the precision the exchange provides
+   */
+  public void setExchangeTimeNanos(long exchangeTimeNanos) {
+
+    this.exchangeTimeNanos = exchangeTimeNanos;
+  }
+
+  /** @return The local time the order was received in nanoseconds since the epoch, 0 if unknown */
+  @JsonIgnore
+  public long getReceiveTimeNanos() {
+
+    return receiveTimeNanos;
+  }
+
+  public void setReceiveTimeNanos(long receiveTimeNanos) {
+
+    this.receiveTimeNanos = receiveTimeNanos;
   }
 
   public Set<IOrderFlags> getOrderFlags() {
@@ -317,7 +361,7 @@ public abstract class Order implements Serializable {
         + ", id="
         + id
         + ", timestamp="
-        + timestamp
+        + getTimestamp()
         + ", status="
         + status
         + ", flags="
@@ -335,7 +379,8 @@ public abstract class Order implements Serializable {
     hash = 83 * hash + (this.originalAmount != null ? this.originalAmount.hashCode() : 0);
     hash = 83 * hash + (this.instrument != null ? this.instrument.hashCode() : 0);
     hash = 83 * hash + (this.id != null ? this.id.hashCode() : 0);
-    hash = 83 * hash + (this.timestamp != null ? this.timestamp.hashCode() : 0);
+    Date time = getTimestamp();
+    hash = 83 * hash + (time != null ? time.hashCode() : 0);
     return hash;
   }
 
@@ -365,8 +410,10 @@ public abstract class Order implements Serializable {
     if ((this.id == null) ? (other.id != null) : !this.id.equals(other.id)) {
       return false;
     }
-    if (this.timestamp != other.timestamp
-        && (this.timestamp == null || !this.timestamp.equals(other.timestamp))) {
+    // the orders created with only an exchange time are compared on their timestamp too
+    Date time = getTimestamp();
+    Date otherTime = other.getTimestamp();
+    if (time != otherTime && (time == null || !time.equals(otherTime))) {
       return false;
     }
     return true;
@@ -490,6 +537,8 @@ public abstract class Order implements Serializable {
     protected OrderStatus status;
     protected BigDecimal fee;
     protected String leverage;
+    protected long exchangeTimeNanos;
+    protected long receiveTimeNanos;
 
     protected Builder(OrderType orderType, Instrument instrument) {
 
@@ -577,6 +626,18 @@ public abstract class Order implements Serializable {
       return this;
     }
 
+    public Builder exchangeTimeNanos(long exchangeTimeNanos) {
+
+      this.exchangeTimeNanos = exchangeTimeNanos;
+      return this;
+    }
+
+    public Builder receiveTimeNanos(long receiveTimeNanos) {
+
+      this.receiveTimeNanos = receiveTimeNanos;
+      return this;
+    }
+
     @JsonProperty("orderFlags")
     public Builder flags(Set<IOrderFlags> flags) {
 
@@ -1,5 +1,8 @@
 package org.knowm.xchange.dto.account;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.Date;
@@ -13,6 +16,7 @@ import org.knowm.xchange.currency.Currency;
  * <p>Funding information contains the detail of deposit/withdrawal transaction for a specific
  * currency
  */
+@JsonDeserialize(builder = FundingRecord.Builder.class)
 public final class FundingRecord implements Serializable {
 
   private static final long serialVersionUID = 3788398035845873448L;
@@ -226,6 +230,7 @@ public final class FundingRecord implements Serializable {
   }
 
   @Deprecated // for backward compatibility.  Will be removed
+  @JsonIgnore
   public String getExternalId() {
     return blockchainTransactionHash;
   }
@@ -398,6 +403,7 @@ public final class FundingRecord implements Serializable {
     }
   }
 
+  @JsonPOJOBuilder(withPrefix = "set")
   public static final class Builder {
 
     private String address;
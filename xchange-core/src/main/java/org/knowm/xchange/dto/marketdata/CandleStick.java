@@ -0,0 +1,193 @@
+package org.knowm.xchange.dto.marketdata;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import org.knowm.xchange.utils.DateUtils;
+
+/**
+ * Open, high, low, close and volume of the trades of an instrument during a period. Some fields
+ * can be empty if not provided by the exchange.
+ */
+@JsonDeserialize(builder = CandleStick.Builder.class)
+public final class CandleStick implements Serializable {
+
+  private static final long serialVersionUID = 3307525493452364519L;
+
+  private final BigDecimal open;
+  private final BigDecimal high;
+  private final BigDecimal low;
+  private final BigDecimal close;
+  private final BigDecimal vwap;
+  private final BigDecimal volume;
+  private final BigDecimal quoteVolume;
+  private final Long tradeCount;
+  /** the open time of the candle */
+  private final Date timestamp;
+
+  /**
+   * Constructor
+   *
+   * @param open Price of the first trade
+   * @param high Highest price
+   * @param low Lowest price
+   * @param close Price of the last trade
+   * @param vwap Volume Weighted Average Price
+   * @param volume Volume in base currency
+   * @param quoteVolume Volume in counter currency
+   * @param tradeCount Number of trades
+   * @param timestamp Open time of the candle
+   */
+  private CandleStick(
+      BigDecimal open,
+      BigDecimal high,
+      BigDecimal low,
+      BigDecimal close,
+      BigDecimal vwap,
+      BigDecimal volume,
+      BigDecimal quoteVolume,
+      Long tradeCount,
+      Date timestamp) {
+    this.open = open;
+    this.high = high;
+    this.low = low;
+    this.close = close;
+    this.vwap = vwap;
+    this.volume = volume;
+    this.quoteVolume = quoteVolume;
+    this.tradeCount = tradeCount;
+    this.timestamp = timestamp;
+  }
+
+  public BigDecimal getOpen() {
+    return open;
+  }
+
+  public BigDecimal getHigh() {
+    return high;
+  }
+
+  public BigDecimal getLow() {
+    return low;
+  }
+
+  public BigDecimal getClose() {
+    return close;
+  }
+
+  public BigDecimal getVwap() {
+    return vwap;
+  }
+
+  public BigDecimal getVolume() {
+    return volume;
+  }
+
+  public BigDecimal getQuoteVolume() {
+    return quoteVolume;
+  }
+
+  public Long getTradeCount() {
+    return tradeCount;
+  }
+
+  public Date getTimestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public String toString() {
+    return "CandleStick [open="
+        + open
+        + ", high="
+        + high
+        + ", low="
+        + low
+        + ", close="
+        + close
+        + ", vwap="
+        + vwap
+        + ", volume="
+        + volume
+        + ", quoteVolume="
+        + quoteVolume
+        + ", tradeCount="
+        + tradeCount
+        + ", timestamp="
+        + DateUtils.toMillisNullSafe(timestamp)
+        + "]";
+  }
+
+  /**
+   * Builder to provide the following to {@link CandleStick}:
+   *
+   * <ul>
+   *   <li>Provision of fluent chained construction interface
+   * </ul>
+   */
+  @JsonPOJOBuilder(withPrefix = "")
+  public static class Builder {
+
+    private BigDecimal open;
+    private BigDecimal high;
+    private BigDecimal low;
+    private BigDecimal close;
+    private BigDecimal vwap;
+    private BigDecimal volume;
+    private BigDecimal quoteVolume;
+    private Long tradeCount;
+    private Date timestamp;
+
+    public CandleStick build() {
+      return new CandleStick(
+          open, high, low, close, vwap, volume, quoteVolume, tradeCount, timestamp);
+    }
+
+    public Builder open(BigDecimal open) {
+      this.open = open;
+      return this;
+    }
+
+    public Builder high(BigDecimal high) {
+      this.high = high;
+      return this;
+    }
+
+    public Builder low(BigDecimal low) {
+      this.low = low;
+      return this;
+    }
+
+    public Builder close(BigDecimal close) {
+      this.close = close;
+      return this;
+    }
+
+    public Builder vwap(BigDecimal vwap) {
+      this.vwap = vwap;
+      return this;
+    }
+
+    public Builder volume(BigDecimal volume) {
+      this.volume = volume;
+      return this;
+    }
+
+    public Builder quoteVolume(BigDecimal quoteVolume) {
+      this.quoteVolume = quoteVolume;
+      return this;
+    }
+
+    public Builder tradeCount(Long tradeCount) {
+      this.tradeCount = tradeCount;
+      return this;
+    }
+
+    public Builder timestamp(Date timestamp) {
+      this.timestamp = timestamp;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package org.knowm.xchange.dto.marketdata;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.util.List;
+import org.knowm.xchange.instrument.Instrument;
+
+/** The candles of an instrument, ordered by ascending open time. */
+public final class CandleStickData implements Serializable {
+
+  private static final long serialVersionUID = 5723880469454914813L;
+
+  private final Instrument instrument;
+  private final List<CandleStick> candleSticks;
+
+  /**
+   * Constructor
+   *
+   * @param instrument The instrument
+   * @param candleSticks The candles ordered by ascending open time
+   */
+  public CandleStickData(
+      @JsonProperty("instrument") Instrument instrument,
+      @JsonProperty("candleSticks") List<CandleStick> candleSticks) {
+    this.instrument = instrument;
+    this.candleSticks = candleSticks;
+  }
+
+  public Instrument getInstrument() {
+    return instrument;
+  }
+
+  public List<CandleStick> getCandleSticks() {
+    return candleSticks;
+  }
+
+  @Override
+  public String toString() {
+    return "CandleStickData [instrument=" + instrument + ", candleSticks=" + candleSticks + "]";
+  }
+}
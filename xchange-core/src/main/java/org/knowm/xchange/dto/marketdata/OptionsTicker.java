@@ -0,0 +1,209 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import org.knowm.xchange.derivative.OptionsContract;
+
+/**
+ * The ticker of an option with its mark price, implied volatilities and greeks. Some fields can be
+ * null if not provided by the exchange, e.g. the greeks in a snapshot of a whole option chain.
+ *
+ * <p>The volatilities are in percent, e.g. 68.48 for 68.48%.
+ */
+public final class OptionsTicker implements Serializable {
+
+  private static final long serialVersionUID = 5337052219484437446L;
+
+  private final Ticker ticker;
+  private final BigDecimal markPrice;
+  private final BigDecimal markIv;
+  private final BigDecimal bidIv;
+  private final BigDecimal askIv;
+  private final BigDecimal underlyingPrice;
+  private final BigDecimal openInterest;
+  private final BigDecimal delta;
+  private final BigDecimal gamma;
+  private final BigDecimal vega;
+  private final BigDecimal theta;
+  private final BigDecimal rho;
+
+  private OptionsTicker(Builder builder) {
+    this.ticker = builder.ticker;
+    this.markPrice = builder.markPrice;
+    this.markIv = builder.markIv;
+    this.bidIv = builder.bidIv;
+    this.askIv = builder.askIv;
+    this.underlyingPrice = builder.underlyingPrice;
+    this.openInterest = builder.openInterest;
+    this.delta = builder.delta;
+    this.gamma = builder.gamma;
+    this.vega = builder.vega;
+    this.theta = builder.theta;
+    this.rho = builder.rho;
+  }
+
+  /** @return The prices of the option, its instrument being the {@link OptionsContract} */
+  public Ticker getTicker() {
+    return ticker;
+  }
+
+  public OptionsContract getInstrument() {
+    return (OptionsContract) ticker.getInstrument();
+  }
+
+  public BigDecimal getMarkPrice() {
+    return markPrice;
+  }
+
+  public BigDecimal getMarkIv() {
+    return markIv;
+  }
+
+  public BigDecimal getBidIv() {
+    return bidIv;
+  }
+
+  public BigDecimal getAskIv() {
+    return askIv;
+  }
+
+  public BigDecimal getUnderlyingPrice() {
+    return underlyingPrice;
+  }
+
+  public BigDecimal getOpenInterest() {
+    return openInterest;
+  }
+
+  public BigDecimal getDelta() {
+    return delta;
+  }
+
+  public BigDecimal getGamma() {
+    return gamma;
+  }
+
+  public BigDecimal getVega() {
+    return vega;
+  }
+
+  public BigDecimal getTheta() {
+    return theta;
+  }
+
+  public BigDecimal getRho() {
+    return rho;
+  }
+
+  @Override
+  public String toString() {
+    return "OptionsTicker [ticker="
+        + ticker
+        + ", markPrice="
+        + markPrice
+        + ", markIv="
+        + markIv
+        + ", bidIv="
+        + bidIv
+        + ", askIv="
+        + askIv
+        + ", underlyingPrice="
+        + underlyingPrice
+        + ", openInterest="
+        + openInterest
+        + ", delta="
+        + delta
+        + ", gamma="
+        + gamma
+        + ", vega="
+        + vega
+        + ", theta="
+        + theta
+        + ", rho="
+        + rho
+        + "]";
+  }
+
+  public static class Builder {
+
+    private Ticker ticker;
+    private BigDecimal markPrice;
+    private BigDecimal markIv;
+    private BigDecimal bidIv;
+    private BigDecimal askIv;
+    private BigDecimal underlyingPrice;
+    private BigDecimal openInterest;
+    private BigDecimal delta;
+    private BigDecimal gamma;
+    private BigDecimal vega;
+    private BigDecimal theta;
+    private BigDecimal rho;
+
+    public OptionsTicker build() {
+      if (ticker == null || !(ticker.getInstrument() instanceof OptionsContract)) {
+        throw new IllegalStateException("The ticker of an options contract is required");
+      }
+      return new OptionsTicker(this);
+    }
+
+    public Builder ticker(Ticker ticker) {
+      this.ticker = ticker;
+      return this;
+    }
+
+    public Builder markPrice(BigDecimal markPrice) {
+      this.markPrice = markPrice;
+      return this;
+    }
+
+    public Builder markIv(BigDecimal markIv) {
+      this.markIv = markIv;
+      return this;
+    }
+
+    public Builder bidIv(BigDecimal bidIv) {
+      this.bidIv = bidIv;
+      return this;
+    }
+
+    public Builder askIv(BigDecimal askIv) {
+      this.askIv = askIv;
+      return this;
+    }
+
+    public Builder underlyingPrice(BigDecimal underlyingPrice) {
+      this.underlyingPrice = underlyingPrice;
+      return this;
+    }
+
+    public Builder openInterest(BigDecimal openInterest) {
+      this.openInterest = openInterest;
+      return this;
+    }
+
+    public Builder delta(BigDecimal delta) {
+      this.delta = delta;
+      return this;
+    }
+
+    public Builder gamma(BigDecimal gamma) {
+      this.gamma = gamma;
+      return this;
+    }
+
+    public Builder vega(BigDecimal vega) {
+      this.vega = vega;
+      return this;
+    }
+
+    public Builder theta(BigDecimal theta) {
+      this.theta = theta;
+      return this;
+    }
+
+    public Builder rho(BigDecimal rho) {
+      this.rho = rho;
+      return this;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import java.util.stream.Stream;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.Timestamps;
 
 /** DTO representing the exchange order book */
 public class OrderBook implements Serializable {
@@ -23,8 +24,13 @@ public class OrderBook implements Serializable {
   private final List<LimitOrder> asks;
   /** the bids */
   private final List<LimitOrder> bids;
-  /** the timestamp of the orderbook according to the exchange's server, null if not provided */
-  private Date timeStamp;
+  /**
+   * the time of the orderbook according to the exchange's server in nanoseconds since the epoch, 0
+   * if not provided
+   */
+  private long exchangeTimeNanos;
+  /** the local time the last update was received in nanoseconds since the epoch, 0 if unknown */
+  private long receiveTimeNanos;
 
   /**
    * Constructor
@@ -54,7 +60,7 @@ public class OrderBook implements Serializable {
    */
   public OrderBook(Date timeStamp, List<LimitOrder> asks, List<LimitOrder> bids, boolean sort) {
 
-    this.timeStamp = timeStamp;
+    this.exchangeTimeNanos = Timestamps.toEpochNanos(timeStamp);
     if (sort) {
       this.asks = new ArrayList<>(asks);
       this.bids = new ArrayList<>(bids);
@@ -90,7 +96,7 @@ public class OrderBook implements Serializable {
    */
   public OrderBook(Date timeStamp, Stream<LimitOrder> asks, Stream<LimitOrder> bids, boolean sort) {
 
-    this.timeStamp = timeStamp;
+    this.exchangeTimeNanos = Timestamps.toEpochNanos(timeStamp);
     if (sort) {
       this.asks = asks.sorted().collect(Collectors.toList());
       this.bids = bids.sorted().collect(Collectors.toList());
@@ -108,12 +114,44 @@ public class OrderBook implements Serializable {
     String id = limitOrder.getId();
     Date date = limitOrder.getTimestamp();
     BigDecimal limit = limitOrder.getLimitPrice();
-    return new LimitOrder(type, tradeableAmount, currencyPair, id, date, limit);
+    LimitOrder order = new LimitOrder(type, tradeableAmount, currencyPair, id, date, limit);
+    order.setExchangeTimeNanos(limitOrder.getExchangeTimeNanos());
+    order.setReceiveTimeNanos(limitOrder.getReceiveTimeNanos());
+    return order;
   }
 
+  /** @return A view of the exchange time, null if not provided */
   public Date getTimeStamp() {
 
-    return timeStamp;
+    return Timestamps.toDate(exchangeTimeNanos);
+  }
+
+  /**
+   * @return The time of the orderbook according to the exchange's server in nanoseconds since the
+   *     epoch, 0 if not provided
+   */
+  public long getExchangeTimeNanos() {
+
+    return exchangeTimeNanos;
+  }
+
+  public void setExchangeTimeNanos(long exchangeTimeNanos) {
+
+    this.exchangeTimeNanos = exchangeTimeNanos;
+  }
+
+  /**
+   * @return The local time the orderbook or its last update was received in nanoseconds since the
+   *     epoch, 0 if unknown
+   */
+  public long getReceiveTimeNanos() {
+
+    return receiveTimeNanos;
+  }
+
+  public void setReceiveTimeNanos(long receiveTimeNanos) {
+
+    this.receiveTimeNanos = receiveTimeNanos;
   }
 
   public List<LimitOrder> getAsks() {
@@ -134,14 +172,14 @@ public class OrderBook implements Serializable {
   /**
    * Given a new LimitOrder, it will replace a matching limit order in the orderbook if one is
    * found, or add the new LimitOrder if one is not. timeStamp will be updated if the new timestamp
-   * is non-null and in the future.
+   * is non-null and in the future, and the receive time if the order's is known.
    *
    * @param limitOrder the new LimitOrder
    */
   public void update(LimitOrder limitOrder) {
 
     update(getOrders(limitOrder.getType()), limitOrder);
-    updateDate(limitOrder.getTimestamp());
+    updateTimes(limitOrder);
   }
 
   // Replace the amount for limitOrder's price in the provided list.
@@ -162,7 +200,7 @@ public class OrderBook implements Serializable {
   /**
    * Given an OrderBookUpdate, it will replace a matching limit order in the orderbook if one is
    * found, or add a new if one is not. timeStamp will be updated if the new timestamp is non-null
-   * and in the future.
+   * and in the future, and the receive time if the update's is known.
    *
    * @param orderBookUpdate the new OrderBookUpdate
    */
@@ -182,15 +220,20 @@ public class OrderBook implements Serializable {
       limitOrders.add(idx, updatedOrder);
     }
 
-    updateDate(limitOrder.getTimestamp());
+    updateTimes(limitOrder);
   }
 
-  // Replace timeStamp if the provided date is non-null and in the future
+  // Replace the exchange time if the order's is known and in the future, and the receive time if
+  // the order's is known
   // TODO should this raise an exception if the order timestamp is in the past?
-  private void updateDate(Date updateDate) {
+  private void updateTimes(LimitOrder limitOrder) {
 
-    if (updateDate != null && (timeStamp == null || updateDate.after(timeStamp))) {
-      this.timeStamp = updateDate;
+    long updateTime = limitOrder.getExchangeTimeNanos();
+    if (updateTime != 0 && (exchangeTimeNanos == 0 || updateTime > exchangeTimeNanos)) {
+      this.exchangeTimeNanos = updateTime;
+    }
+    if (limitOrder.getReceiveTimeNanos() != 0) {
+      this.receiveTimeNanos = limitOrder.getReceiveTimeNanos();
     }
   }
 
@@ -219,7 +262,7 @@ public class OrderBook implements Serializable {
   public String toString() {
 
     return "OrderBook [timestamp: "
-        + timeStamp
+        + getTimeStamp()
         + ", asks="
         + asks.toString()
         + ", bids="
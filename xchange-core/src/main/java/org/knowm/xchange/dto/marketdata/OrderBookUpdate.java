@@ -42,6 +42,29 @@ public final class OrderBookUpdate implements Serializable {
     this.totalVolume = totalVolume;
   }
 
+  /**
+   * Build an order book update with the times in nanoseconds since the epoch, the timestamp of the
+   * limit order being a view of the exchange time.
+   *
+   * @param exchangeTimeNanos the time of the update according to the exchange's server, 0 if not
+   *     provided
+   * @param receiveTimeNanos the local time the update was received, 0 if unknown
+   * @see #OrderBookUpdate(OrderType, BigDecimal, Instrument, BigDecimal, Date, BigDecimal)
+   */
+  public OrderBookUpdate(
+      OrderType type,
+      BigDecimal volume,
+      Instrument instrument,
+      BigDecimal limitPrice,
+      long exchangeTimeNanos,
+      long receiveTimeNanos,
+      BigDecimal totalVolume) {
+
+    this(type, volume, instrument, limitPrice, (Date) null, totalVolume);
+    limitOrder.setExchangeTimeNanos(exchangeTimeNanos);
+    limitOrder.setReceiveTimeNanos(receiveTimeNanos);
+  }
+
   /**
    * Get the limit order.
    *
@@ -62,6 +85,21 @@ public final class OrderBookUpdate implements Serializable {
     return totalVolume;
   }
 
+  /**
+   * @return the time of the update according to the exchange's server in nanoseconds since the
+   *     epoch, 0 if not provided
+   */
+  public long getExchangeTimeNanos() {
+
+    return limitOrder.getExchangeTimeNanos();
+  }
+
+  /** @return the local time the update was received in nanoseconds since the epoch, 0 if unknown */
+  public long getReceiveTimeNanos() {
+
+    return limitOrder.getReceiveTimeNanos();
+  }
+
   @Override
   public String toString() {
 
@@ -11,6 +11,7 @@ import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.instrument.Instrument;
 import org.knowm.xchange.utils.Assert;
 import org.knowm.xchange.utils.DateUtils;
+import org.knowm.xchange.utils.Timestamps;
 
 /**
  * A class encapsulating the information a "Ticker" can contain. Some fields can be empty if not
@@ -40,6 +41,14 @@ public final class Ticker implements Serializable {
   private final BigDecimal askSize;
   private final BigDecimal percentageChange;
 
+  /**
+   * the time of the ticker according to the exchange's server in nanoseconds since the epoch, 0 if
+   * not provided
+   */
+  private final long exchangeTimeNanos;
+  /** the local time the ticker was received in nanoseconds since the epoch, 0 if unknown */
+  private final long receiveTimeNanos;
+
   /**
    * Constructor
    *
@@ -59,6 +68,9 @@ public final class Ticker implements Serializable {
    * @param percentageChange Price percentage change. Is compared against the last price value. Will
    *     be null if not provided and cannot be calculated. Should be represented as percentage (e.g.
    *     0.5 equal 0.5%, 1 equal 1%, 50 equal 50%, 100 equal 100%)
+   * @param exchangeTimeNanos The time of the ticker according to the exchange's server in
+   *     nanoseconds since the epoch, 0 to take the timestamp's
+   * @param receiveTimeNanos The local time the ticker was received in nanoseconds since the epoch
    */
   private Ticker(
       Instrument instrument,
@@ -74,7 +86,9 @@ public final class Ticker implements Serializable {
       Date timestamp,
       BigDecimal bidSize,
       BigDecimal askSize,
-      BigDecimal percentageChange) {
+      BigDecimal percentageChange,
+      long exchangeTimeNanos,
+      long receiveTimeNanos) {
     this.open = open;
     this.instrument = instrument;
     this.last = last;
@@ -89,6 +103,9 @@ public final class Ticker implements Serializable {
     this.bidSize = bidSize;
     this.askSize = askSize;
     this.percentageChange = percentageChange;
+    this.exchangeTimeNanos =
+        exchangeTimeNanos != 0 ? exchangeTimeNanos : Timestamps.toEpochNanos(timestamp);
+    this.receiveTimeNanos = receiveTimeNanos;
   }
 
   public Instrument getInstrument() {
@@ -160,9 +177,28 @@ public final class Ticker implements Serializable {
     return quoteVolume;
   }
 
+  /**
+   * @return The timestamp of the ticker according to the exchange's server, created from the
+   *     exchange time if the ticker was built without one
+   */
   public Date getTimestamp() {
 
-    return timestamp;
+    return timestamp != null ? timestamp : Timestamps.toDate(exchangeTimeNanos);
+  }
+
+  /**
+   * @return The time of the ticker according to the exchange's server in nanoseconds since the
+   *     epoch, 0 if not provided
+   */
+  @JsonIgnore
+  public long getExchangeTimeNanos() {
+    return exchangeTimeNanos;
+  }
+
+  /** @return The local time the ticker was received in nanoseconds since the epoch, 0 if unknown */
+  @JsonIgnore
+  public long getReceiveTimeNanos() {
+    return receiveTimeNanos;
   }
 
   public BigDecimal getBidSize() {
@@ -201,7 +237,7 @@ public final class Ticker implements Serializable {
         + ", quoteVolume="
         + quoteVolume
         + ", timestamp="
-        + DateUtils.toMillisNullSafe(timestamp)
+        + DateUtils.toMillisNullSafe(getTimestamp())
         + ", bidSize="
         + bidSize
         + ", askSize="
@@ -235,6 +271,8 @@ public final class Ticker implements Serializable {
     private BigDecimal bidSize;
     private BigDecimal askSize;
     private BigDecimal percentageChange;
+    private long exchangeTimeNanos;
+    private long receiveTimeNanos;
 
     // Prevent repeat builds
     private boolean isBuilt = false;
@@ -258,7 +296,9 @@ public final class Ticker implements Serializable {
               timestamp,
               bidSize,
               askSize,
-              percentageChange);
+              percentageChange,
+              exchangeTimeNanos,
+              receiveTimeNanos);
 
       isBuilt = true;
 
@@ -358,6 +398,16 @@ public final class Ticker implements Serializable {
       this.percentageChange = percentageChange;
       return this;
     }
+
+    public Builder exchangeTimeNanos(long exchangeTimeNanos) {
+      this.exchangeTimeNanos = exchangeTimeNanos;
+      return this;
+    }
+
+    public Builder receiveTimeNanos(long receiveTimeNanos) {
+      this.receiveTimeNanos = receiveTimeNanos;
+      return this;
+    }
   }
 
   @Override
@@ -11,6 +11,7 @@ import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.instrument.Instrument;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.utils.Timestamps;
 
 /** Data object representing a Trade */
 @JsonDeserialize(builder = Trade.Builder.class)
@@ -40,6 +41,15 @@ public class Trade implements Serializable {
 
   protected final String takerOrderId;
 
+  /**
+   * The time of the trade according to the exchange's server in nanoseconds since the epoch, with
+   * the precision the exchange provides, 0 if not provided
+   */
+  protected final long exchangeTimeNanos;
+
+  /** The local time the trade was received in nanoseconds since the epoch, 0 if unknown */
+  protected final long receiveTimeNanos;
+
   /**
    * This constructor is called to create a public Trade object in {@link
    * MarketDataService#getTrades(org.knowm.xchange.currency.CurrencyPair, Object...)}
@@ -64,6 +74,29 @@ public class Trade implements Serializable {
       String makerOrderId,
       String takerOrderId) {
 
+    this(
+        type, originalAmount, instrument, price, timestamp, id, makerOrderId, takerOrderId, 0, 0);
+  }
+
+  /**
+   * @param exchangeTimeNanos The time of the trade according to the exchange's server in
+   *     nanoseconds since the epoch, 0 to take the timestamp's
+   * @param receiveTimeNanos The local time the trade was received in nanoseconds since the epoch, 0
+   *     if unknown
+   * @see #Trade(OrderType, BigDecimal, Instrument, BigDecimal, Date, String, String, String)
+   */
+  public Trade(
+      OrderType type,
+      BigDecimal originalAmount,
+      Instrument instrument,
+      BigDecimal price,
+      Date timestamp,
+      String id,
+      String makerOrderId,
+      String takerOrderId,
+      long exchangeTimeNanos,
+      long receiveTimeNanos) {
+
     this.type = type;
     this.originalAmount = originalAmount;
     this.instrument = instrument;
@@ -72,6 +105,9 @@ public class Trade implements Serializable {
     this.id = id;
     this.makerOrderId = makerOrderId;
     this.takerOrderId = takerOrderId;
+    this.exchangeTimeNanos =
+        exchangeTimeNanos != 0 ? exchangeTimeNanos : Timestamps.toEpochNanos(timestamp);
+    this.receiveTimeNanos = receiveTimeNanos;
   }
 
   public OrderType getType() {
@@ -112,9 +148,30 @@ public class Trade implements Serializable {
     return price;
   }
 
+  /**
+   * @return The timestamp of the trade according to the exchange's server, created from the
+   *     exchange time if the trade was built without one
+   */
   public Date getTimestamp() {
 
-    return timestamp;
+    return timestamp != null ? timestamp : Timestamps.toDate(exchangeTimeNanos);
+  }
+
+  /**
+   * @return The time of the trade according to the exchange's server in nanoseconds since the
+   *     epoch, 0 if not provided
+   */
+  @JsonIgnore
+  public long getExchangeTimeNanos() {
+
+    return exchangeTimeNanos;
+  }
+
+  /** @return The local time the trade was received in nanoseconds since the epoch, 0 if unknown */
+  @JsonIgnore
+  public long getReceiveTimeNanos() {
+
+    return receiveTimeNanos;
   }
 
   public String getId() {
@@ -160,7 +217,7 @@ public class Trade implements Serializable {
         + ", price="
         + price
         + ", timestamp="
-        + timestamp
+        + getTimestamp()
         + ", id='"
         + id
         + '\''
@@ -184,6 +241,8 @@ public class Trade implements Serializable {
     protected String id;
     protected String makerOrderId;
     protected String takerOrderId;
+    protected long exchangeTimeNanos;
+    protected long receiveTimeNanos;
 
     public static Builder from(Trade trade) {
       return new Builder()
@@ -192,7 +251,9 @@ public class Trade implements Serializable {
           .instrument(trade.getInstrument())
           .price(trade.getPrice())
           .timestamp(trade.getTimestamp())
-          .id(trade.getId());
+          .id(trade.getId())
+          .exchangeTimeNanos(trade.getExchangeTimeNanos())
+          .receiveTimeNanos(trade.getReceiveTimeNanos());
     }
 
     public Builder type(OrderType type) {
@@ -242,6 +303,18 @@ public class Trade implements Serializable {
       return this;
     }
 
+    public Builder exchangeTimeNanos(long exchangeTimeNanos) {
+
+      this.exchangeTimeNanos = exchangeTimeNanos;
+      return this;
+    }
+
+    public Builder receiveTimeNanos(long receiveTimeNanos) {
+
+      this.receiveTimeNanos = receiveTimeNanos;
+      return this;
+    }
+
     public Builder makerOrderId(String makerOrderId) {
 
       this.makerOrderId = makerOrderId;
@@ -257,7 +330,16 @@ public class Trade implements Serializable {
     public Trade build() {
 
       return new Trade(
-          type, originalAmount, instrument, price, timestamp, id, makerOrderId, takerOrderId);
+          type,
+          originalAmount,
+          instrument,
+          price,
+          timestamp,
+          id,
+          makerOrderId,
+          takerOrderId,
+          exchangeTimeNanos,
+          receiveTimeNanos);
     }
   }
 }
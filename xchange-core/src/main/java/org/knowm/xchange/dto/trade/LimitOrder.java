@@ -247,7 +247,9 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
               .orderStatus(order.getStatus())
               .fee(order.getFee())
               .averagePrice(order.getAveragePrice())
-              .userReference(order.getUserReference());
+              .userReference(order.getUserReference())
+              .exchangeTimeNanos(order.getExchangeTimeNanos())
+              .receiveTimeNanos(order.getReceiveTimeNanos());
       if (order instanceof LimitOrder) {
         LimitOrder limitOrder = (LimitOrder) order;
         builder.limitPrice(limitOrder.getLimitPrice());
@@ -339,6 +341,18 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
       return (Builder) super.fee(fee);
     }
 
+    @Override
+    public Builder exchangeTimeNanos(long exchangeTimeNanos) {
+
+      return (Builder) super.exchangeTimeNanos(exchangeTimeNanos);
+    }
+
+    @Override
+    public Builder receiveTimeNanos(long receiveTimeNanos) {
+
+      return (Builder) super.receiveTimeNanos(receiveTimeNanos);
+    }
+
     public Builder limitPrice(BigDecimal limitPrice) {
 
       this.limitPrice = limitPrice;
@@ -365,6 +379,10 @@ public class LimitOrder extends Order implements Comparable<LimitOrder> {
               userReference);
       order.setOrderFlags(flags);
       order.setLeverage(leverage);
+      if (exchangeTimeNanos != 0) {
+        order.setExchangeTimeNanos(exchangeTimeNanos);
+      }
+      order.setReceiveTimeNanos(receiveTimeNanos);
       return order;
     }
   }
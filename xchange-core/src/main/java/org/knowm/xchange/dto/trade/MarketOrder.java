@@ -250,6 +250,10 @@ public class MarketOrder extends Order {
               userReference);
       order.setOrderFlags(flags);
       order.setLeverage(leverage);
+      if (exchangeTimeNanos != 0) {
+        order.setExchangeTimeNanos(exchangeTimeNanos);
+      }
+      order.setReceiveTimeNanos(receiveTimeNanos);
       return order;
     }
   }
@@ -0,0 +1,58 @@
+package org.knowm.xchange.dto.trade;
+
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+
+/**
+ * Outcome of querying a single order among several, holding either the order or the error the
+ * query failed with.
+ *
+ * @see org.knowm.xchange.service.trade.TradeService#getOrderResults(OrderQueryParams...)
+ */
+public final class OrderQueryResult {
+
+  private final OrderQueryParams params;
+  private final Order order;
+  private final Exception error;
+
+  private OrderQueryResult(OrderQueryParams params, Order order, Exception error) {
+    this.params = params;
+    this.order = order;
+    this.error = error;
+  }
+
+  public static OrderQueryResult success(OrderQueryParams params, Order order) {
+    return new OrderQueryResult(params, order, null);
+  }
+
+  public static OrderQueryResult failure(OrderQueryParams params, Exception error) {
+    return new OrderQueryResult(params, null, error);
+  }
+
+  /** @return The params the order was queried with. */
+  public OrderQueryParams getParams() {
+    return params;
+  }
+
+  /** @return The order, null if the query failed or the exchange does not know the order. */
+  public Order getOrder() {
+    return order;
+  }
+
+  /** @return The error the query failed with, null if it succeeded. */
+  public Exception getError() {
+    return error;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  @Override
+  public String toString() {
+    return "OrderQueryResult [orderId="
+        + params.getOrderId()
+        + (error == null ? ", order=" + order : ", error=" + error)
+        + "]";
+  }
+}
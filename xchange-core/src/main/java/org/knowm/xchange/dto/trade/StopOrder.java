@@ -506,6 +506,10 @@ public class StopOrder extends Order implements Comparable<StopOrder> {
 
       order.setOrderFlags(flags);
       order.setLeverage(leverage);
+      if (exchangeTimeNanos != 0) {
+        order.setExchangeTimeNanos(exchangeTimeNanos);
+      }
+      order.setReceiveTimeNanos(receiveTimeNanos);
       return order;
     }
   }
@@ -58,7 +58,54 @@ public class UserTrade extends Trade {
       Currency feeCurrency,
       String orderUserReference) {
 
-    super(type, originalAmount, instrument, price, timestamp, id, null, null);
+    this(
+        type,
+        originalAmount,
+        instrument,
+        price,
+        timestamp,
+        id,
+        orderId,
+        feeAmount,
+        feeCurrency,
+        orderUserReference,
+        0,
+        0);
+  }
+
+  /**
+   * @param exchangeTimeNanos The time of the trade according to the exchange's server in
+   *     nanoseconds since the epoch, 0 to take the timestamp's
+   * @param receiveTimeNanos The local time the trade was received in nanoseconds since the epoch, 0
+   *     if unknown
+   * @see #UserTrade(OrderType, BigDecimal, Instrument, BigDecimal, Date, String, String,
+   *     BigDecimal, Currency, String)
+   */
+  public UserTrade(
+      OrderType type,
+      BigDecimal originalAmount,
+      Instrument instrument,
+      BigDecimal price,
+      Date timestamp,
+      String id,
+      String orderId,
+      BigDecimal feeAmount,
+      Currency feeCurrency,
+      String orderUserReference,
+      long exchangeTimeNanos,
+      long receiveTimeNanos) {
+
+    super(
+        type,
+        originalAmount,
+        instrument,
+        price,
+        timestamp,
+        id,
+        null,
+        null,
+        exchangeTimeNanos,
+        receiveTimeNanos);
 
     this.orderId = orderId;
     this.feeAmount = feeAmount;
@@ -100,7 +147,7 @@ public class UserTrade extends Trade {
         + ", price="
         + price
         + ", timestamp="
-        + timestamp
+        + getTimestamp()
         + ", id="
         + id
         + ", orderId='"
@@ -149,6 +196,8 @@ public class UserTrade extends Trade {
           .price(trade.getPrice())
           .timestamp(trade.getTimestamp())
           .id(trade.getId())
+          .exchangeTimeNanos(trade.getExchangeTimeNanos())
+          .receiveTimeNanos(trade.getReceiveTimeNanos())
           .orderId(trade.getOrderId())
           .feeAmount(trade.getFeeAmount())
           .feeCurrency(trade.getFeeCurrency());
@@ -189,6 +238,16 @@ public class UserTrade extends Trade {
       return (Builder) super.id(id);
     }
 
+    @Override
+    public Builder exchangeTimeNanos(long exchangeTimeNanos) {
+      return (Builder) super.exchangeTimeNanos(exchangeTimeNanos);
+    }
+
+    @Override
+    public Builder receiveTimeNanos(long receiveTimeNanos) {
+      return (Builder) super.receiveTimeNanos(receiveTimeNanos);
+    }
+
     public Builder orderId(String orderId) {
       this.orderId = orderId;
       return this;
@@ -221,7 +280,9 @@ public class UserTrade extends Trade {
           orderId,
           feeAmount,
           feeCurrency,
-          orderUserReference);
+          orderUserReference,
+          exchangeTimeNanos,
+          receiveTimeNanos);
     }
   }
 }
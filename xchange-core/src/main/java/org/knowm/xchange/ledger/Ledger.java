@@ -0,0 +1,324 @@
+package org.knowm.xchange.ledger;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only local store of history records, e.g. the {@link UserTrade}s or {@link
+ * FundingRecord}s of one exchange account, so that reconciliation only has to fetch the records
+ * newer than the persisted {@link SyncCursor}.
+ *
+ * <p>Records are appended to a journal file as {@code [json length][timestamp][id length][id]
+ * [json]} and read back through a memory mapping of the file. An in-memory index by id and by
+ * timestamp is rebuilt from the record headers on open, so range queries only decode the records
+ * they return. A partially written record at the end of the journal, left by a crash, is truncated
+ * on open.
+ *
+ * <p>The cursor is saved next to the journal after the journal has been forced to disk, so it
+ * never points past a record that was lost. A journal is limited to 2 GiB.
+ *
+ * @param <T> The record type, which must be serializable with Jackson
+ * @see LedgerSync
+ */
+public final class Ledger<T> implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Ledger.class);
+
+  private static final ObjectMapper mapper =
+      new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Short.BYTES;
+
+  private final Path journalFile;
+  private final Path cursorFile;
+  private final Class<T> type;
+  private final Function<T, String> idOf;
+  private final Function<T, Date> timestampOf;
+  private final FileChannel channel;
+
+  private final Map<String, Long> offsetsById = new HashMap<>();
+  private final TreeMap<Long, List<Long>> offsetsByTimestamp = new TreeMap<>();
+  private MappedByteBuffer mapped;
+  private long size;
+  private SyncCursor cursor;
+
+  /**
+   * @param journalFile The journal file, created if missing. The cursor is kept in a sibling file.
+   * @param type The record type
+   * @param idOf Extracts the unique id of a record
+   * @param timestampOf Extracts the timestamp of a record, may return null
+   */
+  public Ledger(
+      Path journalFile, Class<T> type, Function<T, String> idOf, Function<T, Date> timestampOf)
+      throws IOException {
+    this.journalFile = journalFile;
+    this.cursorFile = journalFile.resolveSibling(journalFile.getFileName() + ".cursor");
+    this.type = type;
+    this.idOf = idOf;
+    this.timestampOf = timestampOf;
+    Path parent = journalFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.channel =
+        FileChannel.open(
+            journalFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    try {
+      index();
+      this.cursor = loadCursor();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /** Opens the user trade ledger of an exchange account in the directory. */
+  public static Ledger<UserTrade> openUserTrades(Path directory, String exchange, String account)
+      throws IOException {
+    return new Ledger<>(
+        directory.resolve(fileName(exchange, account, "trades")),
+        UserTrade.class,
+        UserTrade::getId,
+        UserTrade::getTimestamp);
+  }
+
+  /** Opens the funding record ledger of an exchange account in the directory. */
+  public static Ledger<FundingRecord> openFunding(Path directory, String exchange, String account)
+      throws IOException {
+    return new Ledger<>(
+        directory.resolve(fileName(exchange, account, "funding")),
+        FundingRecord.class,
+        Ledger::fundingRecordId,
+        FundingRecord::getDate);
+  }
+
+  static String fileName(String exchange, String account, String kind) {
+    return (exchange + "-" + (account == null ? "default" : account) + "-" + kind)
+            .replaceAll("[^A-Za-z0-9._-]", "_")
+        + ".ledger";
+  }
+
+  /**
+   * @return The internal id of the record, or its blockchain transaction hash, or a key made of
+   *     its type, currency, date and amount if the exchange provides neither.
+   */
+  static String fundingRecordId(FundingRecord record) {
+    if (record.getInternalId() != null) {
+      return record.getInternalId();
+    }
+    if (record.getBlockchainTransactionHash() != null) {
+      return record.getBlockchainTransactionHash();
+    }
+    return record.getType()
+        + ":"
+        + record.getCurrency()
+        + ":"
+        + (record.getDate() == null ? "" : record.getDate().getTime())
+        + ":"
+        + (record.getAmount() == null ? "" : record.getAmount().toPlainString());
+  }
+
+  /**
+   * Appends the record unless a record with the same id is already stored.
+   *
+   * @return true if the record was appended
+   */
+  public synchronized boolean append(T record) throws IOException {
+    String id = idOf.apply(record);
+    if (id == null) {
+      throw new IllegalArgumentException("Record without id: " + record);
+    }
+    if (offsetsById.containsKey(id)) {
+      return false;
+    }
+    Date timestamp = timestampOf.apply(record);
+    long millis = timestamp == null ? 0L : timestamp.getTime();
+    byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+    byte[] json = mapper.writeValueAsBytes(record);
+    if (idBytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Record id too long: " + id);
+    }
+    int length = HEADER_BYTES + idBytes.length + json.length;
+    if (size + length > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Ledger " + journalFile + " is full");
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer.putInt(json.length).putLong(millis).putShort((short) idBytes.length);
+    buffer.put(idBytes).put(json).flip();
+    long offset = size;
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, offset + buffer.position());
+    }
+    size += length;
+    index(id, millis, offset);
+    cursor = cursor.advance(id, timestamp);
+    return true;
+  }
+
+  public synchronized boolean contains(String id) {
+    return offsetsById.containsKey(id);
+  }
+
+  /** @return The record with the id, or null if there is none. */
+  public synchronized T get(String id) throws IOException {
+    Long offset = offsetsById.get(id);
+    return offset == null ? null : read(offset);
+  }
+
+  /**
+   * @param from Inclusive start, or null for the beginning of the history
+   * @param to Exclusive end, or null for the end of the history
+   * @return The stored records in the range, in timestamp order
+   */
+  public synchronized List<T> query(Date from, Date to) throws IOException {
+    NavigableMap<Long, List<Long>> range = offsetsByTimestamp;
+    if (from != null) {
+      range = range.tailMap(from.getTime(), true);
+    }
+    if (to != null) {
+      range = range.headMap(to.getTime(), false);
+    }
+    List<T> records = new ArrayList<>();
+    for (List<Long> offsets : range.values()) {
+      for (Long offset : offsets) {
+        records.add(read(offset));
+      }
+    }
+    return records;
+  }
+
+  /** @return The number of stored records. */
+  public synchronized int size() {
+    return offsetsById.size();
+  }
+
+  /**
+   * @return The high-water mark of the stored records, advanced by every {@link #append(Object)}
+   *     and persisted by {@link #commit()}
+   */
+  public synchronized SyncCursor getCursor() {
+    return cursor;
+  }
+
+  /** Replaces the cursor, e.g. to store a page cursor. Persisted by {@link #commit()}. */
+  public synchronized void setCursor(SyncCursor cursor) {
+    this.cursor = cursor == null ? SyncCursor.EMPTY : cursor;
+  }
+
+  /** Forces the appended records to disk, then atomically saves the cursor. */
+  public synchronized void commit() throws IOException {
+    channel.force(false);
+    Path tmp =
+        Files.createTempFile(
+            cursorFile.toAbsolutePath().getParent(), cursorFile.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream os = Files.newOutputStream(tmp)) {
+        mapper.writeValue(os, cursor);
+      }
+      try {
+        Files.move(
+            tmp, cursorFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, cursorFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    mapped = null;
+    channel.close();
+  }
+
+  private void index() throws IOException {
+    long fileSize = channel.size();
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IOException("Ledger " + journalFile + " is larger than 2 GiB");
+    }
+    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+    int position = 0;
+    while (position + HEADER_BYTES <= fileSize) {
+      int jsonLength = mapped.getInt(position);
+      long millis = mapped.getLong(position + Integer.BYTES);
+      short idLength = mapped.getShort(position + Integer.BYTES + Long.BYTES);
+      long end = (long) position + HEADER_BYTES + idLength + jsonLength;
+      if (jsonLength < 0 || idLength < 0 || end > fileSize) {
+        break;
+      }
+      byte[] idBytes = new byte[idLength];
+      ByteBuffer view = mapped.duplicate();
+      view.position(position + HEADER_BYTES);
+      view.get(idBytes);
+      index(new String(idBytes, StandardCharsets.UTF_8), millis, position);
+      position = (int) end;
+    }
+    if (position < fileSize) {
+      LOG.warn(
+          "Truncating {} bytes of incomplete record at the end of {}",
+          fileSize - position,
+          journalFile);
+      channel.truncate(position);
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+    }
+    size = position;
+  }
+
+  private void index(String id, long millis, long offset) {
+    offsetsById.put(id, offset);
+    offsetsByTimestamp.computeIfAbsent(millis, m -> new ArrayList<>(1)).add(offset);
+  }
+
+  private T read(long offset) throws IOException {
+    if (offset >= mapped.capacity()) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+    int position = (int) offset;
+    int jsonLength = mapped.getInt(position);
+    short idLength = mapped.getShort(position + Integer.BYTES + Long.BYTES);
+    byte[] json = new byte[jsonLength];
+    ByteBuffer view = mapped.duplicate();
+    view.position(position + HEADER_BYTES + idLength);
+    view.get(json);
+    return mapper.readValue(json, type);
+  }
+
+  private SyncCursor loadCursor() throws IOException {
+    if (!Files.isRegularFile(cursorFile)) {
+      return SyncCursor.EMPTY;
+    }
+    try (InputStream is = Files.newInputStream(cursorFile)) {
+      return mapper.readValue(is, SyncCursor.class);
+    }
+  }
+}
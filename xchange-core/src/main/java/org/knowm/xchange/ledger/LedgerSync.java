@@ -0,0 +1,118 @@
+package org.knowm.xchange.ledger;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamNextPageCursor;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsIdSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
+import org.knowm.xchange.utils.PagedIterator;
+
+/**
+ * Brings a {@link Ledger} up to date with the history of an exchange account.
+ *
+ * <p>The history params are narrowed to the records after the ledger's {@link SyncCursor} before
+ * walking the history with {@link TradeService#getTradeHistoryIterator(TradeHistoryParams)} or
+ * {@link AccountService#getFundingHistoryIterator(TradeHistoryParams)}. Records already stored are
+ * skipped, so inclusive bounds and overlapping pages are harmless. Exchanges whose params support
+ * none of the generic bounds can be narrowed by passing a custom {@code narrow} function, e.g.
+ * setting an exchange specific "newer than trade id" param from {@link SyncCursor#getLastId()}.
+ *
+ * <pre>{@code
+ * try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+ *   LedgerSync.syncUserTrades(ledger, tradeService, tradeService.createTradeHistoryParams());
+ *   List<UserTrade> lastWeek = ledger.query(weekAgo, null);
+ * }
+ * }</pre>
+ */
+public final class LedgerSync {
+
+  private LedgerSync() {}
+
+  /** Narrows the params with the generic time, id and page cursor bounds they support. */
+  public static void narrow(SyncCursor cursor, TradeHistoryParams params) {
+    if (params instanceof TradeHistoryParamsTimeSpan && cursor.getLastTimestamp() != null) {
+      ((TradeHistoryParamsTimeSpan) params).setStartTime(cursor.getLastTimestamp());
+    } else if (params instanceof TradeHistoryParamsIdSpan && cursor.getLastId() != null) {
+      ((TradeHistoryParamsIdSpan) params).setStartId(cursor.getLastId());
+    }
+    if (params instanceof TradeHistoryParamNextPageCursor && cursor.getPageCursor() != null) {
+      ((TradeHistoryParamNextPageCursor) params).setNextPageCursor(cursor.getPageCursor());
+    }
+  }
+
+  /** @return The number of new trades appended to the ledger. */
+  public static int syncUserTrades(
+      Ledger<UserTrade> ledger, TradeService tradeService, TradeHistoryParams params)
+      throws IOException {
+    return syncUserTrades(ledger, tradeService, params, LedgerSync::narrow);
+  }
+
+  /** @return The number of new trades appended to the ledger. */
+  public static int syncUserTrades(
+      Ledger<UserTrade> ledger,
+      TradeService tradeService,
+      TradeHistoryParams params,
+      BiConsumer<SyncCursor, TradeHistoryParams> narrow)
+      throws IOException {
+    narrow.accept(ledger.getCursor(), params);
+    try (PagedIterator<UserTrade, ?> trades = tradeService.getTradeHistoryIterator(params)) {
+      return sync(ledger, trades, params);
+    }
+  }
+
+  /** @return The number of new funding records appended to the ledger. */
+  public static int syncFunding(
+      Ledger<FundingRecord> ledger, AccountService accountService, TradeHistoryParams params)
+      throws IOException {
+    return syncFunding(ledger, accountService, params, LedgerSync::narrow);
+  }
+
+  /** @return The number of new funding records appended to the ledger. */
+  public static int syncFunding(
+      Ledger<FundingRecord> ledger,
+      AccountService accountService,
+      TradeHistoryParams params,
+      BiConsumer<SyncCursor, TradeHistoryParams> narrow)
+      throws IOException {
+    narrow.accept(ledger.getCursor(), params);
+    try (PagedIterator<FundingRecord, ?> records =
+        accountService.getFundingHistoryIterator(params)) {
+      return sync(ledger, records, params);
+    }
+  }
+
+  /**
+   * Appends the new records. The cursor is only advanced if the whole history could be walked,
+   * since the records of a failed sync may have a gap before the most recent one.
+   */
+  private static <T> int sync(Ledger<T> ledger, Iterator<T> records, TradeHistoryParams params)
+      throws IOException {
+    SyncCursor before = ledger.getCursor();
+    int appended = 0;
+    try {
+      while (records.hasNext()) {
+        if (ledger.append(records.next())) {
+          appended++;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      ledger.setCursor(before);
+      ledger.commit();
+      throw e;
+    }
+    if (params instanceof TradeHistoryParamNextPageCursor) {
+      String pageCursor = ((TradeHistoryParamNextPageCursor) params).getNextPageCursor();
+      if (pageCursor != null) {
+        ledger.setCursor(ledger.getCursor().withPageCursor(pageCursor));
+      }
+    }
+    ledger.commit();
+    return appended;
+  }
+}
@@ -0,0 +1,69 @@
+package org.knowm.xchange.ledger;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Date;
+
+/**
+ * High-water mark of a {@link Ledger}: the most recent record synced so far and, for cursor-paged
+ * histories, the page cursor to resume from.
+ */
+public final class SyncCursor {
+
+  public static final SyncCursor EMPTY = new SyncCursor(null, null, null);
+
+  @JsonProperty("last_id")
+  private final String lastId;
+
+  @JsonProperty("last_timestamp")
+  private final Date lastTimestamp;
+
+  @JsonProperty("page_cursor")
+  private final String pageCursor;
+
+  public SyncCursor(
+      @JsonProperty("last_id") String lastId,
+      @JsonProperty("last_timestamp") Date lastTimestamp,
+      @JsonProperty("page_cursor") String pageCursor) {
+    this.lastId = lastId;
+    this.lastTimestamp = lastTimestamp;
+    this.pageCursor = pageCursor;
+  }
+
+  /** @return The id of the most recent record, null if nothing was synced yet. */
+  public String getLastId() {
+    return lastId;
+  }
+
+  /** @return The timestamp of the most recent record, null if nothing was synced yet. */
+  public Date getLastTimestamp() {
+    return lastTimestamp;
+  }
+
+  /** @return The exchange page cursor to resume from, null if the history is not cursor-paged. */
+  public String getPageCursor() {
+    return pageCursor;
+  }
+
+  /** @return This cursor moved to the given record if it is at least as recent. */
+  public SyncCursor advance(String id, Date timestamp) {
+    if (timestamp == null || (lastTimestamp != null && timestamp.before(lastTimestamp))) {
+      return this;
+    }
+    return new SyncCursor(id, timestamp, pageCursor);
+  }
+
+  public SyncCursor withPageCursor(String pageCursor) {
+    return new SyncCursor(lastId, lastTimestamp, pageCursor);
+  }
+
+  @Override
+  public String toString() {
+    return "SyncCursor [lastId="
+        + lastId
+        + ", lastTimestamp="
+        + lastTimestamp
+        + ", pageCursor="
+        + pageCursor
+        + "]";
+  }
+}
@@ -1,12 +1,16 @@
 package org.knowm.xchange.service;
 
 import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.utils.InstrumentRules;
 
 /** Top of the hierarchy abstract class for an "exchange service" */
 public abstract class BaseExchangeService<E extends Exchange> {
@@ -17,6 +21,8 @@ public abstract class BaseExchangeService<E extends Exchange> {
    */
   protected final E exchange;
 
+  private final Map<CurrencyPair, CompiledRules> compiledRules = new ConcurrentHashMap<>();
+
   /** Constructor */
   protected BaseExchangeService(E exchange) {
 
@@ -25,14 +31,7 @@ public abstract class BaseExchangeService<E extends Exchange> {
 
   public void verifyOrder(LimitOrder limitOrder) {
 
-    ExchangeMetaData exchangeMetaData = exchange.getExchangeMetaData();
-    verifyOrder(limitOrder, exchangeMetaData);
-    BigDecimal price = limitOrder.getLimitPrice().stripTrailingZeros();
-
-    if (price.scale()
-        > exchangeMetaData.getCurrencyPairs().get(limitOrder.getCurrencyPair()).getPriceScale()) {
-      throw new IllegalArgumentException("Unsupported price scale " + price.scale());
-    }
+    verifyOrder(limitOrder, exchange.getExchangeMetaData());
   }
 
   public void verifyOrder(MarketOrder marketOrder) {
@@ -62,5 +61,40 @@ public abstract class BaseExchangeService<E extends Exchange> {
         throw new IllegalArgumentException("Order amount less than minimum");
       }
     }
+
+    InstrumentRules rules = getInstrumentRules(order.getCurrencyPair(), exchangeMetaData);
+    if (rules != null) {
+      rules.verify(order);
+    }
+  }
+
+  /**
+   * @return The compiled rules of the pair, compiled on first use and again whenever the meta data
+   *     of the pair is replaced, e.g. by a refresh of the exchange meta data, or null if the meta
+   *     data has no such pair
+   */
+  protected final InstrumentRules getInstrumentRules(
+      CurrencyPair currencyPair, ExchangeMetaData exchangeMetaData) {
+    CurrencyPairMetaData metaData = exchangeMetaData.getCurrencyPairs().get(currencyPair);
+    if (metaData == null) {
+      return null;
+    }
+    CompiledRules compiled = compiledRules.get(currencyPair);
+    if (compiled == null || compiled.metaData != metaData) {
+      compiled = new CompiledRules(metaData, InstrumentRules.compile(currencyPair, metaData));
+      compiledRules.put(currencyPair, compiled);
+    }
+    return compiled.rules;
+  }
+
+  private static final class CompiledRules {
+
+    private final CurrencyPairMetaData metaData;
+    private final InstrumentRules rules;
+
+    private CompiledRules(CurrencyPairMetaData metaData, InstrumentRules rules) {
+      this.metaData = metaData;
+      this.rules = rules;
+    }
   }
 }
@@ -30,8 +30,7 @@ public abstract class BaseResilientExchangeService<E extends Exchange>
    */
   public <R> ResilienceUtils.DecorateCallableApi<R> decorateApiCall(
       ResilienceUtils.CallableApi<R> callable) {
-    return ResilienceUtils.decorateApiCall(
-        exchange.getExchangeSpecification().getResilience(), callable);
+    return ResilienceUtils.decorateApiCall(exchange.getExchangeSpecification(), callable);
   }
 
   /**
@@ -17,8 +17,10 @@ import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.instrument.Instrument;
 import org.knowm.xchange.service.BaseService;
 import org.knowm.xchange.service.trade.params.DefaultWithdrawFundsParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
+import org.knowm.xchange.utils.PagedIterator;
 
 /**
  * Interface to provide the following to {@link Exchange}:
@@ -170,6 +172,25 @@ public interface AccountService extends BaseService {
     throw new NotYetImplementedForExchangeException("getFundingHistory");
   }
 
+  /**
+   * Iterates lazily over the whole funding history matching the params, requesting the next page
+   * in the background while the current one is consumed. Close the iterator to stop early.
+   *
+   * <p>The default implementation follows {@link TradeHistoryParamPaging} page numbers using
+   * {@link #getFundingHistory(TradeHistoryParams)} for each page. Params without paging yield a
+   * single page.
+   *
+   * @see PagedIterator
+   */
+  default PagedIterator<FundingRecord, ?> getFundingHistoryIterator(TradeHistoryParams params) {
+    if (params instanceof TradeHistoryParamPaging) {
+      return PagedIterator.byPageNumber(
+          (TradeHistoryParamPaging) params, () -> getFundingHistory(params));
+    }
+    return new PagedIterator<FundingRecord, Void>(
+        cursor -> new PagedIterator.Page<>(getFundingHistory(params), null), null);
+  }
+
   /**
    * Get the trading fees per instrument as determined by the given exchange's rules for adjusting
    * fees by recent volume traded. Some exchanges will provide the current fees per currency via a
@@ -3,7 +3,10 @@ package org.knowm.xchange.service.marketdata;
 import java.io.IOException;
 import java.util.List;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
+import org.knowm.xchange.dto.marketdata.OptionsTicker;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
@@ -11,6 +14,7 @@ import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.BaseService;
+import org.knowm.xchange.service.marketdata.params.CandleStickDataParams;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 /**
@@ -124,4 +128,43 @@ public interface MarketDataService extends BaseService {
   default Trades getTrades(Params params) throws IOException {
     throw new NotYetImplementedForExchangeException("getTrades");
   }
+
+  /**
+   * Get the candles (OHLCV) of an instrument
+   *
+   * @param currencyPair The currency pair
+   * @param params The candle period and time span
+   * @return The candles ordered by ascending open time
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the
+   *     request or response
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the
+   *     requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the
+   *     requested function or data, but it has not yet been implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  default CandleStickData getCandleStickData(
+      CurrencyPair currencyPair, CandleStickDataParams params) throws IOException {
+    throw new NotYetImplementedForExchangeException("getCandleStickData");
+  }
+
+  /**
+   * Get the tickers of all the options on an underlying currency in a single snapshot, rather than
+   * a request per option
+   *
+   * @param underlying The base currency of the options, e.g. BTC
+   * @param args Optional arguments. Exchange-specific
+   * @return The tickers of the options, their greeks may be null
+   * @throws ExchangeException - Indication that the exchange reported some kind of error with the
+   *     request or response
+   * @throws NotAvailableFromExchangeException - Indication that the exchange does not support the
+   *     requested function or data
+   * @throws NotYetImplementedForExchangeException - Indication that the exchange supports the
+   *     requested function or data, but it has not yet been implemented
+   * @throws IOException - Indication that a networking error occurred while fetching JSON data
+   */
+  default List<OptionsTicker> getOptionChain(Currency underlying, Object... args)
+      throws IOException {
+    throw new NotYetImplementedForExchangeException("getOptionChain");
+  }
 }
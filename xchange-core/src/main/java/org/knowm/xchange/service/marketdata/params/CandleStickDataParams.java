@@ -0,0 +1,22 @@
+package org.knowm.xchange.service.marketdata.params;
+
+import java.util.Date;
+
+/**
+ * Parameters for {@link
+ * org.knowm.xchange.service.marketdata.MarketDataService#getCandleStickData}.
+ */
+public interface CandleStickDataParams extends Params {
+
+  /** @return The length of a candle in seconds. */
+  long getPeriodInSecs();
+
+  /** @return Open time of the first candle, null for the exchange default. */
+  Date getStartDate();
+
+  /** @return Open time of the last candle, null for the exchange default. */
+  Date getEndDate();
+
+  /** @return The maximum number of candles, null for the exchange default. */
+  Integer getLimit();
+}
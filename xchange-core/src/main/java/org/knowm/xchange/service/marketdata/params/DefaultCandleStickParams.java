@@ -0,0 +1,62 @@
+package org.knowm.xchange.service.marketdata.params;
+
+import java.util.Date;
+
+/** Common implementation of {@link CandleStickDataParams}. */
+public class DefaultCandleStickParams implements CandleStickDataParams {
+
+  private final long periodInSecs;
+  private final Date startDate;
+  private final Date endDate;
+  private final Integer limit;
+
+  public DefaultCandleStickParams(long periodInSecs) {
+    this(periodInSecs, null, null, null);
+  }
+
+  public DefaultCandleStickParams(long periodInSecs, Date startDate, Date endDate) {
+    this(periodInSecs, startDate, endDate, null);
+  }
+
+  public DefaultCandleStickParams(
+      long periodInSecs, Date startDate, Date endDate, Integer limit) {
+    this.periodInSecs = periodInSecs;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.limit = limit;
+  }
+
+  @Override
+  public long getPeriodInSecs() {
+    return periodInSecs;
+  }
+
+  @Override
+  public Date getStartDate() {
+    return startDate;
+  }
+
+  @Override
+  public Date getEndDate() {
+    return endDate;
+  }
+
+  @Override
+  public Integer getLimit() {
+    return limit;
+  }
+
+  @Override
+  public String toString() {
+    return "DefaultCandleStickParams{"
+        + "periodInSecs="
+        + periodInSecs
+        + ", startDate="
+        + startDate
+        + ", endDate="
+        + endDate
+        + ", limit="
+        + limit
+        + '}';
+  }
+}
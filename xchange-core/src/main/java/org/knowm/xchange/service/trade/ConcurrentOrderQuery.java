@@ -0,0 +1,164 @@
+package org.knowm.xchange.service.trade;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.OrderQueryResult;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+
+/**
+ * Queries several orders with single-order requests, keeping up to a given number of requests in
+ * flight. Exchanges with a rate limiter still apply it to each request, so the parallelism only
+ * bounds how many requests may wait for a permit at the same time.
+ */
+public final class ConcurrentOrderQuery {
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r, "xchange-order-query");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private ConcurrentOrderQuery() {}
+
+  /** Queries a single order. */
+  @FunctionalInterface
+  public interface SingleOrderQuery {
+
+    /** @return The order, or null if the exchange does not know it */
+    Order query(OrderQueryParams params) throws IOException;
+  }
+
+  /**
+   * @param parallelism The maximum number of requests in flight
+   * @return The results in the order they complete. Requests are only issued while the iterator
+   *     is consumed, so abandoning it stops querying after the requests already in flight.
+   */
+  public static Iterator<OrderQueryResult> query(
+      OrderQueryParams[] params, SingleOrderQuery query, int parallelism) {
+    return query(params, query, parallelism, EXECUTOR);
+  }
+
+  /**
+   * @param parallelism The maximum number of requests in flight
+   * @param executor Runs the requests, {@code Runnable::run} queries sequentially in the caller
+   * @return The results in the order they complete
+   */
+  public static Iterator<OrderQueryResult> query(
+      OrderQueryParams[] params, SingleOrderQuery query, int parallelism, Executor executor) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+    }
+    return new ResultIterator(params, query, parallelism, executor);
+  }
+
+  /**
+   * Queries all orders, waiting for every request to complete.
+   *
+   * @return The orders in the order of the params, without the orders unknown to the exchange
+   * @throws IOException The first failure, in the order of the params, with the failures of the
+   *     other orders suppressed
+   */
+  public static Collection<Order> queryAll(
+      OrderQueryParams[] params, SingleOrderQuery query, int parallelism) throws IOException {
+    OrderQueryResult[] results = new OrderQueryResult[params.length];
+    Iterator<OrderQueryResult> iterator = query(params, query, parallelism);
+    while (iterator.hasNext()) {
+      OrderQueryResult result = iterator.next();
+      for (int i = 0; i < params.length; i++) {
+        if (params[i] == result.getParams() && results[i] == null) {
+          results[i] = result;
+          break;
+        }
+      }
+    }
+
+    List<Order> orders = new ArrayList<>(params.length);
+    Exception failure = null;
+    for (OrderQueryResult result : results) {
+      if (result.isSuccess()) {
+        if (result.getOrder() != null) {
+          orders.add(result.getOrder());
+        }
+      } else if (failure == null) {
+        failure = result.getError();
+      } else {
+        failure.addSuppressed(result.getError());
+      }
+    }
+    if (failure instanceof IOException) {
+      throw (IOException) failure;
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    }
+    if (failure != null) {
+      throw new ExchangeException(failure);
+    }
+    return orders;
+  }
+
+  private static final class ResultIterator implements Iterator<OrderQueryResult> {
+
+    private final OrderQueryParams[] params;
+    private final SingleOrderQuery query;
+    private final int parallelism;
+    private final Executor executor;
+    private final BlockingQueue<OrderQueryResult> completed = new LinkedBlockingQueue<>();
+
+    private int submitted;
+    private int returned;
+
+    ResultIterator(
+        OrderQueryParams[] params, SingleOrderQuery query, int parallelism, Executor executor) {
+      this.params = params;
+      this.query = query;
+      this.parallelism = parallelism;
+      this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return returned < params.length;
+    }
+
+    @Override
+    public OrderQueryResult next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      while (submitted < params.length && submitted - returned < parallelism) {
+        OrderQueryParams param = params[submitted++];
+        executor.execute(() -> completed.add(run(param)));
+      }
+      try {
+        OrderQueryResult result = completed.take();
+        returned++;
+        return result;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ExchangeException("Interrupted while querying orders", e);
+      }
+    }
+
+    private OrderQueryResult run(OrderQueryParams param) {
+      try {
+        return OrderQueryResult.success(param, query.query(param));
+      } catch (Exception e) {
+        return OrderQueryResult.failure(param, e);
+      }
+    }
+  }
+}
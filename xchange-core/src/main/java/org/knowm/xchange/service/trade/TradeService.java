@@ -2,6 +2,7 @@ package org.knowm.xchange.service.trade;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Iterator;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.account.OpenPositions;
@@ -12,11 +13,14 @@ import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.BaseService;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
 import org.knowm.xchange.service.trade.params.DefaultCancelOrderParamId;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamNextPageCursor;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.TradeHistoryParamsAll;
 import org.knowm.xchange.service.trade.params.orders.DefaultQueryOrderParam;
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
 import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+import org.knowm.xchange.utils.PagedIterator;
 
 /**
  * Interface to provide the following to {@link org.knowm.xchange.Exchange}:
@@ -269,6 +273,38 @@ public interface TradeService extends BaseService {
     throw new NotYetImplementedForExchangeException("getTradeHistory");
   }
 
+  /**
+   * Iterates lazily over the whole trade history matching the params, requesting the next page in
+   * the background while the current one is consumed. Close the iterator to stop early.
+   *
+   * <p>The default implementation follows {@link TradeHistoryParamNextPageCursor} cursors, or
+   * {@link TradeHistoryParamPaging} page numbers, using {@link
+   * #getTradeHistory(TradeHistoryParams)} for each page. Params supporting neither yield a single
+   * page. The params are updated with the position of each requested page.
+   *
+   * @see PagedIterator
+   */
+  default PagedIterator<UserTrade, ?> getTradeHistoryIterator(TradeHistoryParams params) {
+    if (params instanceof TradeHistoryParamNextPageCursor) {
+      TradeHistoryParamNextPageCursor cursorParams = (TradeHistoryParamNextPageCursor) params;
+      return new PagedIterator<UserTrade, String>(
+          cursor -> {
+            cursorParams.setNextPageCursor(cursor);
+            UserTrades trades = getTradeHistory(params);
+            String next = trades.getNextPageCursor();
+            return new PagedIterator.Page<>(
+                trades.getUserTrades(), next == null || next.equals(cursor) ? null : next);
+          },
+          cursorParams.getNextPageCursor());
+    }
+    if (params instanceof TradeHistoryParamPaging) {
+      return PagedIterator.byPageNumber(
+          (TradeHistoryParamPaging) params, () -> getTradeHistory(params).getUserTrades());
+    }
+    return new PagedIterator<UserTrade, Void>(
+        cursor -> new PagedIterator.Page<>(getTradeHistory(params).getUserTrades(), null), null);
+  }
+
   /**
    * Create {@link TradeHistoryParams} object specific to this exchange. Object created by this
    * method may be used to discover supported and required {@link
@@ -345,4 +381,25 @@ public interface TradeService extends BaseService {
   default Collection<Order> getOrder(OrderQueryParams... orderQueryParams) throws IOException {
     throw new NotAvailableFromExchangeException("getOrder");
   }
+
+  /**
+   * Queries several orders, returning the result of each order as soon as it is available. A
+   * failed query is reported in its {@link OrderQueryResult} instead of failing the other orders.
+   *
+   * <p>The default implementation queries the orders one at a time with {@link
+   * #getOrder(OrderQueryParams...)} while the results are consumed. Implementations may query
+   * them concurrently with {@link ConcurrentOrderQuery} or use a multi-order endpoint.
+   *
+   * @return The results in the order they complete
+   */
+  default Iterator<OrderQueryResult> getOrderResults(OrderQueryParams... orderQueryParams) {
+    return ConcurrentOrderQuery.query(
+        orderQueryParams,
+        params -> {
+          Iterator<Order> orders = getOrder(params).iterator();
+          return orders.hasNext() ? orders.next() : null;
+        },
+        1,
+        Runnable::run);
+  }
 }
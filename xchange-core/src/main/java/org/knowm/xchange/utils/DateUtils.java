@@ -50,37 +50,37 @@ public class DateUtils {
    * @param isoFormattedDate
    * @return Date
    * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
+   * @see Timestamps#parseIso8601Millis(CharSequence)
    */
   public static Date fromISODateString(String isoFormattedDate)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
-    SimpleDateFormat isoDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-    // set UTC time zone - 'Z' indicates it
-    isoDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-    try {
-      return isoDateFormat.parse(isoFormattedDate);
-    } catch (ParseException e) {
-      throw new InvalidFormatException(null, "Error parsing as date", isoFormattedDate, Date.class);
+    // the 'Z' indicating UTC is required
+    if (isoFormattedDate.endsWith("Z")) {
+      try {
+        return new Date(Timestamps.parseIso8601Millis(isoFormattedDate));
+      } catch (IllegalArgumentException e) {
+        // rethrown below
+      }
     }
+    throw new InvalidFormatException(null, "Error parsing as date", isoFormattedDate, Date.class);
   }
 
   /**
    * Converts an ISO 8601 formatted Date String to a Java Date ISO 8601 format:
-   * yyyy-MM-dd'T'HH:mm:ss
+   * yyyy-MM-dd'T'HH:mm:ss, with an optional fraction of the second and zone, UTC by default
    *
    * @param iso8601FormattedDate
    * @return Date
    * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
+   * @see Timestamps#parseIso8601Millis(CharSequence)
    */
   public static Date fromISO8601DateString(String iso8601FormattedDate)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
-    SimpleDateFormat iso8601Format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
-    // set UTC time zone
-    iso8601Format.setTimeZone(TimeZone.getTimeZone("UTC"));
     try {
-      return iso8601Format.parse(iso8601FormattedDate);
-    } catch (ParseException e) {
+      return new Date(Timestamps.parseIso8601Millis(iso8601FormattedDate));
+    } catch (IllegalArgumentException e) {
       throw new InvalidFormatException(
           null, "Error parsing as date", iso8601FormattedDate, Date.class);
     }
@@ -90,6 +90,9 @@ public class DateUtils {
    * Converts an rfc1123 formatted Date String to a Java Date rfc1123 format: EEE, dd MMM yyyy
    * HH:mm:ss zzz
    *
+   * <p>The English names and GMT or numeric zones are parsed without a date format, other locales
+   * and zone names fall back to {@link SimpleDateFormat}.
+   *
    * @param rfc1123FormattedDate
    * @return Date
    * @throws com.fasterxml.jackson.databind.exc.InvalidFormatException
@@ -97,6 +100,13 @@ public class DateUtils {
   public static Date fromRfc1123DateString(String rfc1123FormattedDate, Locale locale)
       throws com.fasterxml.jackson.databind.exc.InvalidFormatException {
 
+    if (Locale.ENGLISH.getLanguage().equals(locale.getLanguage())) {
+      try {
+        return new Date(Timestamps.parseRfc1123Millis(rfc1123FormattedDate));
+      } catch (IllegalArgumentException e) {
+        // e.g. a zone name, left to the date format
+      }
+    }
     SimpleDateFormat rfc1123DateFormat =
         new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", locale);
     try {
@@ -0,0 +1,359 @@
+package org.knowm.xchange.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * The restrictions of {@link CurrencyPairMetaData} compiled once into fixed-point values, for
+ * validating and adjusting many orders without re-reading the metadata or doing {@link BigDecimal}
+ * arithmetic per order.
+ *
+ * <p>Prices are represented as longs in units of {@code 10^-priceScale} and amounts in units of
+ * {@code 10^-amountScale}, see {@link #priceToUnits(BigDecimal, RoundingMode)} and {@link
+ * #amountToUnits(BigDecimal)}. The methods taking units and arrays of units don't allocate. Pairs
+ * without a price or base scale in their metadata use {@link #DEFAULT_SCALE} for their units and
+ * skip the corresponding scale check.
+ *
+ * <p>Compared to {@link OrderValuesHelper} these rules also cover the maximum amount and the
+ * minimum and maximum order value of the metadata. A maximum that is null, zero or negative means
+ * no limit, as some exchanges fill in zero for the limits they don't provide.
+ */
+public final class InstrumentRules {
+
+  /** Scale of the units of a pair without price or base scale in its metadata. */
+  public static final int DEFAULT_SCALE = 8;
+
+  /** A restriction an order does not comply with, {@link #NONE} if it complies with all of them. */
+  public enum Violation {
+    NONE(null),
+    PRICE_SCALE("Unsupported price scale"),
+    AMOUNT_SCALE("Unsupported amount scale"),
+    AMOUNT_STEP("Order amount not a multiple of the step size"),
+    AMOUNT_BELOW_MINIMUM("Order amount less than minimum"),
+    AMOUNT_ABOVE_MAXIMUM("Order amount more than maximum"),
+    VALUE_BELOW_MINIMUM("Order value less than minimum"),
+    VALUE_ABOVE_MAXIMUM("Order value more than maximum");
+
+    private final String message;
+
+    Violation(String message) {
+      this.message = message;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+  }
+
+  private final CurrencyPair currencyPair;
+  private final int priceScale;
+  private final boolean priceScaleFixed;
+  private final int amountScale;
+  private final boolean amountScaleFixed;
+  private final long amountStep;
+  private final boolean hasAmountStep;
+  private final long minAmount;
+  private final long maxAmount;
+  private final long minValue;
+  private final double minValueDouble;
+  private final long maxValue;
+  private final double maxValueDouble;
+
+  private InstrumentRules(CurrencyPair currencyPair, CurrencyPairMetaData metaData) {
+    this.currencyPair = currencyPair;
+    Integer metaPriceScale = metaData.getPriceScale();
+    this.priceScaleFixed = metaPriceScale != null;
+    this.priceScale = priceScaleFixed ? metaPriceScale : DEFAULT_SCALE;
+
+    BigDecimal stepSize = metaData.getAmountStepSize();
+    if (stepSize != null && stepSize.signum() == 0) {
+      stepSize = null;
+    }
+    Integer baseScale = metaData.getBaseScale();
+    this.amountScaleFixed = baseScale != null;
+    if (baseScale != null) {
+      this.amountScale = baseScale;
+    } else if (stepSize != null) {
+      this.amountScale = Math.max(0, stepSize.stripTrailingZeros().scale());
+    } else {
+      this.amountScale = DEFAULT_SCALE;
+    }
+    this.hasAmountStep = stepSize != null;
+    this.amountStep =
+        stepSize == null ? 1 : Math.max(1, toUnits(stepSize, amountScale, RoundingMode.CEILING));
+
+    BigDecimal minimumAmount = metaData.getMinimumAmount();
+    BigDecimal maximumAmount = metaData.getMaximumAmount();
+    this.minAmount =
+        minimumAmount == null
+            ? 0
+            : saturatedUnits(minimumAmount, amountScale, RoundingMode.CEILING);
+    this.maxAmount =
+        isNoLimit(maximumAmount)
+            ? Long.MAX_VALUE
+            : saturatedUnits(maximumAmount, amountScale, RoundingMode.FLOOR);
+
+    int valueScale = priceScale + amountScale;
+    BigDecimal minimumValue = metaData.getCounterMinimumAmount();
+    BigDecimal maximumValue = metaData.getCounterMaximumAmount();
+    this.minValue =
+        minimumValue == null
+            ? 0
+            : unitsOrMinusOne(minimumValue, valueScale, RoundingMode.CEILING);
+    this.minValueDouble =
+        minimumValue == null ? 0 : minimumValue.movePointRight(valueScale).doubleValue();
+    this.maxValue =
+        isNoLimit(maximumValue)
+            ? Long.MAX_VALUE
+            : unitsOrMinusOne(maximumValue, valueScale, RoundingMode.FLOOR);
+    this.maxValueDouble =
+        isNoLimit(maximumValue)
+            ? Double.POSITIVE_INFINITY
+            : maximumValue.movePointRight(valueScale).doubleValue();
+  }
+
+  /** Compiles the rules of a single pair. */
+  public static InstrumentRules compile(CurrencyPair currencyPair, CurrencyPairMetaData metaData) {
+    return new InstrumentRules(currencyPair, metaData);
+  }
+
+  /** Compiles the rules of all the pairs of the exchange. */
+  public static Map<CurrencyPair, InstrumentRules> compile(ExchangeMetaData exchangeMetaData) {
+    Map<CurrencyPair, CurrencyPairMetaData> currencyPairs = exchangeMetaData.getCurrencyPairs();
+    if (currencyPairs == null) {
+      return Collections.emptyMap();
+    }
+    Map<CurrencyPair, InstrumentRules> rules = new HashMap<>(currencyPairs.size() * 2);
+    currencyPairs.forEach(
+        (pair, metaData) -> {
+          if (metaData != null) {
+            rules.put(pair, new InstrumentRules(pair, metaData));
+          }
+        });
+    return Collections.unmodifiableMap(rules);
+  }
+
+  public CurrencyPair getCurrencyPair() {
+    return currencyPair;
+  }
+
+  public int getPriceScale() {
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+    return amountScale;
+  }
+
+  /** @return The amount step in amount units, 1 if the pair has no step size. */
+  public long getAmountStep() {
+    return amountStep;
+  }
+
+  /** @return The price in price units, rounded with the rounding mode. */
+  public long priceToUnits(BigDecimal price, RoundingMode roundingMode) {
+    return toUnits(price, priceScale, roundingMode);
+  }
+
+  /** @return The price in price units, rounded down for bids and up for asks. */
+  public long priceToUnits(BigDecimal price, Order.OrderType orderType) {
+    return priceToUnits(price, roundingMode(orderType));
+  }
+
+  /** @return The amount in amount units, rounded down. */
+  public long amountToUnits(BigDecimal amount) {
+    return toUnits(amount, amountScale, RoundingMode.FLOOR);
+  }
+
+  public BigDecimal priceFromUnits(long priceUnits) {
+    return BigDecimal.valueOf(priceUnits, priceScale);
+  }
+
+  public BigDecimal amountFromUnits(long amountUnits) {
+    return BigDecimal.valueOf(amountUnits, amountScale);
+  }
+
+  /**
+   * @return The amount capped to the maximum amount and rounded down to the step size, the
+   *     fixed-point equivalent of {@link OrderValuesHelper#adjustAmount(BigDecimal)}
+   */
+  public long adjustAmount(long amountUnits) {
+    if (amountUnits > maxAmount) {
+      amountUnits = maxAmount;
+    }
+    return amountUnits - Math.floorMod(amountUnits, amountStep);
+  }
+
+  /** Adjusts the first {@code length} amounts in place, see {@link #adjustAmount(long)}. */
+  public void adjustAmounts(long[] amountUnits, int length) {
+    for (int i = 0; i < length; i++) {
+      amountUnits[i] = adjustAmount(amountUnits[i]);
+    }
+  }
+
+  /**
+   * @return The amount adjusted to the rules and scaled to the amount scale, see {@link
+   *     #adjustAmount(long)}
+   */
+  public BigDecimal adjustAmount(BigDecimal amount) {
+    return amountFromUnits(adjustAmount(amountToUnits(amount)));
+  }
+
+  /** @return The price rounded to the price scale, down for bids and up for asks. */
+  public BigDecimal adjustPrice(BigDecimal price, Order.OrderType orderType) {
+    return priceScaleFixed ? price.setScale(priceScale, roundingMode(orderType)) : price;
+  }
+
+  /**
+   * Checks an order given in units. The price is only used for the order value checks, pass 0 for
+   * market orders to skip them.
+   */
+  public Violation check(long priceUnits, long amountUnits) {
+    if (amountUnits % amountStep != 0) {
+      return Violation.AMOUNT_STEP;
+    }
+    if (amountUnits < minAmount) {
+      return Violation.AMOUNT_BELOW_MINIMUM;
+    }
+    if (amountUnits > maxAmount) {
+      return Violation.AMOUNT_ABOVE_MAXIMUM;
+    }
+    if (priceUnits > 0) {
+      if (compareValue(priceUnits, amountUnits, minValue, minValueDouble) < 0) {
+        return Violation.VALUE_BELOW_MINIMUM;
+      }
+      if (compareValue(priceUnits, amountUnits, maxValue, maxValueDouble) > 0) {
+        return Violation.VALUE_ABOVE_MAXIMUM;
+      }
+    }
+    return Violation.NONE;
+  }
+
+  /**
+   * Checks the first {@code length} orders given as parallel arrays of units, see {@link
+   * #check(long, long)}.
+   *
+   * @param violations Receives the violation of each order
+   * @return The number of orders that don't comply with the rules
+   */
+  public int check(long[] priceUnits, long[] amountUnits, int length, Violation[] violations) {
+    int invalid = 0;
+    for (int i = 0; i < length; i++) {
+      Violation violation = check(priceUnits[i], amountUnits[i]);
+      violations[i] = violation;
+      if (violation != Violation.NONE) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * Checks an order, including that its price and amount have no more digits than allowed. Without
+   * a base scale the amount scale comes from the step size, so an amount with more digits than the
+   * step can't be a multiple of it.
+   */
+  public Violation check(Order order) {
+    BigDecimal amount = order.getOriginalAmount();
+    if (amount.stripTrailingZeros().scale() > amountScale) {
+      if (amountScaleFixed) {
+        return Violation.AMOUNT_SCALE;
+      }
+      if (hasAmountStep) {
+        return Violation.AMOUNT_STEP;
+      }
+    }
+    long priceUnits = 0;
+    if (order instanceof LimitOrder) {
+      BigDecimal price = ((LimitOrder) order).getLimitPrice();
+      if (priceScaleFixed && price.stripTrailingZeros().scale() > priceScale) {
+        return Violation.PRICE_SCALE;
+      }
+      priceUnits = priceToUnits(price, RoundingMode.FLOOR);
+    }
+    return check(priceUnits, amountToUnits(amount));
+  }
+
+  /** @throws IllegalArgumentException if the order does not comply with the rules */
+  public void verify(Order order) {
+    Violation violation;
+    try {
+      violation = check(order);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Unsupported order values", e);
+    }
+    switch (violation) {
+      case NONE:
+        return;
+      case AMOUNT_SCALE:
+        throw new IllegalArgumentException(
+            violation.getMessage() + " " + order.getOriginalAmount().stripTrailingZeros().scale());
+      case PRICE_SCALE:
+        throw new IllegalArgumentException(
+            violation.getMessage()
+                + " "
+                + ((LimitOrder) order).getLimitPrice().stripTrailingZeros().scale());
+      default:
+        throw new IllegalArgumentException(violation.getMessage());
+    }
+  }
+
+  private static boolean isNoLimit(BigDecimal maximum) {
+    return maximum == null || maximum.signum() <= 0;
+  }
+
+  private static RoundingMode roundingMode(Order.OrderType orderType) {
+    return orderType == Order.OrderType.ASK || orderType == Order.OrderType.EXIT_ASK
+        ? RoundingMode.CEILING
+        : RoundingMode.FLOOR;
+  }
+
+  /** Compares the exact value when it fits a long and falls back to doubles otherwise. */
+  private static int compareValue(long priceUnits, long amountUnits, long bound, double boundD) {
+    if (bound >= 0 && priceUnits <= Long.MAX_VALUE / Math.max(1, amountUnits)) {
+      return Long.compare(priceUnits * amountUnits, bound);
+    }
+    return Double.compare((double) priceUnits * amountUnits, boundD);
+  }
+
+  private static long toUnits(BigDecimal value, int scale, RoundingMode roundingMode) {
+    return value.setScale(scale, roundingMode).unscaledValue().longValueExact();
+  }
+
+  /** @return The units, or the long closest to them if they don't fit a long. */
+  private static long saturatedUnits(BigDecimal value, int scale, RoundingMode roundingMode) {
+    BigInteger units = value.setScale(scale, roundingMode).unscaledValue();
+    if (units.bitLength() < Long.SIZE) {
+      return units.longValue();
+    }
+    return units.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+  }
+
+  /** @return The units, or -1 if they don't fit a long and doubles must be compared instead. */
+  private static long unitsOrMinusOne(BigDecimal value, int scale, RoundingMode roundingMode) {
+    BigInteger units = value.setScale(scale, roundingMode).unscaledValue();
+    return units.bitLength() < Long.SIZE ? units.longValue() : -1;
+  }
+
+  @Override
+  public String toString() {
+    return "InstrumentRules [currencyPair="
+        + currencyPair
+        + ", priceScale="
+        + priceScale
+        + ", amountScale="
+        + amountScale
+        + ", amountStep="
+        + amountStep
+        + "]";
+  }
+}
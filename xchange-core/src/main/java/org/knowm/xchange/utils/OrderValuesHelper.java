@@ -10,6 +10,7 @@ import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
  * dictated by {@link CurrencyPairMetaData}
  *
  * @author walec51
+ * @see InstrumentRules for normalizing many orders
  */
 public class OrderValuesHelper {
 
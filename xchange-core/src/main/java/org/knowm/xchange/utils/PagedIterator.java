@@ -0,0 +1,245 @@
+package org.knowm.xchange.utils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamPaging;
+
+/**
+ * Iterates lazily over the items of a paginated history endpoint.
+ *
+ * <p>The first page is only requested on the first call to {@link #hasNext()}. As soon as a page
+ * is handed out the next one is requested in the background, so at most two pages are held in
+ * memory and the caller's processing overlaps with the network round trip. Rate limiting and
+ * retries stay inside the {@link PageFetcher}, i.e. the usual decorated API calls.
+ *
+ * <p>Stopping early is done by {@link #close() closing} the iterator, which cancels the pending
+ * prefetch.
+ *
+ * <pre>{@code
+ * try (PagedIterator<FundingRecord, ?> records =
+ *     accountService.getFundingHistoryIterator(params)) {
+ *   while (records.hasNext()) {
+ *     store(records.next());
+ *   }
+ * }
+ * }</pre>
+ *
+ * @param <T> The item type
+ * @param <C> The cursor type, e.g. a page number or an opaque exchange cursor
+ */
+public class PagedIterator<T, C> implements Iterator<T>, AutoCloseable {
+
+  private static final ExecutorService PREFETCH_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r, "xchange-history-prefetch");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  private final PageFetcher<T, C> fetcher;
+  private final Executor executor;
+  private final boolean prefetch;
+
+  private C firstCursor;
+  private boolean started;
+  private Iterator<T> current = Collections.emptyIterator();
+  private Future<Page<T, C>> next;
+  private C nextCursor;
+  private boolean closed;
+
+  /**
+   * @param fetcher Fetches the page at the given cursor
+   * @param firstCursor The cursor of the first page, may be null
+   */
+  public PagedIterator(PageFetcher<T, C> fetcher, C firstCursor) {
+    this(fetcher, firstCursor, PREFETCH_EXECUTOR, true);
+  }
+
+  /**
+   * @param fetcher Fetches the page at the given cursor
+   * @param firstCursor The cursor of the first page, may be null
+   * @param executor The executor used to prefetch the next page
+   * @param prefetch Whether the next page is requested before the current one is exhausted
+   */
+  public PagedIterator(
+      PageFetcher<T, C> fetcher, C firstCursor, Executor executor, boolean prefetch) {
+    this.fetcher = fetcher;
+    this.firstCursor = firstCursor;
+    this.executor = executor;
+    this.prefetch = prefetch;
+  }
+
+  /**
+   * Walks the 0-based page numbers of {@link TradeHistoryParamPaging} params, starting at the page
+   * number already set. Paging stops at the first page shorter than the page length, or after the
+   * first page if no page length is set since the end could not be detected otherwise.
+   *
+   * @param params The params, whose page number is updated before each request
+   * @param fetcher Requests the page currently set in the params
+   */
+  public static <T> PagedIterator<T, Integer> byPageNumber(
+      TradeHistoryParamPaging params, ListFetcher<T> fetcher) {
+    Integer firstPage = params.getPageNumber();
+    return new PagedIterator<>(
+        page -> {
+          params.setPageNumber(page);
+          List<T> items = fetcher.fetch();
+          Integer pageLength = params.getPageLength();
+          boolean last = items == null || pageLength == null || items.size() < pageLength;
+          return new Page<>(items, last ? null : page + 1);
+        },
+        firstPage == null ? 0 : firstPage);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (!started) {
+      started = true;
+      Page<T, C> first = fetch(firstCursor);
+      firstCursor = null;
+      accept(first);
+    }
+    while (!current.hasNext()) {
+      if (next != null) {
+        Future<Page<T, C>> pending = next;
+        next = null;
+        accept(await(pending));
+      } else if (nextCursor != null) {
+        C cursor = nextCursor;
+        nextCursor = null;
+        accept(fetch(cursor));
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return current.next();
+  }
+
+  /** Cancels the pending prefetch, if any. Further calls to {@link #hasNext()} return false. */
+  @Override
+  public void close() {
+    closed = true;
+    current = Collections.emptyIterator();
+    nextCursor = null;
+    if (next != null) {
+      next.cancel(true);
+      next = null;
+    }
+  }
+
+  /** @return A sequential stream over the remaining items, closing this iterator when closed. */
+  public Stream<T> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::close);
+  }
+
+  private void accept(Page<T, C> page) {
+    current = page.getItems().iterator();
+    C cursor = page.getNextCursor();
+    if (cursor != null && prefetch) {
+      next = CompletableFuture.supplyAsync(() -> fetch(cursor), executor);
+    } else {
+      nextCursor = cursor;
+    }
+  }
+
+  private Page<T, C> fetch(C cursor) {
+    try {
+      Page<T, C> page = fetcher.fetch(cursor);
+      return page == null ? new Page<>(Collections.emptyList(), null) : page;
+    } catch (IOException e) {
+      throw new ExchangeException("Failed to fetch history page at cursor " + cursor, e);
+    }
+  }
+
+  private Page<T, C> await(Future<Page<T, C>> pending) {
+    try {
+      return pending.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new ExchangeException("Interrupted while fetching history page", e);
+    } catch (CancellationException e) {
+      return new Page<>(Collections.emptyList(), null);
+    } catch (ExecutionException | CompletionException e) {
+      close();
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new ExchangeException(cause);
+    }
+  }
+
+  /** Fetches a single page of a paginated endpoint. */
+  @FunctionalInterface
+  public interface PageFetcher<T, C> {
+
+    /**
+     * @param cursor The cursor of the page, null for the first page unless a first cursor was given
+     * @return The page, with a null next cursor if it is the last one
+     */
+    Page<T, C> fetch(C cursor) throws IOException;
+  }
+
+  /** Requests a page whose position is carried by mutable params. */
+  @FunctionalInterface
+  public interface ListFetcher<T> {
+
+    List<T> fetch() throws IOException;
+  }
+
+  /** A page of items and the cursor of the following page. */
+  public static final class Page<T, C> {
+
+    private final List<T> items;
+    private final C nextCursor;
+
+    /**
+     * @param items The items of the page
+     * @param nextCursor The cursor of the next page, or null if this is the last page
+     */
+    public Page(List<T> items, C nextCursor) {
+      this.items = items == null ? Collections.emptyList() : items;
+      this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+      return items;
+    }
+
+    public C getNextCursor() {
+      return nextCursor;
+    }
+  }
+}
@@ -0,0 +1,420 @@
+package org.knowm.xchange.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe parsers of the timestamp formats used by the exchanges, computing the epoch value
+ * from the characters without a date format, calendar or intermediate string. The JSON variants
+ * read the characters from the parser's buffer.
+ *
+ * <p>The parsers throw an {@link IllegalArgumentException} if the text is not in the format.
+ */
+public final class Timestamps {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  private static final int[] POWERS_OF_TEN = {
+    1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+  };
+
+  private static final String[] MONTHS = {
+    "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec"
+  };
+
+  /** The epoch time of {@link System#nanoTime()} zero, sampled once. */
+  private static final long NANO_TIME_ORIGIN =
+      System.currentTimeMillis() * NANOS_PER_MILLI - System.nanoTime();
+
+  private Timestamps() {}
+
+  /**
+   * The current time in nanoseconds since the epoch, e.g. to stamp the local receive time of
+   * messages. It is derived from {@link System#nanoTime()}, so it is cheap and monotonic, but only
+   * as accurate as the wall clock was when this class was loaded, later adjustments being ignored.
+   */
+  public static long currentTimeNanos() {
+    return NANO_TIME_ORIGIN + System.nanoTime();
+  }
+
+  /** @return The date of the nanoseconds since the epoch, or null if 0, i.e. unknown */
+  public static Date toDate(long epochNanos) {
+    return epochNanos == 0 ? null : new Date(Math.floorDiv(epochNanos, NANOS_PER_MILLI));
+  }
+
+  /** @return The nanoseconds since the epoch of the date, or 0 if it is null */
+  public static long toEpochNanos(Date date) {
+    return date == null ? 0 : date.getTime() * NANOS_PER_MILLI;
+  }
+
+  /**
+   * Parses an ISO 8601 timestamp: yyyy-MM-dd, optionally followed by 'T' or ' ' and HH:mm, :ss,
+   * a fraction of up to 9 digits and a zone, 'Z' or an offset like +02:00, +0200 or +02. A
+   * timestamp without a zone is in UTC.
+   *
+   * @return The milliseconds since the epoch, the fraction truncated to milliseconds
+   */
+  public static long parseIso8601Millis(CharSequence text) {
+    return Math.floorDiv(parseIso8601Nanos(text), NANOS_PER_MILLI);
+  }
+
+  /**
+   * @return The nanoseconds since the epoch, which is enough until 2262
+   * @see #parseIso8601Millis(CharSequence)
+   */
+  public static long parseIso8601Nanos(CharSequence text) {
+    int length = text.length();
+    if (length < 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+      throw invalid("ISO 8601", text);
+    }
+    int year = digits(text, 0, 4);
+    int month = digits(text, 5, 2);
+    int day = digits(text, 8, 2);
+    int i = 10;
+    long secondOfDay = 0;
+    long nanos = 0;
+    if (i < length && (text.charAt(i) == 'T' || text.charAt(i) == 't' || text.charAt(i) == ' ')) {
+      if (length < i + 6 || text.charAt(i + 3) != ':') {
+        throw invalid("ISO 8601", text);
+      }
+      int hour = digits(text, i + 1, 2);
+      int minute = digits(text, i + 4, 2);
+      int second = 0;
+      i += 6;
+      if (i < length && text.charAt(i) == ':') {
+        second = digits(text, i + 1, 2);
+        i += 3;
+        if (i < length && (text.charAt(i) == '.' || text.charAt(i) == ',')) {
+          int start = ++i;
+          while (i < length && isDigit(text.charAt(i))) {
+            i++;
+          }
+          int fractionDigits = Math.min(i - start, 9);
+          if (fractionDigits == 0) {
+            throw invalid("ISO 8601", text);
+          }
+          nanos = (long) digits(text, start, fractionDigits) * POWERS_OF_TEN[9 - fractionDigits];
+        }
+      }
+      if (hour > 23 || minute > 59 || second > 60) {
+        throw invalid("ISO 8601", text);
+      }
+      secondOfDay = hour * 3600L + minute * 60L + second;
+      if (i < length) {
+        char zone = text.charAt(i);
+        if ((zone == 'Z' || zone == 'z') && i + 1 == length) {
+          i++;
+        } else if (zone == '+' || zone == '-') {
+          int offsetSeconds = parseOffset(text, i + 1, length);
+          secondOfDay -= zone == '+' ? offsetSeconds : -offsetSeconds;
+          i = length;
+        }
+      }
+    }
+    if (i != length) {
+      throw invalid("ISO 8601", text);
+    }
+    long epochSecond = epochDay(year, month, day, text) * SECONDS_PER_DAY + secondOfDay;
+    return epochSecond * NANOS_PER_SECOND + nanos;
+  }
+
+  /** @return The offset of hh, hh:mm or hhmm from the index to the end, in seconds */
+  private static int parseOffset(CharSequence text, int start, int end) {
+    int hours = digits(text, start, 2);
+    int minutes = 0;
+    if (end - start == 5 && text.charAt(start + 2) == ':') {
+      minutes = digits(text, start + 3, 2);
+    } else if (end - start == 4) {
+      minutes = digits(text, start + 2, 2);
+    } else if (end - start != 2) {
+      throw invalid("ISO 8601", text);
+    }
+    if (hours > 18 || minutes > 59) {
+      throw invalid("ISO 8601", text);
+    }
+    return hours * 3600 + minutes * 60;
+  }
+
+  /**
+   * Parses a time of day, HH:mm:ss, on the current date of a zone, for the exchanges sending only
+   * the time of their trades.
+   *
+   * @param offsetSeconds The offset of the zone, which must not observe daylight saving time
+   * @param nowMillis The current time, whose date in the zone is the date of the time
+   * @return The milliseconds since the epoch
+   */
+  public static long parseTimeOfDayMillis(CharSequence text, int offsetSeconds, long nowMillis) {
+    if (text.length() != 8 || text.charAt(2) != ':' || text.charAt(5) != ':') {
+      throw invalid("time of day", text);
+    }
+    int hour = digits(text, 0, 2);
+    int minute = digits(text, 3, 2);
+    int second = digits(text, 6, 2);
+    if (hour > 23 || minute > 59 || second > 59) {
+      throw invalid("time of day", text);
+    }
+    long epochDay = Math.floorDiv(Math.floorDiv(nowMillis, 1000) + offsetSeconds, SECONDS_PER_DAY);
+    long epochSecond =
+        epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second - offsetSeconds;
+    return epochSecond * 1000;
+  }
+
+  /**
+   * Parses an RFC 1123 timestamp, e.g. Sun, 06 Nov 1994 08:49:37 GMT. The day of the week is
+   * optional, the month is in English and the zone is GMT, UT, UTC, Z or an offset like +0200.
+   *
+   * @return The milliseconds since the epoch
+   */
+  public static long parseRfc1123Millis(CharSequence text) {
+    int length = text.length();
+    int i = 0;
+    int comma = indexOf(text, ',', 0);
+    if (comma >= 0) {
+      i = comma + 1;
+    }
+    i = skipSpaces(text, i);
+    int dayStart = i;
+    while (i < length && isDigit(text.charAt(i))) {
+      i++;
+    }
+    if (i - dayStart < 1 || i - dayStart > 2 || i + 20 > length) {
+      throw invalid("RFC 1123", text);
+    }
+    int day = digits(text, dayStart, i - dayStart);
+    int month = parseMonth(text, i + 1);
+    if (text.charAt(i) != ' ' || text.charAt(i + 4) != ' ' || text.charAt(i + 9) != ' ') {
+      throw invalid("RFC 1123", text);
+    }
+    int year = digits(text, i + 5, 4);
+    i += 10;
+    if (text.charAt(i + 2) != ':' || text.charAt(i + 5) != ':' || text.charAt(i + 8) != ' ') {
+      throw invalid("RFC 1123", text);
+    }
+    int hour = digits(text, i, 2);
+    int minute = digits(text, i + 3, 2);
+    int second = digits(text, i + 6, 2);
+    if (hour > 23 || minute > 59 || second > 60) {
+      throw invalid("RFC 1123", text);
+    }
+    int zoneStart = i + 9;
+    int offsetSeconds;
+    if (regionMatches(text, zoneStart, length, "GMT")
+        || regionMatches(text, zoneStart, length, "UTC")
+        || regionMatches(text, zoneStart, length, "UT")
+        || regionMatches(text, zoneStart, length, "Z")) {
+      offsetSeconds = 0;
+    } else if (length - zoneStart == 5
+        && (text.charAt(zoneStart) == '+' || text.charAt(zoneStart) == '-')) {
+      offsetSeconds = parseOffset(text, zoneStart + 1, length);
+      if (text.charAt(zoneStart) == '-') {
+        offsetSeconds = -offsetSeconds;
+      }
+    } else {
+      throw invalid("RFC 1123", text);
+    }
+    long epochSecond =
+        epochDay(year, month, day, text) * SECONDS_PER_DAY
+            + hour * 3600L
+            + minute * 60L
+            + second
+            - offsetSeconds;
+    return epochSecond * 1000;
+  }
+
+  private static int parseMonth(CharSequence text, int start) {
+    for (int month = 0; month < MONTHS.length; month++) {
+      String name = MONTHS[month];
+      if (Character.toLowerCase(text.charAt(start)) == name.charAt(0)
+          && Character.toLowerCase(text.charAt(start + 1)) == name.charAt(1)
+          && Character.toLowerCase(text.charAt(start + 2)) == name.charAt(2)) {
+        return month + 1;
+      }
+    }
+    throw invalid("RFC 1123", text);
+  }
+
+  /**
+   * Parses a decimal number of seconds, milliseconds or microseconds since the epoch, e.g.
+   * 1603814520.4452431, keeping up to nanosecond precision of the fraction.
+   *
+   * @return The milliseconds since the epoch, truncated
+   */
+  public static long parseEpochMillis(CharSequence text, TimeUnit unit) {
+    return Math.floorDiv(parseEpochNanos(text, unit), NANOS_PER_MILLI);
+  }
+
+  /** @see #parseEpochMillis(CharSequence, TimeUnit) */
+  public static long parseEpochNanos(CharSequence text, TimeUnit unit) {
+    int length = text.length();
+    int i = 0;
+    boolean negative = length > 0 && text.charAt(0) == '-';
+    if (negative) {
+      i++;
+    }
+    int start = i;
+    long whole = 0;
+    while (i < length && isDigit(text.charAt(i))) {
+      whole = whole * 10 + (text.charAt(i++) - '0');
+    }
+    if (i == start || i - start > 18) {
+      throw invalid("epoch", text);
+    }
+    long unitNanos = unit.toNanos(1);
+    long nanos;
+    try {
+      nanos = Math.multiplyExact(whole, unitNanos);
+    } catch (ArithmeticException e) {
+      throw invalid("epoch", text);
+    }
+    if (i < length && text.charAt(i) == '.') {
+      int fractionStart = ++i;
+      while (i < length && isDigit(text.charAt(i))) {
+        i++;
+      }
+      // the digits beyond nanoseconds are dropped
+      int fractionDigits = Math.min(i - fractionStart, 9);
+      if (fractionDigits > 0) {
+        long fraction = digits(text, fractionStart, fractionDigits);
+        nanos += fraction * unitNanos / POWERS_OF_TEN[fractionDigits];
+      }
+    }
+    if (i != length) {
+      throw invalid("epoch", text);
+    }
+    return negative ? -nanos : nanos;
+  }
+
+  /**
+   * Reads the current token, an ISO 8601 string, from the parser's character buffer.
+   *
+   * @see #parseIso8601Millis(CharSequence)
+   */
+  public static Date readIso8601Date(JsonParser p) throws IOException {
+    if (p.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    return new Date(parseIso8601Millis(text(p)));
+  }
+
+  /**
+   * Reads the current token, a number or string of the seconds, milliseconds or microseconds
+   * since the epoch, from the parser without creating a string.
+   *
+   * @see #parseEpochMillis(CharSequence, TimeUnit)
+   */
+  public static Date readEpochDate(JsonParser p, TimeUnit unit) throws IOException {
+    JsonToken token = p.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (token == JsonToken.VALUE_NUMBER_INT) {
+      return new Date(unit.toMillis(p.getLongValue()));
+    }
+    return new Date(parseEpochMillis(text(p), unit));
+  }
+
+  /** The text of the current token, backed by the parser's buffer while it is current. */
+  private static CharSequence text(JsonParser p) throws IOException {
+    if (p.hasTextCharacters()) {
+      return CharBuffer.wrap(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    }
+    return p.getValueAsString();
+  }
+
+  /** The days since the epoch of the proleptic Gregorian date, as in java.time.LocalDate. */
+  private static long epochDay(int year, int month, int day, CharSequence text) {
+    if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+      throw invalid("date", text);
+    }
+    long y = year;
+    long total = 365 * y;
+    total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    // days from 0000-01-01 to 1970-01-01
+    return total - 719_528;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  private static int digits(CharSequence text, int start, int count) {
+    if (start + count > text.length()) {
+      throw invalid("number", text);
+    }
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = text.charAt(i);
+      if (!isDigit(c)) {
+        throw invalid("number", text);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static int indexOf(CharSequence text, char c, int from) {
+    for (int i = from; i < text.length(); i++) {
+      if (text.charAt(i) == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int skipSpaces(CharSequence text, int from) {
+    int i = from;
+    while (i < text.length() && text.charAt(i) == ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  /** @return true if the text from the index to the end is the value, ignoring case */
+  private static boolean regionMatches(CharSequence text, int start, int end, String value) {
+    if (end - start != value.length()) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (Character.toUpperCase(text.charAt(start + i)) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static IllegalArgumentException invalid(String format, CharSequence text) {
+    return new IllegalArgumentException("Not a valid " + format + " timestamp: " + text);
+  }
+}
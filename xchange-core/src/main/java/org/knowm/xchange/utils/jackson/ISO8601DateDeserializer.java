@@ -3,13 +3,14 @@ package org.knowm.xchange.utils.jackson;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import java.io.IOException;
 import java.util.Date;
-import org.knowm.xchange.utils.DateUtils;
+import org.knowm.xchange.utils.Timestamps;
 
 /**
  * Deserializes an ISO 8601 formatted Date String to a Java Date ISO 8601 format:
- * yyyy-MM-dd'T'HH:mm:ssX
+ * yyyy-MM-dd'T'HH:mm:ssX, with an optional fraction of the second
  *
  * @author jamespedwards42
  */
@@ -18,6 +19,10 @@ public class ISO8601DateDeserializer extends JsonDeserializer<Date> {
   @Override
   public Date deserialize(JsonParser jp, final DeserializationContext ctxt) throws IOException {
 
-    return DateUtils.fromISO8601DateString(jp.getValueAsString());
+    try {
+      return Timestamps.readIso8601Date(jp);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidFormatException(jp, e.getMessage(), jp.getValueAsString(), Date.class);
+    }
   }
 }
@@ -3,9 +3,10 @@ package org.knowm.xchange.utils.jackson;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import java.io.IOException;
 import java.util.Date;
-import org.knowm.xchange.utils.DateUtils;
+import org.knowm.xchange.utils.Timestamps;
 
 /**
  * Deserializes an ISO formatted Date String to a Java Date ISO format:
@@ -18,6 +19,10 @@ public class ISODateDeserializer extends JsonDeserializer<Date> {
   @Override
   public Date deserialize(JsonParser jp, final DeserializationContext ctxt) throws IOException {
 
-    return DateUtils.fromISODateString(jp.getValueAsString());
+    try {
+      return Timestamps.readIso8601Date(jp);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidFormatException(jp, e.getMessage(), jp.getValueAsString(), Date.class);
+    }
   }
 }
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.derivative.FuturesContract;
+import org.knowm.xchange.derivative.OptionsContract;
 import org.knowm.xchange.instrument.Instrument;
 
 public class InstrumentDeserializer extends JsonDeserializer<Instrument> {
@@ -26,13 +27,31 @@ public class InstrumentDeserializer extends JsonDeserializer<Instrument> {
 
     final ObjectCodec oc = jsonParser.getCodec();
     final JsonNode node = oc.readTree(jsonParser);
-    final String instrumentString = node.asText();
-    long count = instrumentString.chars().filter(ch -> ch == '/').count();
-    // CurrencyPair (Base/Counter) i.e. BTC/USD
-    if (count == 1) return new CurrencyPair(instrumentString);
-    // Futures/Swaps (Base/Counter/Prompt) i.e. BTC/USD/200925
-    if (count == 2) return new FuturesContract(instrumentString);
-    // Options (Base/Counter/Prompt/StrikePrice/Put?Call) i.e. BTC/USD/200925/8956.67/P
-    else return null;
+    return fromString(node.asText());
+  }
+
+  /**
+   * @return The instrument of the symbol, depending on its number of '/', or null if it has none
+   */
+  public static Instrument fromString(String instrumentString) {
+    int count = 0;
+    for (int i = 0; i < instrumentString.length(); i++) {
+      if (instrumentString.charAt(i) == '/') {
+        count++;
+      }
+    }
+    switch (count) {
+        // CurrencyPair (Base/Counter) i.e. BTC/USD
+      case 1:
+        return new CurrencyPair(instrumentString);
+        // Futures/Swaps (Base/Counter/Prompt) i.e. BTC/USD/200925
+      case 2:
+        return new FuturesContract(instrumentString);
+        // Options (Base/Counter/Prompt/StrikePrice/Put?Call) i.e. BTC/USD/200925/8956.67/P
+      case 4:
+        return new OptionsContract(instrumentString);
+      default:
+        return null;
+    }
   }
 }
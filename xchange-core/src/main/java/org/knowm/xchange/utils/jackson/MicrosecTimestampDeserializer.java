@@ -0,0 +1,23 @@
+package org.knowm.xchange.utils.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.utils.Timestamps;
+
+/** Deserializes the microseconds since the epoch, a number or string with an optional fraction. */
+public class MicrosecTimestampDeserializer extends JsonDeserializer<Date> {
+
+  @Override
+  public Date deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+
+    try {
+      return Timestamps.readEpochDate(jp, TimeUnit.MICROSECONDS);
+    } catch (IllegalArgumentException e) {
+      return new Date(jp.getValueAsLong() / 1000L);
+    }
+  }
+}
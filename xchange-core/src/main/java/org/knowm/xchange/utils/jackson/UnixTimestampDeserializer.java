@@ -5,12 +5,23 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.utils.Timestamps;
 
-/** @author Matija Mazi */
+/**
+ * Deserializes the seconds since the epoch, a number or string with an optional fraction.
+ *
+ * @author Matija Mazi
+ */
 public class UnixTimestampDeserializer extends JsonDeserializer<Date> {
 
   @Override
   public Date deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-    return new Date(jp.getValueAsLong() * 1000L);
+
+    try {
+      return Timestamps.readEpochDate(jp, TimeUnit.SECONDS);
+    } catch (IllegalArgumentException e) {
+      return new Date(jp.getValueAsLong() * 1000L);
+    }
   }
 }
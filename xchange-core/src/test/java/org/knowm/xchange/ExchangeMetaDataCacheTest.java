@@ -0,0 +1,180 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.meta.CurrencyMetaData;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.exceptions.ExchangeException;
+
+public class ExchangeMetaDataCacheTest {
+
+  private static final AtomicInteger remoteInitCalls = new AtomicInteger();
+  private static volatile CountDownLatch remoteInitAllowed = new CountDownLatch(0);
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testSaveAndLoad() throws IOException {
+    ExchangeMetaDataCache cache =
+        new ExchangeMetaDataCache(folder.getRoot().toPath(), Duration.ofMinutes(1));
+    ExchangeSpecification specification = specification(folder.getRoot());
+    assertThat(cache.load(specification)).isNull();
+
+    cache.save(specification, metaData());
+    ExchangeMetaDataCache.Entry entry = cache.load(specification);
+
+    assertThat(entry.getVersion()).isEqualTo(ExchangeMetaDataCache.FORMAT_VERSION);
+    assertThat(cache.isFresh(entry)).isTrue();
+    assertThat(entry.getMetaData().getCurrencyPairs())
+        .containsOnlyKeys(CurrencyPair.BTC_USD);
+    assertThat(entry.getMetaData().getCurrencyPairs().get(CurrencyPair.BTC_USD).getPriceScale())
+        .isEqualTo(2);
+    assertThat(entry.getMetaData().getCurrencies()).containsOnlyKeys(Currency.BTC);
+  }
+
+  @Test
+  public void testCorruptFileIsIgnored() throws IOException {
+    ExchangeMetaDataCache cache =
+        new ExchangeMetaDataCache(folder.getRoot().toPath(), Duration.ofMinutes(1));
+    ExchangeSpecification specification = specification(folder.getRoot());
+    Files.write(cache.fileFor(specification), "{not json".getBytes());
+
+    assertThat(cache.load(specification)).isNull();
+  }
+
+  @Test
+  public void testEndpointsHaveTheirOwnFile() throws IOException {
+    ExchangeMetaDataCache cache =
+        new ExchangeMetaDataCache(folder.getRoot().toPath(), Duration.ofMinutes(1));
+    ExchangeSpecification production = specification(folder.getRoot());
+    production.setSslUri("https://api.example.com");
+    ExchangeSpecification sandbox = specification(folder.getRoot());
+    sandbox.setSslUri("https://api-sandbox.example.com:8443/v1");
+
+    cache.save(production, metaData());
+
+    assertThat(cache.fileFor(production).getFileName().toString())
+        .isEqualTo(CachingExchange.class.getName() + "-api.example.com.json");
+    assertThat(cache.fileFor(sandbox).getFileName().toString())
+        .isEqualTo(CachingExchange.class.getName() + "-api-sandbox.example.com_8443_v1.json");
+    assertThat(cache.load(production)).isNotNull();
+    assertThat(cache.load(sandbox)).isNull();
+  }
+
+  @Test
+  public void testStaleCacheIsReplacedWhenRefreshed() throws Exception {
+    remoteInitCalls.set(0);
+    ExchangeSpecification specification = specification(folder.getRoot());
+    specification.setMetaDataCacheTimeToLive(Duration.ZERO);
+    ExchangeMetaData cached = metaData();
+    cached.getCurrencyPairs().remove(CurrencyPair.BTC_USD);
+    new ExchangeMetaDataCache(folder.getRoot().toPath(), Duration.ZERO)
+        .save(specification, cached);
+
+    remoteInitAllowed = new CountDownLatch(1);
+    Exchange exchange = ExchangeFactory.INSTANCE.createExchange(specification);
+    ExchangeMetaData served = exchange.getExchangeMetaData();
+    assertThat(served.getCurrencyPairs()).isEmpty();
+    remoteInitAllowed.countDown();
+    for (int i = 0; i < 500 && exchange.getExchangeMetaData() == served; i++) {
+      Thread.sleep(10);
+    }
+
+    assertThat(remoteInitCalls).hasValue(1);
+    assertThat(exchange.getExchangeMetaData().getCurrencyPairs())
+        .containsOnlyKeys(CurrencyPair.BTC_USD);
+    assertThat(served.getCurrencyPairs()).isEmpty();
+  }
+
+  @Test
+  public void testExchangeStartsFromCache() {
+    remoteInitCalls.set(0);
+    File directory = folder.getRoot();
+
+    Exchange first = ExchangeFactory.INSTANCE.createExchange(specification(directory));
+    List<Exchange> restarted =
+        ExchangeFactory.INSTANCE.createExchanges(
+            Arrays.asList(specification(directory), specification(directory)));
+
+    assertThat(remoteInitCalls).hasValue(1);
+    assertThat(restarted).hasSize(2);
+    for (Exchange exchange : restarted) {
+      assertThat(exchange.getExchangeMetaData().getCurrencyPairs().toString())
+          .isEqualTo(first.getExchangeMetaData().getCurrencyPairs().toString());
+    }
+  }
+
+  @Test
+  public void testFailureNamesTheSpecificationWithoutClass() {
+    ExchangeSpecification broken = new ExchangeSpecification((Class<? extends Exchange>) null);
+    broken.setExchangeName("Broken");
+
+    assertThatThrownBy(
+            () ->
+                ExchangeFactory.INSTANCE.createExchanges(
+                    Arrays.asList(specification(folder.getRoot()), broken)))
+        .isInstanceOf(ExchangeException.class)
+        .hasMessage("Problem creating Broken");
+  }
+
+  private static ExchangeSpecification specification(File directory) {
+    ExchangeSpecification specification = new ExchangeSpecification(CachingExchange.class);
+    specification.setMetaDataCacheDirectory(directory.getPath());
+    return specification;
+  }
+
+  private static ExchangeMetaData metaData() {
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = new HashMap<>();
+    pairs.put(
+        CurrencyPair.BTC_USD,
+        new CurrencyPairMetaData(new BigDecimal("0.001"), BigDecimal.ONE, null, 2, null));
+    Map<Currency, CurrencyMetaData> currencies = new HashMap<>();
+    currencies.put(Currency.BTC, new CurrencyMetaData(8, null));
+    return new ExchangeMetaData(pairs, currencies, null, null, null);
+  }
+
+  public static class CachingExchange extends BaseExchange {
+
+    @Override
+    protected void initServices() {}
+
+    @Override
+    public ExchangeSpecification getDefaultExchangeSpecification() {
+      return new ExchangeSpecification(getClass());
+    }
+
+    @Override
+    public void remoteInit() {
+      try {
+        remoteInitAllowed.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      remoteInitCalls.incrementAndGet();
+      exchangeMetaData = metaData();
+    }
+
+    @Override
+    protected boolean isMetaDataCacheSupported() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import info.bitrich.xchangestream.service.metrics.LatencyHistogram;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.exceptions.FundsExceededException;
+import si.mazi.rescu.HttpStatusExceptionSupport;
+
+public class RestMetricsTest {
+
+  interface TestApi {
+    String getTicker();
+  }
+
+  @Test
+  public void testInterceptorRecordsLatencyAndOutcome() throws Throwable {
+    HistogramRestMetrics metrics = new HistogramRestMetrics();
+    RestMetricsInterceptor interceptor = new RestMetricsInterceptor("Test", metrics);
+    Method method = TestApi.class.getMethod("getTicker");
+
+    assertThat(interceptor.aroundInvoke((proxy, m, args) -> "ok", null, method, null))
+        .isEqualTo("ok");
+    assertThatThrownBy(
+            () ->
+                interceptor.aroundInvoke(
+                    (proxy, m, args) -> {
+                      throw new IOException("connection reset");
+                    },
+                    null,
+                    method,
+                    null))
+        .isInstanceOf(IOException.class);
+
+    assertThat(metrics.getMethods("Test")).containsExactly("TestApi.getTicker");
+    assertThat(metrics.getLatency("Test", "TestApi.getTicker").getCount()).isEqualTo(2);
+    assertThat(metrics.getCount("Test", "TestApi.getTicker", RestCallOutcome.SUCCESS)).isEqualTo(1);
+    assertThat(metrics.getCount("Test", "TestApi.getTicker", RestCallOutcome.NETWORK)).isEqualTo(1);
+  }
+
+  @Test
+  public void testClassify() {
+    HttpStatusExceptionSupport tooManyRequests = new HttpStatusExceptionSupport();
+    tooManyRequests.setHttpStatusCode(429);
+    HttpStatusExceptionSupport badGateway = new HttpStatusExceptionSupport();
+    badGateway.setHttpStatusCode(502);
+
+    assertThat(RestCallOutcome.classifyCallFailure(tooManyRequests))
+        .isEqualTo(RestCallOutcome.RATE_LIMITED);
+    assertThat(RestCallOutcome.classifyCallFailure(badGateway))
+        .isEqualTo(RestCallOutcome.UNAVAILABLE);
+    assertThat(RestCallOutcome.classifyCallFailure(new SocketTimeoutException()))
+        .isEqualTo(RestCallOutcome.TIMEOUT);
+    assertThat(RestCallOutcome.classifyCallFailure(new IllegalStateException()))
+        .isEqualTo(RestCallOutcome.OTHER);
+
+    assertThat(RestCallOutcome.classify(new FundsExceededException()))
+        .isEqualTo(RestCallOutcome.INSUFFICIENT_FUNDS);
+    assertThat(RestCallOutcome.classify(badGateway)).isEqualTo(RestCallOutcome.UNAVAILABLE);
+  }
+
+  @Test
+  public void testLatencyPercentiles() {
+    HistogramRestMetrics metrics = new HistogramRestMetrics();
+    for (long i = 1; i <= 100; i++) {
+      metrics.recordCall("Test", "TestApi.getTicker", i * 1_000_000, RestCallOutcome.SUCCESS);
+    }
+    LatencyHistogram latency = metrics.getLatency("Test", "TestApi.getTicker");
+
+    assertThat(latency.getCount()).isEqualTo(100);
+    assertThat(latency.getMaxValue()).isEqualTo(100_000_000);
+    assertThat(latency.getValueAtPercentile(50)).isCloseTo(50_000_000L, withinPercentage(2));
+    assertThat(latency.getValueAtPercentile(100)).isEqualTo(100_000_000);
+    assertThat(latency.getMean()).isEqualTo(50_500_000);
+  }
+
+  @Test
+  public void testDecoratedCallRecordsRetriesAndRateLimiterWait() throws IOException {
+    HistogramRestMetrics metrics = new HistogramRestMetrics();
+    ExchangeSpecification specification = new ExchangeSpecification(TestExchange.class);
+    specification.setExchangeName("Test");
+    specification.getResilience().setRetryEnabled(true);
+    specification.getResilience().setRateLimiterEnabled(true);
+    specification.setRestMetrics(metrics);
+
+    Retry retry =
+        Retry.of(
+            "getTicker",
+            RetryConfig.custom().maxAttempts(3).waitDuration(Duration.ofMillis(1)).build());
+    RateLimiter rateLimiter =
+        RateLimiter.of(
+            "global",
+            RateLimiterConfig.custom()
+                .limitForPeriod(10)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(Duration.ofSeconds(1))
+                .build());
+    AtomicInteger attempts = new AtomicInteger();
+
+    String result =
+        ResilienceUtils.decorateApiCall(
+                specification,
+                () -> {
+                  if (attempts.incrementAndGet() < 3) {
+                    throw new IOException("timeout");
+                  }
+                  return "ok";
+                })
+            .withRetry(retry)
+            .withRateLimiter(rateLimiter)
+            .call();
+
+    assertThat(result).isEqualTo("ok");
+    assertThat(metrics.getRetryCount("Test", "getTicker")).isEqualTo(2);
+    assertThat(metrics.getRateLimiterWait("Test", "global").getCount()).isEqualTo(1);
+  }
+
+  public abstract static class TestExchange extends org.knowm.xchange.BaseExchange {}
+}
@@ -0,0 +1,61 @@
+package org.knowm.xchange.derivative;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.derivative.OptionsContract.OptionType;
+import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.utils.ObjectMapperHelper;
+
+public class OptionsContractTest {
+
+  @Test
+  public void testParse() {
+    OptionsContract contract = new OptionsContract("BTC/USD/200925/8956.67/P");
+
+    assertThat(contract.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(contract.getExpireDate())
+        .isEqualTo(
+            Date.from(LocalDate.of(2020, 9, 25).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    assertThat(contract.getStrike()).isEqualByComparingTo("8956.67");
+    assertThat(contract.getType()).isEqualTo(OptionType.PUT);
+    assertThat(contract.toString()).isEqualTo("BTC/USD/200925/8956.67/P");
+    assertThat(contract)
+        .isEqualTo(
+            new OptionsContract(
+                CurrencyPair.BTC_USD,
+                contract.getExpireDate(),
+                new BigDecimal("8956.670"),
+                OptionType.PUT));
+  }
+
+  @Test
+  public void testSerializeDeserialize() throws IOException {
+    OptionsContract contract = new OptionsContract("ETH/USD/210326/2000/C");
+    assertThat(ObjectMapperHelper.viaJSON(contract)).isEqualTo(contract);
+
+    Instrument instrument =
+        new ObjectMapper().readValue("\"BTC/USD/200925/8956.67/P\"", Instrument.class);
+    assertThat(instrument).isEqualTo(new OptionsContract("BTC/USD/200925/8956.67/P"));
+  }
+
+  @Test
+  public void testRejectsMalformedSymbols() {
+    assertThatThrownBy(() -> new OptionsContract("BTC/USD/200925/8956.67"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new OptionsContract("BTC/USD/201325/8956.67/P"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new OptionsContract("BTC/USD/200925/x/P"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new OptionsContract("BTC/USD/200925/8956.67/X"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
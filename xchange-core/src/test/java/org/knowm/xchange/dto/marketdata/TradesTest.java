@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
 import org.junit.Assert;
 import org.junit.Test;
@@ -48,4 +49,59 @@ public class TradesTest {
     Trade jsonCopy = ObjectMapperHelper.viaJSON(t1);
     assertThat(jsonCopy).isEqualTo(t1);
   }
+
+  @Test
+  public void testExchangeAndReceiveTimes() throws IOException {
+    Trade trade =
+        new Trade.Builder()
+            .id("1")
+            .exchangeTimeNanos(1603812120_123456789L)
+            .receiveTimeNanos(1603812120_125000000L)
+            .build();
+
+    assertThat(trade.getTimestamp()).isEqualTo(new Date(1603812120_123L));
+    // the JSON keeps its shape, with the timestamp in milliseconds
+    assertThat(ObjectMapperHelper.toCompactJSON(trade)).doesNotContain("TimeNanos");
+    Trade jsonCopy = ObjectMapperHelper.viaJSON(trade);
+    assertThat(jsonCopy.getExchangeTimeNanos()).isEqualTo(1603812120_123000000L);
+    assertThat(jsonCopy.getReceiveTimeNanos()).isZero();
+
+    Trade fromDate = new Trade.Builder().id("2").timestamp(new Date(1603812120_123L)).build();
+    assertThat(fromDate.getExchangeTimeNanos()).isEqualTo(1603812120_123000000L);
+    assertThat(fromDate.getReceiveTimeNanos()).isZero();
+    assertThat(new Trade.Builder().id("3").build().getTimestamp()).isNull();
+  }
+
+  @Test
+  public void testOrderBookUpdateTimes() {
+    OrderBook orderBook =
+        new OrderBook(new Date(1603812120_000L), new ArrayList<>(), new ArrayList<>());
+    orderBook.update(
+        new OrderBookUpdate(
+            OrderType.BID,
+            BigDecimal.ONE,
+            CurrencyPair.BTC_USD,
+            new BigDecimal("100"),
+            1603812120_123456000L,
+            1603812120_125000000L,
+            BigDecimal.ONE));
+
+    assertThat(orderBook.getExchangeTimeNanos()).isEqualTo(1603812120_123456000L);
+    assertThat(orderBook.getReceiveTimeNanos()).isEqualTo(1603812120_125000000L);
+    assertThat(orderBook.getTimeStamp()).isEqualTo(new Date(1603812120_123L));
+    assertThat(orderBook.getBids().get(0).getExchangeTimeNanos()).isEqualTo(1603812120_123456000L);
+
+    orderBook.update(
+        new OrderBookUpdate(
+            OrderType.BID,
+            BigDecimal.ONE,
+            CurrencyPair.BTC_USD,
+            new BigDecimal("99"),
+            1603812119_000000000L,
+            1603812120_126000000L,
+            BigDecimal.ONE));
+
+    assertThat(orderBook.getExchangeTimeNanos()).isEqualTo(1603812120_123456000L);
+    assertThat(orderBook.getReceiveTimeNanos()).isEqualTo(1603812120_126000000L);
+  }
 }
@@ -193,4 +193,22 @@ public class LimitOrderTest {
     TEST2,
     TEST3
   }
+
+  @Test
+  public void testEqualsComparesExchangeTimes() {
+    LimitOrder.Builder builder =
+        new LimitOrder.Builder(OrderType.BID, CurrencyPair.BTC_USD)
+            .id("1")
+            .originalAmount(BigDecimal.ONE)
+            .limitPrice(new BigDecimal("9000"));
+    LimitOrder first = builder.exchangeTimeNanos(1603812120_123456789L).build();
+    LimitOrder same = builder.exchangeTimeNanos(1603812120_123456789L).build();
+    LimitOrder later = builder.exchangeTimeNanos(1603812121_123456789L).build();
+
+    assertThat(first).isEqualTo(same).hasSameHashCodeAs(same);
+    assertThat(first).isNotEqualTo(later);
+    // millisecond timestamps of the exchange time are equal
+    LimitOrder fromDate = builder.exchangeTimeNanos(0).timestamp(first.getTimestamp()).build();
+    assertThat(first).isEqualTo(fromDate).hasSameHashCodeAs(fromDate);
+  }
 }
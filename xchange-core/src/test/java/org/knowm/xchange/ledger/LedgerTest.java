@@ -0,0 +1,159 @@
+package org.knowm.xchange.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.FundingRecord;
+import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.dto.trade.UserTrades;
+import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamsTimeSpan;
+import org.knowm.xchange.service.trade.params.TradeHistoryParams;
+import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
+
+public class LedgerTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private static UserTrade trade(String id, long timestamp) {
+    return new UserTrade.Builder()
+        .id(id)
+        .type(OrderType.BID)
+        .currencyPair(CurrencyPair.BTC_USD)
+        .originalAmount(BigDecimal.ONE)
+        .price(new BigDecimal("10000.5"))
+        .timestamp(new Date(timestamp))
+        .orderId("order-" + id)
+        .feeAmount(new BigDecimal("0.1"))
+        .feeCurrency(Currency.USD)
+        .build();
+  }
+
+  private static List<String> ids(List<UserTrade> trades) {
+    return trades.stream().map(UserTrade::getId).collect(Collectors.toList());
+  }
+
+  @Test
+  public void testAppendQueryAndReopen() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      assertThat(ledger.append(trade("3", 3000))).isTrue();
+      assertThat(ledger.append(trade("1", 1000))).isTrue();
+      assertThat(ledger.append(trade("2", 2000))).isTrue();
+      assertThat(ledger.append(trade("2", 2000))).isFalse();
+
+      assertThat(ids(ledger.query(null, null))).containsExactly("1", "2", "3");
+      assertThat(ids(ledger.query(new Date(2000), new Date(3000)))).containsExactly("2");
+      assertThat(ledger.getCursor().getLastId()).isEqualTo("3");
+      ledger.commit();
+    }
+
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      assertThat(ledger.size()).isEqualTo(3);
+      assertThat(ledger.getCursor().getLastTimestamp()).isEqualTo(new Date(3000));
+      UserTrade trade = ledger.get("2");
+      assertThat(trade.getInstrument()).isEqualTo(CurrencyPair.BTC_USD);
+      assertThat(trade.getPrice()).isEqualByComparingTo("10000.5");
+      assertThat(trade.getOrderId()).isEqualTo("order-2");
+      assertThat(trade.getFeeCurrency()).isEqualTo(Currency.USD);
+    }
+  }
+
+  @Test
+  public void testTruncatesIncompleteRecord() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    Path file = dir.resolve(Ledger.fileName("Kraken", "main", "trades"));
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      ledger.append(trade("1", 1000));
+      ledger.append(trade("2", 2000));
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 5);
+    }
+
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      assertThat(ids(ledger.query(null, null))).containsExactly("1");
+      assertThat(ledger.append(trade("2", 2000))).isTrue();
+      assertThat(ids(ledger.query(null, null))).containsExactly("1", "2");
+    }
+  }
+
+  @Test
+  public void testFundingRecordRoundTrip() throws IOException {
+    FundingRecord record =
+        new FundingRecord.Builder()
+            .setDate(new Date(1000))
+            .setCurrency(Currency.BTC)
+            .setAmount(new BigDecimal("1.5"))
+            .setType(FundingRecord.Type.DEPOSIT)
+            .setStatus(FundingRecord.Status.COMPLETE)
+            .setBlockchainTransactionHash("0xabc")
+            .build();
+
+    try (Ledger<FundingRecord> ledger =
+        Ledger.openFunding(folder.getRoot().toPath(), "Kraken", null)) {
+      ledger.append(record);
+      FundingRecord stored = ledger.get("0xabc");
+      assertThat(stored.getCurrency()).isEqualTo(Currency.BTC);
+      assertThat(stored.getAmount()).isEqualByComparingTo("1.5");
+      assertThat(stored.getType()).isEqualTo(FundingRecord.Type.DEPOSIT);
+      assertThat(stored.getStatus()).isEqualTo(FundingRecord.Status.COMPLETE);
+      assertThat(stored.getDate()).isEqualTo(new Date(1000));
+    }
+  }
+
+  @Test
+  public void testSyncFetchesOnlyNewTrades() throws IOException {
+    List<UserTrade> exchangeTrades = new ArrayList<>();
+    List<Date> requestedStarts = new ArrayList<>();
+    TradeService tradeService =
+        new TradeService() {
+          @Override
+          public UserTrades getTradeHistory(TradeHistoryParams params) {
+            Date start = ((TradeHistoryParamsTimeSpan) params).getStartTime();
+            requestedStarts.add(start);
+            return new UserTrades(
+                exchangeTrades.stream()
+                    .filter(t -> start == null || !t.getTimestamp().before(start))
+                    .collect(Collectors.toList()),
+                TradeSortType.SortByTimestamp);
+          }
+        };
+
+    Path dir = folder.getRoot().toPath();
+    exchangeTrades.add(trade("1", 1000));
+    exchangeTrades.add(trade("2", 2000));
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      assertThat(
+              LedgerSync.syncUserTrades(
+                  ledger, tradeService, new DefaultTradeHistoryParamsTimeSpan()))
+          .isEqualTo(2);
+    }
+
+    exchangeTrades.add(trade("3", 3000));
+    try (Ledger<UserTrade> ledger = Ledger.openUserTrades(dir, "Kraken", "main")) {
+      assertThat(
+              LedgerSync.syncUserTrades(
+                  ledger, tradeService, new DefaultTradeHistoryParamsTimeSpan()))
+          .isEqualTo(1);
+      assertThat(ids(ledger.query(null, null))).containsExactly("1", "2", "3");
+    }
+    assertThat(requestedStarts).containsExactly(null, new Date(2000));
+  }
+}
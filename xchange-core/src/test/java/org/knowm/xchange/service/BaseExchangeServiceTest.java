@@ -0,0 +1,54 @@
+package org.knowm.xchange.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.Exchange;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class BaseExchangeServiceTest {
+
+  @Test
+  public void testRulesFollowMetaDataUpdatedInPlace() {
+    Map<CurrencyPair, CurrencyPairMetaData> pairs = new HashMap<>();
+    pairs.put(CurrencyPair.BTC_USD, metaData("10"));
+    Exchange exchange = mock(Exchange.class);
+    given(exchange.getExchangeMetaData())
+        .willReturn(new ExchangeMetaData(pairs, null, null, null, null));
+    BaseExchangeService<Exchange> service = new BaseExchangeService<Exchange>(exchange) {};
+
+    service.verifyOrder(limitOrder("5"));
+    assertThatThrownBy(() -> service.verifyOrder(limitOrder("20")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Order amount more than maximum");
+
+    pairs.put(CurrencyPair.BTC_USD, metaData("100"));
+
+    service.verifyOrder(limitOrder("20"));
+  }
+
+  private static CurrencyPairMetaData metaData(String maximumAmount) {
+    return new CurrencyPairMetaData(
+        null, new BigDecimal("0.01"), new BigDecimal(maximumAmount), 2, null);
+  }
+
+  private static LimitOrder limitOrder(String amount) {
+    return new LimitOrder(
+        OrderType.BID,
+        new BigDecimal(amount),
+        CurrencyPair.BTC_USD,
+        null,
+        new Date(),
+        new BigDecimal("100"));
+  }
+}
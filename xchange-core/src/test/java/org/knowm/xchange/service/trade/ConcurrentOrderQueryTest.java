@@ -0,0 +1,95 @@
+package org.knowm.xchange.service.trade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.OrderQueryResult;
+import org.knowm.xchange.service.trade.params.orders.DefaultQueryOrderParam;
+import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
+
+public class ConcurrentOrderQueryTest {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+
+  private static OrderQueryParams[] params(String... orderIds) {
+    OrderQueryParams[] params = new OrderQueryParams[orderIds.length];
+    for (int i = 0; i < orderIds.length; i++) {
+      params[i] = new DefaultQueryOrderParam(orderIds[i]);
+    }
+    return params;
+  }
+
+  /** Fails orders whose id starts with "bad", takes longer for lower ids. */
+  private Order query(OrderQueryParams params) throws IOException {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    try {
+      String id = params.getOrderId();
+      if (id.startsWith("bad")) {
+        throw new IOException("failed " + id);
+      }
+      Thread.sleep(50 - Integer.parseInt(id) * 5L);
+      return new LimitOrder(
+          OrderType.BID, BigDecimal.ONE, CurrencyPair.BTC_USD, id, null, BigDecimal.TEN);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  @Test
+  public void testResultsInCompletionOrderWithBoundedParallelism() {
+    Iterator<OrderQueryResult> results =
+        ConcurrentOrderQuery.query(params("1", "2", "bad3", "4", "5", "6"), this::query, 3);
+
+    List<OrderQueryResult> all = new ArrayList<>();
+    results.forEachRemaining(all::add);
+
+    assertThat(all).hasSize(6);
+    assertThat(all.get(0).getParams().getOrderId()).isEqualTo("bad3");
+    assertThat(all.get(0).isSuccess()).isFalse();
+    assertThat(all.get(0).getError()).hasMessage("failed bad3");
+    assertThat(
+            all.stream()
+                .filter(OrderQueryResult::isSuccess)
+                .map(r -> r.getOrder().getId())
+                .collect(Collectors.toList()))
+        .containsExactlyInAnyOrder("1", "2", "4", "5", "6");
+    assertThat(maxInFlight.get()).isBetween(2, 3);
+  }
+
+  @Test
+  public void testQueryAllKeepsParamsOrder() throws IOException {
+    Collection<Order> orders =
+        ConcurrentOrderQuery.queryAll(params("1", "2", "3", "4"), this::query, 4);
+
+    assertThat(orders.stream().map(Order::getId).collect(Collectors.toList()))
+        .containsExactly("1", "2", "3", "4");
+  }
+
+  @Test
+  public void testQueryAllThrowsFirstFailureWithOthersSuppressed() {
+    try {
+      ConcurrentOrderQuery.queryAll(params("1", "bad2", "3", "bad4"), this::query, 4);
+      fail("Expected IOException");
+    } catch (IOException e) {
+      assertThat(e).hasMessage("failed bad2");
+      assertThat(e.getSuppressed()).hasSize(1);
+      assertThat(e.getSuppressed()[0]).hasMessage("failed bad4");
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.InstrumentRules.Violation;
+
+public class InstrumentRulesTest {
+
+  /** Amounts in steps of 0.005 from 0.01 to 100, order values from 10 to 1000000. */
+  private final CurrencyPairMetaData metaData =
+      new CurrencyPairMetaData(
+          null,
+          new BigDecimal("0.01"),
+          new BigDecimal("100"),
+          new BigDecimal("10"),
+          new BigDecimal("1000000"),
+          3,
+          2,
+          null,
+          null,
+          new BigDecimal("0.005"),
+          null,
+          true);
+
+  private final InstrumentRules rules = InstrumentRules.compile(CurrencyPair.BTC_USD, metaData);
+
+  @Test
+  public void testUnits() {
+    assertThat(rules.getPriceScale()).isEqualTo(2);
+    assertThat(rules.getAmountScale()).isEqualTo(3);
+    assertThat(rules.getAmountStep()).isEqualTo(5);
+    assertThat(rules.priceToUnits(new BigDecimal("100.015"), OrderType.BID)).isEqualTo(10001);
+    assertThat(rules.priceToUnits(new BigDecimal("100.015"), OrderType.ASK)).isEqualTo(10002);
+    assertThat(rules.amountToUnits(new BigDecimal("1.2345"))).isEqualTo(1234);
+    assertThat(rules.amountFromUnits(1234)).isEqualByComparingTo("1.234");
+  }
+
+  @Test
+  public void testAdjustAmountMatchesOrderValuesHelper() {
+    OrderValuesHelper helper = new OrderValuesHelper(metaData);
+    for (String amount : new String[] {"1.2345", "0.004", "0.0149", "42", "99.999"}) {
+      assertThat(rules.adjustAmount(new BigDecimal(amount)))
+          .isEqualByComparingTo(helper.adjustAmount(new BigDecimal(amount)));
+    }
+    assertThat(rules.adjustAmount(new BigDecimal("1000"))).isEqualByComparingTo("100");
+    assertThat(rules.adjustPrice(new BigDecimal("1.005"), OrderType.ASK))
+        .isEqualByComparingTo(helper.adjustPrice(new BigDecimal("1.005"), OrderType.ASK));
+  }
+
+  @Test
+  public void testBatchAdjustAndCheck() {
+    long[] prices = {100_00, 100_00, 100_00, 100_00, 1_00, 100_000_00};
+    long[] amounts = {1_234, 1_235, 5, 200_000, 1_000, 99_000};
+    rules.adjustAmounts(amounts, 2);
+    assertThat(amounts).startsWith(1_230, 1_235);
+
+    Violation[] violations = new Violation[prices.length];
+    assertThat(rules.check(prices, amounts, prices.length, violations)).isEqualTo(4);
+    assertThat(violations)
+        .containsExactly(
+            Violation.NONE,
+            Violation.NONE,
+            Violation.AMOUNT_BELOW_MINIMUM,
+            Violation.AMOUNT_ABOVE_MAXIMUM,
+            Violation.VALUE_BELOW_MINIMUM,
+            Violation.VALUE_ABOVE_MAXIMUM);
+  }
+
+  @Test
+  public void testVerifyOrder() {
+    rules.verify(limitOrder("1.235", "100.01"));
+
+    assertThatThrownBy(() -> rules.verify(limitOrder("1.2351", "100")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported amount scale 4");
+    assertThatThrownBy(() -> rules.verify(limitOrder("1.234", "100")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Order amount not a multiple of the step size");
+    assertThatThrownBy(() -> rules.verify(limitOrder("1", "100.001")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported price scale 3");
+  }
+
+  @Test
+  public void testStepSizeWithoutBaseScale() {
+    InstrumentRules stepOnly =
+        InstrumentRules.compile(
+            CurrencyPair.BTC_USD,
+            new CurrencyPairMetaData(null, null, null, 2, null, new BigDecimal("0.1")));
+
+    assertThat(stepOnly.getAmountScale()).isEqualTo(1);
+    stepOnly.verify(limitOrder("0.30", "100"));
+    assertThat(stepOnly.check(limitOrder("0.15", "100"))).isEqualTo(Violation.AMOUNT_STEP);
+  }
+
+  @Test
+  public void testMaximumOfZeroIsNoLimit() {
+    // as Binance fills in its metadata when the exchange has no LOT_SIZE filter
+    InstrumentRules unlimited =
+        InstrumentRules.compile(
+            CurrencyPair.BTC_USD,
+            new CurrencyPairMetaData(
+                null,
+                BigDecimal.ZERO,
+                BigDecimal.ZERO,
+                BigDecimal.ZERO,
+                new BigDecimal("-1"),
+                8,
+                8,
+                null,
+                null,
+                null,
+                null,
+                true));
+
+    unlimited.verify(limitOrder("1000000", "100000"));
+    assertThat(unlimited.adjustAmount(new BigDecimal("1000000"))).isEqualByComparingTo("1000000");
+  }
+
+  @Test
+  public void testCompileExchangeMetaData() {
+    ExchangeMetaData exchangeMetaData =
+        new ExchangeMetaData(
+            Collections.singletonMap(CurrencyPair.BTC_USD, metaData), null, null, null, null);
+
+    Map<CurrencyPair, InstrumentRules> compiled = InstrumentRules.compile(exchangeMetaData);
+
+    assertThat(compiled).containsOnlyKeys(CurrencyPair.BTC_USD);
+    assertThat(compiled.get(CurrencyPair.BTC_USD).getAmountStep()).isEqualTo(5);
+  }
+
+  private static LimitOrder limitOrder(String amount, String price) {
+    return new LimitOrder(
+        OrderType.BID,
+        new BigDecimal(amount),
+        CurrencyPair.BTC_USD,
+        null,
+        new Date(),
+        new BigDecimal(price));
+  }
+}
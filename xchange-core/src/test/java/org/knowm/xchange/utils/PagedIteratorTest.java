@@ -0,0 +1,102 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamPaging;
+import org.knowm.xchange.utils.PagedIterator.Page;
+
+public class PagedIteratorTest {
+
+  private final List<Integer> requested = new CopyOnWriteArrayList<>();
+
+  /** Three pages of three items, the cursor being the page number. */
+  private Page<Integer, Integer> page(Integer cursor) {
+    requested.add(cursor);
+    int page = cursor;
+    List<Integer> items = Arrays.asList(page * 3, page * 3 + 1, page * 3 + 2);
+    return new Page<>(items, page < 2 ? page + 1 : null);
+  }
+
+  @Test
+  public void testWalksAllPagesLazily() {
+    PagedIterator<Integer, Integer> iterator = new PagedIterator<>(this::page, 0);
+    assertThat(requested).isEmpty();
+
+    List<Integer> items = new ArrayList<>();
+    iterator.forEachRemaining(items::add);
+
+    assertThat(items).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+    assertThat(requested).containsExactly(0, 1, 2);
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  public void testStopsEarly() {
+    List<Integer> items;
+    try (PagedIterator<Integer, Integer> iterator =
+        new PagedIterator<>(this::page, 0, Runnable::run, false)) {
+      items = iterator.stream().limit(4).collect(Collectors.toList());
+    }
+
+    assertThat(items).containsExactly(0, 1, 2, 3);
+    assertThat(requested).containsExactly(0, 1);
+  }
+
+  @Test
+  public void testSkipsEmptyPages() {
+    PagedIterator<String, Integer> iterator =
+        new PagedIterator<>(
+            cursor ->
+                cursor < 2
+                    ? new Page<>(Collections.emptyList(), cursor + 1)
+                    : new Page<>(Collections.singletonList("last"), null),
+            0);
+
+    assertThat(iterator.next()).isEqualTo("last");
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test(expected = ExchangeException.class)
+  public void testPrefetchFailureIsRethrown() {
+    PagedIterator<Integer, Integer> iterator =
+        new PagedIterator<>(
+            cursor -> {
+              if (cursor > 0) {
+                throw new IOException("boom");
+              }
+              return new Page<>(Collections.singletonList(0), 1);
+            },
+            0);
+
+    assertThat(iterator.next()).isZero();
+    iterator.hasNext();
+  }
+
+  @Test
+  public void testByPageNumber() {
+    DefaultTradeHistoryParamPaging params = new DefaultTradeHistoryParamPaging(2);
+    List<Integer> pages = new ArrayList<>();
+
+    PagedIterator<String, Integer> iterator =
+        PagedIterator.byPageNumber(
+            params,
+            () -> {
+              pages.add(params.getPageNumber());
+              return params.getPageNumber() < 2 ? Arrays.asList("a", "b") : Arrays.asList("c");
+            });
+    List<String> items = new ArrayList<>();
+    iterator.forEachRemaining(items::add);
+
+    assertThat(items).containsExactly("a", "b", "a", "b", "c");
+    assertThat(pages).containsExactly(0, 1, 2);
+  }
+}
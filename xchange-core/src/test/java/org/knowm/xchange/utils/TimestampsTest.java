@@ -0,0 +1,135 @@
+package org.knowm.xchange.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class TimestampsTest {
+
+  @Test
+  public void testParseIso8601() {
+    assertThat(Timestamps.parseIso8601Millis("2016-06-10T12:16:11.717Z"))
+        .isEqualTo(Instant.parse("2016-06-10T12:16:11.717Z").toEpochMilli());
+    assertThat(Timestamps.parseIso8601Millis("2016-06-10T12:16:11Z"))
+        .isEqualTo(Instant.parse("2016-06-10T12:16:11Z").toEpochMilli());
+    assertThat(Timestamps.parseIso8601Millis("2016-06-10 12:16:11"))
+        .isEqualTo(Instant.parse("2016-06-10T12:16:11Z").toEpochMilli());
+    assertThat(Timestamps.parseIso8601Millis("2016-06-10T12:16"))
+        .isEqualTo(Instant.parse("2016-06-10T12:16:00Z").toEpochMilli());
+    assertThat(Timestamps.parseIso8601Millis("2016-06-10"))
+        .isEqualTo(Instant.parse("2016-06-10T00:00:00Z").toEpochMilli());
+    assertThat(Timestamps.parseIso8601Millis("1969-12-31T23:59:59.999Z")).isEqualTo(-1);
+  }
+
+  @Test
+  public void testParseIso8601Fraction() {
+    assertThat(Timestamps.parseIso8601Nanos("2020-10-27T15:22:00.123456Z"))
+        .isEqualTo(1603812120_123456000L);
+    assertThat(Timestamps.parseIso8601Nanos("2020-10-27T15:22:00.123456789Z"))
+        .isEqualTo(1603812120_123456789L);
+    assertThat(Timestamps.parseIso8601Nanos("2015-02-18T23:43:37.1230000Z"))
+        .isEqualTo(Instant.parse("2015-02-18T23:43:37.123Z").toEpochMilli() * 1_000_000);
+    assertThat(Timestamps.parseIso8601Millis("2020-10-27T15:22:00.9999Z"))
+        .isEqualTo(1603812120_999L);
+  }
+
+  @Test
+  public void testParseIso8601Offset() {
+    long utc = Instant.parse("2020-02-29T22:30:00Z").toEpochMilli();
+    assertThat(Timestamps.parseIso8601Millis("2020-03-01T00:30:00+02:00")).isEqualTo(utc);
+    assertThat(Timestamps.parseIso8601Millis("2020-03-01T00:30:00+0200")).isEqualTo(utc);
+    assertThat(Timestamps.parseIso8601Millis("2020-03-01T00:30:00+02")).isEqualTo(utc);
+    assertThat(Timestamps.parseIso8601Millis("2020-02-29T20:00:00-02:30")).isEqualTo(utc);
+  }
+
+  @Test
+  public void testParseIso8601Invalid() {
+    for (String text :
+        new String[] {
+          "",
+          "2020-13-01T00:00:00Z",
+          "2019-02-29T00:00:00Z",
+          "2020-01-01T24:00:00Z",
+          "2020-01-01T00:00:00.Z",
+          "2020-01-01T00:00:00X",
+          "2020-01-01T00:00:00+2",
+          "2020/01/01"
+        }) {
+      assertThatThrownBy(() -> Timestamps.parseIso8601Millis(text))
+          .as(text)
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  public void testParseRfc1123() {
+    long expected = Instant.parse("1994-11-06T08:49:37Z").toEpochMilli();
+    assertThat(Timestamps.parseRfc1123Millis("Sun, 06 Nov 1994 08:49:37 GMT")).isEqualTo(expected);
+    assertThat(Timestamps.parseRfc1123Millis("6 Nov 1994 08:49:37 UTC")).isEqualTo(expected);
+    assertThat(Timestamps.parseRfc1123Millis("Sun, 06 Nov 1994 10:49:37 +0200"))
+        .isEqualTo(expected);
+    assertThatThrownBy(() -> Timestamps.parseRfc1123Millis("Sun, 06 Foo 1994 08:49:37 GMT"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Timestamps.parseRfc1123Millis("Sun, 06 Nov 1994 08:49:37 CET"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testParseTimeOfDay() {
+    int hongKong = 8 * 3600;
+    // the 2nd of March in Hong Kong, though still the 1st in UTC
+    long now = Instant.parse("2020-03-01T17:00:00Z").toEpochMilli();
+    assertThat(Timestamps.parseTimeOfDayMillis("01:02:03", hongKong, now))
+        .isEqualTo(Instant.parse("2020-03-01T17:02:03Z").toEpochMilli());
+    assertThat(Timestamps.parseTimeOfDayMillis("23:59:59", hongKong, now))
+        .isEqualTo(Instant.parse("2020-03-02T15:59:59Z").toEpochMilli());
+    assertThatThrownBy(() -> Timestamps.parseTimeOfDayMillis("24:00:00", hongKong, now))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Timestamps.parseTimeOfDayMillis("1:02:03", hongKong, now))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testParseEpoch() {
+    assertThat(Timestamps.parseEpochMillis("1603814520", TimeUnit.SECONDS))
+        .isEqualTo(1603814520_000L);
+    assertThat(Timestamps.parseEpochNanos("1603814520.4452431", TimeUnit.SECONDS))
+        .isEqualTo(1603814520_445243100L);
+    assertThat(Timestamps.parseEpochMillis("1603814520445", TimeUnit.MILLISECONDS))
+        .isEqualTo(1603814520445L);
+    assertThat(Timestamps.parseEpochNanos("1603814520445243", TimeUnit.MICROSECONDS))
+        .isEqualTo(1603814520_445243000L);
+    assertThat(Timestamps.parseEpochMillis("-1.5", TimeUnit.SECONDS)).isEqualTo(-1500);
+    assertThatThrownBy(() -> Timestamps.parseEpochMillis("1603814520x", TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Timestamps.parseEpochMillis("999999999999999999", TimeUnit.SECONDS))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void testReadFromJsonParser() throws Exception {
+    JsonParser p =
+        new JsonFactory()
+            .createParser(
+                "[\"2020-10-27T15:22:00.123456Z\", 1603814520, \"1603814520.5\", 1603814520.25,"
+                    + " null]");
+    p.nextToken();
+
+    p.nextToken();
+    assertThat(Timestamps.readIso8601Date(p)).isEqualTo(new Date(1603812120_123L));
+    p.nextToken();
+    assertThat(Timestamps.readEpochDate(p, TimeUnit.SECONDS)).isEqualTo(new Date(1603814520_000L));
+    p.nextToken();
+    assertThat(Timestamps.readEpochDate(p, TimeUnit.SECONDS)).isEqualTo(new Date(1603814520_500L));
+    p.nextToken();
+    assertThat(Timestamps.readEpochDate(p, TimeUnit.SECONDS)).isEqualTo(new Date(1603814520_250L));
+    p.nextToken();
+    assertThat(Timestamps.readEpochDate(p, TimeUnit.SECONDS)).isNull();
+  }
+}
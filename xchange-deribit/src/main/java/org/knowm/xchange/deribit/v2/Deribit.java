@@ -107,6 +107,22 @@ public interface Deribit {
   DeribitResponse<List<DeribitSummary>> getSummaryByInstrument(
       @QueryParam("instrument_name") String instrumentName) throws DeribitException, IOException;
 
+  /**
+   * Retrieves the summary information such as open interest, 24h volume, etc. for all instruments
+   * of a currency.
+   *
+   * @param currency required, the currency symbol
+   * @param kind optional, Instrument kind, if not provided instruments of all kinds are considered
+   * @return
+   * @throws DeribitException
+   * @throws IOException
+   */
+  @GET
+  @Path("get_book_summary_by_currency")
+  DeribitResponse<List<DeribitSummary>> getSummaryByCurrency(
+      @QueryParam("currency") String currency, @QueryParam("kind") Kind kind)
+      throws DeribitException, IOException;
+
   /**
    * Get ticker for an instrument.
    *
@@ -3,7 +3,14 @@ package org.knowm.xchange.deribit.v2;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.knowm.xchange.currency.Currency;
@@ -11,12 +18,18 @@ import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.deribit.v2.dto.DeribitError;
 import org.knowm.xchange.deribit.v2.dto.DeribitException;
 import org.knowm.xchange.deribit.v2.dto.account.AccountSummary;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitGreeks;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitOrderBook;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitStats;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitSummary;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTicker;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTrade;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTrades;
+import org.knowm.xchange.derivative.OptionsContract;
+import org.knowm.xchange.derivative.OptionsContract.OptionType;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.marketdata.OptionsTicker;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -27,6 +40,12 @@ import org.knowm.xchange.exceptions.ExchangeException;
 
 public class DeribitAdapters {
 
+  private static final DateTimeFormatter EXPIRY_FORMAT =
+      new DateTimeFormatterBuilder()
+          .parseCaseInsensitive()
+          .appendPattern("dMMMyy")
+          .toFormatter(Locale.US);
+
   public static CurrencyPair adaptCurrencyPair(String instrumentName) {
     String[] temp = instrumentName.split("-", 2);
     return new CurrencyPair(temp[0], temp[1]);
@@ -58,6 +77,95 @@ public class DeribitAdapters {
         .build();
   }
 
+  /**
+   * Parses the name of an option, e.g. BTC-25SEP20-10000-C, or SOL_USDC-25SEP20-22d5-P for a
+   * linear option with a strike of 22.5. The inverse options are on the USD index.
+   */
+  public static OptionsContract adaptOptionsContract(String instrumentName) {
+    String[] parts = instrumentName.split("-");
+    if (parts.length != 4 || parts[3].length() != 1) {
+      throw new IllegalArgumentException("Not the name of an option: " + instrumentName);
+    }
+    int underscore = parts[0].indexOf('_');
+    CurrencyPair pair =
+        underscore < 0
+            ? new CurrencyPair(parts[0], "USD")
+            : new CurrencyPair(
+                parts[0].substring(0, underscore), parts[0].substring(underscore + 1));
+    Date expireDate;
+    try {
+      expireDate =
+          Date.from(
+              LocalDate.parse(parts[1], EXPIRY_FORMAT)
+                  .atStartOfDay(ZoneId.systemDefault())
+                  .toInstant());
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Not the name of an option: " + instrumentName, e);
+    }
+    return new OptionsContract(
+        pair,
+        expireDate,
+        new BigDecimal(parts[2].replace('d', '.')),
+        OptionType.fromSymbol(parts[3].charAt(0)));
+  }
+
+  public static OptionsTicker adaptOptionsTicker(DeribitTicker deribitTicker) {
+    DeribitStats stats =
+        deribitTicker.getStats() == null ? new DeribitStats() : deribitTicker.getStats();
+    OptionsTicker.Builder builder =
+        new OptionsTicker.Builder()
+            .ticker(
+                new Ticker.Builder()
+                    .instrument(adaptOptionsContract(deribitTicker.getInstrumentName()))
+                    .last(deribitTicker.getLastPrice())
+                    .bid(deribitTicker.getBestBidPrice())
+                    .ask(deribitTicker.getBestAskPrice())
+                    .high(stats.getHigh())
+                    .low(stats.getLow())
+                    .volume(stats.getVolume())
+                    .bidSize(deribitTicker.getBestBidAmount())
+                    .askSize(deribitTicker.getBestAskAmount())
+                    .timestamp(deribitTicker.getTimestamp())
+                    .build())
+            .markPrice(deribitTicker.getMarkPrice())
+            .markIv(deribitTicker.getMarkIv())
+            .bidIv(deribitTicker.getBidIv())
+            .askIv(deribitTicker.getAskIv())
+            .underlyingPrice(deribitTicker.getUnderlyingPrice())
+            .openInterest(deribitTicker.getOpenInterest());
+    DeribitGreeks greeks = deribitTicker.getGreeks();
+    if (greeks != null) {
+      builder
+          .delta(greeks.getDelta())
+          .gamma(greeks.getGamma())
+          .vega(greeks.getVega())
+          .theta(greeks.getTheta())
+          .rho(greeks.getRho());
+    }
+    return builder.build();
+  }
+
+  /** The summaries have no greeks nor implied volatilities of the best bid and ask. */
+  public static OptionsTicker adaptOptionsTicker(DeribitSummary summary) {
+    return new OptionsTicker.Builder()
+        .ticker(
+            new Ticker.Builder()
+                .instrument(adaptOptionsContract(summary.getInstrumentName()))
+                .last(summary.getLast())
+                .bid(summary.getBidPrice())
+                .ask(summary.getAskPrice())
+                .high(summary.getHigh())
+                .low(summary.getLow())
+                .volume(summary.getVolume())
+                .timestamp(summary.getCreationTimestamp())
+                .build())
+        .markPrice(summary.getMarkPrice())
+        .markIv(summary.getMarkIv())
+        .underlyingPrice(summary.getUnderlyingPrice())
+        .openInterest(summary.getOpenInterest())
+        .build();
+  }
+
   public static OrderBook adaptOrderBook(DeribitOrderBook deribitOrderBook) {
     CurrencyPair pair = adaptCurrencyPair(deribitOrderBook.getInstrumentName());
     List<LimitOrder> bids = adaptOrdersList(deribitOrderBook.getBids(), Order.OrderType.BID, pair);
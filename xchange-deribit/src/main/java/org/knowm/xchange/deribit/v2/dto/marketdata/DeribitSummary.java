@@ -46,6 +46,10 @@ public class DeribitSummary {
   @JsonProperty("mark_price")
   private BigDecimal markPrice;
 
+  /** The implied volatility of the mark price (options only) */
+  @JsonProperty("mark_iv")
+  private BigDecimal markIv;
+
   /** Price of the 24h lowest trade, null if there weren't any trades */
   @JsonProperty("low")
   private BigDecimal low;
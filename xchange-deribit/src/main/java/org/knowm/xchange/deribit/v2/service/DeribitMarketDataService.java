@@ -1,13 +1,18 @@
 package org.knowm.xchange.deribit.v2.service;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.deribit.v2.DeribitAdapters;
 import org.knowm.xchange.deribit.v2.DeribitExchange;
 import org.knowm.xchange.deribit.v2.dto.DeribitException;
+import org.knowm.xchange.deribit.v2.dto.Kind;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitOrderBook;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTicker;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTrades;
+import org.knowm.xchange.dto.marketdata.OptionsTicker;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
@@ -74,4 +79,17 @@ public class DeribitMarketDataService extends DeribitMarketDataServiceRaw
 
     return DeribitAdapters.adaptTrades(deribitTrades);
   }
+
+  /** The summaries of all the options of the currency, from a single request. */
+  @Override
+  public List<OptionsTicker> getOptionChain(Currency underlying, Object... args)
+      throws IOException {
+    try {
+      return super.getSummaryByCurrency(underlying.getCurrencyCode(), Kind.option).stream()
+          .map(DeribitAdapters::adaptOptionsTicker)
+          .collect(Collectors.toList());
+    } catch (DeribitException ex) {
+      throw DeribitAdapters.adapt(ex);
+    }
+  }
 }
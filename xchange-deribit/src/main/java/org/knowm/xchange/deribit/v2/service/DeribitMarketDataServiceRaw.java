@@ -55,6 +55,11 @@ public class DeribitMarketDataServiceRaw extends DeribitBaseService {
     return deribit.getSummaryByInstrument(instrumentName).getResult();
   }
 
+  public List<DeribitSummary> getSummaryByCurrency(String currency, Kind kind)
+      throws IOException {
+    return deribit.getSummaryByCurrency(currency, kind).getResult();
+  }
+
   public DeribitTicker getDeribitTicker(String instrumentName) throws IOException {
     return deribit.getTicker(instrumentName).getResult();
   }
@@ -6,13 +6,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitOrderBook;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitSummary;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTicker;
 import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTrade;
+import org.knowm.xchange.derivative.OptionsContract;
+import org.knowm.xchange.derivative.OptionsContract.OptionType;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.OptionsTicker;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -116,4 +122,56 @@ public class DeribitAdaptersTest {
     assertThat(trade.getTimestamp().getTime()).isEqualTo(1550050591859L);
     assertThat(trade.getId()).isEqualTo("48470");
   }
+
+  @Test
+  public void adaptOptionsContract() {
+    // when
+    OptionsContract contract = DeribitAdapters.adaptOptionsContract("BTC-3MAY19-5000-P");
+    OptionsContract linear = DeribitAdapters.adaptOptionsContract("SOL_USDC-25SEP20-22d5-C");
+
+    // then
+    assertThat(contract.getCurrencyPair()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(contract.getExpireDate().toInstant())
+        .isEqualTo(LocalDate.of(2019, 5, 3).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    assertThat(contract.getStrike()).isEqualByComparingTo("5000");
+    assertThat(contract.getType()).isEqualTo(OptionType.PUT);
+    assertThat(contract.toString()).isEqualTo("BTC/USD/190503/5000/P");
+    assertThat(linear.getCurrencyPair()).isEqualTo(new CurrencyPair("SOL", "USDC"));
+    assertThat(linear.getStrike()).isEqualByComparingTo("22.5");
+    assertThat(linear.getType()).isEqualTo(OptionType.CALL);
+  }
+
+  @Test
+  public void adaptOptionsTicker() throws IOException {
+    // given
+    ObjectMapper mapper = new ObjectMapper();
+    DeribitTicker deribitTicker =
+        mapper.readValue(
+            DeribitTrade.class.getResourceAsStream(
+                "/org/knowm/xchange/deribit/v2/dto/marketdata/example-ticker.json"),
+            DeribitTicker.class);
+    DeribitSummary summary =
+        mapper.readValue(
+            DeribitTrade.class.getResourceAsStream(
+                "/org/knowm/xchange/deribit/v2/dto/marketdata/example-summary.json"),
+            DeribitSummary.class);
+
+    // when
+    OptionsTicker ticker = DeribitAdapters.adaptOptionsTicker(deribitTicker);
+    OptionsTicker fromSummary = DeribitAdapters.adaptOptionsTicker(summary);
+
+    // then
+    assertThat(ticker.getInstrument())
+        .isEqualTo(DeribitAdapters.adaptOptionsContract("BTC-3MAY19-5000-P"));
+    assertThat(ticker.getTicker().getBid()).isEqualTo(new BigDecimal("0.01"));
+    assertThat(ticker.getMarkPrice()).isEqualTo(new BigDecimal("0.01236567"));
+    assertThat(ticker.getMarkIv()).isEqualTo(new BigDecimal("68.48"));
+    assertThat(ticker.getBidIv()).isEqualTo(new BigDecimal("62.83"));
+    assertThat(ticker.getDelta()).isEqualTo(new BigDecimal("-0.19998"));
+    assertThat(ticker.getVega()).isEqualTo(new BigDecimal("2.33814"));
+    assertThat(fromSummary.getInstrument().getStrike()).isEqualByComparingTo("140");
+    assertThat(fromSummary.getMarkPrice()).isEqualTo(new BigDecimal("0.179112"));
+    assertThat(fromSummary.getUnderlyingPrice()).isEqualTo(new BigDecimal("121.38"));
+    assertThat(fromSummary.getDelta()).isNull();
+  }
 }
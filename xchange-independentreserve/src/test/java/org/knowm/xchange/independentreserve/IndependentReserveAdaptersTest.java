@@ -34,7 +34,8 @@ public class IndependentReserveAdaptersTest {
         (MarketOrder) IndependentReserveAdapters.adaptOrderDetails(orderDetailsResponse);
     assertThat(order.getId()).isEqualTo("abcf-123");
     assertThat(order.getTimestamp())
-        .isEqualTo(Date.from(ZonedDateTime.of(2014, 9, 23, 12, 39, 34, 0, UTC).toInstant()));
+        .isEqualTo(
+            Date.from(ZonedDateTime.of(2014, 9, 23, 12, 39, 34, 381_000_000, UTC).toInstant()));
     assertThat(order.getType()).isEqualTo(Order.OrderType.BID);
     assertThat(order.getOriginalAmount()).isEqualByComparingTo(new BigDecimal(5));
     assertThat(order.getCumulativeAmount()).isEqualByComparingTo(new BigDecimal(4));
@@ -24,7 +24,8 @@ public class IndependentReserveOrderDetailsResponseTest {
         mapper.readValue(is, IndependentReserveOrderDetailsResponse.class);
     assertThat(response.getOrderGuid()).isEqualTo("c7347e4c-b865-4c94-8f74-d934d4b0b177");
     assertThat(response.getCreatedTimestamp())
-        .isEqualTo(Date.from(ZonedDateTime.of(2014, 9, 23, 12, 39, 34, 0, UTC).toInstant()));
+        .isEqualTo(
+            Date.from(ZonedDateTime.of(2014, 9, 23, 12, 39, 34, 381_000_000, UTC).toInstant()));
     assertThat(response.getOrderType()).isEqualTo("MarketBid");
     assertThat(response.getVolumeOrdered()).isEqualByComparingTo(new BigDecimal(5));
     assertThat(response.getVolumeFilled()).isEqualByComparingTo(new BigDecimal(5));
@@ -37,12 +37,14 @@ public class IndependentReserveTransactionsResponseTest {
     assertThat(transaction.getEthereumTransactionId()).isNull();
     assertThat(transaction.getComment()).isNull();
     assertThat(transaction.getCreatedTimestamp())
-        .isEqualTo(Date.from(ZonedDateTime.of(2014, 8, 3, 5, 33, 48, 23, UTC).toInstant()));
+        .isEqualTo(
+            Date.from(ZonedDateTime.of(2014, 8, 3, 5, 33, 48, 235_000_000, UTC).toInstant()));
     assertThat(transaction.getCredit()).isNull();
     assertThat(transaction.getCurrencyCode()).isEqualTo("Usd");
     assertThat(transaction.getDebit()).isEqualByComparingTo(new BigDecimal("6.98000000"));
     assertThat(transaction.getSettleTimestamp())
-        .isEqualTo(Date.from(ZonedDateTime.of(2014, 8, 3, 5, 36, 24, 55, UTC).toInstant()));
+        .isEqualTo(
+            Date.from(ZonedDateTime.of(2014, 8, 3, 5, 36, 24, 553_000_000, UTC).toInstant()));
     assertThat(transaction.getStatus()).isEqualTo("Confirmed");
     assertThat(transaction.getType()).isEqualTo(IndependentReserveTransaction.Type.Brokerage);
   }
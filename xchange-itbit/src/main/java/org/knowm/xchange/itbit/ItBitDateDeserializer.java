@@ -5,32 +5,19 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
+import org.knowm.xchange.utils.Timestamps;
 
+/** Deserializes the timestamps with seven digits of fraction, e.g. 2015-02-18T23:43:37.1230000Z */
 public class ItBitDateDeserializer extends JsonDeserializer<Date> {
 
-  private SimpleDateFormat simpleDateFormat;
-
-  {
-    // For some reason, "yyyy-MM-dd'T'HH:mm:ss.SSS'0000'X" doesn't work, and neither does it without
-    // the quotes.
-    simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-    simpleDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-  }
-
   @Override
   public Date deserialize(JsonParser jp, final DeserializationContext ctxt) throws IOException {
 
-    String value = jp.getValueAsString().replaceFirst("0000Z$", "");
     try {
-      return simpleDateFormat.parse(value);
-    } catch (ParseException e) {
-      throw new InvalidFormatException(
-          jp, "Can't parse date at offset " + e.getErrorOffset(), value, Date.class);
-      //      throw new RuntimeException("Can't parse date at offset " + e.getErrorOffset(), e);
+      return Timestamps.readIso8601Date(jp);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidFormatException(jp, e.getMessage(), jp.getValueAsString(), Date.class);
     }
   }
 }
@@ -19,6 +19,7 @@ import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderStatus;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.account.*;
+import org.knowm.xchange.dto.marketdata.CandleStick;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -38,6 +39,7 @@ import org.knowm.xchange.kraken.dto.marketdata.KrakenAsset;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPair;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenFee;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenOHLC;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicOrder;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrade;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenTicker;
@@ -194,6 +196,19 @@ public class KrakenAdapters {
     return tickers;
   }
 
+  public static CandleStick adaptOHLC(KrakenOHLC ohlc) {
+    return new CandleStick.Builder()
+        .open(ohlc.getOpen())
+        .high(ohlc.getHigh())
+        .low(ohlc.getLow())
+        .close(ohlc.getClose())
+        .vwap(ohlc.getVwap())
+        .volume(ohlc.getVolume())
+        .tradeCount(ohlc.getCount())
+        .timestamp(new Date(ohlc.getTime() * 1000))
+        .build();
+  }
+
   public static Trades adaptTrades(
       List<KrakenPublicTrade> krakenTrades, CurrencyPair currencyPair, long last) {
 
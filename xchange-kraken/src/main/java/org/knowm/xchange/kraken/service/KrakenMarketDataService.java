@@ -1,24 +1,34 @@
 package org.knowm.xchange.kraken.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.CandleStickData;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.KrakenAdapters;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenOHLC;
+import org.knowm.xchange.kraken.dto.marketdata.KrakenOHLCs;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
 import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.marketdata.params.CandleStickDataParams;
 import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
     implements MarketDataService {
 
+  private static final List<Long> OHLC_INTERVALS =
+      Arrays.asList(1L, 5L, 15L, 30L, 60L, 240L, 1440L, 10080L, 21600L);
+
   /**
    * Constructor
    *
@@ -84,4 +94,35 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
     return KrakenAdapters.adaptTrades(
         krakenTrades.getTrades(), currencyPair, krakenTrades.getLast());
   }
+
+  /**
+   * The period of the params must be 1, 5, 15, 30, 60, 240, 1440, 10080 or 21600 minutes. Kraken
+   * returns at most 720 candles after the start date, the end date and limit are applied to them.
+   */
+  @Override
+  public CandleStickData getCandleStickData(
+      CurrencyPair currencyPair, CandleStickDataParams params) throws IOException {
+
+    long periodInMins = params.getPeriodInSecs() / 60;
+    if (params.getPeriodInSecs() % 60 != 0 || !OHLC_INTERVALS.contains(periodInMins)) {
+      throw new IllegalArgumentException(
+          "Unsupported candle period: " + params.getPeriodInSecs() + "s");
+    }
+    Long since =
+        params.getStartDate() == null ? null : params.getStartDate().getTime() / 1000 - 1;
+    KrakenOHLCs ohlcs = getKrakenOHLC(currencyPair, (int) periodInMins, since);
+
+    List<CandleStick> candleSticks = new ArrayList<>();
+    for (KrakenOHLC ohlc : ohlcs.getOHLCs()) {
+      if (params.getEndDate() == null || ohlc.getTime() * 1000 <= params.getEndDate().getTime()) {
+        candleSticks.add(KrakenAdapters.adaptOHLC(ohlc));
+      }
+    }
+    if (params.getLimit() != null && candleSticks.size() > params.getLimit()) {
+      candleSticks =
+          new ArrayList<>(
+              candleSticks.subList(candleSticks.size() - params.getLimit(), candleSticks.size()));
+    }
+    return new CandleStickData(currencyPair, candleSticks);
+  }
 }
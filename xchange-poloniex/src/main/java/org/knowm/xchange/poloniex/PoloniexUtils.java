@@ -4,12 +4,10 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
 import java.util.Date;
-import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.utils.Timestamps;
 
 /** @author Zach Holmes */
 public class PoloniexUtils {
@@ -30,10 +28,8 @@ public class PoloniexUtils {
   public static Date stringToDate(String dateString) {
 
     try {
-      SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-      sdf.setTimeZone(TimeZone.getTimeZone("UTC"));
-      return sdf.parse(dateString);
-    } catch (ParseException e) {
+      return new Date(Timestamps.parseIso8601Millis(dateString));
+    } catch (IllegalArgumentException e) {
       return new Date(0);
     }
   }
@@ -41,12 +37,9 @@ public class PoloniexUtils {
   public static class UnixTimestampDeserializer extends JsonDeserializer<Date> {
     @Override
     public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-      final String dateTimeInUnixFormat = p.getText();
       try {
-        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-        calendar.setTimeInMillis(Long.parseLong(dateTimeInUnixFormat + "000"));
-        return calendar.getTime();
-      } catch (Exception e) {
+        return Timestamps.readEpochDate(p, TimeUnit.SECONDS);
+      } catch (IllegalArgumentException e) {
         return new Date(0);
       }
     }
@@ -1,5 +1,6 @@
 package com.knowm.xchange.serum.core;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /*
@@ -70,6 +71,27 @@ public class Base58 {
    * @return the base58-encoded string
    */
   public static String encode(byte[] input) {
+    return encodeInPlace(Arrays.copyOf(input, input.length)); // since we modify it in-place
+  }
+
+  /**
+   * Encodes the given bytes of a buffer as a base58 string (no checksum is appended), copying them
+   * once instead of into an intermediate array.
+   *
+   * @param buffer the buffer holding the bytes to encode, left unchanged
+   * @param offset the absolute index of the first byte
+   * @param length the number of bytes
+   * @return the base58-encoded string
+   */
+  public static String encode(ByteBuffer buffer, int offset, int length) {
+    byte[] input = new byte[length];
+    for (int i = 0; i < length; i++) {
+      input[i] = buffer.get(offset + i);
+    }
+    return encodeInPlace(input);
+  }
+
+  private static String encodeInPlace(byte[] input) {
     if (input.length == 0) {
       return "";
     }
@@ -79,7 +101,6 @@ public class Base58 {
       ++zeros;
     }
     // Convert base-256 digits to base-58 digits (plus conversion to ASCII characters)
-    input = Arrays.copyOf(input, input.length); // since we modify it in-place
     char[] encoded = new char[input.length * 2]; // upper bound
     int outputStart = encoded.length;
     for (int inputStart = zeros; inputStart < input.length; ) {
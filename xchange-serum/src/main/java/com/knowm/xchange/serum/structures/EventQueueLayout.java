@@ -41,23 +41,23 @@ public class EventQueueLayout {
     @Bin(order = 8, name = "zeros3", type = BinType.BYTE_ARRAY)
     public byte[] zeros3;
 
+    private static final JBBPParser PARSER =
+        JBBPParser.prepare(
+            ""
+                + "byte[5] blob5; "
+                + "accountFlags {"
+                + " byte[8] bytes; "
+                + "} "
+                + "byte[4] head;"
+                + "byte[4] zeros1;"
+                + "byte[4] count;"
+                + "byte[4] zeros2;"
+                + "byte[4] seqNum;"
+                + "byte[4] zeros3;");
+
     public static final StructDecoder<Header> DECODER =
         bytes -> {
-          final HeaderLayout headerLayout =
-              JBBPParser.prepare(
-                      ""
-                          + "byte[5] blob5; "
-                          + "accountFlags {"
-                          + " byte[8] bytes; "
-                          + "} "
-                          + "byte[4] head;"
-                          + "byte[4] zeros1;"
-                          + "byte[4] count;"
-                          + "byte[4] zeros2;"
-                          + "byte[4] seqNum;"
-                          + "byte[4] zeros3;")
-                  .parse(bytes)
-                  .mapTo(new HeaderLayout());
+          final HeaderLayout headerLayout = PARSER.parse(bytes).mapTo(new HeaderLayout());
           return new Header(
               headerLayout.accountFlags.decode(),
               getUnsignedInt(headerLayout.head),
@@ -113,27 +113,27 @@ public class EventQueueLayout {
     @Bin(order = 10, name = "clientOrderId", type = BinType.BYTE_ARRAY)
     public byte[] clientOrderId;
 
+    private static final JBBPParser PARSER =
+        JBBPParser.prepare(
+            ""
+                + "eventFlags {"
+                + " byte[1] bytes; "
+                + "} "
+                + "byte openOrdersSlot; "
+                + "byte feeTier;"
+                + "byte[5] blob5; "
+                + "byte[8] nativeQuantityReleased;"
+                + "byte[8] nativeQuantityPaid;"
+                + "byte[8] nativeFeeOrRebate;"
+                + "byte[16] orderId;"
+                + "openOrders {"
+                + " byte[32] publicKeyLayout; "
+                + "} "
+                + "byte[8] clientOrderId;");
+
     public static final StructDecoder<EventNode> DECODER =
         bytes -> {
-          final NodeLayout nodeLayout =
-              JBBPParser.prepare(
-                      ""
-                          + "eventFlags {"
-                          + " byte[1] bytes; "
-                          + "} "
-                          + "byte openOrdersSlot; "
-                          + "byte feeTier;"
-                          + "byte[5] blob5; "
-                          + "byte[8] nativeQuantityReleased;"
-                          + "byte[8] nativeQuantityPaid;"
-                          + "byte[8] nativeFeeOrRebate;"
-                          + "byte[16] orderId;"
-                          + "openOrders {"
-                          + " byte[32] publicKeyLayout; "
-                          + "} "
-                          + "byte[8] clientOrderId;")
-                  .parse(bytes)
-                  .mapTo(new NodeLayout());
+          final NodeLayout nodeLayout = PARSER.parse(bytes).mapTo(new NodeLayout());
           return new EventNode(
               nodeLayout.eventFlags.decode(),
               Byte.toUnsignedInt(nodeLayout.openOrdersSlot),
@@ -144,7 +144,7 @@ public class EventQueueLayout {
               Base58.encode(nodeLayout.orderId),
               nodeLayout.orderId,
               nodeLayout.openOrders.getPublicKey(),
-              ByteBuffer.wrap(nodeLayout.clientOrderId).getLong());
+              decodeLong(nodeLayout.clientOrderId));
         };
   }
 
@@ -185,6 +185,164 @@ public class EventQueueLayout {
     }
   }
 
+  /**
+   * An event queue read in place from its account data: the header fields and the events are
+   * decoded when they are read, straight from the buffer, so decoding a few new events of a large
+   * queue costs no more than those events.
+   */
+  public static class EventQueue {
+
+    private final ByteBuffer buffer;
+
+    private EventQueue(ByteBuffer buffer) {
+      this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static EventQueue wrap(byte[] data) {
+      return new EventQueue(ByteBuffer.wrap(data));
+    }
+
+    /** Wraps the remaining bytes of the buffer, whose position and order are left unchanged. */
+    public static EventQueue wrap(ByteBuffer data) {
+      return new EventQueue(data.slice());
+    }
+
+    public AccountFlags getAccountFlags() {
+      long flags = buffer.getLong(5);
+      return new AccountFlags(
+          (flags & 1) != 0,
+          (flags & 2) != 0,
+          (flags & 4) != 0,
+          (flags & 8) != 0,
+          (flags & 16) != 0,
+          (flags & 32) != 0,
+          (flags & 64) != 0);
+    }
+
+    public long getHead() {
+      return buffer.getInt(13) & 0xffffffffL;
+    }
+
+    public long getCount() {
+      return buffer.getInt(21) & 0xffffffffL;
+    }
+
+    public long getSeqNum() {
+      return buffer.getInt(29) & 0xffffffffL;
+    }
+
+    /** @return the number of event slots of the queue */
+    public int getCapacity() {
+      return Math.max(0, (buffer.limit() - HEADER_LEN) / NODE_LEN);
+    }
+
+    /**
+     * @param index the slot of the event
+     * @param reuse the flyweight to point at the event, e.g. the one returned for the previous slot
+     * @return {@code reuse}, which reads the event of the slot until it is pointed at another one
+     */
+    public Event getEvent(int index, Event reuse) {
+      if (index < 0 || index >= getCapacity()) {
+        throw new IndexOutOfBoundsException(
+            "Event " + index + " of a queue of " + getCapacity() + " events");
+      }
+      reuse.buffer = buffer;
+      reuse.offset = HEADER_LEN + index * NODE_LEN;
+      return reuse;
+    }
+
+    public Event getEvent(int index) {
+      return getEvent(index, new Event());
+    }
+
+    public Header getHeader() {
+      return new Header(getAccountFlags(), getHead(), getCount(), getSeqNum());
+    }
+  }
+
+  /**
+   * A flyweight over an event of an {@link EventQueue}, reading its fields from the queue's buffer.
+   * The keys are only Base58-encoded when they are read.
+   */
+  public static class Event {
+
+    private ByteBuffer buffer;
+    private int offset;
+
+    public boolean isFill() {
+      return (buffer.get(offset) & 1) != 0;
+    }
+
+    public boolean isOut() {
+      return (buffer.get(offset) & 2) != 0;
+    }
+
+    public boolean isBid() {
+      return (buffer.get(offset) & 4) != 0;
+    }
+
+    public boolean isMaker() {
+      return (buffer.get(offset) & 8) != 0;
+    }
+
+    public int getOpenOrdersSlot() {
+      return Byte.toUnsignedInt(buffer.get(offset + 1));
+    }
+
+    public int getFeeTier() {
+      return Byte.toUnsignedInt(buffer.get(offset + 2));
+    }
+
+    /** @return the amount the user received (nativeQuantityUnlocked) */
+    public long getNativeQuantityReleased() {
+      return buffer.getLong(offset + 8);
+    }
+
+    /** @return the amount the user paid (nativeQuantityStillLocked) */
+    public long getNativeQuantityPaid() {
+      return buffer.getLong(offset + 16);
+    }
+
+    public long getNativeFeeOrRebate() {
+      return buffer.getLong(offset + 24);
+    }
+
+    public String getOrderId() {
+      return Base58.encode(buffer, offset + 32, 16);
+    }
+
+    public byte[] getOrderIdBytes() {
+      byte[] orderId = new byte[16];
+      for (int i = 0; i < orderId.length; i++) {
+        orderId[i] = buffer.get(offset + 32 + i);
+      }
+      return orderId;
+    }
+
+    public PublicKey getOpenOrders() {
+      return new PublicKey(Base58.encode(buffer, offset + 48, 32));
+    }
+
+    public long getClientOrderId() {
+      return buffer.getLong(offset + 80);
+    }
+
+    /** @return a copy of the event, which stays valid when the flyweight is moved */
+    public EventNode toEventNode() {
+      return new EventNode(
+          new EventFlags(isFill(), isOut(), isBid(), isMaker()),
+          getOpenOrdersSlot(),
+          getFeeTier(),
+          getNativeQuantityReleased(),
+          getNativeQuantityPaid(),
+          getNativeFeeOrRebate(),
+          getOrderId(),
+          getOrderIdBytes(),
+          getOpenOrders(),
+          getClientOrderId());
+    }
+  }
+
   public static long getUnsignedInt(byte[] data) {
     ByteBuffer bb = ByteBuffer.wrap(data);
     bb.order(ByteOrder.LITTLE_ENDIAN);
@@ -70,54 +70,55 @@ public class MarketStatLayoutV1 extends MarketLayout {
   @Bin(order = 21, name = "blob7", type = BinType.BYTE_ARRAY)
   public byte[] blob7;
 
+  private static final JBBPParser PARSER =
+      JBBPParser.prepare(
+          ""
+              + "byte[5] blob5; "
+              + "accountFlags {"
+              + " byte[8] bytes; "
+              + "} "
+              + "ownAddress {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "byte[8] vaultSignerNonce; "
+              + "baseMint {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "quoteMint {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "baseVault {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "byte[8] baseDepositsTotal; "
+              + "byte[8] baseFeesAccrued; "
+              + "quoteVault {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "byte[8] quoteDepositsTotal; "
+              + "byte[8] quoteFeesAccrued; "
+              + "byte[8] quoteDustThreshold; "
+              + "requestQueue {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "eventQueue {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "bids {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "asks {"
+              + " byte[32] publicKeyLayout; "
+              + "} "
+              + "byte[8] baseLotSize; "
+              + "byte[8] quoteLotSize; "
+              + "byte[8] feeRateBps; "
+              + "byte[7] blob7;");
+
   public static final StructDecoder<MarketStat> DECODER =
       bytes -> {
         final MarketStatLayoutV1 deserialized =
-            JBBPParser.prepare(
-                    ""
-                        + "byte[5] blob5; "
-                        + "accountFlags {"
-                        + " byte[8] bytes; "
-                        + "} "
-                        + "ownAddress {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "byte[8] vaultSignerNonce; "
-                        + "baseMint {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "quoteMint {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "baseVault {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "byte[8] baseDepositsTotal; "
-                        + "byte[8] baseFeesAccrued; "
-                        + "quoteVault {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "byte[8] quoteDepositsTotal; "
-                        + "byte[8] quoteFeesAccrued; "
-                        + "byte[8] quoteDustThreshold; "
-                        + "requestQueue {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "eventQueue {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "bids {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "asks {"
-                        + " byte[32] publicKeyLayout; "
-                        + "} "
-                        + "byte[8] baseLotSize; "
-                        + "byte[8] quoteLotSize; "
-                        + "byte[8] feeRateBps; "
-                        + "byte[7] blob7;")
-                .parse((bytes))
-                .mapTo(new MarketStatLayoutV1());
+            PARSER.parse((bytes)).mapTo(new MarketStatLayoutV1());
         return new MarketStatV1(
             deserialized.accountFlags.decode(),
             deserialized.ownAddress.getPublicKey(),
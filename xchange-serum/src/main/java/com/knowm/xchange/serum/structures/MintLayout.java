@@ -15,9 +15,9 @@ public class MintLayout extends Struct {
   @Bin(order = 3, name = "blob37", type = BinType.BYTE_ARRAY)
   public byte[] blob37;
 
+  private static final JBBPParser PARSER =
+      JBBPParser.prepare("" + "byte[44] blob44; " + "byte decimals; " + "byte[37] blob37;");
+
   public static final StructDecoder<MintLayout> DECODER =
-      bytes ->
-          JBBPParser.prepare("" + "byte[44] blob44; " + "byte decimals; " + "byte[37] blob37;")
-              .parse(bytes)
-              .mapTo(new MintLayout());
+      bytes -> PARSER.parse(bytes).mapTo(new MintLayout());
 }
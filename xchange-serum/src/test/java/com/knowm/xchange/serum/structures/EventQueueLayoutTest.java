@@ -0,0 +1,130 @@
+package com.knowm.xchange.serum.structures;
+
+import com.knowm.xchange.serum.core.Base58;
+import com.knowm.xchange.serum.structures.EventQueueLayout.Event;
+import com.knowm.xchange.serum.structures.EventQueueLayout.EventNode;
+import com.knowm.xchange.serum.structures.EventQueueLayout.EventQueue;
+import com.knowm.xchange.serum.structures.EventQueueLayout.Header;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventQueueLayoutTest {
+
+  private static final int EVENTS = 3;
+
+  /** An event queue account: "serum", the header, the events and the padding. */
+  private static byte[] eventQueue(int offset) {
+    ByteBuffer buffer =
+        ByteBuffer.allocate(
+                offset + EventQueueLayout.HEADER_LEN + EVENTS * EventQueueLayout.NODE_LEN + 7)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.position(offset);
+    buffer.put("serum".getBytes());
+    buffer.putLong(1 | 16); // initialized, eventQueue
+    buffer.putInt(1).putInt(0); // head
+    buffer.putInt(2).putInt(0); // count
+    buffer.putInt(0xfffffffe).putInt(0); // seqNum
+    for (int i = 0; i < EVENTS; i++) {
+      buffer.put((byte) (i == 1 ? 1 | 4 | 8 : 2)); // a bid maker fill, or out
+      buffer.put((byte) (200 + i)); // openOrdersSlot
+      buffer.put((byte) i); // feeTier
+      buffer.put(new byte[5]);
+      buffer.putLong(1000L * (i + 1)); // nativeQuantityReleased
+      buffer.putLong(i == 1 ? 0 : -2000L); // nativeQuantityPaid
+      buffer.putLong(-3L * i); // nativeFeeOrRebate
+      for (int b = 0; b < 16; b++) {
+        buffer.put((byte) (b == 0 ? 0 : 16 * i + b)); // orderId, with a leading zero
+      }
+      for (int b = 0; b < 32; b++) {
+        buffer.put((byte) (255 - b - i)); // openOrders
+      }
+      buffer.putLong(Long.MAX_VALUE - i); // clientOrderId
+    }
+    return buffer.array();
+  }
+
+  @Test
+  public void testHeader() throws Exception {
+    byte[] bytes = eventQueue(0);
+    Header header =
+        EventQueueLayout.HeaderLayout.DECODER.decode(
+            Arrays.copyOf(bytes, EventQueueLayout.HEADER_LEN));
+    Header inPlace = EventQueue.wrap(bytes).getHeader();
+
+    Assert.assertTrue(inPlace.accountFlags.initialized);
+    Assert.assertTrue(inPlace.accountFlags.eventQueue);
+    Assert.assertFalse(inPlace.accountFlags.market);
+    Assert.assertEquals(header.accountFlags.eventQueue, inPlace.accountFlags.eventQueue);
+    Assert.assertEquals(header.head, inPlace.head);
+    Assert.assertEquals(header.count, inPlace.count);
+    Assert.assertEquals(0xfffffffeL, inPlace.seqNum);
+    Assert.assertEquals(header.seqNum, inPlace.seqNum);
+    Assert.assertEquals(EVENTS, EventQueue.wrap(bytes).getCapacity());
+  }
+
+  @Test
+  public void testEvents() throws Exception {
+    byte[] bytes = eventQueue(0);
+    EventQueue queue = EventQueue.wrap(bytes);
+    Event flyweight = new Event();
+    for (int i = 0; i < EVENTS; i++) {
+      int start = EventQueueLayout.HEADER_LEN + i * EventQueueLayout.NODE_LEN;
+      EventNode node =
+          EventQueueLayout.NodeLayout.DECODER.decode(
+              Arrays.copyOfRange(bytes, start, start + EventQueueLayout.NODE_LEN));
+      Event event = queue.getEvent(i, flyweight);
+
+      Assert.assertSame(flyweight, event);
+      Assert.assertEquals(node.eventFlags.fill, event.isFill());
+      Assert.assertEquals(node.eventFlags.out, event.isOut());
+      Assert.assertEquals(node.eventFlags.bid, event.isBid());
+      Assert.assertEquals(node.eventFlags.maker, event.isMaker());
+      Assert.assertEquals(200 + i, event.getOpenOrdersSlot());
+      Assert.assertEquals(node.openOrdersSlot, event.getOpenOrdersSlot());
+      Assert.assertEquals(node.feeTier, event.getFeeTier());
+      Assert.assertEquals(node.nativeQuantityReleased, event.getNativeQuantityReleased());
+      Assert.assertEquals(node.nativeQuantityPaid, event.getNativeQuantityPaid());
+      Assert.assertEquals(node.nativeFeeOrRebate, event.getNativeFeeOrRebate());
+      Assert.assertEquals(node.orderId, event.getOrderId());
+      Assert.assertArrayEquals(node.orderIdBytes, event.getOrderIdBytes());
+      Assert.assertEquals(node.openOrders, event.getOpenOrders());
+      Assert.assertEquals(Long.MAX_VALUE - i, event.getClientOrderId());
+      Assert.assertEquals(node.clientOrderId, event.getClientOrderId());
+
+      EventNode copy = event.toEventNode();
+      Assert.assertEquals(node.orderId, copy.orderId);
+      Assert.assertEquals(node.openOrders, copy.openOrders);
+      Assert.assertEquals(node.nativeQuantityPaid, copy.nativeQuantityPaid);
+    }
+  }
+
+  @Test
+  public void testWrapBufferAtItsPosition() {
+    ByteBuffer buffer = ByteBuffer.wrap(eventQueue(11));
+    buffer.position(11);
+    EventQueue queue = EventQueue.wrap(buffer);
+
+    Assert.assertEquals(11, buffer.position());
+    Assert.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    Assert.assertEquals(0xfffffffeL, queue.getSeqNum());
+    Assert.assertEquals(EVENTS, queue.getCapacity());
+    Assert.assertEquals(Long.MAX_VALUE - 2, queue.getEvent(2).getClientOrderId());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testEventOutOfQueue() {
+    EventQueue.wrap(eventQueue(0)).getEvent(EVENTS);
+  }
+
+  @Test
+  public void testBase58OfBuffer() {
+    byte[] bytes = eventQueue(0);
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    Assert.assertEquals(
+        Base58.encode(Arrays.copyOfRange(bytes, 40, 72)), Base58.encode(buffer, 40, 32));
+    Assert.assertEquals("", Base58.encode(buffer, 0, 0));
+  }
+}
@@ -195,8 +195,14 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
   }
 
   private BinanceStreamingService createStreamingService(ProductSubscription subscription) {
-    String path = API_BASE_URI + "stream?streams=" + buildSubscriptionStreams(subscription);
-    return new BinanceStreamingService(path, subscription);
+    String baseUri =
+        MoreObjects.firstNonNull(
+            (String) exchangeSpecification.getExchangeSpecificParametersItem(WEBSOCKET_API_URI),
+            API_BASE_URI);
+    String path = baseUri + "stream?streams=" + buildSubscriptionStreams(subscription);
+    BinanceStreamingService streamingService = new BinanceStreamingService(path, subscription);
+    applyStreamingSpecification(exchangeSpecification, streamingService);
+    return streamingService;
   }
 
   public String buildSubscriptionStreams(ProductSubscription subscription) {
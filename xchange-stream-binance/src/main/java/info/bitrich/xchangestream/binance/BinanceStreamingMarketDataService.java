@@ -31,9 +31,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -145,7 +145,8 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
                     .originalAmount(rawTrade.getQuantity())
                     .instrument(currencyPair)
                     .price(rawTrade.getPrice())
-                    .timestamp(new Date(rawTrade.getTimestamp()))
+                    .exchangeTimeNanos(TimeUnit.MILLISECONDS.toNanos(rawTrade.getTimestamp()))
+                    .receiveTimeNanos(service.getMessageReceiveTimeNanos())
                     .id(String.valueOf(rawTrade.getTradeId()))
                     .build());
   }
@@ -410,6 +411,9 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
   private Stream<OrderBookUpdate> extractOrderBookUpdates(
       CurrencyPair currencyPair, DepthBinanceWebSocketTransaction depthTransaction) {
     BinanceOrderbook orderBookDiff = depthTransaction.getOrderBook();
+    long exchangeTimeNanos =
+        TimeUnit.MILLISECONDS.toNanos(depthTransaction.getEventTime().getTime());
+    long receiveTimeNanos = service.getMessageReceiveTimeNanos();
 
     Stream<OrderBookUpdate> bidStream =
         orderBookDiff.bids.entrySet().stream()
@@ -420,7 +424,8 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
                         entry.getValue(),
                         currencyPair,
                         entry.getKey(),
-                        depthTransaction.getEventTime(),
+                        exchangeTimeNanos,
+                        receiveTimeNanos,
                         entry.getValue()));
 
     Stream<OrderBookUpdate> askStream =
@@ -432,7 +437,8 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
                         entry.getValue(),
                         currencyPair,
                         entry.getKey(),
-                        depthTransaction.getEventTime(),
+                        exchangeTimeNanos,
+                        receiveTimeNanos,
                         entry.getValue()));
 
     return Stream.concat(bidStream, askStream);
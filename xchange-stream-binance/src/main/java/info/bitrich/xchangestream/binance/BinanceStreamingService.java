@@ -6,6 +6,8 @@ import com.google.common.collect.Sets;
 import info.bitrich.xchangestream.binance.dto.BinanceWebSocketSubscriptionMessage;
 import info.bitrich.xchangestream.core.ProductSubscription;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.service.netty.JsonSequenceExtractor;
+import info.bitrich.xchangestream.service.netty.SequenceExtractor;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextAndServerNoContextHandler;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
 import org.slf4j.Logger;
@@ -25,6 +27,14 @@ public class BinanceStreamingService extends JsonNettyStreamingService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BinanceStreamingService.class);
 
+  /**
+   * Sequence of the combined stream messages for {@link
+   * info.bitrich.xchangestream.service.netty.RedundantStreamingService}: the final update id of
+   * depth updates, the trade id of trades and the event time of everything else.
+   */
+  public static final SequenceExtractor<JsonNode> SEQUENCE_EXTRACTOR =
+      new JsonSequenceExtractor(null, "/data/u", "/data/t", "/data/E");
+
   private static final String RESULT = "result";
   private static final String IDENTIFIER = "id";
 
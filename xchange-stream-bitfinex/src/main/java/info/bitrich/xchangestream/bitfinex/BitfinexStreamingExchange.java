@@ -29,8 +29,10 @@ public class BitfinexStreamingExchange extends BitfinexExchange implements Strea
   }
 
   private BitfinexStreamingService createStreamingService() {
+    String apiUri =
+        (String) exchangeSpecification.getExchangeSpecificParametersItem(WEBSOCKET_API_URI);
     BitfinexStreamingService streamingService =
-        new BitfinexStreamingService(API_URI, getNonceFactory());
+        new BitfinexStreamingService(apiUri != null ? apiUri : API_URI, getNonceFactory());
     applyStreamingSpecification(getExchangeSpecification(), streamingService);
     if (StringUtils.isNotEmpty(exchangeSpecification.getApiKey())) {
       streamingService.setApiKey(exchangeSpecification.getApiKey());
@@ -9,10 +9,13 @@ import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthPreTrade;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthTrade;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSubscriptionMessage;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUnSubscriptionMessage;
+import info.bitrich.xchangestream.service.exception.NotConnectedException;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.util.PendingRequests;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.processors.PublishProcessor;
 import java.io.IOException;
@@ -62,6 +65,9 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
   private static final String EVENT = "event";
   private static final String VERSION = "version";
 
+  private static final String NOTIFICATION_SUCCESS = "SUCCESS";
+  static final long ORDER_ACK_TIMEOUT_SECONDS = 10;
+
   private static final int CALCULATION_BATCH_SIZE = 8;
   private static final List<String> WALLETS = Arrays.asList("exchange", "margin", "funding");
 
@@ -82,11 +88,14 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
   private final SynchronizedValueFactory<Long> nonceFactory;
 
   private final BlockingQueue<String> calculationQueue = new LinkedBlockingQueue<>();
+  private final PendingRequests<String, JsonNode> pendingOrderRequests =
+      new PendingRequests<>(ORDER_ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
   private Disposable calculator;
 
   public BitfinexStreamingService(String apiUrl, SynchronizedValueFactory<Long> nonceFactory) {
     super(apiUrl, Integer.MAX_VALUE, DEFAULT_CONNECTION_TIMEOUT, DEFAULT_RETRY_DURATION, 30);
     this.nonceFactory = nonceFactory;
+    failPendingOrderRequestsOnDisconnect();
   }
 
   public BitfinexStreamingService(
@@ -98,6 +107,12 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
       int idleTimeoutSeconds) {
     super(apiUrl, maxFramePayloadLength, connectionTimeout, retryDuration, idleTimeoutSeconds);
     this.nonceFactory = nonceFactory;
+    failPendingOrderRequestsOnDisconnect();
+  }
+
+  private void failPendingOrderRequestsOnDisconnect() {
+    subscribeDisconnect()
+        .subscribe(disconnect -> pendingOrderRequests.failAll(new NotConnectedException()));
   }
 
   @Override
@@ -230,6 +245,9 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
         BitfinexWebSocketAuthBalance balance = BitfinexStreamingAdapters.adaptBalance(object);
         if (balance != null) subjectBalance.onNext(balance);
         break;
+      case "n":
+        handleNotification(object);
+        break;
       case "bu":
         break;
       default:
@@ -237,6 +255,58 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
     }
   }
 
+  /**
+   * Completes or fails the pending order request acknowledged by a notification. New orders are
+   * correlated by their client order id, cancels and updates by the order id.
+   */
+  private void handleNotification(JsonNode notification) {
+    String type = notification.path(1).asText();
+    JsonNode info = notification.path(4);
+    String key;
+    if ("on-req".equals(type)) {
+      key = orderRequestKey("on", info.path(2).asText());
+    } else if ("oc-req".equals(type) || "ou-req".equals(type)) {
+      key = orderRequestKey(type.substring(0, 2), info.path(0).asText());
+    } else {
+      LOG.debug("Bitfinex notification: {}", notification);
+      return;
+    }
+    boolean pending;
+    if (NOTIFICATION_SUCCESS.equals(notification.path(6).asText())) {
+      pending = pendingOrderRequests.complete(key, info);
+    } else {
+      pending =
+          pendingOrderRequests.fail(key, new ExchangeException(notification.path(7).asText()));
+    }
+    if (!pending) {
+      LOG.debug("Notification of an unknown order request: {}", notification);
+    }
+  }
+
+  private static String orderRequestKey(String type, String id) {
+    return type + ":" + id;
+  }
+
+  /**
+   * Sends an order input message over the authenticated channel.
+   *
+   * @param type on, oc or ou
+   * @param id The client order id for new orders, the order id otherwise
+   * @return {@link Single} that emits the order in the notification acknowledging the request
+   */
+  Single<JsonNode> sendOrderRequest(String type, String id, Object payload) {
+    return pendingOrderRequests.send(
+        orderRequestKey(type, id), key -> sendInputMessage(type, payload));
+  }
+
+  /** Sends an input message over the authenticated channel, without acknowledgement. */
+  void sendInputMessage(String type, Object payload) {
+    if (!isSocketOpen()) {
+      throw new NotConnectedException();
+    }
+    sendObjectMessage(new Object[] {0, type, null, payload});
+  }
+
   @Override
   public String getSubscriptionUniqueId(String channelName, Object... args) {
     if (args.length > 0) {
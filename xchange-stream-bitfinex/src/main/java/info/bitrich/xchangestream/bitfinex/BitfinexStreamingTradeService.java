@@ -3,17 +3,37 @@ package info.bitrich.xchangestream.bitfinex;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthOrder;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthPreTrade;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthTrade;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketNewOrder;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUpdateOrder;
 import info.bitrich.xchangestream.core.StreamingTradeService;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.knowm.xchange.bitfinex.service.BitfinexAdapters;
+import org.knowm.xchange.bitfinex.v1.dto.trade.BitfinexOrderFlags;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.exceptions.ExchangeSecurityException;
 
 public class BitfinexStreamingTradeService implements StreamingTradeService {
 
+  private static final int FLAG_HIDDEN = 64;
+  private static final int FLAG_POST_ONLY = 4096;
+
   private final BitfinexStreamingService service;
+  private final AtomicLong clientOrderIds = new AtomicLong(System.currentTimeMillis());
 
   public BitfinexStreamingTradeService(BitfinexStreamingService service) {
     this.service = service;
@@ -56,6 +76,127 @@ public class BitfinexStreamingTradeService implements StreamingTradeService {
     return getUserTrades().filter(t -> currencyPair.equals(t.getCurrencyPair()));
   }
 
+  /**
+   * The order's user reference is sent as the client order id if it is a number, otherwise a
+   * client order id is generated.
+   */
+  @Override
+  public Single<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    String type = limitOrder.hasFlag(BitfinexOrderFlags.FILL_OR_KILL) ? "FOK" : "LIMIT";
+    return placeOrder(limitOrder, type, limitOrder.getLimitPrice());
+  }
+
+  @Override
+  public Single<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return placeOrder(marketOrder, "MARKET", null);
+  }
+
+  private Single<String> placeOrder(Order order, String type, BigDecimal price) {
+    return withAuthenticatedService(
+        service -> {
+          long cid = getClientOrderId(order);
+          BitfinexWebSocketNewOrder newOrder =
+              new BitfinexWebSocketNewOrder(
+                  cid,
+                  order.hasFlag(BitfinexOrderFlags.MARGIN) ? type : "EXCHANGE " + type,
+                  BitfinexAdapters.adaptCurrencyPair(order.getCurrencyPair()),
+                  signedAmount(order).toPlainString(),
+                  price == null ? null : price.toPlainString(),
+                  (order.hasFlag(BitfinexOrderFlags.HIDDEN) ? FLAG_HIDDEN : 0)
+                      | (order.hasFlag(BitfinexOrderFlags.POST_ONLY) ? FLAG_POST_ONLY : 0));
+          return service
+              .sendOrderRequest("on", String.valueOf(cid), newOrder)
+              .map(info -> info.path(0).asText());
+        });
+  }
+
+  private long getClientOrderId(Order order) {
+    String userReference = order.getUserReference();
+    if (userReference != null) {
+      try {
+        return Long.parseLong(userReference);
+      } catch (NumberFormatException e) {
+        // not usable as a client order id
+      }
+    }
+    return clientOrderIds.incrementAndGet();
+  }
+
+  private static BigDecimal signedAmount(Order order) {
+    return order.getType() == Order.OrderType.ASK || order.getType() == Order.OrderType.EXIT_BID
+        ? order.getOriginalAmount().negate()
+        : order.getOriginalAmount();
+  }
+
+  @Override
+  public Single<Boolean> cancelOrderAsync(String orderId) {
+    return Single.defer(
+        () ->
+            withAuthenticatedService(
+                service ->
+                    service
+                        .sendOrderRequest(
+                            "oc", orderId, Collections.singletonMap("id", Long.parseLong(orderId)))
+                        .map(info -> true)));
+  }
+
+  /**
+   * Cancels orders with a single "oc_multi" message. The exchange doesn't acknowledge the request
+   * per order, so the {@link Single} emits once every order has been reported as canceled.
+   */
+  public Single<Boolean> cancelOrdersAsync(Collection<String> orderIds) {
+    return Single.defer(
+        () -> {
+          Set<Long> ids = orderIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+          CompletableSubject canceled = CompletableSubject.create();
+          // listens for the cancellations before the request is sent, so none of them is missed
+          Disposable listening =
+              getRawAuthenticatedOrders()
+                  .filter(
+                      order ->
+                          ids.contains(order.getId())
+                              && order.getOrderStatus() != null
+                              && order.getOrderStatus().startsWith("CANCELED"))
+                  .map(BitfinexWebSocketAuthOrder::getId)
+                  .distinct()
+                  .take(ids.size())
+                  .ignoreElements()
+                  .subscribe(canceled::onComplete, canceled::onError);
+          try {
+            service.sendInputMessage("oc_multi", Collections.singletonMap("id", ids));
+          } catch (RuntimeException e) {
+            listening.dispose();
+            return Single.error(e);
+          }
+          return canceled
+              .timeout(BitfinexStreamingService.ORDER_ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+              .doFinally(listening::dispose)
+              .toSingleDefault(true);
+        });
+  }
+
+  /** Bitfinex amends the order in place, so the id emitted is the id of the order. */
+  @Override
+  public Single<String> changeOrderAsync(LimitOrder limitOrder) {
+    return Single.defer(
+        () ->
+            withAuthenticatedService(
+                service ->
+                    service
+                        .sendOrderRequest(
+                            "ou",
+                            limitOrder.getId(),
+                            new BitfinexWebSocketUpdateOrder(
+                                Long.parseLong(limitOrder.getId()),
+                                limitOrder.getLimitPrice() == null
+                                    ? null
+                                    : limitOrder.getLimitPrice().toPlainString(),
+                                limitOrder.getOriginalAmount() == null
+                                    ? null
+                                    : signedAmount(limitOrder).toPlainString()))
+                        .map(info -> info.path(0).asText())));
+  }
+
   public Flowable<BitfinexWebSocketAuthOrder> getRawAuthenticatedOrders() {
     return withAuthenticatedService(BitfinexStreamingService::getAuthenticatedOrders);
   }
@@ -68,8 +209,7 @@ public class BitfinexStreamingTradeService implements StreamingTradeService {
     return withAuthenticatedService(BitfinexStreamingService::getAuthenticatedTrades);
   }
 
-  private <T> Flowable<T> withAuthenticatedService(
-      Function<BitfinexStreamingService, Flowable<T>> serviceConsumer) {
+  private <T> T withAuthenticatedService(Function<BitfinexStreamingService, T> serviceConsumer) {
     if (!service.isAuthenticated()) {
       throw new ExchangeSecurityException("Not authenticated");
     }
@@ -0,0 +1,60 @@
+package info.bitrich.xchangestream.bitfinex.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** The payload of an "on" input message, acknowledged by an "on-req" notification. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BitfinexWebSocketNewOrder {
+
+  /** The client order id, unique per day. */
+  @JsonProperty private final long cid;
+
+  /** E.g. EXCHANGE LIMIT, EXCHANGE MARKET, LIMIT or MARKET. */
+  @JsonProperty private final String type;
+
+  @JsonProperty private final String symbol;
+
+  /** Positive for buy, negative for sell. */
+  @JsonProperty private final String amount;
+
+  /** Null for market orders. */
+  @JsonProperty private final String price;
+
+  /** The sum of the order flags, e.g. 64 for hidden and 4096 for post only. */
+  @JsonProperty private final int flags;
+
+  public BitfinexWebSocketNewOrder(
+      long cid, String type, String symbol, String amount, String price, int flags) {
+    this.cid = cid;
+    this.type = type;
+    this.symbol = symbol;
+    this.amount = amount;
+    this.price = price;
+    this.flags = flags;
+  }
+
+  public long getCid() {
+    return cid;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getSymbol() {
+    return symbol;
+  }
+
+  public String getAmount() {
+    return amount;
+  }
+
+  public String getPrice() {
+    return price;
+  }
+
+  public int getFlags() {
+    return flags;
+  }
+}
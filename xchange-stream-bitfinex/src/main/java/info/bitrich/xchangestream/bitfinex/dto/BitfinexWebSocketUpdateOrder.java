@@ -0,0 +1,35 @@
+package info.bitrich.xchangestream.bitfinex.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** The payload of an "ou" input message, acknowledged by an "ou-req" notification. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BitfinexWebSocketUpdateOrder {
+
+  @JsonProperty private final long id;
+
+  /** The new price, or null to keep it. */
+  @JsonProperty private final String price;
+
+  /** The new amount, positive for buy and negative for sell, or null to keep it. */
+  @JsonProperty private final String amount;
+
+  public BitfinexWebSocketUpdateOrder(long id, String price, String amount) {
+    this.id = id;
+    this.price = price;
+    this.amount = amount;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public String getPrice() {
+    return price;
+  }
+
+  public String getAmount() {
+    return amount;
+  }
+}
@@ -8,11 +8,21 @@ import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthBalance;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthOrder;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthPreTrade;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthTrade;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.observers.TestObserver;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import si.mazi.rescu.SynchronizedValueFactory;
@@ -150,4 +160,114 @@ public class BitfinexStreamingServiceTest {
 
     test.assertValue(balance);
   }
+
+  @Test
+  public void testOrderRequestsAreAcknowledgedByNotifications() throws IOException {
+    List<String> sent = new ArrayList<>();
+    BitfinexStreamingService openService =
+        new BitfinexStreamingService(BitfinexStreamingExchange.API_URI, nonceFactory) {
+          @Override
+          public boolean isSocketOpen() {
+            return true;
+          }
+
+          @Override
+          public void sendMessage(String message) {
+            sent.add(message);
+          }
+        };
+    openService.setApiKey("key");
+    BitfinexStreamingTradeService tradeService = new BitfinexStreamingTradeService(openService);
+
+    TestObserver<String> placed =
+        tradeService
+            .placeLimitOrderAsync(
+                new LimitOrder.Builder(OrderType.ASK, CurrencyPair.ETH_USD)
+                    .userReference("42")
+                    .originalAmount(new BigDecimal("0.5"))
+                    .limitPrice(new BigDecimal("431.19"))
+                    .build())
+            .test();
+    JsonNode request = objectMapper.readTree(sent.get(0));
+    assertThat(request.get(1).asText()).isEqualTo("on");
+    assertThat(request.get(3).get("cid").asLong()).isEqualTo(42);
+    assertThat(request.get(3).get("type").asText()).isEqualTo("EXCHANGE LIMIT");
+    assertThat(request.get(3).get("amount").asText()).isEqualTo("-0.5");
+
+    openService.handleMessage(
+        objectMapper.readTree(
+            "[0,\"n\",[1575289447641,\"on-req\",null,null,"
+                + "[13759731408,null,42,\"tETHUSD\"],null,\"SUCCESS\",\"Submitting\"]]"));
+    placed.assertValue("13759731408");
+
+    TestObserver<Boolean> canceled = tradeService.cancelOrderAsync("13759731408").test();
+    assertThat(objectMapper.readTree(sent.get(1)).get(3).get("id").asLong())
+        .isEqualTo(13759731408L);
+    openService.handleMessage(
+        objectMapper.readTree(
+            "[0,\"n\",[1575289447641,\"oc-req\",null,null,"
+                + "[13759731408,null,42,\"tETHUSD\"],null,\"ERROR\",\"Order not found.\"]]"));
+    canceled.assertError(
+        e -> e instanceof ExchangeException && e.getMessage().equals("Order not found."));
+  }
+
+  @Test
+  public void testCancelOrdersListensBeforeSending() {
+    String canceled =
+        "[0,\"oc\",[%d,null,1,\"tETHUSD\",1530108599707,1530108599726,0,-0.02,"
+            + "\"EXCHANGE LIMIT\",null,null,null,0,\"CANCELED\",null,null,431.19,0"
+            + String.join("", Collections.nCopies(14, ",null"))
+            + "]]";
+    List<String> sent = new ArrayList<>();
+    BitfinexStreamingService openService =
+        new BitfinexStreamingService(BitfinexStreamingExchange.API_URI, nonceFactory) {
+          @Override
+          public boolean isSocketOpen() {
+            return true;
+          }
+
+          @Override
+          public void sendMessage(String message) {
+            sent.add(message);
+            // the exchange answers before the request returns
+            try {
+              handleMessage(new ObjectMapper().readTree(String.format(canceled, 1L)));
+              handleMessage(new ObjectMapper().readTree(String.format(canceled, 2L)));
+            } catch (IOException e) {
+              throw new IllegalStateException(e);
+            }
+          }
+        };
+    openService.setApiKey("key");
+    BitfinexStreamingTradeService tradeService = new BitfinexStreamingTradeService(openService);
+
+    Single<Boolean> cancel = tradeService.cancelOrdersAsync(Arrays.asList("1", "2"));
+    assertThat(sent).isEmpty();
+    cancel.test().assertValue(true);
+    assertThat(sent).hasSize(1);
+
+    tradeService
+        .cancelOrdersAsync(Collections.singletonList("x"))
+        .test()
+        .assertError(NumberFormatException.class);
+  }
+
+  @Test
+  public void testInvalidOrderIdFailsTheSingle() {
+    BitfinexStreamingService authenticated =
+        new BitfinexStreamingService(BitfinexStreamingExchange.API_URI, nonceFactory);
+    authenticated.setApiKey("key");
+    BitfinexStreamingTradeService tradeService = new BitfinexStreamingTradeService(authenticated);
+
+    Single<Boolean> cancel = tradeService.cancelOrderAsync("x");
+    Single<String> change =
+        tradeService.changeOrderAsync(
+            new LimitOrder.Builder(OrderType.BID, CurrencyPair.ETH_USD)
+                .id("x")
+                .limitPrice(new BigDecimal("431.19"))
+                .build());
+
+    cancel.test().assertError(NumberFormatException.class);
+    change.test().assertError(NumberFormatException.class);
+  }
 }
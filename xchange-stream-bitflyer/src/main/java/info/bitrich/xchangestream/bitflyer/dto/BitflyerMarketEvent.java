@@ -1,8 +1,7 @@
 package info.bitrich.xchangestream.bitflyer.dto;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
+import org.knowm.xchange.utils.Timestamps;
 
 /** Created by Lukas Zaoralek on 15.11.17. */
 public abstract class BitflyerMarketEvent {
@@ -17,14 +16,11 @@ public abstract class BitflyerMarketEvent {
   }
 
   public Date getDate() {
-    SimpleDateFormat formatter;
-    formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-    Date date = null;
     try {
-      date = formatter.parse(timestamp.substring(0, 23));
-    } catch (ParseException e) {
+      return new Date(Timestamps.parseIso8601Millis(timestamp));
+    } catch (IllegalArgumentException e) {
       e.printStackTrace();
+      return null;
     }
-    return date;
   }
 }
@@ -18,20 +18,16 @@ import io.reactivex.rxjava3.core.FlowableEmitter;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.Duration;
-import java.time.ZoneOffset;
 import java.util.Arrays;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 import org.knowm.xchange.bitmex.service.BitmexDigest;
+import org.knowm.xchange.utils.Timestamps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -117,9 +113,6 @@ public class BitmexStreamingService extends JsonNettyStreamingService {
       JsonNode data = message.get("data");
       if (data.getNodeType().equals(JsonNodeType.ARRAY)) {
         Long current = System.currentTimeMillis();
-        SimpleDateFormat formatter;
-        formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-        formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
         JsonNode d = data.get(0);
         if (d != null
             && d.has("timestamp")
@@ -127,12 +120,11 @@ public class BitmexStreamingService extends JsonNettyStreamingService {
                 || d.has("ordStatus") && "NEW".equals(d.get("ordStatus").asText()))) {
           try {
             String timestamp = d.get("timestamp").asText();
-            Date date = formatter.parse(timestamp);
-            long delay = current - date.getTime();
+            long delay = current - Timestamps.parseIso8601Millis(timestamp);
             for (FlowableEmitter<Long> emitter : delayEmitters) {
               emitter.onNext(delay);
             }
-          } catch (ParseException e) {
+          } catch (IllegalArgumentException e) {
             LOG.error("Parsing timestamp error: ", e);
           }
         }
@@ -162,11 +154,9 @@ public class BitmexStreamingService extends JsonNettyStreamingService {
         dmsDisposable = null;
         dmsCancelTime = 0;
       } else {
-        SimpleDateFormat sdf = new SimpleDateFormat(BitmexMarketDataEvent.BITMEX_TIMESTAMP_FORMAT);
-        sdf.setTimeZone(TimeZone.getTimeZone(ZoneOffset.UTC));
-        dmsCancelTime = sdf.parse(cancelTime).getTime();
+        dmsCancelTime = Timestamps.parseIso8601Millis(cancelTime);
       }
-    } catch (ParseException e) {
+    } catch (IllegalArgumentException e) {
       LOG.error("Error parsing deadman's confirmation ");
     }
   }
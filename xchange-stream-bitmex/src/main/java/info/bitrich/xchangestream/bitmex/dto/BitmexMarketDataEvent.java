@@ -1,11 +1,9 @@
 package info.bitrich.xchangestream.bitmex.dto;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.utils.Timestamps;
 
 /** Created by Lukas Zaoralek on 13.11.17. */
 public class BitmexMarketDataEvent {
@@ -33,14 +31,11 @@ public class BitmexMarketDataEvent {
   }
 
   public Date getDate() {
-    SimpleDateFormat formatter = new SimpleDateFormat(BITMEX_TIMESTAMP_FORMAT);
-    formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
-    Date date = null;
     try {
-      date = formatter.parse(timestamp);
-    } catch (ParseException e) {
+      return new Date(Timestamps.parseIso8601Millis(timestamp));
+    } catch (IllegalArgumentException e) {
       e.printStackTrace();
+      return null;
     }
-    return date;
   }
 }
@@ -2,17 +2,17 @@ package info.bitrich.xchangestream.coinbasepro;
 
 import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
 import java.math.BigDecimal;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.TimeZone;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderStatus;
 import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.utils.Timestamps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,48 +69,59 @@ public class CoinbaseProStreamingAdapters {
   }
 
   public static Date parseDate(final String rawDate) {
-
-    String modified;
-    if (rawDate.length() > 23) {
-      modified = rawDate.substring(0, 23);
-    } else if (rawDate.endsWith("Z")) {
-      switch (rawDate.length()) {
-        case 20:
-          modified = rawDate.substring(0, 19) + ".000";
-          break;
-        case 22:
-          modified = rawDate.substring(0, 21) + "00";
-          break;
-        case 23:
-          modified = rawDate.substring(0, 22) + "0";
-          break;
-        default:
-          modified = rawDate;
-          break;
-      }
-    } else {
-      switch (rawDate.length()) {
-        case 19:
-          modified = rawDate + ".000";
-          break;
-        case 21:
-          modified = rawDate + "00";
-          break;
-        case 22:
-          modified = rawDate + "0";
-          break;
-        default:
-          modified = rawDate;
-          break;
-      }
-    }
     try {
-      SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-      dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-      return dateFormat.parse(modified);
-    } catch (ParseException e) {
-      LOG.warn("unable to parse rawDate={} modified={}", rawDate, modified, e);
+      return new Date(Timestamps.parseIso8601Millis(rawDate));
+    } catch (IllegalArgumentException e) {
+      LOG.warn("unable to parse rawDate={}", rawDate, e);
       return null;
     }
   }
+
+  /** @return The nanoseconds since the epoch of the time, 0 if it can't be parsed */
+  public static long parseTimeNanos(final String rawDate) {
+    try {
+      return Timestamps.parseIso8601Nanos(rawDate);
+    } catch (IllegalArgumentException e) {
+      LOG.warn("unable to parse rawDate={}", rawDate, e);
+      return 0;
+    }
+  }
+
+  /** Adapts a match, keeping the microseconds of its time. */
+  static Trade adaptTrade(
+      CoinbaseProWebSocketTransaction s, CurrencyPair currencyPair, long receiveTimeNanos) {
+    // yes, sell means buy for coinbasePro reported trades..
+    OrderType type = "sell".equals(s.getSide()) ? OrderType.BID : OrderType.ASK;
+    return new Trade.Builder()
+        .type(type)
+        .originalAmount(s.getSize())
+        .price(s.getPrice())
+        .instrument(currencyPair)
+        .exchangeTimeNanos(parseTimeNanos(s.getTime()))
+        .receiveTimeNanos(receiveTimeNanos)
+        .id(String.valueOf(s.getTradeId()))
+        .makerOrderId(s.getMakerOrderId())
+        .takerOrderId(s.getTakerOrderId())
+        .build();
+  }
+
+  /**
+   * Adapts a ticker message. The first ticker message has no time, so it is given the receive
+   * time.
+   */
+  static Ticker adaptTicker(
+      CoinbaseProWebSocketTransaction s, CurrencyPair currencyPair, long receiveTimeNanos) {
+    return new Ticker.Builder()
+        .instrument(currencyPair)
+        .last(s.getPrice())
+        .open(s.getOpen24h())
+        .high(s.getHigh24h())
+        .low(s.getLow24h())
+        .bid(s.getBestBid())
+        .ask(s.getBestAsk())
+        .volume(s.getVolume24h())
+        .exchangeTimeNanos(s.getTime() == null ? receiveTimeNanos : parseTimeNanos(s.getTime()))
+        .receiveTimeNanos(receiveTimeNanos)
+        .build();
+  }
 }
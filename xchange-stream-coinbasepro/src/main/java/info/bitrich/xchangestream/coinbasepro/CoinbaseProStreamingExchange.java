@@ -43,7 +43,9 @@ public class CoinbaseProStreamingExchange extends CoinbaseProExchange implements
         Boolean.TRUE.equals(exchangeSpecification.getExchangeSpecificParametersItem("Use_Prime"));
 
     String apiUri;
-    if (useSandbox) {
+    if (exchangeSpecification.getExchangeSpecificParametersItem(WEBSOCKET_API_URI) != null) {
+      apiUri = (String) exchangeSpecification.getExchangeSpecificParametersItem(WEBSOCKET_API_URI);
+    } else if (useSandbox) {
       apiUri = usePrime ? PRIME_SANDBOX_API_URI : SANDBOX_API_URI;
     } else {
       apiUri = usePrime ? PRIME_API_URI : API_URI;
@@ -1,8 +1,5 @@
 package info.bitrich.xchangestream.coinbasepro;
 
-import static org.knowm.xchange.coinbasepro.CoinbaseProAdapters.adaptTicker;
-import static org.knowm.xchange.coinbasepro.CoinbaseProAdapters.adaptTrades;
-
 import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import io.reactivex.rxjava3.core.Flowable;
@@ -13,12 +10,10 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
-import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProTrade;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
-import org.knowm.xchange.dto.marketdata.Trades;
 
 /** Created by luca on 4/3/17. */
 public class CoinbaseProStreamingMarketDataService implements StreamingMarketDataService {
@@ -69,8 +64,11 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
                     currencyPair, k -> new TreeMap<>(java.util.Collections.reverseOrder()));
                 asks.computeIfAbsent(currencyPair, k -> new TreeMap<>());
               }
-              return s.toOrderBook(
-                  bids.get(currencyPair), asks.get(currencyPair), maxDepth, currencyPair);
+              OrderBook orderBook =
+                  s.toOrderBook(
+                      bids.get(currencyPair), asks.get(currencyPair), maxDepth, currencyPair);
+              orderBook.setReceiveTimeNanos(service.getMessageReceiveTimeNanos());
+              return orderBook;
             });
   }
 
@@ -109,8 +107,8 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
         .filter(message -> (TICKER).equals(message.getType()))
         .map(
             s ->
-                adaptTicker(
-                    s.toCoinbaseProProductTicker(), s.toCoinbaseProProductStats(), currencyPair));
+                CoinbaseProStreamingAdapters.adaptTicker(
+                    s, currencyPair, service.getMessageReceiveTimeNanos()));
   }
 
   @Override
@@ -121,9 +119,10 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
     return getRawWebSocketTransactions(currencyPair, true)
         .filter(message -> (MATCH).equals(message.getType()))
         .filter((CoinbaseProWebSocketTransaction s) -> s.getUserId() == null)
-        .map((CoinbaseProWebSocketTransaction s) -> s.toCoinbaseProTrade())
-        .map((CoinbaseProTrade t) -> adaptTrades(new CoinbaseProTrade[] {t}, currencyPair))
-        .map((Trades h) -> h.getTrades().get(0));
+        .map(
+            (CoinbaseProWebSocketTransaction s) ->
+                CoinbaseProStreamingAdapters.adaptTrade(
+                    s, currencyPair, service.getMessageReceiveTimeNanos()));
   }
 
   /**
@@ -8,6 +8,8 @@ import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketSubscripti
 import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
 import info.bitrich.xchangestream.core.ProductSubscription;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.service.netty.JsonSequenceExtractor;
+import info.bitrich.xchangestream.service.netty.SequenceExtractor;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextHandler;
 import info.bitrich.xchangestream.service.netty.WebSocketClientHandler;
@@ -17,7 +19,10 @@ import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensio
 import io.reactivex.rxjava3.core.Flowable;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.knowm.xchange.coinbasepro.dto.account.CoinbaseProWebsocketAuthData;
@@ -27,6 +32,37 @@ import org.slf4j.LoggerFactory;
 
 public class CoinbaseProStreamingService extends JsonNettyStreamingService {
   private static final Logger LOG = LoggerFactory.getLogger(CoinbaseProStreamingService.class);
+
+  private static final Set<String> FULL_CHANNEL_TYPES =
+      new HashSet<>(Arrays.asList("received", "open", "done", "match", "change", "activate"));
+
+  /**
+   * Sequence of the feed messages for {@link
+   * info.bitrich.xchangestream.service.netty.RedundantStreamingService}, numbered separately for
+   * every product. Ticker, heartbeat and last_match messages repeat the sequence of the last full
+   * channel message, so tickers are sequenced as a stream of their own and the other types are
+   * not sequence checked.
+   */
+  public static final SequenceExtractor<JsonNode> SEQUENCE_EXTRACTOR =
+      new SequenceExtractor<JsonNode>() {
+        private final SequenceExtractor<JsonNode> sequence =
+            new JsonSequenceExtractor("/product_id", "/sequence");
+
+        @Override
+        public long getSequence(JsonNode message) {
+          String type = message.path("type").asText();
+          return FULL_CHANNEL_TYPES.contains(type) || "ticker".equals(type)
+              ? sequence.getSequence(message)
+              : NO_SEQUENCE;
+        }
+
+        @Override
+        public String getStream(JsonNode message) {
+          String product = sequence.getStream(message);
+          return "ticker".equals(message.path("type").asText()) ? "ticker:" + product : product;
+        }
+      };
+
   private static final String SUBSCRIBE = "subscribe";
   private static final String UNSUBSCRIBE = "unsubscribe";
   private static final String SHARE_CHANNEL_NAME = "ALL";
@@ -152,7 +188,7 @@ public class CoinbaseProStreamingService extends JsonNettyStreamingService {
   @Override
   protected void handleChannelMessage(String channel, JsonNode message) {
     if (SHARE_CHANNEL_NAME.equals(channel)) {
-      channels.forEach((k, v) -> v.getEmitter().onNext(message));
+      channels.forEach((k, v) -> emit(k, v.getEmitter(), message));
 
     } else {
       super.handleChannelMessage(channel, message);
@@ -177,11 +177,11 @@ public class CoinbaseProWebSocketTransaction {
             changes != null ? changes : this.asks,
             asks,
             maxDepth);
-    return new OrderBook(
-        time == null ? null : CoinbaseProStreamingAdapters.parseDate(time),
-        gdaxOrderBookAsks,
-        gdaxOrderBookBids,
-        false);
+    OrderBook orderBook = new OrderBook(null, gdaxOrderBookAsks, gdaxOrderBookBids, false);
+    if (time != null) {
+      orderBook.setExchangeTimeNanos(CoinbaseProStreamingAdapters.parseTimeNanos(time));
+    }
+    return orderBook;
   }
 
   public CoinbaseProProductTicker toCoinbaseProProductTicker() {
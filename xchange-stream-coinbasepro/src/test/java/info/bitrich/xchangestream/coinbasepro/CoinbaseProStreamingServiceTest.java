@@ -0,0 +1,45 @@
+package info.bitrich.xchangestream.coinbasepro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.service.netty.FeedArbiter;
+import java.io.IOException;
+import org.junit.Test;
+
+public class CoinbaseProStreamingServiceTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final FeedArbiter<JsonNode> arbiter =
+      new FeedArbiter<>(CoinbaseProStreamingService.SEQUENCE_EXTRACTOR);
+
+  @Test
+  public void testTickerRepeatingTheMatchSequenceIsDelivered() throws IOException {
+    assertThat(arbiter.accept(message("match", "BTC-USD", 50), true)).isTrue();
+    assertThat(arbiter.accept(message("match", "BTC-USD", 50), false)).isFalse();
+    assertThat(arbiter.accept(message("ticker", "BTC-USD", 50), false)).isTrue();
+    assertThat(arbiter.accept(message("ticker", "BTC-USD", 50), true)).isFalse();
+    assertThat(arbiter.accept(message("done", "BTC-USD", 51), true)).isTrue();
+  }
+
+  @Test
+  public void testHeartbeatsFollowLeader() throws IOException {
+    assertThat(arbiter.accept(message("match", "BTC-USD", 50), true)).isTrue();
+    assertThat(arbiter.accept(message("heartbeat", "BTC-USD", 50), true)).isTrue();
+    assertThat(arbiter.accept(message("heartbeat", "BTC-USD", 50), true)).isTrue();
+    assertThat(arbiter.accept(message("heartbeat", "BTC-USD", 50), false)).isFalse();
+    assertThat(arbiter.accept(message("last_match", "BTC-USD", 50), true)).isTrue();
+  }
+
+  private JsonNode message(String type, String product, long sequence) throws IOException {
+    return mapper.readTree(
+        "{\"type\":\""
+            + type
+            + "\",\"product_id\":\""
+            + product
+            + "\",\"sequence\":"
+            + sequence
+            + "}");
+  }
+}
@@ -0,0 +1,59 @@
+package info.bitrich.xchangestream.consolidated;
+
+import java.util.Objects;
+
+/** The best bid and the best ask across venues, either null when no venue quotes that side. */
+public final class BestBidOffer {
+
+  private final VenueLevel bid;
+  private final VenueLevel ask;
+
+  public BestBidOffer(VenueLevel bid, VenueLevel ask) {
+    this.bid = bid;
+    this.ask = ask;
+  }
+
+  public VenueLevel getBid() {
+    return bid;
+  }
+
+  public VenueLevel getAsk() {
+    return ask;
+  }
+
+  /** @return true if the best bid is at or above the best ask, i.e. there's an arbitrage. */
+  public boolean isCrossed() {
+    return bid != null && ask != null && bid.getPrice().compareTo(ask.getPrice()) >= 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BestBidOffer)) {
+      return false;
+    }
+    BestBidOffer that = (BestBidOffer) o;
+    return sameLevel(bid, that.bid) && sameLevel(ask, that.ask);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(bid == null ? null : bid.getVenue(), ask == null ? null : ask.getVenue());
+  }
+
+  private static boolean sameLevel(VenueLevel a, VenueLevel b) {
+    if (a == null || b == null) {
+      return a == b;
+    }
+    return a.getVenue().equals(b.getVenue())
+        && a.getPrice().compareTo(b.getPrice()) == 0
+        && a.getAmount().compareTo(b.getAmount()) == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "BestBidOffer [bid=" + bid + ", ask=" + ask + "]";
+  }
+}
@@ -0,0 +1,50 @@
+package info.bitrich.xchangestream.consolidated;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * The top of the order books of several venues merged into one ladder per side, best price first.
+ * Levels at the same price are kept apart, one per venue, in the order the venues were given.
+ */
+public final class ConsolidatedOrderBook {
+
+  private final Date timeStamp;
+  private final List<VenueLevel> bids;
+  private final List<VenueLevel> asks;
+
+  public ConsolidatedOrderBook(Date timeStamp, List<VenueLevel> bids, List<VenueLevel> asks) {
+    this.timeStamp = timeStamp;
+    this.bids = bids;
+    this.asks = asks;
+  }
+
+  /** @return The latest time stamp of the venue books, null if none has one. */
+  public Date getTimeStamp() {
+    return timeStamp;
+  }
+
+  public List<VenueLevel> getBids() {
+    return bids;
+  }
+
+  public List<VenueLevel> getAsks() {
+    return asks;
+  }
+
+  public BestBidOffer getBestBidOffer() {
+    return new BestBidOffer(
+        bids.isEmpty() ? null : bids.get(0), asks.isEmpty() ? null : asks.get(0));
+  }
+
+  @Override
+  public String toString() {
+    return "ConsolidatedOrderBook [timeStamp="
+        + timeStamp
+        + ", bids="
+        + bids
+        + ", asks="
+        + asks
+        + "]";
+  }
+}
@@ -0,0 +1,194 @@
+package info.bitrich.xchangestream.consolidated;
+
+import info.bitrich.xchangestream.core.StreamingExchange;
+import io.reactivex.rxjava3.core.Flowable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consolidates the order books of one instrument streamed by several venues.
+ *
+ * <p>Each venue owns a slot holding an immutable copy of the top {@code depth} levels of its book.
+ * The slot is only written by the thread delivering that venue's books, which bumps the sequence
+ * of the copy it publishes, so venues never contend with each other and readers never lock: the
+ * best bid and offer is a scan of the slots, and the consolidated ladder a merge of the top levels
+ * done when it is emitted. A venue whose stream fails or completes is removed from the
+ * consolidation instead of failing it.
+ *
+ * <pre>{@code
+ * OrderBookConsolidator consolidator =
+ *     OrderBookConsolidator.of(CurrencyPair.BTC_USD, 10, exchanges);
+ * consolidator.getOrderBook(50, TimeUnit.MILLISECONDS).subscribe(book -> ...);
+ * consolidator.getBestBidOffers().filter(BestBidOffer::isCrossed).subscribe(bbo -> ...);
+ * }</pre>
+ *
+ * The slots are only updated while at least one of the returned {@link Flowable}s is subscribed.
+ */
+public final class OrderBookConsolidator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OrderBookConsolidator.class);
+
+  private final String[] venues;
+  private final int depth;
+  private final AtomicReferenceArray<VenueBook> slots;
+  /** Emits the index of a venue after its slot was updated. */
+  private final Flowable<Integer> updates;
+
+  /**
+   * @param books The order book streams by venue name
+   * @param depth The number of levels kept per venue and per side of the consolidated ladder
+   */
+  public OrderBookConsolidator(Map<String, Flowable<OrderBook>> books, int depth) {
+    if (depth <= 0) {
+      throw new IllegalArgumentException("The depth must be positive: " + depth);
+    }
+    this.venues = books.keySet().toArray(new String[0]);
+    this.depth = depth;
+    this.slots = new AtomicReferenceArray<>(venues.length);
+    List<Flowable<Integer>> sources = new ArrayList<>(venues.length);
+    int venue = 0;
+    for (Flowable<OrderBook> venueBooks : books.values()) {
+      sources.add(track(venue++, venueBooks));
+    }
+    this.updates = Flowable.merge(sources).share();
+  }
+
+  /** Consolidates the order books of the exchanges, named after their exchange specification. */
+  public static OrderBookConsolidator of(
+      CurrencyPair currencyPair, int depth, Collection<? extends StreamingExchange> exchanges) {
+    Map<String, Flowable<OrderBook>> books = new LinkedHashMap<>();
+    for (StreamingExchange exchange : exchanges) {
+      String venue = exchange.getExchangeSpecification().getExchangeName();
+      if (books.containsKey(venue)) {
+        throw new IllegalArgumentException("Duplicate venue " + venue);
+      }
+      books.put(venue, exchange.getStreamingMarketDataService().getOrderBook(currencyPair));
+    }
+    return new OrderBookConsolidator(books, depth);
+  }
+
+  /**
+   * Emits the consolidated book when a venue's book changes, at most once per {@code maxLatency}
+   * so that fast venues don't flood the subscriber. The latest state is always emitted at the end
+   * of a window, so no emission lags the venue books by more than {@code maxLatency}.
+   *
+   * @param maxLatency 0 to emit on every update of a venue book
+   */
+  public Flowable<ConsolidatedOrderBook> getOrderBook(long maxLatency, TimeUnit unit) {
+    Flowable<Integer> throttled =
+        maxLatency <= 0 ? updates : updates.throttleLatest(maxLatency, unit, true);
+    return throttled.map(venue -> getConsolidatedOrderBook());
+  }
+
+  /** Emits the best bid and offer across venues whenever it changes. */
+  public Flowable<BestBidOffer> getBestBidOffers() {
+    return updates.map(venue -> getBestBidOffer()).distinctUntilChanged();
+  }
+
+  /** @return The current best bid and offer across venues, without merging the books. */
+  public BestBidOffer getBestBidOffer() {
+    VenueLevel bid = null;
+    VenueLevel ask = null;
+    for (int i = 0; i < venues.length; i++) {
+      VenueBook book = slots.get(i);
+      if (book == null) {
+        continue;
+      }
+      if (book.bidPrices.length > 0
+          && (bid == null || book.bidPrices[0].compareTo(bid.getPrice()) > 0)) {
+        bid = book.bestBid();
+      }
+      if (book.askPrices.length > 0
+          && (ask == null || book.askPrices[0].compareTo(ask.getPrice()) < 0)) {
+        ask = book.bestAsk();
+      }
+    }
+    return new BestBidOffer(bid, ask);
+  }
+
+  /** @return The current consolidated book, merged from the latest book of every venue. */
+  public ConsolidatedOrderBook getConsolidatedOrderBook() {
+    VenueBook[] books = new VenueBook[venues.length];
+    Date timeStamp = null;
+    for (int i = 0; i < books.length; i++) {
+      books[i] = slots.get(i);
+      if (books[i] != null
+          && books[i].timeStamp != null
+          && (timeStamp == null || books[i].timeStamp.after(timeStamp))) {
+        timeStamp = books[i].timeStamp;
+      }
+    }
+    return new ConsolidatedOrderBook(timeStamp, merge(books, true), merge(books, false));
+  }
+
+  /** @return The sequence of the latest book published by a venue, 0 if there is none. */
+  public long getSequence(String venue) {
+    for (int i = 0; i < venues.length; i++) {
+      if (venues[i].equals(venue)) {
+        VenueBook book = slots.get(i);
+        return book == null ? 0 : book.sequence;
+      }
+    }
+    throw new IllegalArgumentException("Unknown venue " + venue);
+  }
+
+  private Flowable<Integer> track(int venue, Flowable<OrderBook> books) {
+    return books
+        .map(
+            book -> {
+              VenueBook previous = slots.get(venue);
+              long sequence = previous == null ? 1 : previous.sequence + 1;
+              slots.set(venue, VenueBook.of(venues[venue], sequence, book, depth));
+              return venue;
+            })
+        .doFinally(() -> slots.set(venue, null))
+        .onErrorResumeNext(
+            e -> {
+              LOG.warn("Order book of {} failed, removed from the consolidation", venues[venue], e);
+              return Flowable.empty();
+            });
+  }
+
+  /** K-way merge of the venue ladders, which are already sorted best price first. */
+  private List<VenueLevel> merge(VenueBook[] books, boolean bids) {
+    int[] heads = new int[books.length];
+    List<VenueLevel> levels = new ArrayList<>(depth);
+    while (levels.size() < depth) {
+      int best = -1;
+      BigDecimal bestPrice = null;
+      for (int i = 0; i < books.length; i++) {
+        if (books[i] == null) {
+          continue;
+        }
+        BigDecimal[] prices = bids ? books[i].bidPrices : books[i].askPrices;
+        if (heads[i] == prices.length) {
+          continue;
+        }
+        BigDecimal price = prices[heads[i]];
+        if (bestPrice == null
+            || (bids ? price.compareTo(bestPrice) > 0 : price.compareTo(bestPrice) < 0)) {
+          best = i;
+          bestPrice = price;
+        }
+      }
+      if (best < 0) {
+        break;
+      }
+      BigDecimal[] amounts = bids ? books[best].bidAmounts : books[best].askAmounts;
+      levels.add(new VenueLevel(venues[best], bestPrice, amounts[heads[best]++]));
+    }
+    return Collections.unmodifiableList(levels);
+  }
+}
@@ -0,0 +1,72 @@
+package info.bitrich.xchangestream.consolidated;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Immutable copy of the top levels of one venue's book, published to the consolidator's slot of the
+ * venue. Only the levels that can make it into the consolidated ladder are copied.
+ */
+final class VenueBook {
+
+  final String venue;
+  /** Incremented by the single writer of the slot with every book it publishes. */
+  final long sequence;
+
+  final Date timeStamp;
+  final BigDecimal[] bidPrices;
+  final BigDecimal[] bidAmounts;
+  final BigDecimal[] askPrices;
+  final BigDecimal[] askAmounts;
+
+  private VenueBook(
+      String venue,
+      long sequence,
+      Date timeStamp,
+      BigDecimal[] bidPrices,
+      BigDecimal[] bidAmounts,
+      BigDecimal[] askPrices,
+      BigDecimal[] askAmounts) {
+    this.venue = venue;
+    this.sequence = sequence;
+    this.timeStamp = timeStamp;
+    this.bidPrices = bidPrices;
+    this.bidAmounts = bidAmounts;
+    this.askPrices = askPrices;
+    this.askAmounts = askAmounts;
+  }
+
+  static VenueBook of(String venue, long sequence, OrderBook book, int depth) {
+    List<LimitOrder> bids = book.getBids();
+    List<LimitOrder> asks = book.getAsks();
+    int bidCount = Math.min(depth, bids.size());
+    int askCount = Math.min(depth, asks.size());
+    BigDecimal[] bidPrices = new BigDecimal[bidCount];
+    BigDecimal[] bidAmounts = new BigDecimal[bidCount];
+    BigDecimal[] askPrices = new BigDecimal[askCount];
+    BigDecimal[] askAmounts = new BigDecimal[askCount];
+    for (int i = 0; i < bidCount; i++) {
+      LimitOrder level = bids.get(i);
+      bidPrices[i] = level.getLimitPrice();
+      bidAmounts[i] = level.getOriginalAmount();
+    }
+    for (int i = 0; i < askCount; i++) {
+      LimitOrder level = asks.get(i);
+      askPrices[i] = level.getLimitPrice();
+      askAmounts[i] = level.getOriginalAmount();
+    }
+    return new VenueBook(
+        venue, sequence, book.getTimeStamp(), bidPrices, bidAmounts, askPrices, askAmounts);
+  }
+
+  VenueLevel bestBid() {
+    return bidPrices.length == 0 ? null : new VenueLevel(venue, bidPrices[0], bidAmounts[0]);
+  }
+
+  VenueLevel bestAsk() {
+    return askPrices.length == 0 ? null : new VenueLevel(venue, askPrices[0], askAmounts[0]);
+  }
+}
@@ -0,0 +1,34 @@
+package info.bitrich.xchangestream.consolidated;
+
+import java.math.BigDecimal;
+
+/** A price level of the consolidated book, tagged with the venue quoting it. */
+public final class VenueLevel {
+
+  private final String venue;
+  private final BigDecimal price;
+  private final BigDecimal amount;
+
+  public VenueLevel(String venue, BigDecimal price, BigDecimal amount) {
+    this.venue = venue;
+    this.price = price;
+    this.amount = amount;
+  }
+
+  public String getVenue() {
+    return venue;
+  }
+
+  public BigDecimal getPrice() {
+    return price;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  @Override
+  public String toString() {
+    return "VenueLevel [venue=" + venue + ", price=" + price + ", amount=" + amount + "]";
+  }
+}
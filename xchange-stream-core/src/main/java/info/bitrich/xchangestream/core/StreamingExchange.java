@@ -1,11 +1,13 @@
 package info.bitrich.xchangestream.core;
 
 import info.bitrich.xchangestream.service.ConnectableService;
+import info.bitrich.xchangestream.service.metrics.StreamingMetrics;
 import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
 import info.bitrich.xchangestream.service.netty.NettyStreamingService;
 import io.netty.channel.ChannelHandlerContext;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import java.time.Duration;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
@@ -18,6 +20,12 @@ public interface StreamingExchange extends Exchange {
   String SOCKS_PROXY_PORT = "SOCKS_Proxy_Port";
   String AUTO_RECONNECT = "Auto_Reconnect";
   String L3_ORDERBOOK = "L3_Orderbook";
+  /** Maximum number of subscribe messages per second sent when resubscribing after a reconnect. */
+  String SUBSCRIBE_RATE_LIMIT = "Subscribe_Rate_Limit";
+  /** {@link StreamingMetrics} receiving the per-stage latencies of every message. */
+  String STREAMING_METRICS = "Streaming_Metrics";
+  /** URI of the public WebSocket API replacing the exchange's, e.g. of a local simulator. */
+  String WEBSOCKET_API_URI = "Websocket_Api_Uri";
 
   /**
    * Connects to the WebSocket API of the exchange.
@@ -91,6 +99,16 @@ public interface StreamingExchange extends Exchange {
     throw new NotYetImplementedForExchangeException("messageDelay");
   }
 
+  /**
+   * Flowable for reconnection duration. Every time the connection is reestablished after having
+   * been lost, the time it was down is pushed to subscribers.
+   *
+   * @return Flowable with the reconnection durations.
+   */
+  default Flowable<Duration> reconnectDuration() {
+    throw new NotYetImplementedForExchangeException("reconnectDuration");
+  }
+
   default void resubscribeChannels() {
     throw new NotYetImplementedForExchangeException("resubscribeChannels");
   }
@@ -144,5 +162,10 @@ public interface StreamingExchange extends Exchange {
     Boolean autoReconnect =
         (Boolean) exchangeSpec.getExchangeSpecificParametersItem(AUTO_RECONNECT);
     if (autoReconnect != null) streamingService.setAutoReconnect(autoReconnect);
+    Integer subscribeRateLimit =
+        (Integer) exchangeSpec.getExchangeSpecificParametersItem(SUBSCRIBE_RATE_LIMIT);
+    if (subscribeRateLimit != null) streamingService.setSubscribeRateLimit(subscribeRateLimit);
+    streamingService.setMetrics(
+        (StreamingMetrics) exchangeSpec.getExchangeSpecificParametersItem(STREAMING_METRICS));
   }
 }
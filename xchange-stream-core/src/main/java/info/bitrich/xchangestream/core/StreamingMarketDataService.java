@@ -1,7 +1,9 @@
 package info.bitrich.xchangestream.core;
 
+import info.bitrich.xchangestream.util.CandleStickAggregator;
 import io.reactivex.rxjava3.core.Flowable;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.CandleStick;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -46,4 +48,20 @@ public interface StreamingMarketDataService {
    * @return {@link Flowable} that emits {@link Trade} when exchange sends the update.
    */
   Flowable<Trade> getTrades(CurrencyPair currencyPair, Object... args);
+
+  /**
+   * Get the candles of a currency pair, aggregated locally from {@link #getTrades}. The candle in
+   * progress is emitted after each of its trades. Candles are only as complete as the trade stream,
+   * candles closed before the subscription are not emitted.
+   *
+   * @param currencyPair Currency pair of the candles
+   * @param periodInSecs Length of a candle in seconds
+   * @param args Arguments passed to {@link #getTrades}
+   * @return {@link Flowable} that emits {@link CandleStick} when a trade updates it.
+   * @see CandleStickAggregator#closedCandles
+   */
+  default Flowable<CandleStick> getCandleSticks(
+      CurrencyPair currencyPair, long periodInSecs, Object... args) {
+    return CandleStickAggregator.candles(getTrades(currencyPair, args), periodInSecs);
+  }
 }
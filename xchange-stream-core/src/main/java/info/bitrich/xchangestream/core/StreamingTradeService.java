@@ -1,8 +1,11 @@
 package info.bitrich.xchangestream.core;
 
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.exceptions.ExchangeSecurityException;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
@@ -57,4 +60,52 @@ public interface StreamingTradeService {
   default Flowable<UserTrade> getUserTrades(CurrencyPair currencyPair, Object... args) {
     throw new NotYetImplementedForExchangeException("getUserTrades");
   }
+
+  /**
+   * Places a limit order over the authenticated WebSocket connection, avoiding the overhead of a
+   * REST request. The order's user reference, if any, is sent as the client order id.
+   *
+   * <p>The request is sent on subscription. The {@link Single} emits the id of the order once the
+   * exchange acknowledges it. It fails with an {@link
+   * org.knowm.xchange.exceptions.ExchangeException} if the exchange rejects the order, or with a
+   * {@link java.util.concurrent.TimeoutException} if no acknowledgement is received. Use {@link
+   * Single#toCompletionStage()} to get a future.
+   *
+   * @return {@link Single} that emits the id of the order when acknowledged.
+   */
+  default Single<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    throw new NotYetImplementedForExchangeException("placeLimitOrderAsync");
+  }
+
+  /**
+   * Places a market order over the authenticated WebSocket connection.
+   *
+   * @return {@link Single} that emits the id of the order when acknowledged.
+   * @see #placeLimitOrderAsync(LimitOrder)
+   */
+  default Single<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    throw new NotYetImplementedForExchangeException("placeMarketOrderAsync");
+  }
+
+  /**
+   * Cancels an order over the authenticated WebSocket connection.
+   *
+   * @return {@link Single} that emits true when the exchange acknowledges the cancellation.
+   * @see #placeLimitOrderAsync(LimitOrder)
+   */
+  default Single<Boolean> cancelOrderAsync(String orderId) {
+    throw new NotYetImplementedForExchangeException("cancelOrderAsync");
+  }
+
+  /**
+   * Amends the price and amount of an open limit order, identified by its id, over the
+   * authenticated WebSocket connection.
+   *
+   * @return {@link Single} that emits the id of the amended order when acknowledged, which is a new
+   *     id on exchanges that replace the order.
+   * @see #placeLimitOrderAsync(LimitOrder)
+   */
+  default Single<String> changeOrderAsync(LimitOrder limitOrder) {
+    throw new NotYetImplementedForExchangeException("changeOrderAsync");
+  }
 }
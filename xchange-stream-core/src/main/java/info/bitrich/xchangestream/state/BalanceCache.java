@@ -0,0 +1,317 @@
+package info.bitrich.xchangestream.state;
+
+import info.bitrich.xchangestream.core.StreamingAccountService;
+import info.bitrich.xchangestream.core.StreamingExchange;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.account.Wallet;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.account.AccountService;
+
+/**
+ * Keeps the balances of a wallet in memory from one snapshot of {@link
+ * AccountService#getAccountInfo()} and the streamed {@link
+ * StreamingAccountService#getBalanceChanges balance changes}, so pre-trade checks don't need a REST
+ * call. Reading a balance is a single concurrent map lookup, the available amount being computed
+ * when the balance changes.
+ *
+ * <p>Funds can be {@link #reserve reserved} for orders in flight, and are subtracted from the
+ * available amount until the reservation is released, typically once the order is acknowledged and
+ * the venue's balance reflects it.
+ *
+ * <p>Fills, when given, adjust the balances of their currencies until the next balance change of
+ * the venue: the amount received is added to the total and the available amount, the amount spent
+ * and the fee are subtracted from the total. Each fill is applied once by trade id, and not to the
+ * balance of a currency that is as recent as the fill, which already includes it. Balance changes
+ * and fills without a timestamp can't be ordered, so such a fill is applied to any balance.
+ *
+ * <p>Changes older than the current balance are dropped, and a new snapshot is taken when the
+ * resync triggers emit, e.g. on reconnect. Fills received while a snapshot is in flight are
+ * dropped, as the snapshot may already include them.
+ */
+public final class BalanceCache extends SnapshotSyncedState<Wallet> {
+
+  /** The number of applied trade ids remembered, to drop duplicate fills. */
+  private static final int TRADE_IDS_CAPACITY = 10_000;
+
+  private final Flowable<Balance> balanceChanges;
+  private final Flowable<UserTrade> fills;
+
+  private final Map<Currency, Entry> entries = new ConcurrentHashMap<>();
+
+  // The state below is only accessed by the single writer.
+  private final RecentIds appliedTradeIds = new RecentIds(TRADE_IDS_CAPACITY);
+
+  /**
+   * @param snapshot Returns the wallet, e.g. {@code () ->
+   *     accountService.getAccountInfo().getWallet()}
+   * @param balanceChanges The streamed balances, each replacing the balance of its currency
+   * @param fills The streamed fills applied to the balances, or {@link Flowable#empty()}
+   * @param resyncTriggers Takes a new snapshot whenever it emits, e.g. on reconnect
+   */
+  public BalanceCache(
+      Callable<Wallet> snapshot,
+      Flowable<Balance> balanceChanges,
+      Flowable<UserTrade> fills,
+      Flowable<?> resyncTriggers) {
+    this(snapshot, balanceChanges, fills, resyncTriggers, Schedulers.io());
+  }
+
+  BalanceCache(
+      Callable<Wallet> snapshot,
+      Flowable<Balance> balanceChanges,
+      Flowable<UserTrade> fills,
+      Flowable<?> resyncTriggers,
+      Scheduler scheduler) {
+    super(snapshot, resyncTriggers, scheduler);
+    this.balanceChanges = balanceChanges;
+    this.fills = fills;
+  }
+
+  /**
+   * Tracks the balances of the currencies with the account services of the exchange, taking a new
+   * snapshot on every reconnect.
+   */
+  public static BalanceCache of(StreamingExchange exchange, Collection<Currency> currencies) {
+    AccountService accountService = exchange.getAccountService();
+    StreamingAccountService streamingAccountService = exchange.getStreamingAccountService();
+    List<Flowable<Balance>> balanceChanges = new ArrayList<>();
+    for (Currency currency : currencies) {
+      balanceChanges.add(streamingAccountService.getBalanceChanges(currency));
+    }
+    Flowable<?> reconnects;
+    try {
+      reconnects = exchange.connectionSuccess();
+    } catch (NotYetImplementedForExchangeException e) {
+      reconnects = Flowable.never();
+    }
+    return new BalanceCache(
+        () -> accountService.getAccountInfo().getWallet(),
+        Flowable.merge(balanceChanges),
+        Flowable.empty(),
+        reconnects);
+  }
+
+  /** Takes the first snapshot and starts applying the streamed changes. */
+  public BalanceCache start() {
+    startSync();
+    return this;
+  }
+
+  /** @return The amount available minus the reservations, zero if the currency is unknown. */
+  public BigDecimal getAvailable(Currency currency) {
+    Entry entry = entries.get(currency);
+    return entry == null ? BigDecimal.ZERO : entry.available;
+  }
+
+  /** @return The balance as last received or adjusted by fills, or null if unknown. */
+  public Balance getBalance(Currency currency) {
+    Entry entry = entries.get(currency);
+    return entry == null ? null : entry.balance;
+  }
+
+  /** @return The sum of the reservations of the currency. */
+  public BigDecimal getReserved(Currency currency) {
+    Entry entry = entries.get(currency);
+    return entry == null ? BigDecimal.ZERO : entry.reserved;
+  }
+
+  /**
+   * Atomically reserves an amount if it is available.
+   *
+   * @return The reservation, or null if less than the amount is available
+   */
+  public Reservation reserve(Currency currency, BigDecimal amount) {
+    if (amount.signum() <= 0) {
+      throw new IllegalArgumentException("The amount must be positive: " + amount);
+    }
+    AtomicBoolean reserved = new AtomicBoolean();
+    entries.computeIfPresent(
+        currency,
+        (key, entry) -> {
+          if (entry.available.compareTo(amount) < 0) {
+            return entry;
+          }
+          reserved.set(true);
+          return new Entry(entry.balance, entry.reserved.add(amount));
+        });
+    return reserved.get() ? new Reservation(currency, amount) : null;
+  }
+
+  @Override
+  Flowable<?> events() {
+    return Flowable.merge(balanceChanges, fills);
+  }
+
+  @Override
+  void onSnapshot(Wallet wallet) {
+    for (Currency currency : entries.keySet()) {
+      if (!wallet.getBalances().containsKey(currency)) {
+        entries.computeIfPresent(
+            currency, (key, entry) -> new Entry(Balance.zero(currency), entry.reserved));
+      }
+    }
+    for (Balance balance : wallet.getBalances().values()) {
+      setBalance(balance);
+    }
+  }
+
+  @Override
+  boolean accept(Object event) {
+    return isSynced() || !(event instanceof UserTrade);
+  }
+
+  @Override
+  void onEvent(Object event) {
+    if (event instanceof Balance) {
+      applyBalance((Balance) event);
+    } else if (event instanceof UserTrade) {
+      applyFill((UserTrade) event);
+    }
+  }
+
+  private void applyBalance(Balance balance) {
+    Entry entry = entries.get(balance.getCurrency());
+    if (entry != null
+        && balance.getTimestamp() != null
+        && entry.balance.getTimestamp() != null
+        && balance.getTimestamp().before(entry.balance.getTimestamp())) {
+      return;
+    }
+    setBalance(balance);
+  }
+
+  private void applyFill(UserTrade trade) {
+    if (!(trade.getInstrument() instanceof CurrencyPair)
+        || (trade.getId() != null && !appliedTradeIds.add(trade.getId()))) {
+      return;
+    }
+    CurrencyPair pair = (CurrencyPair) trade.getInstrument();
+    BigDecimal amount = trade.getOriginalAmount();
+    BigDecimal counterAmount = amount.multiply(trade.getPrice());
+    boolean buy = trade.getType() == OrderType.BID || trade.getType() == OrderType.EXIT_ASK;
+    if (buy) {
+      receive(pair.base, amount, trade);
+      spend(pair.counter, counterAmount, trade);
+    } else {
+      spend(pair.base, amount, trade);
+      receive(pair.counter, counterAmount, trade);
+    }
+    if (trade.getFeeAmount() != null && trade.getFeeCurrency() != null) {
+      spend(trade.getFeeCurrency(), trade.getFeeAmount(), trade);
+    }
+  }
+
+  /** @return true if the balance is at least as recent as the fill, so it already includes it. */
+  private static boolean includes(Balance balance, UserTrade trade) {
+    return balance.getTimestamp() != null
+        && trade.getTimestamp() != null
+        && !balance.getTimestamp().before(trade.getTimestamp());
+  }
+
+  private void receive(Currency currency, BigDecimal amount, UserTrade trade) {
+    Balance balance = getBalance(currency);
+    if (balance == null) {
+      balance = Balance.zero(currency);
+    } else if (includes(balance, trade)) {
+      return;
+    }
+    setBalance(
+        Balance.Builder.from(balance)
+            .total(balance.getTotal().add(amount))
+            .available(balance.getAvailable().add(amount))
+            .build());
+  }
+
+  /**
+   * The funds spent were frozen by the order, so the total and frozen amounts go down, and the
+   * available amount only if it exceeds the new total.
+   */
+  private void spend(Currency currency, BigDecimal amount, UserTrade trade) {
+    Balance balance = getBalance(currency);
+    if (balance == null || includes(balance, trade)) {
+      return;
+    }
+    BigDecimal total = balance.getTotal().subtract(amount);
+    BigDecimal available = balance.getAvailable().min(total);
+    setBalance(
+        Balance.Builder.from(balance)
+            .total(total)
+            .available(available)
+            .frozen(
+                balance
+                    .getFrozen()
+                    .subtract(amount)
+                    .add(balance.getAvailable().subtract(available)))
+            .build());
+  }
+
+  private void setBalance(Balance balance) {
+    entries.merge(
+        balance.getCurrency(),
+        new Entry(balance, BigDecimal.ZERO),
+        (entry, update) -> new Entry(balance, entry.reserved));
+  }
+
+  private void release(Currency currency, BigDecimal amount) {
+    entries.computeIfPresent(
+        currency, (key, entry) -> new Entry(entry.balance, entry.reserved.subtract(amount)));
+  }
+
+  /** Funds reserved for an order in flight. */
+  public final class Reservation {
+
+    private final Currency currency;
+    private final BigDecimal amount;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Reservation(Currency currency, BigDecimal amount) {
+      this.currency = currency;
+      this.amount = amount;
+    }
+
+    public Currency getCurrency() {
+      return currency;
+    }
+
+    public BigDecimal getAmount() {
+      return amount;
+    }
+
+    /** Makes the amount available again, only the first call has an effect. */
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        BalanceCache.this.release(currency, amount);
+      }
+    }
+  }
+
+  private static final class Entry {
+
+    private final Balance balance;
+    private final BigDecimal reserved;
+    private final BigDecimal available;
+
+    private Entry(Balance balance, BigDecimal reserved) {
+      this.balance = balance;
+      this.reserved = reserved;
+      BigDecimal venueAvailable =
+          balance.getAvailable() == null ? BigDecimal.ZERO : balance.getAvailable();
+      this.available = venueAvailable.subtract(reserved);
+    }
+  }
+}
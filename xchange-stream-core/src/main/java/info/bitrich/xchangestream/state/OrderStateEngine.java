@@ -0,0 +1,345 @@
+package info.bitrich.xchangestream.state;
+
+import info.bitrich.xchangestream.core.StreamingExchange;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderStatus;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParamCurrencyPair;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the open orders of the user in memory from one snapshot of {@link
+ * TradeService#getOpenOrders()} and the streamed {@link
+ * info.bitrich.xchangestream.core.StreamingTradeService#getOrderChanges order changes} and {@link
+ * info.bitrich.xchangestream.core.StreamingTradeService#getUserTrades fills}, so order status
+ * queries don't need a REST call.
+ *
+ * <p>All events are applied by a single writer, while the queries read concurrent maps, so lookups
+ * by order id or user reference are O(1) and never block. A snapshot is built aside and swapped in
+ * whole, so queries never see a half applied snapshot. The snapshot is taken again when a
+ * resync trigger emits, e.g. on reconnect, or when the optional sequence function detects a gap in
+ * the order changes. Changes received while a snapshot is in flight are applied on top of it once
+ * it arrives; changes that would move an order backwards, to a lower cumulative amount or out of a
+ * final status, are dropped.
+ *
+ * <p>The orders returned are immutable snapshots of the state and must not be modified.
+ */
+public final class OrderStateEngine extends SnapshotSyncedState<Collection<? extends Order>> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OrderStateEngine.class);
+
+  /** The number of closed order ids remembered, to drop late changes of closed orders. */
+  private static final int CLOSED_ORDERS_CAPACITY = 10_000;
+
+  private final Flowable<Order> orderChanges;
+  private final Flowable<UserTrade> userTrades;
+  private final ToLongFunction<Order> sequence;
+
+  private volatile OpenOrders open = new OpenOrders();
+
+  // The state below is only accessed by the single writer.
+  private final Map<String, Fills> fillsByOrderId = new HashMap<>();
+  private final RecentIds closedOrderIds = new RecentIds(CLOSED_ORDERS_CAPACITY);
+  private long lastSequence = -1;
+
+  /**
+   * @param snapshot Returns the open orders, e.g. {@code () ->
+   *     tradeService.getOpenOrders().getAllOpenOrders()}
+   * @param orderChanges The streamed order changes
+   * @param userTrades The streamed fills, applied to the cumulative amount of their order
+   * @param resyncTriggers Takes a new snapshot whenever it emits, e.g. on reconnect
+   */
+  public OrderStateEngine(
+      Callable<? extends Collection<? extends Order>> snapshot,
+      Flowable<Order> orderChanges,
+      Flowable<UserTrade> userTrades,
+      Flowable<?> resyncTriggers) {
+    this(snapshot, orderChanges, userTrades, resyncTriggers, null, Schedulers.io());
+  }
+
+  /**
+   * @param sequence Returns the venue sequence number of an order change, or a negative value if
+   *     it has none. A change skipping a sequence number triggers a new snapshot, a change with a
+   *     sequence number already seen is dropped.
+   */
+  public OrderStateEngine(
+      Callable<? extends Collection<? extends Order>> snapshot,
+      Flowable<Order> orderChanges,
+      Flowable<UserTrade> userTrades,
+      Flowable<?> resyncTriggers,
+      ToLongFunction<Order> sequence) {
+    this(snapshot, orderChanges, userTrades, resyncTriggers, sequence, Schedulers.io());
+  }
+
+  OrderStateEngine(
+      Callable<? extends Collection<? extends Order>> snapshot,
+      Flowable<Order> orderChanges,
+      Flowable<UserTrade> userTrades,
+      Flowable<?> resyncTriggers,
+      ToLongFunction<Order> sequence,
+      Scheduler scheduler) {
+    super(snapshot, resyncTriggers, scheduler);
+    this.orderChanges = orderChanges;
+    this.userTrades = userTrades;
+    this.sequence = sequence;
+  }
+
+  /**
+   * Tracks the orders of a currency pair with the trade services of the exchange, taking a new
+   * snapshot on every reconnect.
+   */
+  public static OrderStateEngine of(StreamingExchange exchange, CurrencyPair currencyPair) {
+    TradeService tradeService = exchange.getTradeService();
+    OpenOrdersParams params = tradeService.createOpenOrdersParams();
+    if (params instanceof OpenOrdersParamCurrencyPair) {
+      ((OpenOrdersParamCurrencyPair) params).setCurrencyPair(currencyPair);
+    }
+    Flowable<?> reconnects;
+    try {
+      reconnects = exchange.connectionSuccess();
+    } catch (NotYetImplementedForExchangeException e) {
+      reconnects = Flowable.never();
+    }
+    return new OrderStateEngine(
+        () -> {
+          List<Order> orders = new ArrayList<>();
+          for (Order order : tradeService.getOpenOrders(params).getAllOpenOrders()) {
+            if (currencyPair.equals(order.getInstrument())) {
+              orders.add(order);
+            }
+          }
+          return orders;
+        },
+        exchange.getStreamingTradeService().getOrderChanges(currencyPair),
+        exchange.getStreamingTradeService().getUserTrades(currencyPair),
+        reconnects);
+  }
+
+  /** Takes the first snapshot and starts applying the streamed changes. */
+  public OrderStateEngine start() {
+    startSync();
+    return this;
+  }
+
+  /** @return The open order, or null if it isn't open or unknown. */
+  public Order getOrder(String orderId) {
+    return open.ordersById.get(orderId);
+  }
+
+  /** @return The open order with the user reference (client order id), or null. */
+  public Order getOrderByUserReference(String userReference) {
+    OpenOrders current = open;
+    String orderId = current.idsByUserReference.get(userReference);
+    return orderId == null ? null : current.ordersById.get(orderId);
+  }
+
+  /**
+   * @return An unmodifiable view of the open orders, live until the next snapshot replaces them.
+   */
+  public Collection<Order> getOpenOrders() {
+    return Collections.unmodifiableCollection(open.ordersById.values());
+  }
+
+  @Override
+  Flowable<?> events() {
+    return Flowable.merge(orderChanges, userTrades);
+  }
+
+  @Override
+  boolean accept(Object event) {
+    return !(event instanceof Order) || checkSequence((Order) event);
+  }
+
+  @Override
+  void onEvent(Object event) {
+    if (event instanceof Order) {
+      applyOrder(open, (Order) event);
+    } else if (event instanceof UserTrade) {
+      applyFill((UserTrade) event);
+    }
+  }
+
+  /** @return false if the change is a duplicate */
+  private boolean checkSequence(Order order) {
+    if (sequence == null) {
+      return true;
+    }
+    long current = sequence.applyAsLong(order);
+    if (current < 0) {
+      return true;
+    }
+    if (lastSequence >= 0) {
+      if (current <= lastSequence) {
+        return false;
+      }
+      if (current > lastSequence + 1) {
+        LOG.warn("Order changes skipped from {} to {}, resyncing", lastSequence, current);
+        requestSnapshot();
+      }
+    }
+    lastSequence = current;
+    return true;
+  }
+
+  @Override
+  void onSnapshotRequested() {
+    // the sequence may restart, e.g. on a new connection
+    lastSequence = -1;
+  }
+
+  @Override
+  void onSnapshot(Collection<? extends Order> orders) {
+    OpenOrders snapshot = new OpenOrders();
+    for (Order order : orders) {
+      closedOrderIds.remove(order.getId());
+      applyOrder(snapshot, order);
+    }
+    open = snapshot;
+    fillsByOrderId.keySet().retainAll(snapshot.ordersById.keySet());
+  }
+
+  private void applyOrder(OpenOrders state, Order order) {
+    String id = order.getId();
+    if (id == null || closedOrderIds.contains(id)) {
+      return;
+    }
+    Order existing = state.ordersById.get(id);
+    if (existing != null && isBehind(order, existing)) {
+      return;
+    }
+    Fills fills = fillsByOrderId.get(id);
+    if ((order.getStatus() != null && !order.getStatus().isOpen())
+        || (fills != null && isFilled(order, fills.amount))) {
+      close(state, id, existing == null ? order : existing);
+      return;
+    }
+    if (fills != null) {
+      order = withCumulativeAmount(order, fills.amount);
+    }
+    if (order.getUserReference() != null) {
+      state.idsByUserReference.put(order.getUserReference(), id);
+    } else if (existing != null && existing.getUserReference() != null) {
+      order = withUserReference(order, existing.getUserReference());
+    }
+    state.ordersById.put(id, order);
+  }
+
+  private void applyFill(UserTrade trade) {
+    String id = trade.getOrderId();
+    if (id == null || closedOrderIds.contains(id)) {
+      return;
+    }
+    Fills fills = fillsByOrderId.computeIfAbsent(id, orderId -> new Fills());
+    if (trade.getId() != null && !fills.tradeIds.add(trade.getId())) {
+      return;
+    }
+    fills.amount = fills.amount.add(trade.getOriginalAmount());
+    OpenOrders current = open;
+    Order existing = current.ordersById.get(id);
+    if (existing == null) {
+      // the fill was received before the order, it's applied when the order arrives
+      return;
+    }
+    if (isFilled(existing, fills.amount)) {
+      close(current, id, existing);
+    } else {
+      current.ordersById.put(id, withCumulativeAmount(existing, fills.amount));
+    }
+  }
+
+  private void close(OpenOrders state, String id, Order order) {
+    state.ordersById.remove(id);
+    if (order.getUserReference() != null) {
+      state.idsByUserReference.remove(order.getUserReference(), id);
+    }
+    fillsByOrderId.remove(id);
+    closedOrderIds.add(id);
+  }
+
+  /** @return true if the change is older than the current state of the order. */
+  private static boolean isBehind(Order change, Order current) {
+    BigDecimal changeAmount = change.getCumulativeAmount();
+    BigDecimal currentAmount = current.getCumulativeAmount();
+    if (changeAmount != null
+        && currentAmount != null
+        && changeAmount.compareTo(currentAmount) < 0) {
+      return true;
+    }
+    return change.getTimestamp() != null
+        && current.getTimestamp() != null
+        && change.getTimestamp().before(current.getTimestamp());
+  }
+
+  private static boolean isFilled(Order order, BigDecimal filled) {
+    return order.getOriginalAmount() != null && filled.compareTo(order.getOriginalAmount()) >= 0;
+  }
+
+  /** Raises the cumulative amount of a limit order to the amount filled. */
+  private static Order withCumulativeAmount(Order order, BigDecimal filled) {
+    BigDecimal cumulative = order.getCumulativeAmount();
+    if (!(order instanceof LimitOrder)
+        || (cumulative != null && cumulative.compareTo(filled) >= 0)) {
+      return order;
+    }
+    return copy((LimitOrder) order, filled, OrderStatus.PARTIALLY_FILLED, order.getUserReference());
+  }
+
+  private static Order withUserReference(Order order, String userReference) {
+    if (!(order instanceof LimitOrder)) {
+      return order;
+    }
+    return copy(
+        (LimitOrder) order, order.getCumulativeAmount(), order.getStatus(), userReference);
+  }
+
+  private static LimitOrder copy(
+      LimitOrder order, BigDecimal cumulativeAmount, OrderStatus status, String userReference) {
+    return (LimitOrder)
+        new LimitOrder.Builder(order.getType(), order.getInstrument())
+            .id(order.getId())
+            .userReference(userReference)
+            .originalAmount(order.getOriginalAmount())
+            .cumulativeAmount(cumulativeAmount)
+            .limitPrice(order.getLimitPrice())
+            .averagePrice(order.getAveragePrice())
+            .fee(order.getFee())
+            .flags(order.getOrderFlags())
+            .leverage(order.getLeverage())
+            .timestamp(order.getTimestamp())
+            .orderStatus(status)
+            .build();
+  }
+
+  private static final class OpenOrders {
+
+    private final Map<String, Order> ordersById = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByUserReference = new ConcurrentHashMap<>();
+  }
+
+  private static final class Fills {
+
+    private final Set<String> tradeIds = new HashSet<>();
+    private BigDecimal amount = BigDecimal.ZERO;
+  }
+}
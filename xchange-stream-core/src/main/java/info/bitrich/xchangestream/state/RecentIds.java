@@ -0,0 +1,36 @@
+package info.bitrich.xchangestream.state;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The most recently added ids, up to a capacity, e.g. to drop duplicate or late events with bounded
+ * memory. Not thread safe, it is only used by the single writer of a {@link SnapshotSyncedState}.
+ */
+final class RecentIds {
+
+  private final Map<String, Boolean> ids;
+
+  RecentIds(int capacity) {
+    ids =
+        new LinkedHashMap<String, Boolean>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  /** @return false if the id is already known */
+  boolean add(String id) {
+    return ids.put(id, Boolean.TRUE) == null;
+  }
+
+  boolean contains(String id) {
+    return ids.containsKey(id);
+  }
+
+  void remove(String id) {
+    ids.remove(id);
+  }
+}
@@ -0,0 +1,202 @@
+package info.bitrich.xchangestream.state;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.processors.FlowableProcessor;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * State built from a REST snapshot and kept up to date by streamed events. The snapshot and the
+ * events are handed to the subclass by a single writer, so it needs no locking to update its state;
+ * the snapshot is taken on the scheduler and delivered in order with the events.
+ *
+ * <p>A new snapshot is taken on {@link #resync()}, when the resync triggers emit, or when the
+ * subclass detects a gap. A snapshot that fails is retried, and one that is superseded by a later
+ * request is ignored. Events received while a snapshot is in flight are kept and applied on top of
+ * it once it arrives, unless the subclass doesn't {@link #accept} them.
+ *
+ * @param <S> The type of the snapshot
+ */
+abstract class SnapshotSyncedState<S> implements Disposable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotSyncedState.class);
+
+  private static final long RETRY_DELAY_MILLIS = 1000;
+
+  /**
+   * The number of events kept while a snapshot is in flight, beyond which they are dropped and a
+   * new snapshot is requested, so failing snapshots don't keep the events of an active stream.
+   */
+  static final int MAX_PENDING_EVENTS = 10_000;
+
+  private static final Object RESYNC = new Object();
+
+  private final Callable<? extends S> snapshot;
+  private final Flowable<?> resyncTriggers;
+  private final Scheduler scheduler;
+  private final FlowableProcessor<Object> internalEvents =
+      PublishProcessor.create().toSerialized();
+
+  // The state below is only accessed by the single writer.
+  private final List<Object> pending = new ArrayList<>();
+  private long snapshotGeneration;
+
+  private volatile boolean synced;
+  private volatile long resyncCount;
+  private volatile Disposable subscription;
+
+  SnapshotSyncedState(
+      Callable<? extends S> snapshot, Flowable<?> resyncTriggers, Scheduler scheduler) {
+    this.snapshot = snapshot;
+    this.resyncTriggers = resyncTriggers;
+    this.scheduler = scheduler;
+  }
+
+  /** @return The streamed events passed to {@link #onEvent}. */
+  abstract Flowable<?> events();
+
+  /** Replaces the state with a snapshot, called by the writer. */
+  abstract void onSnapshot(S snapshot);
+
+  /** Called by the writer whenever a new snapshot is requested, before it is taken. */
+  void onSnapshotRequested() {}
+
+  /**
+   * Applies a streamed event, called by the writer once synced, first for the events kept while
+   * the snapshot was in flight.
+   */
+  abstract void onEvent(Object event);
+
+  /**
+   * Called by the writer for every streamed event as it is received, before it is applied or kept
+   * until the snapshot arrives.
+   *
+   * @return false to drop the event, true by default
+   */
+  boolean accept(Object event) {
+    return true;
+  }
+
+  /** Subscribes to the events and takes the first snapshot. */
+  final synchronized void startSync() {
+    if (subscription != null) {
+      throw new IllegalStateException("Already started");
+    }
+    subscription =
+        Flowable.merge(internalEvents, events(), resyncTriggers.map(trigger -> RESYNC))
+            .subscribe(
+                this::dispatch, e -> LOG.error("{} stopped", getClass().getSimpleName(), e));
+    resync();
+  }
+
+  /** Takes a new snapshot, keeping the current state until it arrives. */
+  public void resync() {
+    internalEvents.onNext(RESYNC);
+  }
+
+  /** @return false until the first snapshot is applied, and while a resync is in flight. */
+  public boolean isSynced() {
+    return synced;
+  }
+
+  /** @return The number of snapshots requested. */
+  public long getResyncCount() {
+    return resyncCount;
+  }
+
+  @Override
+  public void dispose() {
+    Disposable current = subscription;
+    if (current != null) {
+      current.dispose();
+    }
+    synced = false;
+  }
+
+  @Override
+  public boolean isDisposed() {
+    Disposable current = subscription;
+    return current != null && current.isDisposed();
+  }
+
+  /** Requests a new snapshot from the writer, superseding any snapshot in flight. */
+  final void requestSnapshot() {
+    synced = false;
+    resyncCount++;
+    long generation = ++snapshotGeneration;
+    onSnapshotRequested();
+    Single.<S>fromCallable(snapshot)
+        .subscribeOn(scheduler)
+        .subscribe(
+            result -> internalEvents.onNext(new SnapshotResult<>(generation, result)),
+            e -> {
+              LOG.warn("{} snapshot failed, retrying", getClass().getSimpleName(), e);
+              scheduler.scheduleDirect(
+                  () -> internalEvents.onNext(new RetryRequest(generation)),
+                  RETRY_DELAY_MILLIS,
+                  TimeUnit.MILLISECONDS);
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private void dispatch(Object event) {
+    if (event == RESYNC) {
+      requestSnapshot();
+    } else if (event instanceof RetryRequest) {
+      if (((RetryRequest) event).generation == snapshotGeneration) {
+        requestSnapshot();
+      }
+    } else if (event instanceof SnapshotResult) {
+      SnapshotResult<S> result = (SnapshotResult<S>) event;
+      if (result.generation == snapshotGeneration) {
+        onSnapshot(result.snapshot);
+        synced = true;
+        for (Object kept : pending) {
+          onEvent(kept);
+        }
+        pending.clear();
+      }
+    } else if (accept(event)) {
+      if (synced) {
+        onEvent(event);
+      } else if (pending.size() < MAX_PENDING_EVENTS) {
+        pending.add(event);
+      } else {
+        LOG.warn(
+            "{} kept {} events waiting for the snapshot, resyncing",
+            getClass().getSimpleName(),
+            pending.size());
+        pending.clear();
+        requestSnapshot();
+      }
+    }
+  }
+
+  private static final class SnapshotResult<S> {
+
+    private final long generation;
+    private final S snapshot;
+
+    private SnapshotResult(long generation, S snapshot) {
+      this.generation = generation;
+      this.snapshot = snapshot;
+    }
+  }
+
+  private static final class RetryRequest {
+
+    private final long generation;
+
+    private RetryRequest(long generation) {
+      this.generation = generation;
+    }
+  }
+}
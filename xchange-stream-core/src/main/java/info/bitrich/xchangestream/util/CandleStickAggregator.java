@@ -0,0 +1,143 @@
+package info.bitrich.xchangestream.util;
+
+import io.reactivex.rxjava3.core.Flowable;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Collections;
+import java.util.Date;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+/**
+ * Builds {@link CandleStick}s of a fixed period from a stream of trades of one instrument. The
+ * state of the candle in progress is a handful of fields updated in place, so the memory used per
+ * series doesn't depend on the number of trades.
+ *
+ * <p>Candles are aligned on the epoch, a trade belongs to the candle opened at {@code timestamp -
+ * timestamp % period}. Trades older than the candle in progress are dropped, periods without any
+ * trade produce no candle. Trades without a timestamp are given the current time.
+ *
+ * <p>Not thread-safe, use {@link #candles} or {@link #closedCandles} to get one aggregator per
+ * subscriber.
+ */
+public class CandleStickAggregator {
+
+  private final long periodMillis;
+
+  private long openTime = Long.MIN_VALUE;
+  private BigDecimal open;
+  private BigDecimal high;
+  private BigDecimal low;
+  private BigDecimal close;
+  private BigDecimal volume;
+  private BigDecimal quoteVolume;
+  private long tradeCount;
+
+  public CandleStickAggregator(long periodInSecs) {
+    if (periodInSecs <= 0) {
+      throw new IllegalArgumentException("The period must be positive: " + periodInSecs);
+    }
+    this.periodMillis = periodInSecs * 1000;
+  }
+
+  /**
+   * Emits the candle in progress after every trade, so a candle is emitted again with each update
+   * until the next period starts.
+   */
+  public static Flowable<CandleStick> candles(Flowable<Trade> trades, long periodInSecs) {
+    return Flowable.defer(
+        () -> {
+          CandleStickAggregator aggregator = new CandleStickAggregator(periodInSecs);
+          return trades.filter(aggregator::update).map(trade -> aggregator.current());
+        });
+  }
+
+  /**
+   * Emits each candle once, when the first trade of a later period is received. The candle in
+   * progress is not emitted when the trades complete.
+   */
+  public static Flowable<CandleStick> closedCandles(Flowable<Trade> trades, long periodInSecs) {
+    return Flowable.defer(
+        () -> {
+          CandleStickAggregator aggregator = new CandleStickAggregator(periodInSecs);
+          return trades.concatMapIterable(
+              trade -> {
+                CandleStick closed = aggregator.isClosedBy(trade) ? aggregator.current() : null;
+                aggregator.update(trade);
+                return closed == null
+                    ? Collections.<CandleStick>emptyList()
+                    : Collections.singletonList(closed);
+              });
+        });
+  }
+
+  /**
+   * Adds a trade to the candle in progress, or opens a new candle with it if it belongs to a later
+   * period.
+   *
+   * @return false if the trade was dropped because it is older than the candle in progress.
+   */
+  public boolean update(Trade trade) {
+    long timestamp = timestampOf(trade);
+    long tradeOpenTime = timestamp - Math.floorMod(timestamp, periodMillis);
+    if (tradeOpenTime < openTime) {
+      return false;
+    }
+    BigDecimal price = trade.getPrice();
+    BigDecimal amount = trade.getOriginalAmount();
+    if (tradeOpenTime > openTime) {
+      openTime = tradeOpenTime;
+      open = price;
+      high = price;
+      low = price;
+      volume = amount;
+      quoteVolume = price.multiply(amount);
+      tradeCount = 1;
+    } else {
+      if (price.compareTo(high) > 0) {
+        high = price;
+      } else if (price.compareTo(low) < 0) {
+        low = price;
+      }
+      volume = volume.add(amount);
+      quoteVolume = quoteVolume.add(price.multiply(amount));
+      tradeCount++;
+    }
+    close = price;
+    return true;
+  }
+
+  /** @return true if the trade belongs to a period after the one of the candle in progress. */
+  public boolean isClosedBy(Trade trade) {
+    if (tradeCount == 0) {
+      return false;
+    }
+    long timestamp = timestampOf(trade);
+    return timestamp - Math.floorMod(timestamp, periodMillis) > openTime;
+  }
+
+  /** @return The candle in progress, or null if no trade has been received. */
+  public CandleStick current() {
+    if (tradeCount == 0) {
+      return null;
+    }
+    return new CandleStick.Builder()
+        .open(open)
+        .high(high)
+        .low(low)
+        .close(close)
+        .volume(volume)
+        .quoteVolume(quoteVolume)
+        .vwap(
+            volume.signum() == 0 ? close : quoteVolume.divide(volume, MathContext.DECIMAL64))
+        .tradeCount(tradeCount)
+        .timestamp(new Date(openTime))
+        .build();
+  }
+
+  private static long timestampOf(Trade trade) {
+    return trade.getTimestamp() == null
+        ? System.currentTimeMillis()
+        : trade.getTimestamp().getTime();
+  }
+}
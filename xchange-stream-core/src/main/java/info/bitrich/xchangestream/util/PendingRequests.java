@@ -0,0 +1,86 @@
+package info.bitrich.xchangestream.util;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Correlates the requests sent over a socket with their asynchronous acknowledgements, e.g. by
+ * request id or client order id.
+ *
+ * @param <K> The type of the correlation key
+ * @param <T> The type of the acknowledgement
+ */
+public final class PendingRequests<K, T> {
+
+  private final Map<K, SingleSubject<T>> pending = new ConcurrentHashMap<>();
+  private final long timeout;
+  private final TimeUnit unit;
+
+  /** @param timeout The time to wait for an acknowledgement before failing the request */
+  public PendingRequests(long timeout, TimeUnit unit) {
+    this.timeout = timeout;
+    this.unit = unit;
+  }
+
+  /**
+   * Registers the key, then sends the request on subscription. The key is unregistered when the
+   * acknowledgement arrives, the request times out or the subscriber disposes it.
+   *
+   * @param send Sends the request, an exception fails the request
+   */
+  public Single<T> send(K key, Consumer<K> send) {
+    return Single.defer(
+        () -> {
+          SingleSubject<T> subject = SingleSubject.create();
+          if (pending.putIfAbsent(key, subject) != null) {
+            return Single.error(new IllegalStateException("Request already pending: " + key));
+          }
+          try {
+            send.accept(key);
+          } catch (RuntimeException e) {
+            pending.remove(key, subject);
+            return Single.error(e);
+          }
+          // unregistered before the subscriber is signalled, so that it can retry with the key
+          return subject
+              .timeout(timeout, unit)
+              .doOnTerminate(() -> pending.remove(key, subject))
+              .doOnDispose(() -> pending.remove(key, subject));
+        });
+  }
+
+  /** @return false if no request with the key is pending */
+  public boolean complete(K key, T acknowledgement) {
+    SingleSubject<T> subject = pending.remove(key);
+    if (subject == null) {
+      return false;
+    }
+    subject.onSuccess(acknowledgement);
+    return true;
+  }
+
+  /** @return false if no request with the key is pending */
+  public boolean fail(K key, Throwable error) {
+    SingleSubject<T> subject = pending.remove(key);
+    if (subject == null) {
+      return false;
+    }
+    subject.onError(error);
+    return true;
+  }
+
+  /** Fails all the pending requests, e.g. when the connection is lost. */
+  public void failAll(Throwable error) {
+    for (K key : pending.keySet()) {
+      fail(key, error);
+    }
+  }
+
+  public boolean isPending(K key) {
+    return pending.containsKey(key);
+  }
+}
@@ -0,0 +1,105 @@
+package info.bitrich.xchangestream.consolidated;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class OrderBookConsolidatorTest {
+
+  private final PublishProcessor<OrderBook> kraken = PublishProcessor.create();
+  private final PublishProcessor<OrderBook> binance = PublishProcessor.create();
+  private OrderBookConsolidator consolidator;
+
+  @Before
+  public void setUp() {
+    Map<String, Flowable<OrderBook>> books = new LinkedHashMap<>();
+    books.put("kraken", kraken);
+    books.put("binance", binance);
+    consolidator = new OrderBookConsolidator(books, 3);
+  }
+
+  @Test
+  public void testMergesTopLevels() {
+    TestSubscriber<ConsolidatedOrderBook> subscriber =
+        consolidator.getOrderBook(0, TimeUnit.MILLISECONDS).test();
+
+    kraken.onNext(book(1000, new String[] {"100", "99", "98"}, new String[] {"101", "102"}));
+    binance.onNext(book(2000, new String[] {"100", "99.5"}, new String[] {"100.5", "103"}));
+
+    subscriber.assertValueCount(2);
+    ConsolidatedOrderBook book = subscriber.values().get(1);
+    assertThat(book.getTimeStamp()).isEqualTo(new Date(2000));
+    assertThat(book.getBids())
+        .extracting(VenueLevel::getVenue)
+        .containsExactly("kraken", "binance", "binance");
+    assertThat(book.getBids())
+        .extracting(VenueLevel::getPrice)
+        .containsExactly(new BigDecimal("100"), new BigDecimal("100"), new BigDecimal("99.5"));
+    assertThat(book.getAsks())
+        .extracting(VenueLevel::getPrice)
+        .containsExactly(new BigDecimal("100.5"), new BigDecimal("101"), new BigDecimal("102"));
+    assertThat(book.getBestBidOffer().getAsk().getVenue()).isEqualTo("binance");
+    assertThat(consolidator.getSequence("kraken")).isEqualTo(1);
+  }
+
+  @Test
+  public void testBestBidOfferChanges() {
+    TestSubscriber<BestBidOffer> subscriber = consolidator.getBestBidOffers().test();
+
+    kraken.onNext(book(0, new String[] {"100"}, new String[] {"101"}));
+    // a deeper level change doesn't move the best bid and offer
+    kraken.onNext(book(0, new String[] {"100", "90"}, new String[] {"101"}));
+    binance.onNext(book(0, new String[] {"101.5"}, new String[] {"102"}));
+
+    subscriber.assertValueCount(2);
+    BestBidOffer bbo = subscriber.values().get(1);
+    assertThat(bbo.getBid().getVenue()).isEqualTo("binance");
+    assertThat(bbo.getAsk().getVenue()).isEqualTo("kraken");
+    assertThat(bbo.isCrossed()).isTrue();
+    assertThat(consolidator.getBestBidOffer()).isEqualTo(bbo);
+    assertThat(consolidator.getSequence("kraken")).isEqualTo(2);
+  }
+
+  @Test
+  public void testFailedVenueIsRemoved() {
+    TestSubscriber<BestBidOffer> subscriber = consolidator.getBestBidOffers().test();
+
+    kraken.onNext(book(0, new String[] {"100"}, new String[] {"101"}));
+    binance.onNext(book(0, new String[] {"99"}, new String[] {"100.5"}));
+    binance.onError(new IllegalStateException("disconnected"));
+    kraken.onNext(book(0, new String[] {"100"}, new String[] {"101"}));
+
+    subscriber.assertNoErrors();
+    BestBidOffer bbo = consolidator.getBestBidOffer();
+    assertThat(bbo.getAsk().getVenue()).isEqualTo("kraken");
+
+    subscriber.cancel();
+    assertThat(consolidator.getBestBidOffer().getBid()).isNull();
+  }
+
+  private static OrderBook book(long time, String[] bids, String[] asks) {
+    return new OrderBook(
+        new Date(time),
+        Arrays.stream(asks).map(price -> order(OrderType.ASK, price)),
+        Arrays.stream(bids).map(price -> order(OrderType.BID, price)));
+  }
+
+  private static LimitOrder order(OrderType type, String price) {
+    return new LimitOrder(
+        type, BigDecimal.ONE, CurrencyPair.BTC_USD, null, null, new BigDecimal(price));
+  }
+}
@@ -0,0 +1,146 @@
+package info.bitrich.xchangestream.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.account.Balance;
+import org.knowm.xchange.dto.account.Wallet;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+public class BalanceCacheTest {
+
+  private final PublishProcessor<Balance> balanceChanges = PublishProcessor.create();
+  private final PublishProcessor<UserTrade> fills = PublishProcessor.create();
+  private final PublishProcessor<Object> reconnects = PublishProcessor.create();
+  private Wallet wallet;
+  private BalanceCache cache;
+
+  @Before
+  public void setUp() {
+    wallet =
+        Wallet.Builder.from(Collections.singletonList(balance(Currency.USD, "1000", "1000", 1000)))
+            .build();
+    cache =
+        new BalanceCache(
+                () -> wallet, balanceChanges, fills, reconnects, Schedulers.trampoline())
+            .start();
+  }
+
+  @After
+  public void tearDown() {
+    cache.dispose();
+  }
+
+  @Test
+  public void testReservations() {
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("1000");
+
+    BalanceCache.Reservation reservation = cache.reserve(Currency.USD, new BigDecimal("600"));
+    assertThat(reservation).isNotNull();
+    assertThat(cache.reserve(Currency.USD, new BigDecimal("500"))).isNull();
+    assertThat(cache.reserve(Currency.BTC, BigDecimal.ONE)).isNull();
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("400");
+
+    // reservations are kept across balance changes
+    balanceChanges.onNext(balance(Currency.USD, "900", "900", 2000));
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("300");
+
+    reservation.release();
+    reservation.release();
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("900");
+    assertThat(cache.getReserved(Currency.USD)).isEqualByComparingTo("0");
+  }
+
+  @Test
+  public void testAppliesChangesAndFills() {
+    // older than the snapshot
+    balanceChanges.onNext(balance(Currency.USD, "1", "1", 500));
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("1000");
+
+    balanceChanges.onNext(balance(Currency.USD, "1000", "500", 2000));
+    UserTrade fill =
+        new UserTrade.Builder()
+            .type(OrderType.BID)
+            .originalAmount(new BigDecimal("0.01"))
+            .instrument(CurrencyPair.BTC_USD)
+            .price(new BigDecimal("40000"))
+            .id("t1")
+            .feeAmount(BigDecimal.ONE)
+            .feeCurrency(Currency.USD)
+            .build();
+    fills.onNext(fill);
+    fills.onNext(fill);
+
+    assertThat(cache.getAvailable(Currency.BTC)).isEqualByComparingTo("0.01");
+    assertThat(cache.getBalance(Currency.USD).getTotal()).isEqualByComparingTo("599");
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("500");
+    assertThat(cache.getBalance(Currency.USD).getFrozen()).isEqualByComparingTo("99");
+  }
+
+  @Test
+  public void testFillAfterTheBalanceIncludingItIsNotCountedTwice() {
+    // the venue sends the balances reflecting the fill before the fill itself
+    balanceChanges.onNext(balance(Currency.USD, "599", "500", 2000));
+    balanceChanges.onNext(balance(Currency.BTC, "0.01", "0.01", 2000));
+    fills.onNext(fill("t1", 1500));
+
+    assertThat(cache.getBalance(Currency.USD).getTotal()).isEqualByComparingTo("599");
+    assertThat(cache.getBalance(Currency.BTC).getTotal()).isEqualByComparingTo("0.01");
+
+    // a later fill is applied, once
+    fills.onNext(fill("t2", 2500));
+    fills.onNext(fill("t2", 2500));
+
+    assertThat(cache.getBalance(Currency.USD).getTotal()).isEqualByComparingTo("198");
+    assertThat(cache.getBalance(Currency.BTC).getTotal()).isEqualByComparingTo("0.02");
+  }
+
+  @Test
+  public void testResyncOnReconnect() {
+    wallet =
+        Wallet.Builder.from(
+                Arrays.asList(
+                    balance(Currency.BTC, "2", "2", 3000), balance(Currency.USD, "5", "5", 3000)))
+            .build();
+    reconnects.onNext(Boolean.TRUE);
+
+    assertThat(cache.isSynced()).isTrue();
+    assertThat(cache.getResyncCount()).isEqualTo(2);
+    assertThat(cache.getAvailable(Currency.BTC)).isEqualByComparingTo("2");
+    assertThat(cache.getAvailable(Currency.USD)).isEqualByComparingTo("5");
+  }
+
+  /** Buys 0.01 BTC at 40000 USD with a fee of 1 USD. */
+  private static UserTrade fill(String id, long time) {
+    return new UserTrade.Builder()
+        .type(OrderType.BID)
+        .originalAmount(new BigDecimal("0.01"))
+        .instrument(CurrencyPair.BTC_USD)
+        .price(new BigDecimal("40000"))
+        .id(id)
+        .timestamp(new Date(time))
+        .feeAmount(BigDecimal.ONE)
+        .feeCurrency(Currency.USD)
+        .build();
+  }
+
+  private static Balance balance(Currency currency, String total, String available, long time) {
+    return new Balance.Builder()
+        .currency(currency)
+        .total(new BigDecimal(total))
+        .available(new BigDecimal(available))
+        .timestamp(new Date(time))
+        .build();
+  }
+}
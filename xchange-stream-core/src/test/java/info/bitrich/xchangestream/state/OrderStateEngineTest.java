@@ -0,0 +1,178 @@
+package info.bitrich.xchangestream.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import org.junit.After;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.Order.OrderStatus;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+public class OrderStateEngineTest {
+
+  private final PublishProcessor<Order> orderChanges = PublishProcessor.create();
+  private final PublishProcessor<UserTrade> userTrades = PublishProcessor.create();
+  private final PublishProcessor<Object> reconnects = PublishProcessor.create();
+  private final List<Order> openOrders = new ArrayList<>();
+  private final AtomicInteger snapshots = new AtomicInteger();
+  private OrderStateEngine engine;
+
+  @After
+  public void tearDown() {
+    engine.dispose();
+  }
+
+  @Test
+  public void testAppliesChangesAndFills() {
+    openOrders.add(order("1", "client-1", OrderStatus.NEW, null));
+    engine = start(Schedulers.trampoline(), null);
+
+    assertThat(engine.isSynced()).isTrue();
+    assertThat(engine.getOrderByUserReference("client-1").getId()).isEqualTo("1");
+
+    orderChanges.onNext(order("2", "client-2", OrderStatus.NEW, null));
+    userTrades.onNext(fill("t1", "2", "0.4"));
+    userTrades.onNext(fill("t1", "2", "0.4"));
+    assertThat(engine.getOrder("2").getCumulativeAmount()).isEqualByComparingTo("0.4");
+    assertThat(engine.getOrder("2").getStatus()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+
+    userTrades.onNext(fill("t2", "2", "0.6"));
+    assertThat(engine.getOrder("2")).isNull();
+    assertThat(engine.getOrderByUserReference("client-2")).isNull();
+
+    orderChanges.onNext(order("1", null, OrderStatus.CANCELED, null));
+    // a late change of a closed order doesn't reopen it
+    orderChanges.onNext(order("1", "client-1", OrderStatus.NEW, null));
+    assertThat(engine.getOpenOrders()).isEmpty();
+  }
+
+  @Test
+  public void testChangesDuringSnapshotAreAppliedOnTop() {
+    TestScheduler testScheduler = new TestScheduler();
+    openOrders.add(order("1", "client-1", OrderStatus.NEW, null));
+    engine = start(testScheduler, null);
+
+    orderChanges.onNext(order("1", null, OrderStatus.PARTIALLY_FILLED, "0.5"));
+    orderChanges.onNext(order("2", null, OrderStatus.NEW, null));
+    assertThat(engine.isSynced()).isFalse();
+    assertThat(engine.getOpenOrders()).isEmpty();
+
+    testScheduler.triggerActions();
+    assertThat(engine.isSynced()).isTrue();
+    assertThat(engine.getOpenOrders()).extracting(Order::getId).containsOnly("1", "2");
+    assertThat(engine.getOrder("1").getCumulativeAmount()).isEqualByComparingTo("0.5");
+    // the change without a user reference keeps the one of the snapshot
+    assertThat(engine.getOrderByUserReference("client-1").getCumulativeAmount())
+        .isEqualByComparingTo("0.5");
+
+    // an older change is dropped
+    orderChanges.onNext(order("1", null, OrderStatus.NEW, "0.2"));
+    assertThat(engine.getOrder("1").getCumulativeAmount()).isEqualByComparingTo("0.5");
+  }
+
+  @Test
+  public void testResyncsOnGapAndReconnect() {
+    engine = start(Schedulers.trampoline(), order -> Long.parseLong(order.getUserReference()));
+    assertThat(snapshots.get()).isEqualTo(1);
+
+    orderChanges.onNext(order("1", "1", OrderStatus.NEW, null));
+    orderChanges.onNext(order("2", "2", OrderStatus.NEW, null));
+    // duplicate
+    orderChanges.onNext(order("2", "2", OrderStatus.CANCELED, null));
+    assertThat(engine.getOrder("2")).isNotNull();
+    assertThat(snapshots.get()).isEqualTo(1);
+
+    openOrders.add(order("5", "5", OrderStatus.NEW, null));
+    orderChanges.onNext(order("4", "4", OrderStatus.NEW, null));
+    assertThat(snapshots.get()).isEqualTo(2);
+    assertThat(engine.getOpenOrders()).extracting(Order::getId).containsOnly("4", "5");
+
+    reconnects.onNext(Boolean.TRUE);
+    assertThat(snapshots.get()).isEqualTo(3);
+    assertThat(engine.getResyncCount()).isEqualTo(3);
+    assertThat(engine.getOpenOrders()).extracting(Order::getId).containsOnly("5");
+  }
+
+  @Test
+  public void testSequenceRestartsAfterReconnect() {
+    engine = start(Schedulers.trampoline(), order -> Long.parseLong(order.getUserReference()));
+    orderChanges.onNext(order("1", "1", OrderStatus.NEW, null));
+    orderChanges.onNext(order("2", "2", OrderStatus.NEW, null));
+    orderChanges.onNext(order("3", "3", OrderStatus.NEW, null));
+
+    openOrders.add(order("3", "3", OrderStatus.NEW, null));
+    reconnects.onNext(Boolean.TRUE);
+    assertThat(snapshots.get()).isEqualTo(2);
+
+    // the new connection numbers the changes from 1 again
+    orderChanges.onNext(order("10", "1", OrderStatus.NEW, null));
+    orderChanges.onNext(order("11", "2", OrderStatus.NEW, null));
+    assertThat(engine.getOpenOrders()).extracting(Order::getId).containsOnly("3", "10", "11");
+    assertThat(snapshots.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testTooManyChangesDuringSnapshotResync() {
+    TestScheduler testScheduler = new TestScheduler();
+    engine = start(testScheduler, null);
+
+    for (int i = 0; i <= SnapshotSyncedState.MAX_PENDING_EVENTS; i++) {
+      orderChanges.onNext(order(String.valueOf(i), null, OrderStatus.NEW, null));
+    }
+    assertThat(engine.getResyncCount()).isEqualTo(2);
+
+    openOrders.add(order("0", null, OrderStatus.NEW, null));
+    testScheduler.triggerActions();
+    assertThat(engine.isSynced()).isTrue();
+    assertThat(engine.getOpenOrders()).extracting(Order::getId).containsOnly("0");
+  }
+
+  private OrderStateEngine start(Scheduler scheduler, ToLongFunction<Order> sequence) {
+    return new OrderStateEngine(
+            () -> {
+              snapshots.incrementAndGet();
+              return new ArrayList<>(openOrders);
+            },
+            orderChanges,
+            userTrades,
+            reconnects,
+            sequence,
+            scheduler)
+        .start();
+  }
+
+  private static LimitOrder order(
+      String id, String userReference, OrderStatus status, String cumulativeAmount) {
+    return new LimitOrder.Builder(OrderType.BID, CurrencyPair.BTC_USD)
+        .id(id)
+        .userReference(userReference)
+        .originalAmount(BigDecimal.ONE)
+        .cumulativeAmount(cumulativeAmount == null ? null : new BigDecimal(cumulativeAmount))
+        .limitPrice(new BigDecimal("50000"))
+        .orderStatus(status)
+        .build();
+  }
+
+  private static UserTrade fill(String tradeId, String orderId, String amount) {
+    return new UserTrade.Builder()
+        .type(OrderType.BID)
+        .originalAmount(new BigDecimal(amount))
+        .instrument(CurrencyPair.BTC_USD)
+        .price(new BigDecimal("50000"))
+        .id(tradeId)
+        .orderId(orderId)
+        .build();
+  }
+}
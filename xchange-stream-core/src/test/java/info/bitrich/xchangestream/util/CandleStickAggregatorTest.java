@@ -0,0 +1,66 @@
+package info.bitrich.xchangestream.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.Flowable;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.CandleStick;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+public class CandleStickAggregatorTest {
+
+  private static final Flowable<Trade> TRADES =
+      Flowable.just(
+          trade(60_000, "100", "1"),
+          trade(70_000, "105", "2"),
+          trade(50_000, "1", "1"), // late, dropped
+          trade(80_000, "95", "1"),
+          trade(125_000, "110", "3"));
+
+  @Test
+  public void testCandlesUpdateIncrementally() {
+    List<CandleStick> candles = CandleStickAggregator.candles(TRADES, 60).toList().blockingGet();
+
+    assertThat(candles).hasSize(4);
+    CandleStick first = candles.get(2);
+    assertThat(first.getTimestamp()).isEqualTo(new Date(60_000));
+    assertThat(first.getOpen()).isEqualByComparingTo("100");
+    assertThat(first.getHigh()).isEqualByComparingTo("105");
+    assertThat(first.getLow()).isEqualByComparingTo("95");
+    assertThat(first.getClose()).isEqualByComparingTo("95");
+    assertThat(first.getVolume()).isEqualByComparingTo("4");
+    assertThat(first.getQuoteVolume()).isEqualByComparingTo("405");
+    assertThat(first.getVwap()).isEqualByComparingTo("101.25");
+    assertThat(first.getTradeCount()).isEqualTo(3);
+
+    CandleStick second = candles.get(3);
+    assertThat(second.getTimestamp()).isEqualTo(new Date(120_000));
+    assertThat(second.getOpen()).isEqualByComparingTo("110");
+    assertThat(second.getTradeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testClosedCandlesEmittedOnce() {
+    List<CandleStick> candles =
+        CandleStickAggregator.closedCandles(TRADES, 60).toList().blockingGet();
+
+    assertThat(candles).hasSize(1);
+    assertThat(candles.get(0).getClose()).isEqualByComparingTo("95");
+    assertThat(candles.get(0).getTradeCount()).isEqualTo(3);
+  }
+
+  private static Trade trade(long timestamp, String price, String amount) {
+    return new Trade.Builder()
+        .type(Order.OrderType.BID)
+        .instrument(CurrencyPair.BTC_USD)
+        .price(new BigDecimal(price))
+        .originalAmount(new BigDecimal(amount))
+        .timestamp(new Date(timestamp))
+        .build();
+  }
+}
@@ -0,0 +1,51 @@
+package info.bitrich.xchangestream.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.observers.TestObserver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class PendingRequestsTest {
+
+  private final PendingRequests<Integer, String> pendingRequests =
+      new PendingRequests<>(50, TimeUnit.MILLISECONDS);
+  private final List<Integer> sent = new ArrayList<>();
+
+  @Test
+  public void testCompletesOnAcknowledgement() {
+    TestObserver<String> first = pendingRequests.send(1, sent::add).test();
+    TestObserver<String> second = pendingRequests.send(2, sent::add).test();
+    assertThat(sent).containsExactly(1, 2);
+    assertThat(pendingRequests.isPending(1)).isTrue();
+
+    assertThat(pendingRequests.complete(2, "ack-2")).isTrue();
+    assertThat(pendingRequests.fail(1, new IllegalStateException("rejected"))).isTrue();
+    assertThat(pendingRequests.complete(1, "late")).isFalse();
+
+    second.assertValue("ack-2");
+    first.assertError(IllegalStateException.class);
+    assertThat(pendingRequests.isPending(1)).isFalse();
+  }
+
+  @Test
+  public void testFailsWhenSendFailsOrTimesOut() throws InterruptedException {
+    pendingRequests
+        .send(
+            1,
+            key -> {
+              throw new IllegalStateException("not connected");
+            })
+        .test()
+        .assertError(IllegalStateException.class);
+    assertThat(pendingRequests.isPending(1)).isFalse();
+
+    TestObserver<String> pending = pendingRequests.send(1, sent::add).test();
+    pendingRequests.send(1, sent::add).test().assertError(IllegalStateException.class);
+    pending.await().assertError(TimeoutException.class);
+    assertThat(pendingRequests.isPending(1)).isFalse();
+  }
+}
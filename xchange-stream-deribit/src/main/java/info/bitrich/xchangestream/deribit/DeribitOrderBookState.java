@@ -0,0 +1,85 @@
+package info.bitrich.xchangestream.deribit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.deribit.v2.DeribitAdapters;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * A book built from the notifications of an incremental book.* channel. Each change carries the
+ * change_id of the previous one, so a missed change is detected and the book is dropped until a new
+ * snapshot arrives.
+ */
+final class DeribitOrderBookState {
+
+  enum Result {
+    APPLIED,
+    /** The book is waiting for a snapshot. */
+    DROPPED,
+    /** A change was missed, a new snapshot is needed. */
+    GAP
+  }
+
+  private final TreeMap<BigDecimal, BigDecimal> bids = new TreeMap<>(Comparator.reverseOrder());
+  private final TreeMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+
+  private long changeId = -1;
+  private long timestamp;
+  private CurrencyPair currencyPair;
+
+  Result apply(JsonNode data) {
+    if ("snapshot".equals(data.path("type").asText())) {
+      bids.clear();
+      asks.clear();
+      currencyPair = DeribitAdapters.adaptCurrencyPair(data.path("instrument_name").asText());
+    } else if (changeId < 0) {
+      return Result.DROPPED;
+    } else if (data.path("prev_change_id").asLong() != changeId) {
+      changeId = -1;
+      return Result.GAP;
+    }
+    applyLevels(bids, data.path("bids"));
+    applyLevels(asks, data.path("asks"));
+    changeId = data.path("change_id").asLong();
+    timestamp = data.path("timestamp").asLong();
+    return Result.APPLIED;
+  }
+
+  /** Each level is [action, price, amount], the action being new, change or delete. */
+  private static void applyLevels(Map<BigDecimal, BigDecimal> side, JsonNode levels) {
+    for (JsonNode level : levels) {
+      BigDecimal price = level.get(1).decimalValue();
+      if ("delete".equals(level.get(0).asText())) {
+        side.remove(price);
+      } else {
+        side.put(price, level.get(2).decimalValue());
+      }
+    }
+  }
+
+  long getChangeId() {
+    return changeId;
+  }
+
+  OrderBook toOrderBook() {
+    return new OrderBook(
+        new Date(timestamp), toOrders(asks, OrderType.ASK), toOrders(bids, OrderType.BID));
+  }
+
+  private List<LimitOrder> toOrders(Map<BigDecimal, BigDecimal> side, OrderType type) {
+    List<LimitOrder> orders = new ArrayList<>(side.size());
+    for (Map.Entry<BigDecimal, BigDecimal> level : side.entrySet()) {
+      orders.add(new LimitOrder(type, level.getValue(), currencyPair, null, null, level.getKey()));
+    }
+    return orders;
+  }
+}
@@ -0,0 +1,85 @@
+package info.bitrich.xchangestream.deribit;
+
+import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.core.StreamingExchange;
+import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import java.time.Duration;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.deribit.v2.DeribitExchange;
+
+public class DeribitStreamingExchange extends DeribitExchange implements StreamingExchange {
+
+  private static final String API_URI = "wss://www.deribit.com/ws/api/v2";
+  private static final String SANDBOX_API_URI = "wss://test.deribit.com/ws/api/v2";
+
+  private DeribitStreamingService streamingService;
+  private DeribitStreamingMarketDataService streamingMarketDataService;
+
+  @Override
+  protected void initServices() {
+    super.initServices();
+    boolean useSandbox =
+        Boolean.TRUE.equals(exchangeSpecification.getExchangeSpecificParametersItem(USE_SANDBOX));
+    this.streamingService =
+        new DeribitStreamingService(
+            useSandbox ? SANDBOX_API_URI : API_URI,
+            exchangeSpecification.getApiKey(),
+            exchangeSpecification.getSecretKey());
+    applyStreamingSpecification(exchangeSpecification, streamingService);
+    this.streamingMarketDataService = new DeribitStreamingMarketDataService(streamingService);
+  }
+
+  @Override
+  public Completable connect(ProductSubscription... args) {
+    return streamingService.connect();
+  }
+
+  @Override
+  public Completable disconnect() {
+    return streamingService.disconnect();
+  }
+
+  @Override
+  public boolean isAlive() {
+    return streamingService.isSocketOpen();
+  }
+
+  @Override
+  public Flowable<Throwable> reconnectFailure() {
+    return streamingService.subscribeReconnectFailure();
+  }
+
+  @Override
+  public Flowable<Object> connectionSuccess() {
+    return streamingService.subscribeConnectionSuccess();
+  }
+
+  @Override
+  public Flowable<Duration> reconnectDuration() {
+    return streamingService.subscribeReconnectDuration();
+  }
+
+  @Override
+  public Flowable<State> connectionStateFlowable() {
+    return streamingService.subscribeConnectionState();
+  }
+
+  @Override
+  public ExchangeSpecification getDefaultExchangeSpecification() {
+    ExchangeSpecification spec = super.getDefaultExchangeSpecification();
+    spec.setShouldLoadRemoteMetaData(false);
+    return spec;
+  }
+
+  @Override
+  public DeribitStreamingMarketDataService getStreamingMarketDataService() {
+    return streamingMarketDataService;
+  }
+
+  @Override
+  public void useCompressedMessages(boolean compressedMessages) {
+    streamingService.useCompressedMessages(compressedMessages);
+  }
+}
@@ -0,0 +1,138 @@
+package info.bitrich.xchangestream.deribit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.StreamingMarketDataService;
+import info.bitrich.xchangestream.deribit.DeribitOrderBookState.Result;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.deribit.v2.DeribitAdapters;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTicker;
+import org.knowm.xchange.deribit.v2.dto.marketdata.DeribitTrade;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Instruments are given as with the REST services, the currency pair's base and the instrument
+ * name's postfix in the first argument, e.g. PERPETUAL, 25JUN21 or 25JUN21-40000-C. The optional
+ * second argument is the interval of the notifications: raw, which requires API keys, or 100ms,
+ * the default.
+ */
+public class DeribitStreamingMarketDataService implements StreamingMarketDataService {
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(DeribitStreamingMarketDataService.class);
+
+  public static final String INTERVAL_RAW = "raw";
+  public static final String INTERVAL_100MS = "100ms";
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final DeribitStreamingService service;
+  private final Map<String, Flowable<OrderBook>> orderBooks = new ConcurrentHashMap<>();
+
+  public DeribitStreamingMarketDataService(DeribitStreamingService service) {
+    this.service = service;
+  }
+
+  private static String getInterval(Object[] args) {
+    return args != null && args.length > 1 && args[1] != null
+        ? args[1].toString()
+        : INTERVAL_100MS;
+  }
+
+  private static String getChannelName(String channel, CurrencyPair currencyPair, Object[] args) {
+    return channel
+        + "."
+        + DeribitAdapters.adaptInstrumentName(currencyPair, args)
+        + "."
+        + getInterval(args);
+  }
+
+  @Override
+  public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
+    return getOrderBook(DeribitAdapters.adaptInstrumentName(currencyPair, args), getInterval(args));
+  }
+
+  /**
+   * Maintains the book of an instrument from the incremental book channel. When a change is
+   * missed, the channel is resubscribed to get a new snapshot. The book is shared by the
+   * subscribers of the channel, a late subscriber getting the latest book right away.
+   *
+   * @param instrumentName E.g. BTC-PERPETUAL
+   * @param interval raw or 100ms
+   */
+  public Flowable<OrderBook> getOrderBook(String instrumentName, String interval) {
+    String channelName = "book." + instrumentName + "." + interval;
+    return orderBooks.computeIfAbsent(channelName, this::subscribeOrderBook);
+  }
+
+  private Flowable<OrderBook> subscribeOrderBook(String channelName) {
+    return Flowable.defer(
+            () -> {
+              DeribitOrderBookState book = new DeribitOrderBookState();
+              return service
+                  .subscribeChannel(channelName)
+                  .map(DeribitStreamingMarketDataService::getData)
+                  .filter(
+                      data -> {
+                        Result result = book.apply(data);
+                        if (result == Result.GAP) {
+                          LOG.warn("Missed a change of {}, resubscribing", channelName);
+                          service.resubscribe(channelName);
+                        }
+                        return result == Result.APPLIED;
+                      })
+                  .map(data -> book.toOrderBook());
+            })
+        .replay(1)
+        .refCount();
+  }
+
+  /**
+   * Maintains the books of many instruments, e.g. all the options of an expiry. Their channels are
+   * subscribed with a few requests.
+   */
+  public Flowable<OrderBook> getOrderBooks(Collection<String> instrumentNames, String interval) {
+    List<Flowable<OrderBook>> books = new ArrayList<>(instrumentNames.size());
+    for (String instrumentName : instrumentNames) {
+      books.add(getOrderBook(instrumentName, interval));
+    }
+    return Flowable.merge(books);
+  }
+
+  @Override
+  public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
+    return service
+        .subscribeChannel(getChannelName("ticker", currencyPair, args))
+        .map(message -> mapper.treeToValue(getData(message), DeribitTicker.class))
+        .map(DeribitAdapters::adaptTicker);
+  }
+
+  @Override
+  public Flowable<Trade> getTrades(CurrencyPair currencyPair, Object... args) {
+    return service
+        .subscribeChannel(getChannelName("trades", currencyPair, args))
+        .flatMapIterable(
+            message -> {
+              List<Trade> trades = new ArrayList<>();
+              for (JsonNode trade : getData(message)) {
+                DeribitTrade deribitTrade = mapper.treeToValue(trade, DeribitTrade.class);
+                trades.add(DeribitAdapters.adaptTrade(deribitTrade));
+              }
+              return trades;
+            });
+  }
+
+  private static JsonNode getData(JsonNode message) {
+    return message.path("params").path("data");
+  }
+}
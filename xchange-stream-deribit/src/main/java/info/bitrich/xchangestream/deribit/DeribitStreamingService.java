@@ -0,0 +1,247 @@
+package info.bitrich.xchangestream.deribit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import info.bitrich.xchangestream.deribit.dto.DeribitRequest;
+import info.bitrich.xchangestream.service.exception.NotConnectedException;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.util.PendingRequests;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deribit's JSON-RPC over WebSocket API. Requests are correlated with their responses by id, and
+ * the subscription notifications are dispatched by their channel.
+ *
+ * <p>Channels subscribed in a burst, e.g. the books of all the options of an expiry, are batched
+ * into a few public/subscribe requests, as are the channels resubscribed after a reconnection.
+ *
+ * <p>The heartbeat is enabled on every connection, and its test requests answered, so a stale
+ * connection is closed by the exchange. If API keys are given, the connection is authenticated,
+ * which the raw interval of the book channels requires.
+ */
+public class DeribitStreamingService extends JsonNettyStreamingService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DeribitStreamingService.class);
+
+  private static final int HEARTBEAT_INTERVAL_SECONDS = 30;
+  private static final long REQUEST_TIMEOUT_SECONDS = 10;
+  private static final long SUBSCRIBE_BATCH_DELAY_MILLIS = 10;
+  static final int MAX_CHANNELS_PER_SUBSCRIBE = 100;
+
+  private final String clientId;
+  private final String clientSecret;
+
+  private final AtomicLong requestIds = new AtomicLong();
+  private final PendingRequests<Long, JsonNode> pendingRequests =
+      new PendingRequests<>(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+  private final Queue<String> subscribeBatch = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean subscribeBatchScheduled = new AtomicBoolean();
+
+  public DeribitStreamingService(String apiUrl, String clientId, String clientSecret) {
+    super(apiUrl, Integer.MAX_VALUE);
+    this.clientId = clientId;
+    this.clientSecret = clientSecret;
+    subscribeDisconnect()
+        .subscribe(disconnect -> pendingRequests.failAll(new NotConnectedException()));
+  }
+
+  @Override
+  protected WebSocketClientExtensionHandler getWebSocketClientExtensionHandler() {
+    return null;
+  }
+
+  @Override
+  public boolean processArrayMessageSeparately() {
+    return false;
+  }
+
+  boolean isAuthenticated() {
+    return StringUtils.isNotEmpty(clientId) && StringUtils.isNotEmpty(clientSecret);
+  }
+
+  @Override
+  protected void handleMessage(JsonNode message) {
+    JsonNode id = message.get("id");
+    if (id != null) {
+      handleResponse(id.asLong(), message);
+      return;
+    }
+    if ("heartbeat".equals(message.path("method").asText())) {
+      if ("test_request".equals(message.path("params").path("type").asText())) {
+        sendAndLog("public/test", Collections.emptyMap());
+      }
+      return;
+    }
+    super.handleMessage(message);
+  }
+
+  private void handleResponse(long id, JsonNode response) {
+    JsonNode error = response.get("error");
+    boolean pending =
+        error == null
+            ? pendingRequests.complete(id, response.path("result"))
+            : pendingRequests.fail(
+                id,
+                new ExchangeException(
+                    error.path("message").asText() + " (" + error.path("code").asInt() + ")"));
+    if (!pending) {
+      LOG.debug("Response to an unknown request: {}", response);
+    }
+  }
+
+  @Override
+  protected String getChannelNameFromMessage(JsonNode message) {
+    return message.path("params").path("channel").asText(null);
+  }
+
+  /**
+   * Sends a request on subscription.
+   *
+   * @return {@link Single} that emits the result of the response, or fails with an {@link
+   *     ExchangeException} if the response is an error
+   */
+  public Single<JsonNode> sendRequest(String method, Map<String, Object> params) {
+    return Single.defer(
+        () ->
+            pendingRequests.send(
+                requestIds.incrementAndGet(),
+                id -> {
+                  if (!isSocketOpen()) {
+                    throw new NotConnectedException();
+                  }
+                  sendObjectMessage(new DeribitRequest(id, method, params));
+                }));
+  }
+
+  private void sendAndLog(String method, Map<String, Object> params) {
+    sendRequest(method, params)
+        .subscribe(
+            result -> LOG.debug("{} succeeded: {}", method, result),
+            e -> LOG.error("{} failed: {}", method, e.getMessage()));
+  }
+
+  /**
+   * Queues the channel to be subscribed with the others subscribed in the same burst, so no
+   * message is sent here.
+   */
+  @Override
+  public String getSubscribeMessage(String channelName, Object... args) {
+    subscribeBatch.add(channelName);
+    if (subscribeBatchScheduled.compareAndSet(false, true)) {
+      Schedulers.computation()
+          .scheduleDirect(
+              this::flushSubscribeBatch, SUBSCRIBE_BATCH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    return null;
+  }
+
+  private void flushSubscribeBatch() {
+    subscribeBatchScheduled.set(false);
+    List<String> channels = new ArrayList<>();
+    String channel;
+    while ((channel = subscribeBatch.poll()) != null) {
+      channels.add(channel);
+    }
+    for (List<String> batch : partition(channels)) {
+      sendAndLog(method(batch.get(0), "subscribe"), Collections.singletonMap("channels", batch));
+    }
+  }
+
+  @Override
+  public String getUnsubscribeMessage(String channelName) throws IOException {
+    return objectMapper.writeValueAsString(
+        new DeribitRequest(
+            requestIds.incrementAndGet(),
+            method(channelName, "unsubscribe"),
+            Collections.singletonMap("channels", Collections.singletonList(channelName))));
+  }
+
+  /** Unsubscribes and subscribes the channel again, e.g. to get a new snapshot of a book. */
+  void resubscribe(String channelName) {
+    Map<String, Object> params =
+        Collections.singletonMap("channels", Collections.singletonList(channelName));
+    sendRequest(method(channelName, "unsubscribe"), params)
+        .flatMap(result -> sendRequest(method(channelName, "subscribe"), params))
+        .subscribe(
+            result -> LOG.info("Resubscribed {}", channelName),
+            e -> LOG.error("Resubscribing {} failed: {}", channelName, e.getMessage()));
+  }
+
+  /**
+   * Enables the heartbeat and authenticates the new connection before the channels are
+   * resubscribed, the requests being processed in order.
+   */
+  @Override
+  public void resubscribeChannels() {
+    sendAndLog(
+        "public/set_heartbeat", Collections.singletonMap("interval", HEARTBEAT_INTERVAL_SECONDS));
+    if (isAuthenticated()) {
+      Map<String, Object> params = new HashMap<>();
+      params.put("grant_type", "client_credentials");
+      params.put("client_id", clientId);
+      params.put("client_secret", clientSecret);
+      sendAndLog("public/auth", params);
+    }
+    super.resubscribeChannels();
+  }
+
+  @Override
+  protected List<String> getResubscribeMessages(List<Subscription> subscriptions)
+      throws IOException {
+    List<String> channels = new ArrayList<>(subscriptions.size());
+    for (Subscription subscription : subscriptions) {
+      channels.add(subscription.getChannelName());
+    }
+    List<String> messages = new ArrayList<>();
+    for (List<String> batch : partition(channels)) {
+      messages.add(
+          objectMapper.writeValueAsString(
+              new DeribitRequest(
+                  requestIds.incrementAndGet(),
+                  method(batch.get(0), "subscribe"),
+                  Collections.singletonMap("channels", batch))));
+    }
+    return messages;
+  }
+
+  /** The private channels, e.g. user.orders.*, are subscribed with private/subscribe. */
+  private static boolean isPrivate(String channel) {
+    return channel.startsWith("user.");
+  }
+
+  private static String method(String channel, String action) {
+    return (isPrivate(channel) ? "private/" : "public/") + action;
+  }
+
+  /** Splits the channels into batches of public or private channels. */
+  private static List<List<String>> partition(List<String> channels) {
+    List<List<String>> batches = new ArrayList<>();
+    Map<Boolean, List<String>> byVisibility =
+        channels.stream().collect(Collectors.partitioningBy(DeribitStreamingService::isPrivate));
+    for (List<String> list : byVisibility.values()) {
+      for (int i = 0; i < list.size(); i += MAX_CHANNELS_PER_SUBSCRIBE) {
+        int end = Math.min(list.size(), i + MAX_CHANNELS_PER_SUBSCRIBE);
+        batches.add(new ArrayList<>(list.subList(i, end)));
+      }
+    }
+    return batches;
+  }
+}
@@ -0,0 +1,42 @@
+package info.bitrich.xchangestream.deribit.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/** A JSON-RPC 2.0 request, answered by a response with the same id. */
+public class DeribitRequest {
+
+  @JsonProperty("jsonrpc")
+  private final String jsonrpc = "2.0";
+
+  @JsonProperty("id")
+  private final long id;
+
+  @JsonProperty("method")
+  private final String method;
+
+  @JsonProperty("params")
+  private final Map<String, Object> params;
+
+  public DeribitRequest(long id, String method, Map<String, Object> params) {
+    this.id = id;
+    this.method = method;
+    this.params = params;
+  }
+
+  public String getJsonrpc() {
+    return jsonrpc;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public Map<String, Object> getParams() {
+    return params;
+  }
+}
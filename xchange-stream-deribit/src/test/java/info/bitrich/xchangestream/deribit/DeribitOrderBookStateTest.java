@@ -0,0 +1,68 @@
+package info.bitrich.xchangestream.deribit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.deribit.DeribitOrderBookState.Result;
+import java.io.IOException;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class DeribitOrderBookStateTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final DeribitOrderBookState book = new DeribitOrderBookState();
+
+  @Test
+  public void testAppliesChangesAndDetectsGaps() throws IOException {
+    assertThat(book.apply(change(10, 11, "[[\"new\",5000.5,10]]", "[]"))).isEqualTo(Result.DROPPED);
+
+    assertThat(
+            book.apply(
+                data(
+                    "{\"type\":\"snapshot\",\"timestamp\":1554373962454,"
+                        + "\"instrument_name\":\"BTC-PERPETUAL\",\"change_id\":20,"
+                        + "\"bids\":[[\"new\",5000.0,40.0],[\"new\",4999.5,20.0]],"
+                        + "\"asks\":[[\"new\",5001.0,10.0]]}")))
+        .isEqualTo(Result.APPLIED);
+    String bids = "[[\"delete\",5000.0,0],[\"change\",4999.5,5]]";
+    assertThat(book.apply(change(20, 21, bids, "[[\"new\",5000.5,3]]")))
+        .isEqualTo(Result.APPLIED);
+
+    OrderBook orderBook = book.toOrderBook();
+    assertThat(orderBook.getBids()).hasSize(1);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualByComparingTo("4999.5");
+    assertThat(orderBook.getBids().get(0).getOriginalAmount()).isEqualByComparingTo("5");
+    assertThat(orderBook.getBids().get(0).getInstrument())
+        .isEqualTo(new CurrencyPair("BTC", "PERPETUAL"));
+    assertThat(orderBook.getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("5000.5", "5001.0");
+
+    // change 22 was missed
+    assertThat(book.apply(change(22, 23, "[]", "[]"))).isEqualTo(Result.GAP);
+    assertThat(book.apply(change(23, 24, "[]", "[]"))).isEqualTo(Result.DROPPED);
+    assertThat(book.getChangeId()).isEqualTo(-1);
+  }
+
+  private JsonNode change(long prevChangeId, long changeId, String bids, String asks)
+      throws IOException {
+    return data(
+        "{\"type\":\"change\",\"timestamp\":1554373962460,\"instrument_name\":\"BTC-PERPETUAL\","
+            + "\"prev_change_id\":"
+            + prevChangeId
+            + ",\"change_id\":"
+            + changeId
+            + ",\"bids\":"
+            + bids
+            + ",\"asks\":"
+            + asks
+            + "}");
+  }
+
+  private JsonNode data(String json) throws IOException {
+    return mapper.readTree(json);
+  }
+}
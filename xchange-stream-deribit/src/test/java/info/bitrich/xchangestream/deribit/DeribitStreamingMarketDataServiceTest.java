@@ -0,0 +1,68 @@
+package info.bitrich.xchangestream.deribit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.io.IOException;
+import org.junit.Test;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class DeribitStreamingMarketDataServiceTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final PublishProcessor<JsonNode> channel = PublishProcessor.create();
+  private int subscriptions;
+  private int resubscriptions;
+  private final DeribitStreamingMarketDataService marketDataService =
+      new DeribitStreamingMarketDataService(
+          new DeribitStreamingService("wss://test.deribit.com/ws/api/v2", null, null) {
+            @Override
+            public Flowable<JsonNode> subscribeChannel(String channelName, Object... args) {
+              subscriptions++;
+              return channel;
+            }
+
+            @Override
+            void resubscribe(String channelName) {
+              resubscriptions++;
+            }
+          });
+
+  @Test
+  public void testLateSubscriberSharesTheBook() throws IOException {
+    TestSubscriber<OrderBook> first =
+        marketDataService.getOrderBook("BTC-PERPETUAL", "100ms").test();
+    channel.onNext(
+        notification(
+            "{\"type\":\"snapshot\",\"timestamp\":1554373962454,"
+                + "\"instrument_name\":\"BTC-PERPETUAL\",\"change_id\":20,"
+                + "\"bids\":[[\"new\",5000.0,40.0]],\"asks\":[[\"new\",5001.0,10.0]]}"));
+
+    TestSubscriber<OrderBook> late =
+        marketDataService.getOrderBook("BTC-PERPETUAL", "100ms").test();
+    late.assertValueCount(1);
+    channel.onNext(
+        notification(
+            "{\"type\":\"change\",\"timestamp\":1554373962455,\"prev_change_id\":20,"
+                + "\"change_id\":21,\"bids\":[[\"change\",5000.0,30.0]],\"asks\":[]}"));
+
+    first.assertValueCount(2);
+    late.assertValueCount(2);
+    assertThat(late.values().get(1).getBids().get(0).getOriginalAmount())
+        .isEqualByComparingTo("30");
+    assertThat(subscriptions).isEqualTo(1);
+    assertThat(resubscriptions).isZero();
+  }
+
+  private JsonNode notification(String data) throws IOException {
+    return mapper.readTree(
+        "{\"jsonrpc\":\"2.0\",\"method\":\"subscription\",\"params\":{"
+            + "\"channel\":\"book.BTC-PERPETUAL.100ms\",\"data\":"
+            + data
+            + "}}");
+  }
+}
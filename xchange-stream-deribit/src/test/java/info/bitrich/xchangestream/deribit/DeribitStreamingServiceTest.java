@@ -0,0 +1,105 @@
+package info.bitrich.xchangestream.deribit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.observers.TestObserver;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.ExchangeException;
+
+public class DeribitStreamingServiceTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+  private final DeribitStreamingService service =
+      new DeribitStreamingService("wss://test.deribit.com/ws/api/v2", null, null) {
+        @Override
+        public boolean isSocketOpen() {
+          return true;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+          sent.add(message);
+        }
+      };
+
+  @Test
+  public void testCorrelatesResponsesById() throws IOException {
+    TestObserver<JsonNode> first =
+        service.sendRequest("public/get_time", Collections.emptyMap()).test();
+    TestObserver<JsonNode> second =
+        service
+            .sendRequest(
+                "public/subscribe", Collections.singletonMap("channels", Collections.emptyList()))
+            .test();
+    long firstId = mapper.readTree(sent.get(0)).get("id").asLong();
+    long secondId = mapper.readTree(sent.get(1)).get("id").asLong();
+    assertThat(mapper.readTree(sent.get(1)).get("method").asText()).isEqualTo("public/subscribe");
+
+    service.handleMessage(
+        mapper.readTree(
+            "{\"jsonrpc\":\"2.0\",\"id\":"
+                + secondId
+                + ",\"error\":{\"message\":\"Invalid params\",\"code\":-32602}}"));
+    service.handleMessage(
+        mapper.readTree("{\"jsonrpc\":\"2.0\",\"id\":" + firstId + ",\"result\":1550147385946}"));
+
+    first.assertValue(result -> result.asLong() == 1550147385946L);
+    second.assertError(
+        e -> e instanceof ExchangeException && e.getMessage().equals("Invalid params (-32602)"));
+  }
+
+  @Test
+  public void testAnswersHeartbeatTestRequests() throws IOException {
+    service.handleMessage(
+        mapper.readTree(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"heartbeat\",\"params\":{\"type\":\"heartbeat\"}}"));
+    assertThat(sent).isEmpty();
+
+    service.handleMessage(
+        mapper.readTree(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"heartbeat\","
+                + "\"params\":{\"type\":\"test_request\"}}"));
+    assertThat(sent).hasSize(1);
+    assertThat(mapper.readTree(sent.get(0)).get("method").asText()).isEqualTo("public/test");
+  }
+
+  @Test
+  public void testSubscribesInBatches() throws Exception {
+    for (int i = 0; i < 250; i++) {
+      assertThat(service.getSubscribeMessage("book.BTC-" + i + ".100ms")).isNull();
+    }
+    service.getSubscribeMessage("user.orders.any.any.raw");
+
+    // the batches are sent from a computation thread, so wait until all of them are
+    long deadline = System.currentTimeMillis() + 5000;
+    while (countChannels("public/subscribe") + countChannels("private/subscribe") < 251
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+
+    assertThat(countChannels("public/subscribe")).isEqualTo(250);
+    assertThat(countChannels("private/subscribe")).isEqualTo(1);
+    // a burst may be split by the flush, but a few messages are enough
+    assertThat(sent).hasSizeBetween(4, 6);
+  }
+
+  private int countChannels(String method) throws IOException {
+    int channels = 0;
+    for (String message : sent) {
+      JsonNode request = mapper.readTree(message);
+      if (request.get("method").asText().equals(method)) {
+        assertThat(request.get("params").get("channels").size())
+            .isLessThanOrEqualTo(DeribitStreamingService.MAX_CHANNELS_PER_SUBSCRIBE);
+        channels += request.get("params").get("channels").size();
+      }
+    }
+    return channels;
+  }
+}
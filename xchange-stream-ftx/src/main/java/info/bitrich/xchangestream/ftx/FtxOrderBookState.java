@@ -0,0 +1,150 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * A book built from the partial and update messages of an orderbook channel. Every message carries
+ * the CRC32 checksum of the top of the resulting book, so a missed or corrupted update is detected
+ * and the book is dropped until a new partial arrives.
+ */
+final class FtxOrderBookState {
+
+  enum Result {
+    APPLIED,
+    /** The book is waiting for a partial. */
+    DROPPED,
+    /** The checksum doesn't match, a new partial is needed. */
+    CHECKSUM_MISMATCH
+  }
+
+  /** The number of levels of each side included in the checksum. */
+  static final int CHECKSUM_DEPTH = 100;
+
+  private final CurrencyPair currencyPair;
+  private final TreeMap<BigDecimal, BigDecimal> bids = new TreeMap<>(Comparator.reverseOrder());
+  private final TreeMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+
+  private boolean synced;
+  private long time;
+
+  FtxOrderBookState(CurrencyPair currencyPair) {
+    this.currencyPair = currencyPair;
+  }
+
+  Result apply(String type, JsonNode data) {
+    if ("partial".equals(type)) {
+      bids.clear();
+      asks.clear();
+      synced = true;
+    } else if (!synced) {
+      return Result.DROPPED;
+    }
+    applyLevels(bids, data.path("bids"));
+    applyLevels(asks, data.path("asks"));
+    time = (long) (data.path("time").asDouble() * 1000);
+    if (checksum() != data.path("checksum").asLong()) {
+      synced = false;
+      return Result.CHECKSUM_MISMATCH;
+    }
+    return Result.APPLIED;
+  }
+
+  /** Each level is [price, size], a size of zero removing the level. */
+  private static void applyLevels(Map<BigDecimal, BigDecimal> side, JsonNode levels) {
+    for (JsonNode level : levels) {
+      BigDecimal price = level.get(0).decimalValue();
+      BigDecimal size = level.get(1).decimalValue();
+      if (size.signum() == 0) {
+        side.remove(price);
+      } else {
+        side.put(price, size);
+      }
+    }
+  }
+
+  /**
+   * The CRC32 of the top levels interleaved as bid price:bid size:ask price:ask size, continuing
+   * with the remaining side once the other runs out.
+   */
+  long checksum() {
+    StringBuilder sb = new StringBuilder();
+    Iterator<Map.Entry<BigDecimal, BigDecimal>> bidLevels = bids.entrySet().iterator();
+    Iterator<Map.Entry<BigDecimal, BigDecimal>> askLevels = asks.entrySet().iterator();
+    for (int i = 0; i < CHECKSUM_DEPTH; i++) {
+      if (bidLevels.hasNext()) {
+        append(sb, bidLevels.next());
+      }
+      if (askLevels.hasNext()) {
+        append(sb, askLevels.next());
+      }
+    }
+    CRC32 crc = new CRC32();
+    crc.update(sb.toString().getBytes(StandardCharsets.US_ASCII));
+    return crc.getValue();
+  }
+
+  private static void append(StringBuilder sb, Map.Entry<BigDecimal, BigDecimal> level) {
+    if (sb.length() > 0) {
+      sb.append(':');
+    }
+    sb.append(formatFloat(level.getKey())).append(':').append(formatFloat(level.getValue()));
+  }
+
+  /**
+   * Formats the number as Python's repr of a float, which the checksums are computed from: 1.0,
+   * 0.0001, 1e-05 or 1.5e+16.
+   */
+  static String formatFloat(BigDecimal value) {
+    if (value.signum() == 0) {
+      return "0.0";
+    }
+    BigDecimal stripped = value.stripTrailingZeros();
+    int exponent = stripped.precision() - stripped.scale() - 1;
+    if (exponent >= -4 && exponent < 16) {
+      String plain = stripped.toPlainString();
+      return plain.indexOf('.') < 0 ? plain + ".0" : plain;
+    }
+    String digits = stripped.unscaledValue().abs().toString();
+    StringBuilder sb = new StringBuilder();
+    if (stripped.signum() < 0) {
+      sb.append('-');
+    }
+    sb.append(digits.charAt(0));
+    if (digits.length() > 1) {
+      sb.append('.').append(digits, 1, digits.length());
+    }
+    sb.append('e').append(exponent < 0 ? '-' : '+');
+    int absExponent = Math.abs(exponent);
+    if (absExponent < 10) {
+      sb.append('0');
+    }
+    return sb.append(absExponent).toString();
+  }
+
+  OrderBook toOrderBook() {
+    return new OrderBook(
+        new Date(time), toOrders(asks, OrderType.ASK), toOrders(bids, OrderType.BID));
+  }
+
+  private List<LimitOrder> toOrders(Map<BigDecimal, BigDecimal> side, OrderType type) {
+    List<LimitOrder> orders = new ArrayList<>(side.size());
+    for (Map.Entry<BigDecimal, BigDecimal> level : side.entrySet()) {
+      orders.add(new LimitOrder(type, level.getValue(), currencyPair, null, null, level.getKey()));
+    }
+    return orders;
+  }
+}
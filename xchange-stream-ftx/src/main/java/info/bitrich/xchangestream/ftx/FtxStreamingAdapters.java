@@ -0,0 +1,56 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.math.BigDecimal;
+import java.util.Date;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.ftx.FtxAdapters;
+import org.knowm.xchange.ftx.dto.trade.FtxOrderSide;
+import org.knowm.xchange.utils.jackson.CurrencyPairDeserializer;
+
+public class FtxStreamingAdapters {
+
+  private static final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  /** The time of a ticker is in seconds, with a fraction. */
+  public static Ticker adaptTicker(JsonNode data, CurrencyPair currencyPair) {
+    return new Ticker.Builder()
+        .currencyPair(currencyPair)
+        .bid(decimal(data, "bid"))
+        .ask(decimal(data, "ask"))
+        .bidSize(decimal(data, "bidSize"))
+        .askSize(decimal(data, "askSize"))
+        .last(decimal(data, "last"))
+        .timestamp(new Date((long) (data.path("time").asDouble() * 1000)))
+        .build();
+  }
+
+  public static UserTrade adaptUserTrade(JsonNode fill) throws JsonProcessingException {
+    String feeCurrency = fill.path("feeCurrency").asText(null);
+    return new UserTrade.Builder()
+        .id(fill.path("tradeId").asText(null))
+        .orderId(fill.path("orderId").asText(null))
+        .instrument(
+            CurrencyPairDeserializer.getCurrencyPairFromString(fill.path("market").asText()))
+        .type(
+            FtxAdapters.adaptFtxOrderSideToOrderType(
+                FtxOrderSide.valueOf(fill.path("side").asText())))
+        .originalAmount(decimal(fill, "size"))
+        .price(decimal(fill, "price"))
+        .timestamp(mapper.treeToValue(fill.get("time"), Date.class))
+        .feeAmount(decimal(fill, "fee"))
+        .feeCurrency(feeCurrency == null ? null : Currency.getInstance(feeCurrency))
+        .build();
+  }
+
+  private static BigDecimal decimal(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.decimalValue();
+  }
+}
@@ -0,0 +1,87 @@
+package info.bitrich.xchangestream.ftx;
+
+import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.core.StreamingExchange;
+import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import java.time.Duration;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.ftx.FtxExchange;
+
+public class FtxStreamingExchange extends FtxExchange implements StreamingExchange {
+
+  private static final String API_URI = "wss://ftx.com/ws/";
+
+  private FtxStreamingService streamingService;
+  private FtxStreamingMarketDataService streamingMarketDataService;
+  private FtxStreamingTradeService streamingTradeService;
+
+  @Override
+  protected void initServices() {
+    super.initServices();
+    this.streamingService =
+        new FtxStreamingService(
+            API_URI, exchangeSpecification.getApiKey(), exchangeSpecification.getSecretKey());
+    applyStreamingSpecification(exchangeSpecification, streamingService);
+    this.streamingMarketDataService = new FtxStreamingMarketDataService(streamingService);
+    this.streamingTradeService = new FtxStreamingTradeService(streamingService);
+  }
+
+  @Override
+  public Completable connect(ProductSubscription... args) {
+    return streamingService.connect();
+  }
+
+  @Override
+  public Completable disconnect() {
+    return streamingService.disconnect();
+  }
+
+  @Override
+  public boolean isAlive() {
+    return streamingService.isSocketOpen();
+  }
+
+  @Override
+  public Flowable<Throwable> reconnectFailure() {
+    return streamingService.subscribeReconnectFailure();
+  }
+
+  @Override
+  public Flowable<Object> connectionSuccess() {
+    return streamingService.subscribeConnectionSuccess();
+  }
+
+  @Override
+  public Flowable<Duration> reconnectDuration() {
+    return streamingService.subscribeReconnectDuration();
+  }
+
+  @Override
+  public Flowable<State> connectionStateFlowable() {
+    return streamingService.subscribeConnectionState();
+  }
+
+  @Override
+  public ExchangeSpecification getDefaultExchangeSpecification() {
+    ExchangeSpecification spec = super.getDefaultExchangeSpecification();
+    spec.setShouldLoadRemoteMetaData(false);
+    return spec;
+  }
+
+  @Override
+  public FtxStreamingMarketDataService getStreamingMarketDataService() {
+    return streamingMarketDataService;
+  }
+
+  @Override
+  public FtxStreamingTradeService getStreamingTradeService() {
+    return streamingTradeService;
+  }
+
+  @Override
+  public void useCompressedMessages(boolean compressedMessages) {
+    streamingService.useCompressedMessages(compressedMessages);
+  }
+}
@@ -0,0 +1,101 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.StreamingMarketDataService;
+import info.bitrich.xchangestream.ftx.FtxOrderBookState.Result;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.ftx.FtxAdapters;
+import org.knowm.xchange.ftx.dto.marketdata.FtxTradeDto;
+import org.knowm.xchange.utils.jackson.CurrencyPairDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class FtxStreamingMarketDataService implements StreamingMarketDataService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FtxStreamingMarketDataService.class);
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final FtxStreamingService service;
+  private final Map<String, Flowable<OrderBook>> orderBooks = new ConcurrentHashMap<>();
+
+  public FtxStreamingMarketDataService(FtxStreamingService service) {
+    this.service = service;
+  }
+
+  private static String getChannelName(String channel, String market) {
+    return channel + FtxStreamingService.CHANNEL_DELIMITER + market;
+  }
+
+  @Override
+  public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
+    return getOrderBook(FtxAdapters.adaptCurrencyPairToFtxMarket(currencyPair));
+  }
+
+  /**
+   * Maintains the book of a market from the orderbook channel. When the checksum of the book
+   * doesn't match the exchange's, the channel is resubscribed to get a new partial. The book is
+   * shared by the subscribers of the channel, a late subscriber getting the latest book right away.
+   *
+   * @param market E.g. BTC-PERP or BTC/USD
+   */
+  public Flowable<OrderBook> getOrderBook(String market) {
+    return orderBooks.computeIfAbsent(market, this::subscribeOrderBook);
+  }
+
+  private Flowable<OrderBook> subscribeOrderBook(String market) {
+    String channelName = getChannelName("orderbook", market);
+    return Flowable.defer(
+            () -> {
+              FtxOrderBookState book =
+                  new FtxOrderBookState(CurrencyPairDeserializer.getCurrencyPairFromString(market));
+              return service
+                  .subscribeChannel(channelName)
+                  .filter(
+                      message -> {
+                        Result result =
+                            book.apply(message.path("type").asText(), message.path("data"));
+                        if (result == Result.CHECKSUM_MISMATCH) {
+                          LOG.warn("Checksum mismatch of {}, resubscribing", channelName);
+                          service.resubscribe(channelName);
+                        }
+                        return result == Result.APPLIED;
+                      })
+                  .map(message -> book.toOrderBook());
+            })
+        .replay(1)
+        .refCount();
+  }
+
+  @Override
+  public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
+    return service
+        .subscribeChannel(
+            getChannelName("ticker", FtxAdapters.adaptCurrencyPairToFtxMarket(currencyPair)))
+        .map(message -> FtxStreamingAdapters.adaptTicker(message.path("data"), currencyPair));
+  }
+
+  @Override
+  public Flowable<Trade> getTrades(CurrencyPair currencyPair, Object... args) {
+    return service
+        .subscribeChannel(
+            getChannelName("trades", FtxAdapters.adaptCurrencyPairToFtxMarket(currencyPair)))
+        .flatMapIterable(
+            message -> {
+              List<FtxTradeDto> trades = new ArrayList<>();
+              for (JsonNode trade : message.path("data")) {
+                trades.add(mapper.treeToValue(trade, FtxTradeDto.class));
+              }
+              return FtxAdapters.adaptTrades(trades, currencyPair).getTrades();
+            });
+  }
+}
@@ -0,0 +1,169 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import info.bitrich.xchangestream.ftx.dto.FtxWebSocketRequest;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import org.apache.commons.lang3.StringUtils;
+import org.knowm.xchange.ftx.service.FtxDigest;
+import org.knowm.xchange.utils.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The channels are named after FTX's channel and market, e.g. orderbook:BTC-PERP, or only the
+ * channel for the private fills and orders channels. Messages are parsed with the floats as {@link
+ * java.math.BigDecimal}s, so the order book checksums can be computed from the prices and sizes as
+ * sent.
+ */
+public class FtxStreamingService extends JsonNettyStreamingService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FtxStreamingService.class);
+
+  static final String CHANNEL_DELIMITER = ":";
+  private static final long PING_INTERVAL_SECONDS = 15;
+
+  private final ObjectReader reader =
+      objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+  private final String apiKey;
+  private final String secretKey;
+
+  private Disposable pinger;
+
+  public FtxStreamingService(String apiUrl, String apiKey, String secretKey) {
+    super(apiUrl, Integer.MAX_VALUE);
+    this.apiKey = apiKey;
+    this.secretKey = secretKey;
+  }
+
+  @Override
+  public Completable connect() {
+    return super.connect()
+        .doOnComplete(
+            () -> {
+              if (pinger == null || pinger.isDisposed()) {
+                pinger =
+                    Flowable.interval(PING_INTERVAL_SECONDS, TimeUnit.SECONDS)
+                        .filter(tick -> isSocketOpen())
+                        .subscribe(tick -> sendObjectMessage(FtxWebSocketRequest.ping()));
+              }
+            });
+  }
+
+  @Override
+  public Completable disconnect() {
+    if (pinger != null) pinger.dispose();
+    return super.disconnect();
+  }
+
+  @Override
+  protected WebSocketClientExtensionHandler getWebSocketClientExtensionHandler() {
+    return null;
+  }
+
+  @Override
+  public boolean processArrayMessageSeparately() {
+    return false;
+  }
+
+  boolean isAuthenticated() {
+    return StringUtils.isNotEmpty(apiKey) && StringUtils.isNotEmpty(secretKey);
+  }
+
+  @Override
+  public void messageHandler(String message) {
+    LOG.debug("Received message: {}", message);
+    JsonNode jsonNode;
+    try {
+      jsonNode = reader.readTree(message);
+    } catch (IOException e) {
+      LOG.error("Error parsing incoming message to JSON: {}", message);
+      return;
+    }
+    handleMessage(jsonNode);
+  }
+
+  @Override
+  protected void handleMessage(JsonNode message) {
+    String type = message.path("type").asText();
+    switch (type) {
+      case "partial":
+      case "update":
+        super.handleMessage(message);
+        break;
+      case "error":
+        LOG.error("Error received: {} {}", message.path("code").asInt(), message.path("msg"));
+        break;
+      case "info":
+        LOG.info("Info received: {} {}", message.path("code").asInt(), message.path("msg"));
+        break;
+      default:
+        LOG.debug("{} received: {}", type, message);
+    }
+  }
+
+  @Override
+  protected String getChannelNameFromMessage(JsonNode message) {
+    String channel = message.path("channel").asText();
+    JsonNode market = message.get("market");
+    return market == null || market.isNull()
+        ? channel
+        : channel + CHANNEL_DELIMITER + market.asText();
+  }
+
+  @Override
+  public String getSubscribeMessage(String channelName, Object... args) throws IOException {
+    return getRequest("subscribe", channelName);
+  }
+
+  @Override
+  public String getUnsubscribeMessage(String channelName) throws IOException {
+    return getRequest("unsubscribe", channelName);
+  }
+
+  private String getRequest(String op, String channelName) throws IOException {
+    String[] channel = channelName.split(CHANNEL_DELIMITER, 2);
+    return objectMapper.writeValueAsString(
+        new FtxWebSocketRequest(op, channel[0], channel.length > 1 ? channel[1] : null, null));
+  }
+
+  /** Unsubscribes and subscribes the channel again, e.g. to get a new partial of a book. */
+  void resubscribe(String channelName) {
+    try {
+      sendMessage(getUnsubscribeMessage(channelName));
+      sendMessage(getSubscribeMessage(channelName));
+    } catch (IOException e) {
+      LOG.error("Failed to resubscribe {}", channelName, e);
+    }
+  }
+
+  /** Logs in before the channels are resubscribed, as the private channels require it. */
+  @Override
+  public void resubscribeChannels() {
+    if (isAuthenticated()) {
+      sendObjectMessage(FtxWebSocketRequest.login(getLoginArgs(System.currentTimeMillis())));
+    }
+    super.resubscribeChannels();
+  }
+
+  Map<String, Object> getLoginArgs(long time) {
+    Mac mac = FtxDigest.createInstance(secretKey).getMac();
+    byte[] sign = mac.doFinal((time + "websocket_login").getBytes(StandardCharsets.UTF_8));
+    Map<String, Object> args = new LinkedHashMap<>();
+    args.put("key", apiKey);
+    args.put("sign", DigestUtils.bytesToHex(sign).toLowerCase());
+    args.put("time", time);
+    return args;
+  }
+}
@@ -0,0 +1,51 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.StreamingTradeService;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import io.reactivex.rxjava3.core.Flowable;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.trade.UserTrade;
+import org.knowm.xchange.exceptions.ExchangeSecurityException;
+import org.knowm.xchange.ftx.FtxAdapters;
+import org.knowm.xchange.ftx.dto.trade.FtxOrderDto;
+
+/**
+ * The fills and orders channels of the logged-in account. They are not per market, so the changes
+ * of all the markets are emitted when the currency pair is null.
+ */
+public class FtxStreamingTradeService implements StreamingTradeService {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final FtxStreamingService service;
+
+  public FtxStreamingTradeService(FtxStreamingService service) {
+    this.service = service;
+  }
+
+  @Override
+  public Flowable<Order> getOrderChanges(CurrencyPair currencyPair, Object... args) {
+    checkAuthenticated();
+    return service
+        .subscribeChannel("orders")
+        .map(message -> mapper.treeToValue(message.path("data"), FtxOrderDto.class))
+        .<Order>map(FtxAdapters::adaptLimitOrder)
+        .filter(order -> currencyPair == null || currencyPair.equals(order.getInstrument()));
+  }
+
+  @Override
+  public Flowable<UserTrade> getUserTrades(CurrencyPair currencyPair, Object... args) {
+    checkAuthenticated();
+    return service
+        .subscribeChannel("fills")
+        .map(message -> FtxStreamingAdapters.adaptUserTrade(message.path("data")))
+        .filter(trade -> currencyPair == null || currencyPair.equals(trade.getInstrument()));
+  }
+
+  private void checkAuthenticated() {
+    if (!service.isAuthenticated()) {
+      throw new ExchangeSecurityException("Not authenticated");
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package info.bitrich.xchangestream.ftx.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Map;
+
+/** The subscribe, unsubscribe, login and ping requests. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FtxWebSocketRequest {
+
+  @JsonProperty("op")
+  private final String op;
+
+  @JsonProperty("channel")
+  private final String channel;
+
+  @JsonProperty("market")
+  private final String market;
+
+  @JsonProperty("args")
+  private final Map<String, Object> args;
+
+  public FtxWebSocketRequest(String op, String channel, String market, Map<String, Object> args) {
+    this.op = op;
+    this.channel = channel;
+    this.market = market;
+    this.args = args;
+  }
+
+  public static FtxWebSocketRequest ping() {
+    return new FtxWebSocketRequest("ping", null, null, null);
+  }
+
+  public static FtxWebSocketRequest login(Map<String, Object> args) {
+    return new FtxWebSocketRequest("login", null, null, args);
+  }
+
+  public String getOp() {
+    return op;
+  }
+
+  public String getChannel() {
+    return channel;
+  }
+
+  public String getMarket() {
+    return market;
+  }
+
+  public Map<String, Object> getArgs() {
+    return args;
+  }
+}
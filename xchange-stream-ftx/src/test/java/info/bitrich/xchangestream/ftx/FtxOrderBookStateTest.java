@@ -0,0 +1,76 @@
+package info.bitrich.xchangestream.ftx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.ftx.FtxOrderBookState.Result;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class FtxOrderBookStateTest {
+
+  private final ObjectMapper mapper =
+      new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+  private final FtxOrderBookState book = new FtxOrderBookState(new CurrencyPair("BTC", "PERP"));
+
+  private JsonNode data(String bids, String asks, long checksum) throws IOException {
+    return mapper.readTree(
+        "{\"time\":1603814520.4452431,\"checksum\":"
+            + checksum
+            + ",\"bids\":"
+            + bids
+            + ",\"asks\":"
+            + asks
+            + "}");
+  }
+
+  private JsonNode partial() throws IOException {
+    return data(
+        "[[5000.5,1.5],[5000.0,0.00001],[4999.0,20.0]]",
+        "[[5001.0,2.0],[5002.25,1e16]]",
+        983393401L);
+  }
+
+  @Test
+  public void testFormatsNumbersAsPythonFloats() {
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("5000"))).isEqualTo("5000.0");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("5002.250"))).isEqualTo("5002.25");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("0.0001"))).isEqualTo("0.0001");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("0.00001"))).isEqualTo("1e-05");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("0.000015"))).isEqualTo("1.5e-05");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("1E+16"))).isEqualTo("1e+16");
+    assertThat(FtxOrderBookState.formatFloat(new BigDecimal("0.00"))).isEqualTo("0.0");
+  }
+
+  @Test
+  public void testAppliesUpdatesMatchingTheChecksum() throws IOException {
+    assertThat(book.apply("update", partial())).isEqualTo(Result.DROPPED);
+    assertThat(book.apply("partial", partial())).isEqualTo(Result.APPLIED);
+    assertThat(
+            book.apply(
+                "update",
+                data("[[5000.0,0.0]]", "[[5001.0,3.0],[5003.0,0.1]]", 320737111L)))
+        .isEqualTo(Result.APPLIED);
+
+    OrderBook orderBook = book.toOrderBook();
+    assertThat(orderBook.getBids()).hasSize(2);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualByComparingTo("5000.5");
+    assertThat(orderBook.getAsks()).hasSize(3);
+    assertThat(orderBook.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("3");
+    assertThat(orderBook.getTimeStamp().getTime()).isEqualTo(1603814520445L);
+  }
+
+  @Test
+  public void testDropsTheBookOnChecksumMismatch() throws IOException {
+    book.apply("partial", partial());
+    assertThat(book.apply("update", data("[[5000.0,0.0]]", "[]", 320737111L)))
+        .isEqualTo(Result.CHECKSUM_MISMATCH);
+    assertThat(book.apply("update", data("[]", "[]", 0))).isEqualTo(Result.DROPPED);
+    assertThat(book.apply("partial", partial())).isEqualTo(Result.APPLIED);
+  }
+}
@@ -0,0 +1,73 @@
+package info.bitrich.xchangestream.ftx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.io.IOException;
+import org.junit.Test;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class FtxStreamingMarketDataServiceTest {
+
+  private final ObjectMapper mapper =
+      new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+  private final PublishProcessor<JsonNode> channel = PublishProcessor.create();
+  private int subscriptions;
+  private int resubscriptions;
+  private final FtxStreamingMarketDataService marketDataService =
+      new FtxStreamingMarketDataService(
+          new FtxStreamingService("wss://ftx.com/ws/", null, null) {
+            @Override
+            public Flowable<JsonNode> subscribeChannel(String channelName, Object... args) {
+              subscriptions++;
+              return channel;
+            }
+
+            @Override
+            void resubscribe(String channelName) {
+              resubscriptions++;
+            }
+          });
+
+  @Test
+  public void testLateSubscriberSharesTheBook() throws IOException {
+    TestSubscriber<OrderBook> first = marketDataService.getOrderBook("BTC-PERP").test();
+    channel.onNext(
+        message(
+            "partial",
+            "[[5000.5,1.5],[5000.0,0.00001],[4999.0,20.0]]",
+            "[[5001.0,2.0],[5002.25,1e16]]",
+            983393401L));
+
+    TestSubscriber<OrderBook> late = marketDataService.getOrderBook("BTC-PERP").test();
+    late.assertValueCount(1);
+    channel.onNext(
+        message("update", "[[5000.0,0.0]]", "[[5001.0,3.0],[5003.0,0.1]]", 320737111L));
+
+    first.assertValueCount(2);
+    late.assertValueCount(2);
+    assertThat(late.values().get(1).getAsks().get(0).getOriginalAmount())
+        .isEqualByComparingTo("3");
+    assertThat(subscriptions).isEqualTo(1);
+    assertThat(resubscriptions).isZero();
+  }
+
+  private JsonNode message(String type, String bids, String asks, long checksum)
+      throws IOException {
+    return mapper.readTree(
+        "{\"channel\":\"orderbook\",\"market\":\"BTC-PERP\",\"type\":\""
+            + type
+            + "\",\"data\":{\"time\":1603814520.4452431,\"checksum\":"
+            + checksum
+            + ",\"bids\":"
+            + bids
+            + ",\"asks\":"
+            + asks
+            + "}}");
+  }
+}
@@ -0,0 +1,94 @@
+package info.bitrich.xchangestream.ftx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.UserTrade;
+
+public class FtxStreamingServiceTest {
+
+  private final ObjectMapper mapper =
+      new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+  private final List<String> sent = new ArrayList<>();
+  private final FtxStreamingService service =
+      new FtxStreamingService("wss://ftx.com/ws/", "key", "secret") {
+        @Override
+        public boolean isSocketOpen() {
+          return true;
+        }
+
+        @Override
+        public void sendMessage(String message) {
+          sent.add(message);
+        }
+      };
+
+  @Test
+  public void testSubscribesChannelsOfMarkets() throws IOException {
+    JsonNode request = mapper.readTree(service.getSubscribeMessage("orderbook:BTC-PERP"));
+    assertThat(request.get("op").asText()).isEqualTo("subscribe");
+    assertThat(request.get("channel").asText()).isEqualTo("orderbook");
+    assertThat(request.get("market").asText()).isEqualTo("BTC-PERP");
+
+    request = mapper.readTree(service.getUnsubscribeMessage("fills"));
+    assertThat(request.get("op").asText()).isEqualTo("unsubscribe");
+    assertThat(request.has("market")).isFalse();
+
+    assertThat(
+            service.getChannelNameFromMessage(
+                mapper.readTree("{\"channel\":\"trades\",\"market\":\"BTC/USD\"}")))
+        .isEqualTo("trades:BTC/USD");
+    assertThat(service.getChannelNameFromMessage(mapper.readTree("{\"channel\":\"orders\"}")))
+        .isEqualTo("orders");
+  }
+
+  @Test
+  public void testSignsTheLogin() {
+    Map<String, Object> args = service.getLoginArgs(1557246346499L);
+    assertThat(args.get("key")).isEqualTo("key");
+    assertThat(args.get("time")).isEqualTo(1557246346499L);
+    // HMAC-SHA256 of "1557246346499websocket_login" with the secret
+    assertThat(args.get("sign"))
+        .isEqualTo("b94cff7e4e8d45118550921d8a77393e5b87e26a72052a35da6972f79be26047");
+  }
+
+  @Test
+  public void testResubscribesByUnsubscribingFirst() throws IOException {
+    service.resubscribe("orderbook:BTC-PERP");
+
+    assertThat(sent).hasSize(2);
+    JsonNode unsubscribe = mapper.readTree(sent.get(0));
+    assertThat(unsubscribe.get("op").asText()).isEqualTo("unsubscribe");
+    assertThat(unsubscribe.get("market").asText()).isEqualTo("BTC-PERP");
+    assertThat(mapper.readTree(sent.get(1)).get("op").asText()).isEqualTo("subscribe");
+  }
+
+  @Test
+  public void testAdaptsFills() throws IOException {
+    UserTrade fill =
+        FtxStreamingAdapters.adaptUserTrade(
+            mapper.readTree(
+                "{\"fee\":78.05799225,\"feeRate\":0.0014,\"future\":null,\"id\":7828307,"
+                    + "\"liquidity\":\"taker\",\"market\":\"BTC/USD\",\"orderId\":38065410,"
+                    + "\"tradeId\":19129310,\"price\":3723.75,\"side\":\"buy\",\"size\":14.973,"
+                    + "\"time\":\"2019-05-07T16:40:58.358438+00:00\",\"type\":\"order\","
+                    + "\"feeCurrency\":\"USD\"}"));
+
+    assertThat(fill.getInstrument()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(fill.getType()).isEqualTo(OrderType.BID);
+    assertThat(fill.getId()).isEqualTo("19129310");
+    assertThat(fill.getOrderId()).isEqualTo("38065410");
+    assertThat(fill.getPrice()).isEqualByComparingTo("3723.75");
+    assertThat(fill.getFeeAmount()).isEqualByComparingTo("78.05799225");
+    assertThat(fill.getTimestamp().getTime()).isEqualTo(1557247258358L);
+  }
+}
@@ -9,6 +9,7 @@ import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import java.io.IOException;
+import java.time.Duration;
 import org.apache.commons.lang3.StringUtils;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.kraken.KrakenExchange;
@@ -44,15 +45,22 @@ public class KrakenStreamingExchange extends KrakenExchange implements Streaming
             (Boolean) exchangeSpecification.getExchangeSpecificParametersItem(USE_BETA),
             Boolean.FALSE);
 
+    String publicUri =
+        MoreObjects.firstNonNull(
+            (String) exchangeSpecification.getExchangeSpecificParametersItem(WEBSOCKET_API_URI),
+            pickUri(false, useBeta));
+
     KrakenAccountServiceRaw accountService = (KrakenAccountServiceRaw) getAccountService();
 
     this.streamingService =
-        new KrakenStreamingService(false, pickUri(false, useBeta), () -> authData(accountService));
+        new KrakenStreamingService(false, publicUri, () -> authData(accountService));
+    applyStreamingSpecification(exchangeSpecification, streamingService);
     this.streamingMarketDataService = new KrakenStreamingMarketDataService(streamingService);
 
     if (StringUtils.isNotEmpty(exchangeSpecification.getApiKey())) {
       this.privateStreamingService =
           new KrakenStreamingService(true, pickUri(true, useBeta), () -> authData(accountService));
+      applyStreamingSpecification(exchangeSpecification, privateStreamingService);
     }
 
     streamingTradeService = new KrakenStreamingTradeService(privateStreamingService);
@@ -88,6 +96,11 @@ public class KrakenStreamingExchange extends KrakenExchange implements Streaming
     return streamingService.subscribeReconnectFailure();
   }
 
+  @Override
+  public Flowable<Duration> reconnectDuration() {
+    return streamingService.subscribeReconnectDuration();
+  }
+
   @Override
   public Flowable<State> connectionStateFlowable() {
     return streamingService.subscribeConnectionState();
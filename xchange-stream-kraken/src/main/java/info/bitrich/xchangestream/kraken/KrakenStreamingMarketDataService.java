@@ -38,21 +38,25 @@ public class KrakenStreamingMarketDataService implements StreamingMarketDataServ
         OrderBook orderBook = new OrderBook(null, Lists.newArrayList(), Lists.newArrayList());
         int depth = parseOrderBookSize(args);
         return subscribe(channelName, MIN_DATA_ARRAY_SIZE, depth)
-                .map(arrayNode -> KrakenStreamingAdapters.adaptOrderbookMessage(orderBook, currencyPair, arrayNode));
+                .map(service.getMetrics().timed(channelName,
+                        arrayNode -> KrakenStreamingAdapters.adaptOrderbookMessage(orderBook, currencyPair, arrayNode)));
     }
 
     @Override
     public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
         String channelName = getChannelName(KrakenSubscriptionName.ticker, currencyPair);
         return subscribe(channelName, MIN_DATA_ARRAY_SIZE, null)
-                .map(arrayNode -> KrakenStreamingAdapters.adaptTickerMessage(currencyPair, arrayNode));
+                .map(service.getMetrics().timed(channelName,
+                        arrayNode -> KrakenStreamingAdapters.adaptTickerMessage(currencyPair, arrayNode)));
     }
 
     @Override
     public Flowable<Trade> getTrades(CurrencyPair currencyPair, Object... args) {
         String channelName = getChannelName(KrakenSubscriptionName.trade, currencyPair);
         return subscribe(channelName, MIN_DATA_ARRAY_SIZE, null)
-                .flatMap(arrayNode -> Flowable.fromIterable(KrakenStreamingAdapters.adaptTrades(currencyPair, arrayNode)));
+                .map(service.getMetrics().timed(channelName,
+                        arrayNode -> KrakenStreamingAdapters.adaptTrades(currencyPair, arrayNode)))
+                .flatMap(Flowable::fromIterable);
     }
 
 
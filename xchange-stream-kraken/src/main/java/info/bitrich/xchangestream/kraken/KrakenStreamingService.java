@@ -11,19 +11,29 @@ import info.bitrich.xchangestream.kraken.dto.KrakenSubscriptionStatusMessage;
 import info.bitrich.xchangestream.kraken.dto.KrakenSystemStatus;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenEventType;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenSubscriptionName;
+import info.bitrich.xchangestream.service.exception.NotConnectedException;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextHandler;
 import info.bitrich.xchangestream.service.netty.WebSocketClientHandler;
+import info.bitrich.xchangestream.util.PendingRequests;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.websocketx.WebSocketClientHandshaker;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.knowm.xchange.exceptions.ExchangeException;
@@ -35,11 +45,18 @@ import org.slf4j.LoggerFactory;
 public class KrakenStreamingService extends JsonNettyStreamingService {
   private static final Logger LOG = LoggerFactory.getLogger(KrakenStreamingService.class);
   private static final String EVENT = "event";
+  private static final long ORDER_ACK_TIMEOUT_SECONDS = 10;
   private final Map<Integer, String> channels = new ConcurrentHashMap<>();
   private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
   private final boolean isPrivate;
   private final Supplier<KrakenWebsocketToken> authData;
   private final Map<Integer, String> subscriptionRequestMap = new ConcurrentHashMap<>();
+  private final Map<Integer, Map<String, String>> batchSubscriptionRequestMap =
+      new ConcurrentHashMap<>();
+  private final PendingRequests<Integer, JsonNode> pendingOrderRequests =
+      new PendingRequests<>(ORDER_ACK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+  private final AtomicInteger orderRequestIds = new AtomicInteger();
+  private volatile Single<String> token;
 
   public KrakenStreamingService(
       boolean isPrivate, String uri, final Supplier<KrakenWebsocketToken> authData) {
@@ -97,7 +114,7 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
             KrakenSubscriptionStatusMessage statusMessage =
                 mapper.treeToValue(message, KrakenSubscriptionStatusMessage.class);
             Integer reqid = statusMessage.getReqid();
-            if (!isPrivate && reqid != null) channelName = subscriptionRequestMap.remove(reqid);
+            if (!isPrivate && reqid != null) channelName = getRequestedChannel(statusMessage);
 
             switch (statusMessage.getStatus()) {
               case subscribed:
@@ -119,6 +136,11 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
                 }
             }
             break;
+          case addOrderStatus:
+          case cancelOrderStatus:
+          case editOrderStatus:
+            handleOrderStatus(message);
+            break;
           case error:
             LOG.error(
                 "Error received: {}",
@@ -143,6 +165,69 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
     super.handleMessage(message);
   }
 
+  private void handleOrderStatus(JsonNode message) {
+    JsonNode reqid = message.get("reqid");
+    boolean pending;
+    if (reqid == null) {
+      pending = false;
+    } else if ("error".equals(message.path("status").asText())) {
+      pending =
+          pendingOrderRequests.fail(
+              reqid.asInt(), new ExchangeException(message.path("errorMessage").asText()));
+    } else {
+      pending = pendingOrderRequests.complete(reqid.asInt(), message);
+    }
+    if (!pending) {
+      LOG.warn("Order status of an unknown request: {}", message);
+    }
+  }
+
+  /**
+   * Sends an order request, built from the token and its reqid, over the private connection.
+   *
+   * @return {@link Single} that emits the status event with the same reqid, or fails with an
+   *     {@link ExchangeException} if its status is error
+   */
+  Single<JsonNode> sendOrderRequest(BiFunction<String, Integer, Object> request) {
+    return getTokenAsync()
+        .flatMap(
+            currentToken ->
+                pendingOrderRequests.send(
+                    orderRequestIds.incrementAndGet(),
+                    reqid -> {
+                      if (!isSocketOpen()) {
+                        throw new NotConnectedException();
+                      }
+                      sendObjectMessage(request.apply(currentToken, reqid));
+                    }));
+  }
+
+  /**
+   * The token is requested once per connection, on an io thread, so that order requests neither
+   * wait for a REST call on the caller's thread nor make one each. A failed request is forgotten so
+   * that the next one tries again.
+   */
+  synchronized Single<String> getTokenAsync() {
+    if (token == null) {
+      token =
+          Single.fromCallable(() -> authData.get().getToken())
+              .subscribeOn(Schedulers.io())
+              .cache();
+    }
+    Single<String> current = token;
+    return current.doOnError(e -> forgetToken(current));
+  }
+
+  private synchronized void forgetToken(Single<String> stale) {
+    if (token == stale) {
+      token = null;
+    }
+  }
+
+  private String getToken() {
+    return getTokenAsync().blockingGet();
+  }
+
   @Override
   protected String getChannelNameFromMessage(JsonNode message) throws IOException {
     String channelName = null;
@@ -176,20 +261,18 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
     KrakenSubscriptionName subscriptionName = KrakenSubscriptionName.valueOf(channelData[0]);
 
     if (isPrivate) {
-      final String token = authData.get().getToken();
-
       KrakenSubscriptionMessage subscriptionMessage =
           new KrakenSubscriptionMessage(
-              reqID, subscribe, null, new KrakenSubscriptionConfig(subscriptionName, null, token));
+              reqID,
+              subscribe,
+              null,
+              new KrakenSubscriptionConfig(subscriptionName, null, getToken()));
 
       return objectMapper.writeValueAsString(subscriptionMessage);
     } else {
       String pair = channelData[1];
 
-      Integer depth = null;
-      if (args.length > 0 && args[0] != null) {
-        depth = (Integer) args[0];
-      }
+      Integer depth = getDepth(args);
       subscriptionRequestMap.put(reqID, channelName);
 
       KrakenSubscriptionMessage subscriptionMessage =
@@ -202,6 +285,72 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
     }
   }
 
+  /**
+   * Kraken accepts a list of pairs in a single subscribe message, so public channels are
+   * resubscribed with one message per subscription name and depth instead of one per channel.
+   */
+  @Override
+  protected List<String> getResubscribeMessages(List<Subscription> subscriptions)
+      throws IOException {
+    if (isPrivate) {
+      return super.getResubscribeMessages(subscriptions);
+    }
+    Map<String, List<Subscription>> batches = new LinkedHashMap<>();
+    for (Subscription subscription : subscriptions) {
+      String[] channelData =
+          subscription
+              .getChannelName()
+              .split(KrakenStreamingMarketDataService.KRAKEN_CHANNEL_DELIMITER);
+      batches
+          .computeIfAbsent(
+              channelData[0] + ":" + getDepth(subscription.getArgs()), k -> new ArrayList<>())
+          .add(subscription);
+    }
+
+    List<String> messages = new ArrayList<>(batches.size());
+    for (List<Subscription> batch : batches.values()) {
+      int reqID = Math.abs(UUID.randomUUID().hashCode());
+      Map<String, String> requestedChannels = new ConcurrentHashMap<>();
+      KrakenSubscriptionName subscriptionName = null;
+      for (Subscription subscription : batch) {
+        String[] channelData =
+            subscription
+                .getChannelName()
+                .split(KrakenStreamingMarketDataService.KRAKEN_CHANNEL_DELIMITER);
+        subscriptionName = KrakenSubscriptionName.valueOf(channelData[0]);
+        requestedChannels.put(channelData[1], subscription.getChannelName());
+      }
+      batchSubscriptionRequestMap.put(reqID, requestedChannels);
+
+      KrakenSubscriptionMessage subscriptionMessage =
+          new KrakenSubscriptionMessage(
+              reqID,
+              subscribe,
+              new ArrayList<>(requestedChannels.keySet()),
+              new KrakenSubscriptionConfig(
+                  subscriptionName, getDepth(batch.get(0).getArgs()), null));
+      messages.add(objectMapper.writeValueAsString(subscriptionMessage));
+    }
+    return messages;
+  }
+
+  private static Integer getDepth(Object[] args) {
+    return args.length > 0 && args[0] != null ? (Integer) args[0] : null;
+  }
+
+  private String getRequestedChannel(KrakenSubscriptionStatusMessage statusMessage) {
+    Integer reqid = statusMessage.getReqid();
+    Map<String, String> requestedChannels = batchSubscriptionRequestMap.get(reqid);
+    if (requestedChannels == null) {
+      return subscriptionRequestMap.remove(reqid);
+    }
+    String channelName = requestedChannels.remove(statusMessage.getPair());
+    if (requestedChannels.isEmpty()) {
+      batchSubscriptionRequestMap.remove(reqid);
+    }
+    return channelName;
+  }
+
   @Override
   public String getUnsubscribeMessage(String channelName) throws IOException {
     int reqID = Math.abs(UUID.randomUUID().hashCode());
@@ -260,6 +409,8 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
       super.channelInactive(ctx);
+      forgetToken(token);
+      pendingOrderRequests.failAll(new NotConnectedException());
       if (channelInactiveHandler != null) {
         channelInactiveHandler.onMessage("WebSocket Client disconnected!");
       }
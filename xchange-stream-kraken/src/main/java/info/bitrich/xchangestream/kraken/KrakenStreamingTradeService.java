@@ -2,12 +2,17 @@ package info.bitrich.xchangestream.kraken;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import info.bitrich.xchangestream.core.StreamingTradeService;
+import info.bitrich.xchangestream.kraken.dto.KrakenAddOrderMessage;
+import info.bitrich.xchangestream.kraken.dto.KrakenCancelOrderMessage;
+import info.bitrich.xchangestream.kraken.dto.KrakenEditOrderMessage;
 import info.bitrich.xchangestream.kraken.dto.KrakenOpenOrder;
 import info.bitrich.xchangestream.kraken.dto.KrakenOwnTrade;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenSubscriptionName;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import java.math.BigDecimal;
 import java.util.*;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
@@ -182,6 +187,77 @@ public class KrakenStreamingTradeService implements StreamingTradeService {
     }
   }
 
+  @Override
+  public Single<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    return placeOrder(limitOrder, "limit", limitOrder.getLimitPrice());
+  }
+
+  @Override
+  public Single<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return placeOrder(marketOrder, "market", null);
+  }
+
+  private Single<String> placeOrder(Order order, String orderType, BigDecimal price) {
+    return streamingService
+        .sendOrderRequest(
+            (token, reqid) ->
+                new KrakenAddOrderMessage(
+                    token,
+                    reqid,
+                    orderType,
+                    KrakenType.fromOrderType(order.getType()).toString(),
+                    getPair(order.getCurrencyPair()),
+                    price == null ? null : price.toPlainString(),
+                    order.getOriginalAmount().toPlainString(),
+                    delimitFlags(order.getOrderFlags()),
+                    order.getUserReference()))
+        .map(status -> status.path("txid").asText());
+  }
+
+  @Override
+  public Single<Boolean> cancelOrderAsync(String orderId) {
+    return streamingService
+        .sendOrderRequest(
+            (token, reqid) ->
+                new KrakenCancelOrderMessage(token, reqid, Collections.singletonList(orderId)))
+        .map(status -> true);
+  }
+
+  /** Kraken replaces the order, so the id emitted is the id of the new order. */
+  @Override
+  public Single<String> changeOrderAsync(LimitOrder limitOrder) {
+    return streamingService
+        .sendOrderRequest(
+            (token, reqid) ->
+                new KrakenEditOrderMessage(
+                    token,
+                    reqid,
+                    limitOrder.getId(),
+                    getPair(limitOrder.getCurrencyPair()),
+                    limitOrder.getLimitPrice() == null
+                        ? null
+                        : limitOrder.getLimitPrice().toPlainString(),
+                    limitOrder.getOriginalAmount() == null
+                        ? null
+                        : limitOrder.getOriginalAmount().toPlainString(),
+                    limitOrder.getUserReference()))
+        .map(status -> status.path("txid").asText());
+  }
+
+  private static String getPair(CurrencyPair currencyPair) {
+    return currencyPair.base + "/" + currencyPair.counter;
+  }
+
+  private static String delimitFlags(Set<Order.IOrderFlags> flags) {
+    StringJoiner joiner = new StringJoiner(",");
+    for (Order.IOrderFlags flag : flags) {
+      if (flag instanceof KrakenOrderFlags) {
+        joiner.add(flag.toString());
+      }
+    }
+    return joiner.length() == 0 ? null : joiner.toString();
+  }
+
   private List<UserTrade> adaptKrakenUserTrade(KrakenDtoUserTradeHolder[] ownTrades) {
     List<UserTrade> result = new ArrayList<>();
 
@@ -0,0 +1,88 @@
+package info.bitrich.xchangestream.kraken.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import info.bitrich.xchangestream.kraken.dto.enums.KrakenEventType;
+
+/** Places an order, acknowledged by an addOrderStatus event with the same reqid. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KrakenAddOrderMessage extends KrakenEvent {
+
+  @JsonProperty private final String token;
+
+  @JsonProperty private final Integer reqid;
+
+  /** market|limit|stop-loss|take-profit|stop-loss-limit|take-profit-limit|settle-position */
+  @JsonProperty private final String ordertype;
+
+  /** buy|sell */
+  @JsonProperty private final String type;
+
+  /** Format of the pair is "A/B". */
+  @JsonProperty private final String pair;
+
+  /** Optional, required for limit orders. */
+  @JsonProperty private final String price;
+
+  @JsonProperty private final String volume;
+
+  /** Optional, comma delimited list of order flags, e.g. post. */
+  @JsonProperty private final String oflags;
+
+  /** Optional, user reference id, a 32-bit signed number. */
+  @JsonProperty private final String userref;
+
+  public KrakenAddOrderMessage(
+      String token,
+      Integer reqid,
+      String ordertype,
+      String type,
+      String pair,
+      String price,
+      String volume,
+      String oflags,
+      String userref) {
+    super(KrakenEventType.addOrder);
+    this.token = token;
+    this.reqid = reqid;
+    this.ordertype = ordertype;
+    this.type = type;
+    this.pair = pair;
+    this.price = price;
+    this.volume = volume;
+    this.oflags = oflags;
+    this.userref = userref;
+  }
+
+  public Integer getReqid() {
+    return reqid;
+  }
+
+  public String getOrdertype() {
+    return ordertype;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getPair() {
+    return pair;
+  }
+
+  public String getPrice() {
+    return price;
+  }
+
+  public String getVolume() {
+    return volume;
+  }
+
+  public String getOflags() {
+    return oflags;
+  }
+
+  public String getUserref() {
+    return userref;
+  }
+}
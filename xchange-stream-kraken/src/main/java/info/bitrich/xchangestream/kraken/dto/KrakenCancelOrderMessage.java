@@ -0,0 +1,33 @@
+package info.bitrich.xchangestream.kraken.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import info.bitrich.xchangestream.kraken.dto.enums.KrakenEventType;
+import java.util.List;
+
+/** Cancels orders, acknowledged by a cancelOrderStatus event with the same reqid. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KrakenCancelOrderMessage extends KrakenEvent {
+
+  @JsonProperty private final String token;
+
+  @JsonProperty private final Integer reqid;
+
+  /** The order ids or user reference ids of the orders to cancel. */
+  @JsonProperty private final List<String> txid;
+
+  public KrakenCancelOrderMessage(String token, Integer reqid, List<String> txid) {
+    super(KrakenEventType.cancelOrder);
+    this.token = token;
+    this.reqid = reqid;
+    this.txid = txid;
+  }
+
+  public Integer getReqid() {
+    return reqid;
+  }
+
+  public List<String> getTxid() {
+    return txid;
+  }
+}
@@ -0,0 +1,72 @@
+package info.bitrich.xchangestream.kraken.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import info.bitrich.xchangestream.kraken.dto.enums.KrakenEventType;
+
+/**
+ * Amends an open order, acknowledged by an editOrderStatus event with the same reqid. Kraken
+ * replaces the order, the acknowledgement carrying the id of the new order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KrakenEditOrderMessage extends KrakenEvent {
+
+  @JsonProperty private final String token;
+
+  @JsonProperty private final Integer reqid;
+
+  @JsonProperty private final String orderid;
+
+  @JsonProperty private final String pair;
+
+  /** Optional, the new price. */
+  @JsonProperty private final String price;
+
+  /** Optional, the new volume. */
+  @JsonProperty private final String volume;
+
+  /** Optional, the user reference id of the new order. */
+  @JsonProperty private final String newuserref;
+
+  public KrakenEditOrderMessage(
+      String token,
+      Integer reqid,
+      String orderid,
+      String pair,
+      String price,
+      String volume,
+      String newuserref) {
+    super(KrakenEventType.editOrder);
+    this.token = token;
+    this.reqid = reqid;
+    this.orderid = orderid;
+    this.pair = pair;
+    this.price = price;
+    this.volume = volume;
+    this.newuserref = newuserref;
+  }
+
+  public Integer getReqid() {
+    return reqid;
+  }
+
+  public String getOrderid() {
+    return orderid;
+  }
+
+  public String getPair() {
+    return pair;
+  }
+
+  public String getPrice() {
+    return price;
+  }
+
+  public String getVolume() {
+    return volume;
+  }
+
+  public String getNewuserref() {
+    return newuserref;
+  }
+}
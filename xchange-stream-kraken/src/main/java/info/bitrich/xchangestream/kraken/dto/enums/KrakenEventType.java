@@ -12,6 +12,12 @@ public enum KrakenEventType {
   pingStatus,
   ping,
   pong,
+  addOrder,
+  addOrderStatus,
+  cancelOrder,
+  cancelOrderStatus,
+  editOrder,
+  editOrderStatus,
   error;
 
   public static KrakenEventType getEvent(String event) {
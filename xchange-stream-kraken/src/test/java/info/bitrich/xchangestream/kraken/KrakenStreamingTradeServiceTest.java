@@ -0,0 +1,120 @@
+package info.bitrich.xchangestream.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.rxjava3.observers.TestObserver;
+import java.math.BigDecimal;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.kraken.dto.account.KrakenWebsocketToken;
+
+public class KrakenStreamingTradeServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+  private final AtomicInteger tokenRequests = new AtomicInteger();
+  private final AtomicReference<Thread> tokenThread = new AtomicReference<>();
+  private KrakenStreamingService service;
+  private KrakenStreamingTradeService tradeService;
+
+  @Before
+  public void setUp() {
+    service =
+        new KrakenStreamingService(
+            true,
+            "wss://ws-auth.kraken.com",
+            () -> {
+              tokenRequests.incrementAndGet();
+              tokenThread.set(Thread.currentThread());
+              return new KrakenWebsocketToken("token", 900);
+            }) {
+          @Override
+          public boolean isSocketOpen() {
+            return true;
+          }
+
+          @Override
+          public void sendMessage(String message) {
+            sent.add(message);
+          }
+        };
+    tradeService = new KrakenStreamingTradeService(service);
+  }
+
+  @Test
+  public void testOrderRequestsAreCorrelatedByReqid() throws Exception {
+    TestObserver<String> placed =
+        tradeService
+            .placeLimitOrderAsync(
+                new LimitOrder.Builder(OrderType.BID, CurrencyPair.BTC_USD)
+                    .originalAmount(new BigDecimal("0.5"))
+                    .limitPrice(new BigDecimal("9000.1"))
+                    .build())
+            .test();
+    JsonNode placeRequest = objectMapper.readTree(sent.poll(5, TimeUnit.SECONDS));
+    assertThat(placeRequest.get("event").asText()).isEqualTo("addOrder");
+    assertThat(placeRequest.get("token").asText()).isEqualTo("token");
+    assertThat(placeRequest.get("pair").asText()).isEqualTo("BTC/USD");
+    assertThat(placeRequest.get("price").asText()).isEqualTo("9000.1");
+    assertThat(tokenThread.get()).isNotSameAs(Thread.currentThread());
+
+    TestObserver<Boolean> canceled = tradeService.cancelOrderAsync("OXXXXX-XXXXX-XXXXXX").test();
+    JsonNode cancelRequest = objectMapper.readTree(sent.poll(5, TimeUnit.SECONDS));
+    assertThat(cancelRequest.get("reqid").asInt())
+        .isNotEqualTo(placeRequest.get("reqid").asInt());
+
+    // the replies arrive in the reverse order of the requests
+    service.handleMessage(
+        objectMapper.readTree(
+            "{\"event\":\"cancelOrderStatus\",\"reqid\":"
+                + cancelRequest.get("reqid").asInt()
+                + ",\"status\":\"error\",\"errorMessage\":\"EOrder:Unknown order\"}"));
+    service.handleMessage(
+        objectMapper.readTree(
+            "{\"event\":\"addOrderStatus\",\"reqid\":"
+                + placeRequest.get("reqid").asInt()
+                + ",\"status\":\"ok\",\"txid\":\"ONPNXH-KMKMU-F4MR5V\","
+                + "\"descr\":\"buy 0.5 XBTUSD @ limit 9000.1\"}"));
+
+    placed.awaitDone(5, TimeUnit.SECONDS).assertValue("ONPNXH-KMKMU-F4MR5V");
+    canceled
+        .awaitDone(5, TimeUnit.SECONDS)
+        .assertError(
+            e -> e instanceof ExchangeException && e.getMessage().equals("EOrder:Unknown order"));
+    assertThat(tokenRequests).hasValue(1);
+  }
+
+  @Test
+  public void testFailedTokenRequestIsRetried() throws Exception {
+    AtomicInteger attempts = new AtomicInteger();
+    KrakenStreamingService failingOnce =
+        new KrakenStreamingService(
+            true,
+            "wss://ws-auth.kraken.com",
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                throw new ExchangeException("EAPI:Rate limit exceeded");
+              }
+              return new KrakenWebsocketToken("token", 900);
+            });
+
+    failingOnce
+        .getTokenAsync()
+        .test()
+        .awaitDone(5, TimeUnit.SECONDS)
+        .assertError(ExchangeException.class);
+    failingOnce.getTokenAsync().test().awaitDone(5, TimeUnit.SECONDS).assertValue("token");
+    assertThat(attempts).hasValue(2);
+  }
+}
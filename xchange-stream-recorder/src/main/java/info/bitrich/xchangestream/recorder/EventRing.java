@@ -0,0 +1,84 @@
+package info.bitrich.xchangestream.recorder;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single producer, single consumer queue of events and their receive times. The slots are
+ * preallocated, so offering an event doesn't allocate, and a full ring drops the event rather than
+ * blocking the producer.
+ */
+final class EventRing {
+
+  interface Handler {
+    void onEvent(Object event, long nanos) throws IOException;
+  }
+
+  private final Object[] events;
+  private final long[] nanos;
+  private final int mask;
+
+  /** The next slot to read, only written by the consumer. */
+  private final AtomicLong head = new AtomicLong();
+  /** The next slot to write, only written by the producer. */
+  private final AtomicLong tail = new AtomicLong();
+
+  private long cachedHead;
+  private volatile long dropped;
+
+  EventRing(int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of 2: " + capacity);
+    }
+    this.events = new Object[capacity];
+    this.nanos = new long[capacity];
+    this.mask = capacity - 1;
+  }
+
+  /** Called by the producer. @return false if the ring is full and the event was dropped */
+  boolean offer(Object event, long receivedNanos) {
+    long t = tail.get();
+    if (t - cachedHead >= events.length) {
+      cachedHead = head.get();
+      if (t - cachedHead >= events.length) {
+        dropped++;
+        return false;
+      }
+    }
+    int index = (int) t & mask;
+    nanos[index] = receivedNanos;
+    events[index] = event;
+    tail.lazySet(t + 1);
+    return true;
+  }
+
+  /**
+   * Called by the consumer.
+   *
+   * @return The number of events handled
+   */
+  int drain(Handler handler, int limit) throws IOException {
+    long h = head.get();
+    long available = Math.min(tail.get() - h, limit);
+    for (int i = 0; i < available; i++) {
+      int index = (int) (h + i) & mask;
+      Object event = events[index];
+      events[index] = null;
+      try {
+        handler.onEvent(event, nanos[index]);
+      } finally {
+        head.lazySet(h + i + 1);
+      }
+    }
+    return (int) available;
+  }
+
+  boolean isEmpty() {
+    return head.get() == tail.get();
+  }
+
+  /** @return The number of events dropped because the ring was full. */
+  long getDropped() {
+    return dropped;
+  }
+}
@@ -0,0 +1,278 @@
+package info.bitrich.xchangestream.recorder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.derivative.FuturesContract;
+import org.knowm.xchange.derivative.OptionsContract;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Binary encoding of the record payloads. Decimals whose unscaled value fits a long are stored as
+ * a scale byte and a long, others as their string representation.
+ */
+final class JournalCodec {
+
+  private static final byte NULL = 0;
+  private static final byte COMPACT = 1;
+  private static final byte TEXT = 2;
+
+  private static final OrderType[] ORDER_TYPES = OrderType.values();
+
+  private JournalCodec() {}
+
+  /** @throws java.nio.BufferOverflowException if the buffer is too small */
+  static void encode(ByteBuffer buffer, RecordType type, Object event) {
+    switch (type) {
+      case SOURCE:
+      case FRAME:
+        putUtf8((String) event, buffer);
+        break;
+      case TRADE:
+        encodeTrade(buffer, (Trade) event);
+        break;
+      case TICKER:
+        encodeTicker(buffer, (Ticker) event);
+        break;
+      case ORDER_BOOK_UPDATE:
+        encodeOrderBookUpdate(buffer, (OrderBookUpdate) event);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported record type " + type);
+    }
+  }
+
+  /** Decodes the payload between the position and the limit of the buffer. */
+  static Object decode(ByteBuffer buffer, RecordType type) {
+    switch (type) {
+      case SOURCE:
+      case FRAME:
+        return getUtf8(buffer, buffer.remaining());
+      case TRADE:
+        return decodeTrade(buffer);
+      case TICKER:
+        return decodeTicker(buffer);
+      case ORDER_BOOK_UPDATE:
+        return decodeOrderBookUpdate(buffer);
+      default:
+        throw new IllegalArgumentException("Unsupported record type " + type);
+    }
+  }
+
+  private static void encodeTrade(ByteBuffer buffer, Trade trade) {
+    putOrderType(buffer, trade.getType());
+    putDecimal(buffer, trade.getOriginalAmount());
+    putInstrument(buffer, trade.getInstrument());
+    putDecimal(buffer, trade.getPrice());
+    putDate(buffer, trade.getTimestamp());
+    putString(buffer, trade.getId());
+    putString(buffer, trade.getMakerOrderId());
+    putString(buffer, trade.getTakerOrderId());
+  }
+
+  private static Trade decodeTrade(ByteBuffer buffer) {
+    return new Trade.Builder()
+        .type(getOrderType(buffer))
+        .originalAmount(getDecimal(buffer))
+        .instrument(getInstrument(buffer))
+        .price(getDecimal(buffer))
+        .timestamp(getDate(buffer))
+        .id(getString(buffer))
+        .makerOrderId(getString(buffer))
+        .takerOrderId(getString(buffer))
+        .build();
+  }
+
+  private static void encodeTicker(ByteBuffer buffer, Ticker ticker) {
+    putInstrument(buffer, ticker.getInstrument());
+    putDecimal(buffer, ticker.getOpen());
+    putDecimal(buffer, ticker.getLast());
+    putDecimal(buffer, ticker.getBid());
+    putDecimal(buffer, ticker.getAsk());
+    putDecimal(buffer, ticker.getHigh());
+    putDecimal(buffer, ticker.getLow());
+    putDecimal(buffer, ticker.getVwap());
+    putDecimal(buffer, ticker.getVolume());
+    putDecimal(buffer, ticker.getQuoteVolume());
+    putDate(buffer, ticker.getTimestamp());
+    putDecimal(buffer, ticker.getBidSize());
+    putDecimal(buffer, ticker.getAskSize());
+    putDecimal(buffer, ticker.getPercentageChange());
+  }
+
+  private static Ticker decodeTicker(ByteBuffer buffer) {
+    return new Ticker.Builder()
+        .instrument(getInstrument(buffer))
+        .open(getDecimal(buffer))
+        .last(getDecimal(buffer))
+        .bid(getDecimal(buffer))
+        .ask(getDecimal(buffer))
+        .high(getDecimal(buffer))
+        .low(getDecimal(buffer))
+        .vwap(getDecimal(buffer))
+        .volume(getDecimal(buffer))
+        .quoteVolume(getDecimal(buffer))
+        .timestamp(getDate(buffer))
+        .bidSize(getDecimal(buffer))
+        .askSize(getDecimal(buffer))
+        .percentageChange(getDecimal(buffer))
+        .build();
+  }
+
+  private static void encodeOrderBookUpdate(ByteBuffer buffer, OrderBookUpdate update) {
+    LimitOrder order = update.getLimitOrder();
+    putOrderType(buffer, order.getType());
+    putDecimal(buffer, order.getOriginalAmount());
+    putInstrument(buffer, order.getInstrument());
+    putDecimal(buffer, order.getLimitPrice());
+    putDate(buffer, order.getTimestamp());
+    putDecimal(buffer, update.getTotalVolume());
+  }
+
+  private static OrderBookUpdate decodeOrderBookUpdate(ByteBuffer buffer) {
+    return new OrderBookUpdate(
+        getOrderType(buffer),
+        getDecimal(buffer),
+        getInstrument(buffer),
+        getDecimal(buffer),
+        getDate(buffer),
+        getDecimal(buffer));
+  }
+
+  private static void putOrderType(ByteBuffer buffer, OrderType type) {
+    buffer.put(type == null ? -1 : (byte) type.ordinal());
+  }
+
+  private static OrderType getOrderType(ByteBuffer buffer) {
+    byte ordinal = buffer.get();
+    return ordinal < 0 ? null : ORDER_TYPES[ordinal];
+  }
+
+  static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+    if (value == null) {
+      buffer.put(NULL);
+      return;
+    }
+    int scale = value.scale();
+    if (scale >= Byte.MIN_VALUE && scale <= Byte.MAX_VALUE) {
+      BigInteger unscaled = value.unscaledValue();
+      if (unscaled.bitLength() < Long.SIZE) {
+        buffer.put(COMPACT).put((byte) scale).putLong(unscaled.longValue());
+        return;
+      }
+    }
+    buffer.put(TEXT);
+    putString(buffer, value.toString());
+  }
+
+  static BigDecimal getDecimal(ByteBuffer buffer) {
+    byte tag = buffer.get();
+    switch (tag) {
+      case NULL:
+        return null;
+      case COMPACT:
+        byte scale = buffer.get();
+        return BigDecimal.valueOf(buffer.getLong(), scale);
+      case TEXT:
+        return new BigDecimal(getString(buffer));
+      default:
+        throw new IllegalStateException("Corrupt decimal tag " + tag);
+    }
+  }
+
+  private static void putDate(ByteBuffer buffer, Date date) {
+    buffer.putLong(date == null ? Long.MIN_VALUE : date.getTime());
+  }
+
+  private static Date getDate(ByteBuffer buffer) {
+    long millis = buffer.getLong();
+    return millis == Long.MIN_VALUE ? null : new Date(millis);
+  }
+
+  private static void putInstrument(ByteBuffer buffer, Instrument instrument) {
+    putString(buffer, instrument == null ? null : instrument.toString());
+  }
+
+  private static Instrument getInstrument(ByteBuffer buffer) {
+    String symbol = getString(buffer);
+    if (symbol == null) {
+      return null;
+    }
+    int slashes = 0;
+    for (int i = 0; i < symbol.length(); i++) {
+      if (symbol.charAt(i) == '/') {
+        slashes++;
+      }
+    }
+    switch (slashes) {
+      case 2:
+        return new FuturesContract(symbol);
+      case 4:
+        return new OptionsContract(symbol);
+      default:
+        return new CurrencyPair(symbol);
+    }
+  }
+
+  /** Writes a string as its UTF-8 length, -1 for null, followed by its UTF-8 bytes. */
+  private static void putString(ByteBuffer buffer, String value) {
+    if (value == null) {
+      buffer.putInt(-1);
+      return;
+    }
+    int lengthPosition = buffer.position();
+    buffer.putInt(0);
+    int length = putUtf8(value, buffer);
+    buffer.putInt(lengthPosition, length);
+  }
+
+  private static String getString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    return length < 0 ? null : getUtf8(buffer, length);
+  }
+
+  /**
+   * Encodes the string as UTF-8 without allocating.
+   *
+   * @return The number of bytes written
+   */
+  static int putUtf8(String value, ByteBuffer buffer) {
+    int start = buffer.position();
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x80) {
+        buffer.put((byte) c);
+      } else if (c < 0x800) {
+        buffer.put((byte) (0xC0 | (c >> 6)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, value.charAt(++i));
+        buffer.put((byte) (0xF0 | (codePoint >> 18)));
+        buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else {
+        buffer.put((byte) (0xE0 | (c >> 12)));
+        buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        buffer.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+    return buffer.position() - start;
+  }
+
+  private static String getUtf8(ByteBuffer buffer, int length) {
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
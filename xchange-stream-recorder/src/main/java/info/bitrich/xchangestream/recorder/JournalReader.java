@@ -0,0 +1,196 @@
+package info.bitrich.xchangestream.recorder;
+
+import io.reactivex.rxjava3.core.Flowable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reads back the records of a journal written by {@link JournalWriter}, segment by segment in
+ * order.
+ *
+ * <pre>{@code
+ * JournalReader.replay(dir, "kraken", 1.0)
+ *     .filter(record -> record.getType() == RecordType.TRADE)
+ *     .subscribe(record -> strategy.onTrade((Trade) record.getEvent()));
+ * }</pre>
+ */
+public final class JournalReader implements Iterator<JournalRecord>, Closeable {
+
+  private static final String SUFFIX = ".journal";
+
+  private final Iterator<Path> segments;
+  private final Map<Integer, String> sources = new HashMap<>();
+
+  private FileChannel channel;
+  private MappedByteBuffer segment;
+  private JournalRecord next;
+
+  public JournalReader(Path directory, String name) throws IOException {
+    this.segments = segments(directory, name).iterator();
+  }
+
+  /**
+   * Replays the journal on the subscribing thread.
+   *
+   * @param speed 0 to replay at full speed, otherwise the rate relative to the receive times, e.g.
+   *     1 for wall clock rate and 10 for ten times faster
+   */
+  public static Flowable<JournalRecord> replay(Path directory, String name, double speed) {
+    if (speed < 0) {
+      throw new IllegalArgumentException("speed must not be negative: " + speed);
+    }
+    return Flowable.generate(
+        () -> new Replay(new JournalReader(directory, name)),
+        (replay, emitter) -> {
+          if (!replay.reader.hasNext()) {
+            emitter.onComplete();
+            return;
+          }
+          JournalRecord record = replay.reader.next();
+          if (speed > 0) {
+            replay.pace(record.getTimestampNanos(), speed);
+          }
+          emitter.onNext(record);
+        },
+        replay -> replay.reader.close());
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (next == null) {
+      if (segment == null || !readRecord()) {
+        if (!openNextSegment()) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public JournalRecord next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    JournalRecord record = next;
+    next = null;
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    segment = null;
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  /** @return false at the end of the segment, otherwise reads the next record if it's an event. */
+  private boolean readRecord() {
+    if (segment.remaining() < JournalWriter.HEADER_BYTES) {
+      return false;
+    }
+    int position = segment.position();
+    int length = segment.getInt(position);
+    RecordType type = RecordType.fromCode(segment.get(position + 4));
+    if (type == null) {
+      return false;
+    }
+    int source = segment.getShort(position + 6) & 0xFFFF;
+    long timestampNanos = segment.getLong(position + 8);
+    int payloadStart = position + JournalWriter.HEADER_BYTES;
+
+    ByteBuffer payload = segment.duplicate();
+    payload.position(payloadStart).limit(payloadStart + length);
+    Object event = JournalCodec.decode(payload, type);
+    segment.position(payloadStart + length);
+
+    if (type == RecordType.SOURCE) {
+      sources.put(source, (String) event);
+    } else {
+      next = new JournalRecord(type, sources.get(source), timestampNanos, event);
+    }
+    return true;
+  }
+
+  private boolean openNextSegment() {
+    try {
+      close();
+      if (!segments.hasNext()) {
+        return false;
+      }
+      channel = FileChannel.open(segments.next(), StandardOpenOption.READ);
+      segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static String segmentName(String name, long index) {
+    return String.format("%s-%010d%s", name, index, SUFFIX);
+  }
+
+  static long segmentIndex(Path segment) {
+    String fileName = segment.getFileName().toString();
+    return Long.parseLong(
+        fileName.substring(fileName.lastIndexOf('-') + 1, fileName.length() - SUFFIX.length()));
+  }
+
+  /** @return The segment files of the journal, in order. */
+  static List<Path> segments(Path directory, String name) throws IOException {
+    List<Path> segments = new ArrayList<>();
+    if (!Files.isDirectory(directory)) {
+      return segments;
+    }
+    try (DirectoryStream<Path> files =
+        Files.newDirectoryStream(directory, name + "-[0-9]*" + SUFFIX)) {
+      files.forEach(segments::add);
+    }
+    segments.sort(Comparator.comparingLong(JournalReader::segmentIndex));
+    return segments;
+  }
+
+  private static final class Replay {
+
+    private final JournalReader reader;
+    private long firstTimestampNanos = Long.MIN_VALUE;
+    private long startNanos;
+
+    private Replay(JournalReader reader) {
+      this.reader = reader;
+    }
+
+    /** Waits until the record is due relative to the first record. */
+    private void pace(long timestampNanos, double speed) {
+      if (firstTimestampNanos == Long.MIN_VALUE) {
+        firstTimestampNanos = timestampNanos;
+        startNanos = System.nanoTime();
+        return;
+      }
+      long due = startNanos + (long) ((timestampNanos - firstTimestampNanos) / speed);
+      long wait;
+      while ((wait = due - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(Math.min(wait, TimeUnit.MILLISECONDS.toNanos(100)));
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package info.bitrich.xchangestream.recorder;
+
+/** A record read back from a journal. */
+public final class JournalRecord {
+
+  private final RecordType type;
+  private final String source;
+  private final long timestampNanos;
+  private final Object event;
+
+  public JournalRecord(RecordType type, String source, long timestampNanos, Object event) {
+    this.type = type;
+    this.source = source;
+    this.timestampNanos = timestampNanos;
+    this.event = event;
+  }
+
+  public RecordType getType() {
+    return type;
+  }
+
+  /** @return The name of the source the record was captured from. */
+  public String getSource() {
+    return source;
+  }
+
+  /** @return The receive time in nanoseconds since the epoch. */
+  public long getTimestampNanos() {
+    return timestampNanos;
+  }
+
+  /**
+   * @return The raw frame as a {@link String}, or the {@link org.knowm.xchange.dto.marketdata.Trade
+   *     Trade}, {@link org.knowm.xchange.dto.marketdata.Ticker Ticker} or {@link
+   *     org.knowm.xchange.dto.marketdata.OrderBookUpdate OrderBookUpdate}
+   */
+  public Object getEvent() {
+    return event;
+  }
+
+  @Override
+  public String toString() {
+    return "JournalRecord [type="
+        + type
+        + ", source="
+        + source
+        + ", timestampNanos="
+        + timestampNanos
+        + ", event="
+        + event
+        + "]";
+  }
+}
@@ -0,0 +1,170 @@
+package info.bitrich.xchangestream.recorder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends records to a journal of memory-mapped segment files of a fixed size, named {@code
+ * <name>-<index>.journal}. A new segment is started when a record does not fit in the current one,
+ * and every writer starts a new segment after the existing ones, so segments are never modified
+ * once complete.
+ *
+ * <p>A record is a {@value #HEADER_BYTES} byte header, {@code [payload length][type][0][source id]
+ * [timestamp in epoch nanos]}, followed by its payload. The rest of a segment is left zero filled,
+ * a zero type marking the end of the records. The sources declared with {@link
+ * #declareSource(int, String)} are repeated at the start of every segment, so each segment can be
+ * read on its own.
+ *
+ * <p>Not thread safe, see {@link Recorder} for writing from a dedicated thread.
+ *
+ * @see JournalReader
+ */
+public final class JournalWriter implements Closeable {
+
+  public static final int HEADER_BYTES = 16;
+
+  public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+  private final Path directory;
+  private final String name;
+  private final int segmentBytes;
+  private final Map<Integer, String> sources = new LinkedHashMap<>();
+  private final Map<Integer, Integer> sourceBytes = new LinkedHashMap<>();
+  private int totalSourceBytes;
+
+  private ByteBuffer scratch = ByteBuffer.allocate(4096);
+  private FileChannel channel;
+  private MappedByteBuffer segment;
+  private long segmentIndex;
+  private long dropped;
+
+  public JournalWriter(Path directory, String name) throws IOException {
+    this(directory, name, DEFAULT_SEGMENT_BYTES);
+  }
+
+  public JournalWriter(Path directory, String name, int segmentBytes) throws IOException {
+    if (segmentBytes < 4096) {
+      throw new IllegalArgumentException("Segments must be at least 4096 bytes: " + segmentBytes);
+    }
+    this.directory = directory;
+    this.name = name;
+    this.segmentBytes = segmentBytes;
+    Files.createDirectories(directory);
+    List<Path> existing = JournalReader.segments(directory, name);
+    this.segmentIndex =
+        existing.isEmpty() ? 0 : JournalReader.segmentIndex(existing.get(existing.size() - 1)) + 1;
+    openSegment();
+  }
+
+  /** Declares the name of a source id, e.g. {@code "kraken"} or {@code "kraken:trades:BTC/USD"}. */
+  public void declareSource(int source, String sourceName) throws IOException {
+    if (source < 0 || source > 0xFFFF) {
+      throw new IllegalArgumentException("Source ids range from 0 to 65535: " + source);
+    }
+    ByteBuffer payload = encode(RecordType.SOURCE, sourceName);
+    int length = HEADER_BYTES + payload.remaining();
+    Integer previous = sourceBytes.put(source, length);
+    totalSourceBytes += length - (previous == null ? 0 : previous);
+    if (totalSourceBytes > segmentBytes / 2) {
+      throw new IllegalStateException("Source names take more than half a segment");
+    }
+    sources.put(source, sourceName);
+    if (segment.remaining() < length) {
+      rotate();
+    } else {
+      put(RecordType.SOURCE, source, 0, payload);
+    }
+  }
+
+  /**
+   * @param timestampNanos Receive time in nanoseconds since the epoch
+   * @return false if the record was dropped because it is larger than a segment
+   */
+  public boolean append(RecordType type, int source, long timestampNanos, Object event)
+      throws IOException {
+    ByteBuffer payload = encode(type, event);
+    int length = HEADER_BYTES + payload.remaining();
+    if (length > segmentBytes - totalSourceBytes) {
+      dropped++;
+      return false;
+    }
+    if (segment.remaining() < length) {
+      rotate();
+      payload = encode(type, event);
+    }
+    put(type, source, timestampNanos, payload);
+    return true;
+  }
+
+  private void put(RecordType type, int source, long timestampNanos, ByteBuffer payload) {
+    segment
+        .putInt(payload.remaining())
+        .put(type.getCode())
+        .put((byte) 0)
+        .putShort((short) source)
+        .putLong(timestampNanos)
+        .put(payload);
+  }
+
+  /** @return The number of records dropped because they are larger than a segment. */
+  public long getDropped() {
+    return dropped;
+  }
+
+  /** Forces the current segment to disk. */
+  public void flush() {
+    segment.force();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (channel != null) {
+      segment.force();
+      channel.close();
+      channel = null;
+    }
+  }
+
+  private ByteBuffer encode(RecordType type, Object event) {
+    while (true) {
+      scratch.clear();
+      try {
+        JournalCodec.encode(scratch, type, event);
+        scratch.flip();
+        return scratch;
+      } catch (BufferOverflowException | IndexOutOfBoundsException e) {
+        scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+      }
+    }
+  }
+
+  private void rotate() throws IOException {
+    close();
+    segmentIndex++;
+    openSegment();
+    for (Map.Entry<Integer, String> source : sources.entrySet()) {
+      put(RecordType.SOURCE, source.getKey(), 0, encode(RecordType.SOURCE, source.getValue()));
+    }
+  }
+
+  private void openSegment() throws IOException {
+    Path file = directory.resolve(JournalReader.segmentName(name, segmentIndex));
+    channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+  }
+}
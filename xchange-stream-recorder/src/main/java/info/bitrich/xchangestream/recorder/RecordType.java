@@ -0,0 +1,56 @@
+package info.bitrich.xchangestream.recorder;
+
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+/** The kinds of records of a journal, stored as their {@link #getCode() code}. */
+public enum RecordType {
+  /** Declares the name of a source id, repeated at the start of every segment. */
+  SOURCE(1),
+  /** A raw text frame as read from the socket. */
+  FRAME(2),
+  /** A {@link Trade}. */
+  TRADE(3),
+  /** A {@link Ticker}. */
+  TICKER(4),
+  /** An {@link OrderBookUpdate}. */
+  ORDER_BOOK_UPDATE(5);
+
+  private static final RecordType[] BY_CODE = new RecordType[6];
+
+  static {
+    for (RecordType type : values()) {
+      BY_CODE[type.code] = type;
+    }
+  }
+
+  private final byte code;
+
+  RecordType(int code) {
+    this.code = (byte) code;
+  }
+
+  public byte getCode() {
+    return code;
+  }
+
+  /** @return The type of the code, or null if the code is unknown. */
+  public static RecordType fromCode(byte code) {
+    return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+  }
+
+  /** @return The type of an event, or null if it can't be recorded. */
+  public static RecordType of(Object event) {
+    if (event instanceof String) {
+      return FRAME;
+    } else if (event instanceof Trade) {
+      return TRADE;
+    } else if (event instanceof Ticker) {
+      return TICKER;
+    } else if (event instanceof OrderBookUpdate) {
+      return ORDER_BOOK_UPDATE;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,173 @@
+package info.bitrich.xchangestream.recorder;
+
+import info.bitrich.xchangestream.service.netty.FrameListener;
+import info.bitrich.xchangestream.service.netty.NettyStreamingService;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Captures streaming feeds to a {@link JournalWriter} off the live path. The streams only stamp the
+ * receive time and hand the event over to a preallocated ring per source; encoding and writing
+ * happen on a single writer thread. When the writer falls behind and a ring fills up, events are
+ * dropped and counted rather than slowing down the feed.
+ *
+ * <pre>{@code
+ * Recorder recorder = new Recorder(new JournalWriter(dir, "kraken"));
+ * recorder.start();
+ * recorder.recordFrames(krakenStreamingService, "kraken");
+ * recorder.record("kraken:trades:BTC/USD", marketDataService.getTrades(CurrencyPair.BTC_USD));
+ * }</pre>
+ *
+ * Order book snapshots are not recorded, subscribe to the updates instead.
+ */
+public final class Recorder implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Recorder.class);
+
+  public static final int DEFAULT_RING_CAPACITY = 64 * 1024;
+
+  private static final int DRAIN_LIMIT = 1024;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  private final JournalWriter writer;
+  private final int ringCapacity;
+  private final List<Source> sources = new CopyOnWriteArrayList<>();
+  /** Converts {@link System#nanoTime()} to nanoseconds since the epoch. */
+  private final long epochOffsetNanos =
+      TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - System.nanoTime();
+
+  private volatile boolean running;
+  private Thread thread;
+  private int declaredSources;
+
+  public Recorder(JournalWriter writer) {
+    this(writer, DEFAULT_RING_CAPACITY);
+  }
+
+  /** @param ringCapacity The number of events buffered per source, a power of 2 */
+  public Recorder(JournalWriter writer, int ringCapacity) {
+    this.writer = writer;
+    this.ringCapacity = ringCapacity;
+  }
+
+  /** Starts the writer thread. */
+  public synchronized void start() {
+    if (thread != null) {
+      throw new IllegalStateException("Recorder already started");
+    }
+    running = true;
+    thread = new Thread(this::run, "xchange-recorder");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Records the raw text frames read by the service, until the returned disposable is disposed.
+   * Other frame listeners of the service are left in place.
+   */
+  public Disposable recordFrames(NettyStreamingService<?> service, String source) {
+    EventRing ring = addSource(source);
+    FrameListener listener = ring::offer;
+    service.addFrameListener(listener);
+    return Disposable.fromAction(() -> service.removeFrameListener(listener));
+  }
+
+  /**
+   * Records the trades, tickers and order book updates of a stream, until the returned disposable
+   * is disposed. Other events are ignored.
+   */
+  public Disposable record(String source, Flowable<?> events) {
+    EventRing ring = addSource(source);
+    return events.subscribe(
+        event -> {
+          if (RecordType.of(event) != null) {
+            ring.offer(event, System.nanoTime());
+          }
+        },
+        e -> LOG.warn("Recorded stream {} failed", source, e));
+  }
+
+  /** @return The number of events dropped because the writer fell behind or they were too large. */
+  public long getDropped() {
+    long dropped = writer.getDropped();
+    for (Source source : sources) {
+      dropped += source.ring.getDropped();
+    }
+    return dropped;
+  }
+
+  /** Stops the writer thread once the events buffered so far are written, and closes the writer. */
+  @Override
+  public synchronized void close() throws IOException {
+    running = false;
+    if (thread != null) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    try {
+      drainAll();
+    } finally {
+      writer.close();
+    }
+  }
+
+  private synchronized EventRing addSource(String name) {
+    Source source = new Source(sources.size(), name, new EventRing(ringCapacity));
+    sources.add(source);
+    return source.ring;
+  }
+
+  private void run() {
+    try {
+      while (running) {
+        if (drainAll() == 0) {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      running = false;
+      LOG.error("Recorder stopped", e);
+    }
+  }
+
+  private int drainAll() throws IOException {
+    int drained = 0;
+    for (Source source : sources) {
+      if (source.id >= declaredSources) {
+        writer.declareSource(source.id, source.name);
+        declaredSources = source.id + 1;
+      }
+      drained +=
+          source.ring.drain(
+              (event, nanos) ->
+                  writer.append(
+                      RecordType.of(event), source.id, nanos + epochOffsetNanos, event),
+              DRAIN_LIMIT);
+    }
+    return drained;
+  }
+
+  private static final class Source {
+
+    private final int id;
+    private final String name;
+    private final EventRing ring;
+
+    private Source(int id, String name, EventRing ring) {
+      this.id = id;
+      this.name = name;
+      this.ring = ring;
+    }
+  }
+}
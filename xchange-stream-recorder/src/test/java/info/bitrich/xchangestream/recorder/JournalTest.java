@@ -0,0 +1,149 @@
+package info.bitrich.xchangestream.recorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.derivative.FuturesContract;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+public class JournalTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    Trade trade =
+        new Trade.Builder()
+            .type(OrderType.BID)
+            .originalAmount(new BigDecimal("0.015"))
+            .instrument(CurrencyPair.BTC_USD)
+            .price(new BigDecimal("123456789012345678901234.5"))
+            .timestamp(new Date(1600000000123L))
+            .id("t1")
+            .build();
+    Ticker ticker =
+        new Ticker.Builder()
+            .instrument(new FuturesContract("BTC/USD/perpetual"))
+            .bid(new BigDecimal("50000.5"))
+            .ask(new BigDecimal("50001"))
+            .build();
+    OrderBookUpdate update =
+        new OrderBookUpdate(
+            OrderType.ASK,
+            BigDecimal.ONE,
+            CurrencyPair.ETH_BTC,
+            new BigDecimal("0.031"),
+            null,
+            new BigDecimal("2.5"));
+
+    try (JournalWriter writer = new JournalWriter(dir, "test")) {
+      writer.declareSource(0, "frames");
+      writer.declareSource(1, "events");
+      assertThat(writer.append(RecordType.FRAME, 0, 1L, "{\"ü\":\"€😀\"}")).isTrue();
+      assertThat(writer.append(RecordType.TRADE, 1, 2L, trade)).isTrue();
+      assertThat(writer.append(RecordType.TICKER, 1, 3L, ticker)).isTrue();
+      assertThat(writer.append(RecordType.ORDER_BOOK_UPDATE, 1, 4L, update)).isTrue();
+    }
+
+    List<JournalRecord> records = readAll(dir, "test");
+    assertThat(records).hasSize(4);
+    assertThat(records.get(0).getType()).isEqualTo(RecordType.FRAME);
+    assertThat(records.get(0).getSource()).isEqualTo("frames");
+    assertThat(records.get(0).getEvent()).isEqualTo("{\"ü\":\"€😀\"}");
+
+    Trade readTrade = (Trade) records.get(1).getEvent();
+    assertThat(records.get(1).getSource()).isEqualTo("events");
+    assertThat(records.get(1).getTimestampNanos()).isEqualTo(2L);
+    assertThat(readTrade.getId()).isEqualTo("t1");
+    assertThat(readTrade.getType()).isEqualTo(OrderType.BID);
+    assertThat(readTrade.getOriginalAmount()).isEqualTo(new BigDecimal("0.015"));
+    assertThat(readTrade.getPrice()).isEqualTo(new BigDecimal("123456789012345678901234.5"));
+    assertThat(readTrade.getInstrument()).isEqualTo(CurrencyPair.BTC_USD);
+    assertThat(readTrade.getTimestamp()).isEqualTo(new Date(1600000000123L));
+    assertThat(readTrade.getMakerOrderId()).isNull();
+
+    assertThat(records.get(2).getEvent()).isEqualTo(ticker);
+
+    OrderBookUpdate readUpdate = (OrderBookUpdate) records.get(3).getEvent();
+    assertThat(readUpdate.getLimitOrder().getType()).isEqualTo(OrderType.ASK);
+    assertThat(readUpdate.getLimitOrder().getLimitPrice()).isEqualTo(new BigDecimal("0.031"));
+    assertThat(readUpdate.getLimitOrder().getInstrument()).isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(readUpdate.getTotalVolume()).isEqualTo(new BigDecimal("2.5"));
+  }
+
+  @Test
+  public void testRotatesSegments() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    char[] chars = new char[1000];
+    Arrays.fill(chars, 'x');
+    String frame = new String(chars);
+
+    try (JournalWriter writer = new JournalWriter(dir, "test", 4096)) {
+      writer.declareSource(7, "kraken");
+      for (int i = 0; i < 10; i++) {
+        assertThat(writer.append(RecordType.FRAME, 7, i, i + frame)).isTrue();
+      }
+      String tooLarge = frame + frame + frame + frame + frame;
+      assertThat(writer.append(RecordType.FRAME, 7, 10, tooLarge)).isFalse();
+      assertThat(writer.getDropped()).isEqualTo(1);
+    }
+    // a new writer continues in a new segment
+    try (JournalWriter writer = new JournalWriter(dir, "test", 4096)) {
+      writer.declareSource(7, "kraken");
+      writer.append(RecordType.FRAME, 7, 10, "last");
+    }
+
+    assertThat(JournalReader.segments(dir, "test")).hasSize(4);
+    assertThat(Files.list(dir).count()).isEqualTo(4);
+
+    List<JournalRecord> records = readAll(dir, "test");
+    assertThat(records).hasSize(11);
+    for (int i = 0; i < 10; i++) {
+      assertThat(records.get(i).getSource()).isEqualTo("kraken");
+      assertThat(records.get(i).getTimestampNanos()).isEqualTo(i);
+      assertThat(records.get(i).getEvent()).isEqualTo(i + frame);
+    }
+    assertThat(records.get(10).getEvent()).isEqualTo("last");
+  }
+
+  @Test
+  public void testReplay() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    try (JournalWriter writer = new JournalWriter(dir, "test")) {
+      writer.declareSource(0, "frames");
+      writer.append(RecordType.FRAME, 0, 0, "a");
+      writer.append(RecordType.FRAME, 0, 50_000_000, "b");
+    }
+
+    long start = System.nanoTime();
+    List<Object> events =
+        JournalReader.replay(dir, "test", 1).map(JournalRecord::getEvent).toList().blockingGet();
+    assertThat(events).containsExactly("a", "b");
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000);
+
+    assertThat(JournalReader.replay(dir, "missing", 0).count().blockingGet()).isZero();
+  }
+
+  private static List<JournalRecord> readAll(Path dir, String name) throws IOException {
+    List<JournalRecord> records = new ArrayList<>();
+    try (JournalReader reader = new JournalReader(dir, name)) {
+      reader.forEachRemaining(records::add);
+    }
+    return records;
+  }
+}
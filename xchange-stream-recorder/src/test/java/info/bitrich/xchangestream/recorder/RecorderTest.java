@@ -0,0 +1,64 @@
+package info.bitrich.xchangestream.recorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.Flowable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+public class RecorderTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testRecordsStreams() throws IOException {
+    Path dir = folder.getRoot().toPath();
+    Trade trade =
+        new Trade.Builder()
+            .type(OrderType.ASK)
+            .originalAmount(BigDecimal.ONE)
+            .instrument(CurrencyPair.BTC_USD)
+            .price(new BigDecimal("50000"))
+            .id("1")
+            .build();
+
+    long before = System.currentTimeMillis();
+    try (Recorder recorder = new Recorder(new JournalWriter(dir, "test"), 16)) {
+      recorder.start();
+      recorder.record("trades", Flowable.just(trade, 42));
+      recorder.record("frames", Flowable.just("a", "b"));
+      assertThat(recorder.getDropped()).isZero();
+    }
+
+    List<JournalRecord> records = new ArrayList<>();
+    try (JournalReader reader = new JournalReader(dir, "test")) {
+      reader.forEachRemaining(records::add);
+    }
+    assertThat(records)
+        .extracting(JournalRecord::getSource)
+        .containsExactly("trades", "frames", "frames");
+    assertThat(((Trade) records.get(0).getEvent()).getId()).isEqualTo("1");
+    assertThat(records.get(2).getEvent()).isEqualTo("b");
+    assertThat(records.get(0).getTimestampNanos() / 1_000_000)
+        .isBetween(before - 1000, before + 60_000);
+  }
+
+  @Test
+  public void testDropsWhenFull() {
+    EventRing ring = new EventRing(4);
+    for (int i = 0; i < 4; i++) {
+      assertThat(ring.offer(i, i)).isTrue();
+    }
+    assertThat(ring.offer(4, 4)).isFalse();
+    assertThat(ring.getDropped()).isEqualTo(1);
+  }
+}
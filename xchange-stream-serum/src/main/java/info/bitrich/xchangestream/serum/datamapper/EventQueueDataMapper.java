@@ -1,21 +1,15 @@
 package info.bitrich.xchangestream.serum.datamapper;
 
-import static com.knowm.xchange.serum.structures.EventQueueLayout.HEADER_LEN;
-import static com.knowm.xchange.serum.structures.EventQueueLayout.HeaderLayout;
-import static com.knowm.xchange.serum.structures.EventQueueLayout.NODE_LEN;
-import static com.knowm.xchange.serum.structures.EventQueueLayout.NodeLayout;
-
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.knowm.xchange.serum.core.Market;
-import com.knowm.xchange.serum.structures.EventQueueLayout.EventNode;
-import com.knowm.xchange.serum.structures.EventQueueLayout.Header;
+import com.knowm.xchange.serum.structures.EventQueueLayout.Event;
+import com.knowm.xchange.serum.structures.EventQueueLayout.EventQueue;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
@@ -37,7 +31,7 @@ public class EventQueueDataMapper extends DataMapper {
   @Override
   public Stream<JsonNode> map(byte[] bytes, long slot, long timestamp) throws IOException {
     try {
-      final Stream<EventNode> events = decodeEventQueue(bytes);
+      final Stream<Event> events = decodeEventQueue(bytes);
       if (events == null) {
         throw new NullPointerException("Issue with events");
       }
@@ -56,15 +50,16 @@ public class EventQueueDataMapper extends DataMapper {
     }
   }
 
-  public BigDecimal getFillPrice(final EventNode event, int decimalPlaces) {
+  public BigDecimal getFillPrice(final Event event, int decimalPlaces) {
     final BigDecimal nativeQuantity =
         new BigDecimal(
             String.valueOf(
-                event.eventFlags.bid ? event.nativeQuantityPaid : event.nativeQuantityReleased));
+                event.isBid() ? event.getNativeQuantityPaid() : event.getNativeQuantityReleased()));
 
-    final BigDecimal nativeFeeOrRebate = new BigDecimal(String.valueOf(event.nativeFeeOrRebate));
+    final BigDecimal nativeFeeOrRebate =
+        new BigDecimal(String.valueOf(event.getNativeFeeOrRebate()));
     final BigDecimal priceBeforeFees =
-        event.eventFlags.maker
+        event.isMaker()
             ? nativeQuantity.subtract(nativeFeeOrRebate)
             : nativeQuantity.add(nativeFeeOrRebate);
 
@@ -77,47 +72,47 @@ public class EventQueueDataMapper extends DataMapper {
                         .multiply(
                             new BigDecimal(
                                 String.valueOf(
-                                    event.eventFlags.bid
-                                        ? event.nativeQuantityReleased
-                                        : event.nativeQuantityPaid))))))
+                                    event.isBid()
+                                        ? event.getNativeQuantityReleased()
+                                        : event.getNativeQuantityPaid()))))))
         .setScale(decimalPlaces, RoundingMode.HALF_UP);
   }
 
-  public BigDecimal getFillSize(final EventNode event, int decimalPlaces) {
+  public BigDecimal getFillSize(final Event event, int decimalPlaces) {
     return new BigDecimal(
             String.valueOf(
                 this.market.divideBNToNumber(
                     new BigDecimal(
                         String.valueOf(
-                            event.eventFlags.bid
-                                ? event.nativeQuantityReleased
-                                : event.nativeQuantityPaid)),
+                            event.isBid()
+                                ? event.getNativeQuantityReleased()
+                                : event.getNativeQuantityPaid())),
                     this.market.baseSplTokenMultiplier())))
         .setScale(decimalPlaces, RoundingMode.HALF_UP);
   }
 
   public JsonNode normalizeData(
-      final EventNode event, final long timestamp, final long slot, final List<String> fillIds) {
-    final String side = event.eventFlags.bid ? "buy" : "sell";
-    if (event.eventFlags.fill) {
+      final Event event, final long timestamp, final long slot, final List<String> fillIds) {
+    final String side = event.isBid() ? "buy" : "sell";
+    if (event.isFill()) {
       final ObjectNode fill = JsonNodeFactory.instance.objectNode();
       fill.put("type", "fill");
       fill.put("symbol", symbol);
       fill.put("market", this.market.decoded.getOwnAddress().getKeyString());
       fill.put("timestamp", timestamp);
       fill.put("slot", slot);
-      fill.put("orderId", event.orderId);
-      fill.put("clientId", event.clientOrderId);
+      fill.put("orderId", event.getOrderId());
+      fill.put("clientId", event.getClientOrderId());
       fill.put("side", side);
       fill.put("price", getFillPrice(event, priceDecimalPlaces).toPlainString());
       fill.put("size", getFillSize(event, sizeDecimalPlaces).toPlainString());
-      fill.put("maker", event.eventFlags.maker);
+      fill.put("maker", event.isMaker());
       fill.put("feeCost", this.market.quoteSplTokenMultiplier().toPlainString());
-      fill.put("openOrders", event.openOrders.getKeyString());
-      fill.put("openOrdersSlot", event.openOrdersSlot);
-      fill.put("feeTier", event.feeTier);
+      fill.put("openOrders", event.getOpenOrders().getKeyString());
+      fill.put("openOrdersSlot", event.getOpenOrdersSlot());
+      fill.put("feeTier", event.getFeeTier());
       return fill;
-    } else if (Double.compare(event.nativeQuantityPaid, 0.0) == 0) {
+    } else if (event.getNativeQuantityPaid() == 0) {
       // we can use nativeQuantityStillLocked == 0 to detect if order is 'done'
       // this is what the dex uses at event processing time to decide if it can
       // release the slot in an OpenOrders account.
@@ -125,20 +120,21 @@ public class EventQueueDataMapper extends DataMapper {
       // done means that there won't be any more messages for the order
       // (is no longer in the order book or never was - cancelled, ioc)
 
+      final String orderId = event.getOrderId();
       final ObjectNode done = JsonNodeFactory.instance.objectNode();
       done.put("type", "done");
       done.put("symbol", symbol);
       done.put("market", this.market.decoded.getOwnAddress().getKeyString());
       done.put("timestamp", timestamp);
       done.put("slot", slot);
-      done.put("orderId", event.orderId);
-      done.put("clientId", event.clientOrderId);
+      done.put("orderId", orderId);
+      done.put("clientId", event.getClientOrderId());
       done.put("side", side);
-      done.put("reason", fillIds.contains(event.orderId) ? "filled" : "cancelled");
-      done.put("maker", event.eventFlags.maker);
-      done.put("openOrders", event.openOrders.getKeyString());
-      done.put("openOrdersSlot", event.openOrdersSlot);
-      done.put("feeTier", event.feeTier);
+      done.put("reason", fillIds.contains(orderId) ? "filled" : "cancelled");
+      done.put("maker", event.isMaker());
+      done.put("openOrders", event.getOpenOrders().getKeyString());
+      done.put("openOrdersSlot", event.getOpenOrdersSlot());
+      done.put("feeTier", event.getFeeTier());
       return done;
     }
     return null;
@@ -146,31 +142,21 @@ public class EventQueueDataMapper extends DataMapper {
 
   /**
    * Modified version of https://github.com/project-serum/serum-js/blob/master/src/queue.ts#L87
-   * which allows for lazy iteration of data and exiting if we do not need to process it all
+   * which allows for lazy iteration of data and exiting if we do not need to process it all. The
+   * events are read in place by a single flyweight, which each element of the stream moves on.
    */
-  private Stream<EventNode> decodeEventQueue(final byte[] bytes) throws IOException {
-    Stream<EventNode> stream = Stream.empty();
+  private Stream<Event> decodeEventQueue(final byte[] bytes) throws IOException {
+    Stream<Event> stream = Stream.empty();
     try {
-      final Header header = HeaderLayout.DECODER.decode(Arrays.copyOfRange(bytes, 0, HEADER_LEN));
+      final EventQueue queue = EventQueue.wrap(bytes);
+      final long seqNum = queue.getSeqNum();
 
       if (this.lastSeqNum != -1) {
-        long newEventsCount = header.seqNum - this.lastSeqNum;
-        stream =
-            IntStream.range(0, (int) newEventsCount)
-                .mapToObj(
-                    i -> {
-                      int startIndex = HEADER_LEN + i * NODE_LEN;
-                      try {
-                        return NodeLayout.DECODER.decode(
-                            Arrays.copyOfRange(bytes, startIndex, startIndex + NODE_LEN));
-                      } catch (Exception e) {
-                        e.printStackTrace();
-                        return null;
-                      }
-                    })
-                .filter(Objects::nonNull);
+        long newEventsCount = Math.min(seqNum - this.lastSeqNum, queue.getCapacity());
+        final Event event = new Event();
+        stream = IntStream.range(0, (int) newEventsCount).mapToObj(i -> queue.getEvent(i, event));
       }
-      this.lastSeqNum = header.seqNum;
+      this.lastSeqNum = seqNum;
     } catch (Exception e) {
       e.printStackTrace();
     }
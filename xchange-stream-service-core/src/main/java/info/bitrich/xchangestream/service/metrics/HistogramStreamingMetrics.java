@@ -0,0 +1,64 @@
+package info.bitrich.xchangestream.service.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link StreamingMetrics} keeping a {@link LatencyHistogram} per channel and stage.
+ *
+ * <pre>{@code
+ * HistogramStreamingMetrics metrics = new HistogramStreamingMetrics();
+ * spec.setExchangeSpecificParametersItem(StreamingExchange.STREAMING_METRICS, metrics);
+ * ...
+ * metrics.getHistogram("book-XBT/USD", Stage.TOTAL).getValueAtPercentile(99);
+ * }</pre>
+ */
+public class HistogramStreamingMetrics implements StreamingMetrics {
+
+  private static final int STAGE_COUNT = Stage.values().length;
+
+  private final Map<String, LatencyHistogram[]> channels = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void record(String channel, Stage stage, long nanos) {
+    LatencyHistogram[] histograms = channels.get(channel);
+    if (histograms == null) {
+      histograms = channels.computeIfAbsent(channel, c -> newHistograms());
+    }
+    histograms[stage.ordinal()].record(nanos);
+  }
+
+  private static LatencyHistogram[] newHistograms() {
+    LatencyHistogram[] histograms = new LatencyHistogram[STAGE_COUNT];
+    for (int i = 0; i < STAGE_COUNT; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+    return histograms;
+  }
+
+  /** @return The histogram of the stage, or null if nothing was recorded for the channel. */
+  public LatencyHistogram getHistogram(String channel, Stage stage) {
+    LatencyHistogram[] histograms = channels.get(channel);
+    return histograms == null ? null : histograms[stage.ordinal()];
+  }
+
+  /** @return The channels for which latencies have been recorded. */
+  public Set<String> getChannels() {
+    return Collections.unmodifiableSet(channels.keySet());
+  }
+
+  public void reset() {
+    for (LatencyHistogram[] histograms : channels.values()) {
+      for (LatencyHistogram histogram : histograms) {
+        histogram.reset();
+      }
+    }
+  }
+}
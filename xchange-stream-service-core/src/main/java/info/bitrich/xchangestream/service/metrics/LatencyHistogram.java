@@ -0,0 +1,124 @@
+package info.bitrich.xchangestream.service.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free latency histogram in the spirit of HdrHistogram: values are counted in
+ * log-linear buckets with a relative error below 1/64 (about 1.6%), so recording is a couple of
+ * shifts and one atomic increment and never allocates.
+ *
+ * <p>Values from 0 to {@link #MAX_TRACKABLE_VALUE} nanoseconds (about 137 seconds) are tracked,
+ * larger values are counted in the top bucket.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+  private static final int MAX_SHIFT = 31;
+
+  public static final long MAX_TRACKABLE_VALUE = (1L << (MAX_SHIFT + SUB_BUCKET_BITS)) - 1;
+
+  private final AtomicLongArray counts =
+      new AtomicLongArray(SUB_BUCKET_COUNT + MAX_SHIFT * SUB_BUCKET_HALF_COUNT);
+  private final LongAdder totalCount = new LongAdder();
+  private final LongAdder totalValue = new LongAdder();
+  private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    } else if (value > MAX_TRACKABLE_VALUE) {
+      value = MAX_TRACKABLE_VALUE;
+    }
+    counts.incrementAndGet(indexOf(value));
+    totalCount.increment();
+    totalValue.add(value);
+    maxValue.accumulate(value);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return SUB_BUCKET_COUNT
+        + (shift - 1) * SUB_BUCKET_HALF_COUNT
+        + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+  }
+
+  /** @return The highest value counted in the bucket with the given index. */
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int offset = index - SUB_BUCKET_COUNT;
+    int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+    long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+
+  /**
+   * @param percentile Percentile between 0 and 100.
+   * @return The value at or below which the given percentage of the recorded values fall, 0 if
+   *     nothing has been recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    long count = totalCount.sum();
+    if (count == 0) {
+      return 0;
+    }
+    long threshold = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      seen += counts.get(i);
+      if (seen >= threshold) {
+        return Math.min(highestEquivalentValue(i), getMaxValue());
+      }
+    }
+    return getMaxValue();
+  }
+
+  public long getCount() {
+    return totalCount.sum();
+  }
+
+  public long getMaxValue() {
+    return maxValue.get();
+  }
+
+  public double getMean() {
+    long count = totalCount.sum();
+    return count == 0 ? 0 : (double) totalValue.sum() / count;
+  }
+
+  /** Clears the histogram. Values recorded concurrently with a reset may be lost. */
+  public void reset() {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+    totalCount.reset();
+    totalValue.reset();
+    maxValue.reset();
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyHistogram{"
+        + "count="
+        + getCount()
+        + ", mean="
+        + getMean()
+        + ", p50="
+        + getValueAtPercentile(50)
+        + ", p99="
+        + getValueAtPercentile(99)
+        + ", p99.9="
+        + getValueAtPercentile(99.9)
+        + ", max="
+        + getMaxValue()
+        + '}';
+  }
+}
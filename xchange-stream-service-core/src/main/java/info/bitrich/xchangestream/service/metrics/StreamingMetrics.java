@@ -0,0 +1,69 @@
+package info.bitrich.xchangestream.service.metrics;
+
+import io.reactivex.rxjava3.functions.Function;
+
+/**
+ * Receives the time spent by every message in each stage of a streaming service, from the moment
+ * its frame was read off the socket until the adapted DTO has been emitted.
+ *
+ * <p>Streaming services check {@link #isEnabled()} before taking any timestamp, so the default
+ * {@link #NO_OP} instance costs a single branch per message.
+ *
+ * @see HistogramStreamingMetrics
+ */
+public interface StreamingMetrics {
+
+  /** The stages of the message processing pipeline. */
+  enum Stage {
+    /** From the frame read until the message has been parsed, i.e. the message handler. */
+    PARSE,
+    /** From the parsed message until it is passed to the channel emitter. */
+    DISPATCH,
+    /** Adapting the raw message into an XChange DTO. */
+    ADAPT,
+    /** Delivering the message to the subscribers of the channel, including adaptation. */
+    EMIT,
+    /** From the frame read until all subscribers have processed the message. */
+    TOTAL
+  }
+
+  StreamingMetrics NO_OP =
+      new StreamingMetrics() {
+        @Override
+        public boolean isEnabled() {
+          return false;
+        }
+
+        @Override
+        public void record(String channel, Stage stage, long nanos) {}
+      };
+
+  boolean isEnabled();
+
+  /**
+   * @param channel Channel the message was received on.
+   * @param stage Stage of the processing pipeline.
+   * @param nanos Time spent in the stage in nanoseconds.
+   */
+  void record(String channel, Stage stage, long nanos);
+
+  /**
+   * Wraps an adapter so the time spent in it is recorded as the {@link Stage#ADAPT} stage.
+   *
+   * <pre>{@code
+   * service.subscribeChannel(channelName)
+   *     .map(metrics.timed(channelName, node -> adaptOrderBook(node)));
+   * }</pre>
+   */
+  default <T, R> Function<T, R> timed(String channel, Function<T, R> adapter) {
+    if (!isEnabled()) {
+      return adapter;
+    }
+    return message -> {
+      long start = System.nanoTime();
+      R result = adapter.apply(message);
+      record(channel, Stage.ADAPT, System.nanoTime() - start);
+      return result;
+    };
+  }
+}
@@ -0,0 +1,50 @@
+package info.bitrich.xchangestream.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketBoundaries() {
+    for (long value : new long[] {0, 1, 127, 128, 129, 255, 256, 1_000, 123_456_789L}) {
+      int index = LatencyHistogram.indexOf(value);
+      assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+      if (index > 0) {
+        assertThat(LatencyHistogram.highestEquivalentValue(index - 1)).isLessThan(value);
+      }
+    }
+    assertThat(LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_VALUE))
+        .isEqualTo(2111);
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 10_000; i++) {
+      histogram.record(i * 1_000);
+    }
+
+    assertThat(histogram.getCount()).isEqualTo(10_000);
+    assertThat(histogram.getMaxValue()).isEqualTo(10_000_000);
+    assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(5_000_000, within(80_000.0));
+    assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(9_900_000, within(160_000.0));
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+    assertThat(histogram.getMean()).isCloseTo(5_000_500, within(0.1));
+
+    histogram.reset();
+    assertThat(histogram.getCount()).isZero();
+    assertThat(histogram.getValueAtPercentile(99)).isZero();
+  }
+
+  @Test
+  public void testTimedAdapterRecordsAdaptStage() throws Throwable {
+    HistogramStreamingMetrics metrics = new HistogramStreamingMetrics();
+    assertThat(metrics.timed("trades", (String s) -> s.length()).apply("abc")).isEqualTo(3);
+    assertThat(metrics.getHistogram("trades", StreamingMetrics.Stage.ADAPT).getCount())
+        .isEqualTo(1);
+    assertThat(metrics.getHistogram("trades", StreamingMetrics.Stage.EMIT).getCount()).isZero();
+  }
+}
@@ -0,0 +1,55 @@
+package info.bitrich.xchangestream.service.netty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides which copy of a message received over redundant connections is forwarded. A sequenced
+ * message is forwarded only if its sequence number is higher than any forwarded before within its
+ * stream, so the first copy wins and late or stale copies are dropped. Messages without a sequence
+ * number are forwarded only from the leading connection.
+ *
+ * <p>Not thread-safe, callers must serialise {@link #accept(Object, boolean)}.
+ *
+ * @param <T> Message type of the streaming service.
+ */
+public class FeedArbiter<T> {
+
+  private final SequenceExtractor<T> sequenceExtractor;
+  private final Map<String, long[]> streams = new HashMap<>();
+  private long channelSequence = SequenceExtractor.NO_SEQUENCE;
+
+  public FeedArbiter(SequenceExtractor<T> sequenceExtractor) {
+    this.sequenceExtractor = sequenceExtractor;
+  }
+
+  /**
+   * @param message The received message.
+   * @param fromLeader Whether the message was received over the leading connection.
+   * @return true if the message should be forwarded.
+   */
+  public boolean accept(T message, boolean fromLeader) {
+    long sequence = sequenceExtractor.getSequence(message);
+    if (sequence == SequenceExtractor.NO_SEQUENCE) {
+      return fromLeader;
+    }
+    String stream = sequenceExtractor.getStream(message);
+    if (stream == null) {
+      if (sequence <= channelSequence) {
+        return false;
+      }
+      channelSequence = sequence;
+      return true;
+    }
+    long[] last = streams.get(stream);
+    if (last == null) {
+      streams.put(stream, new long[] {sequence});
+      return true;
+    }
+    if (sequence <= last[0]) {
+      return false;
+    }
+    last[0] = sequence;
+    return true;
+  }
+}
@@ -0,0 +1,15 @@
+package info.bitrich.xchangestream.service.netty;
+
+/**
+ * Receives every text frame read by a {@link NettyStreamingService} before it is parsed, e.g. to
+ * record the raw feed. Called on the event loop thread, so implementations must not block.
+ */
+@FunctionalInterface
+public interface FrameListener {
+
+  /**
+   * @param message The content of the frame
+   * @param receivedNanos {@link System#nanoTime()} when the frame was read
+   */
+  void onFrame(String message, long receivedNanos);
+}
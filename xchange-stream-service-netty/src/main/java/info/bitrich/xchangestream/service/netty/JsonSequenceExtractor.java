@@ -0,0 +1,54 @@
+package info.bitrich.xchangestream.service.netty;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link SequenceExtractor} reading the sequence number from the first of the given JSON pointers
+ * present in the message, e.g. {@code /data/u} for Binance depth updates or {@code /sequence} for
+ * Coinbase Pro.
+ */
+public class JsonSequenceExtractor implements SequenceExtractor<JsonNode> {
+
+  private final JsonPointer[] sequencePointers;
+  private final JsonPointer streamPointer;
+
+  /**
+   * @param streamPointer Pointer to the stream key, or null if the channel is a single stream.
+   * @param sequencePointers Pointers to the sequence number, tried in order.
+   */
+  public JsonSequenceExtractor(String streamPointer, String... sequencePointers) {
+    this.streamPointer = streamPointer == null ? null : JsonPointer.compile(streamPointer);
+    this.sequencePointers = new JsonPointer[sequencePointers.length];
+    for (int i = 0; i < sequencePointers.length; i++) {
+      this.sequencePointers[i] = JsonPointer.compile(sequencePointers[i]);
+    }
+  }
+
+  @Override
+  public long getSequence(JsonNode message) {
+    for (JsonPointer pointer : sequencePointers) {
+      JsonNode node = message.at(pointer);
+      if (node.isIntegralNumber()) {
+        return node.asLong();
+      }
+      if (node.isTextual()) {
+        try {
+          return Long.parseLong(node.textValue());
+        } catch (NumberFormatException e) {
+          return NO_SEQUENCE;
+        }
+      }
+    }
+    return NO_SEQUENCE;
+  }
+
+  @Override
+  public String getStream(JsonNode message) {
+    if (streamPointer == null) {
+      return null;
+    }
+    JsonNode node = message.at(streamPointer);
+    return node.isMissingNode() ? null : node.asText();
+  }
+}
@@ -2,6 +2,7 @@ package info.bitrich.xchangestream.service.netty;
 
 import info.bitrich.xchangestream.service.ConnectableService;
 import info.bitrich.xchangestream.service.exception.NotConnectedException;
+import info.bitrich.xchangestream.service.metrics.StreamingMetrics;
 import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -10,6 +11,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -45,11 +47,14 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.knowm.xchange.utils.Timestamps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,7 +63,9 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
 
   protected static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(10);
   protected static final Duration DEFAULT_RETRY_DURATION = Duration.ofSeconds(15);
+  protected static final Duration DEFAULT_MIN_RETRY_DURATION = Duration.ofMillis(50);
   protected static final int DEFAULT_IDLE_TIMEOUT = 15;
+  private static final FrameListener[] NO_FRAME_LISTENERS = new FrameListener[0];
 
   protected class Subscription {
 
@@ -75,13 +82,23 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
     public FlowableEmitter<T> getEmitter() {
       return emitter;
     }
+
+    public String getChannelName() {
+      return channelName;
+    }
+
+    public Object[] getArgs() {
+      return args;
+    }
   }
 
   private final int maxFramePayloadLength;
   protected URI uri;
   private final AtomicBoolean isManualDisconnect = new AtomicBoolean();
-  private Channel webSocketChannel;
-  private final Duration retryDuration;
+  private volatile Channel webSocketChannel;
+  private ReconnectBackoff reconnectBackoff;
+  private volatile long disconnectedAtNanos;
+  private int subscribeMessagesPerSecond;
   private final Duration connectionTimeout;
   private final int idleTimeoutSeconds;
   private volatile NioEventLoopGroup eventLoopGroup;
@@ -92,9 +109,16 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   private final PublishProcessor<Object> connectionSuccessEmitters = PublishProcessor.create();
   private final PublishProcessor<Object> disconnectEmitters = PublishProcessor.create();
   private final PublishProcessor<Object> subjectIdle = PublishProcessor.create();
+  private final PublishProcessor<Duration> reconnectDurationEmitters = PublishProcessor.create();
 
   private final ConnectionStateModel connectionStateModel = new ConnectionStateModel();
 
+  private StreamingMetrics metrics = StreamingMetrics.NO_OP;
+  private volatile FrameListener[] frameListeners = NO_FRAME_LISTENERS;
+  private long messageReceivedNanos;
+  private long messageParsedNanos;
+  private long messageReceiveTimeNanos;
+
   // debugging
   private boolean acceptAllCertificates = false;
   private boolean enableLoggingHandler = false;
@@ -126,7 +150,12 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
       Duration retryDuration,
       int idleTimeoutSeconds) {
     this.maxFramePayloadLength = maxFramePayloadLength;
-    this.retryDuration = retryDuration;
+    this.reconnectBackoff =
+        new ReconnectBackoff(
+            retryDuration.compareTo(DEFAULT_MIN_RETRY_DURATION) < 0
+                ? retryDuration
+                : DEFAULT_MIN_RETRY_DURATION,
+            retryDuration);
     this.connectionTimeout = connectionTimeout;
     this.idleTimeoutSeconds = idleTimeoutSeconds;
     try {
@@ -188,7 +217,7 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
                             true,
                             getCustomHeaders(),
                             maxFramePayloadLength),
-                        this::messageHandler);
+                        this::onMessage);
 
                 if (eventLoopGroup == null || eventLoopGroup.isShutdown()) {
                   eventLoopGroup = new NioEventLoopGroup(2);
@@ -273,6 +302,7 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
             })
         .doOnComplete(
             () -> {
+              onReconnected();
               resubscribeChannels();
 
               connectionStateModel.setState(State.OPEN);
@@ -282,18 +312,40 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
 
   private void scheduleReconnect() {
     if (autoReconnect) {
-      LOG.info("Scheduling reconnection");
-
-      webSocketChannel
-          .eventLoop()
-          .schedule(
-              () ->
-                  connect()
-                      .subscribe(
-                          () -> LOG.info("Reconnection complete"),
-                          e -> LOG.error("Reconnection failed: {}", e.getMessage())),
-              retryDuration.toMillis(),
-              TimeUnit.MILLISECONDS);
+      if (disconnectedAtNanos == 0) {
+        disconnectedAtNanos = System.nanoTime();
+      }
+      Channel channel = webSocketChannel;
+      EventLoopGroup group = channel == null ? eventLoopGroup : channel.eventLoop();
+      if (group == null || group.isShuttingDown()) {
+        LOG.warn("Cannot schedule a reconnection, the event loop group is shut down");
+        return;
+      }
+      Duration delay = reconnectBackoff.nextDelay();
+      LOG.info(
+          "Scheduling reconnection attempt {} in {} ms",
+          reconnectBackoff.getAttempts(),
+          delay.toMillis());
+
+      group.schedule(
+          () ->
+              connect()
+                  .subscribe(
+                      () -> LOG.info("Reconnection complete"),
+                      e -> LOG.error("Reconnection failed: {}", e.getMessage())),
+          delay.toNanos(),
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void onReconnected() {
+    reconnectBackoff.onConnected();
+    long disconnectedAt = disconnectedAtNanos;
+    if (disconnectedAt != 0) {
+      disconnectedAtNanos = 0;
+      Duration reconnectDuration = Duration.ofNanos(System.nanoTime() - disconnectedAt);
+      LOG.info("Reconnected after {} ms", reconnectDuration.toMillis());
+      reconnectDurationEmitters.onNext(reconnectDuration);
     }
   }
 
@@ -347,6 +399,18 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
    */
   public abstract void messageHandler(String message);
 
+  private void onMessage(String message) {
+    messageReceiveTimeNanos = Timestamps.currentTimeNanos();
+    FrameListener[] listeners = frameListeners;
+    if (metrics.isEnabled() || listeners.length > 0) {
+      messageReceivedNanos = System.nanoTime();
+      for (FrameListener listener : listeners) {
+        listener.onFrame(message, messageReceivedNanos);
+      }
+    }
+    messageHandler(message);
+  }
+
   public void sendMessage(String message) {
     LOG.debug("Sending message: {}", message);
 
@@ -376,6 +440,14 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
     return disconnectEmitters.publish(1).refCount();
   }
 
+  /**
+   * Flowable which fires after every successful reconnection with the time elapsed between losing
+   * the connection and having it open again.
+   */
+  public Flowable<Duration> subscribeReconnectDuration() {
+    return reconnectDurationEmitters.publish(1).refCount();
+  }
+
   public Flowable<State> subscribeConnectionState() {
     return connectionStateModel.stateFlowable();
   }
@@ -388,6 +460,7 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
             e -> {
               if (webSocketChannel == null || !webSocketChannel.isOpen()) {
                 e.onError(new NotConnectedException());
+                return;
               }
               channels.computeIfAbsent(
                   channelId,
@@ -420,12 +493,68 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   }
 
   public void resubscribeChannels() {
-    for (Entry<String, Subscription> entry : channels.entrySet()) {
+    if (channels.isEmpty()) {
+      return;
+    }
+    List<String> messages;
+    try {
+      messages = getResubscribeMessages(new ArrayList<>(channels.values()));
+    } catch (IOException e) {
+      LOG.error("Failed to create resubscription messages", e);
+      return;
+    }
+    sendPaced(messages);
+  }
+
+  /**
+   * Creates the messages sent to restore all subscriptions after a reconnection. Exchanges
+   * accepting several channels per subscribe message should override this to batch them.
+   *
+   * @param subscriptions The channels to resubscribe.
+   * @return The messages to send, null elements are skipped.
+   */
+  protected List<String> getResubscribeMessages(List<Subscription> subscriptions)
+      throws IOException {
+    List<String> messages = new ArrayList<>(subscriptions.size());
+    for (Subscription subscription : subscriptions) {
       try {
-        Subscription subscription = entry.getValue();
-        sendMessage(getSubscribeMessage(subscription.channelName, subscription.args));
+        messages.add(getSubscribeMessage(subscription.channelName, subscription.args));
       } catch (IOException e) {
-        LOG.error("Failed to reconnect channel: {}", entry.getKey());
+        LOG.error("Failed to reconnect channel: {}", subscription.channelName);
+      }
+    }
+    return messages;
+  }
+
+  /**
+   * Sends the messages, spread evenly over time if a subscribe rate limit has been set. Messages
+   * still waiting when the connection is replaced are dropped, the new connection resubscribes on
+   * its own.
+   *
+   * @see #setSubscribeRateLimit(int)
+   */
+  protected void sendPaced(List<String> messages) {
+    Channel channel = webSocketChannel;
+    if (subscribeMessagesPerSecond <= 0 || channel == null) {
+      messages.forEach(this::sendMessage);
+      return;
+    }
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / subscribeMessagesPerSecond;
+    for (int i = 0; i < messages.size(); i++) {
+      String message = messages.get(i);
+      if (i == 0) {
+        sendMessage(message);
+      } else {
+        channel
+            .eventLoop()
+            .schedule(
+                () -> {
+                  if (channel == webSocketChannel) {
+                    sendMessage(message);
+                  }
+                },
+                i * intervalNanos,
+                TimeUnit.NANOSECONDS);
       }
     }
   }
@@ -442,6 +571,9 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   }
 
   protected void handleMessage(T message) {
+    if (metrics.isEnabled()) {
+      messageParsedNanos = System.nanoTime();
+    }
     String channel = getChannel(message);
     if (!StringUtil.isNullOrEmpty(channel)) handleChannelMessage(channel, message);
   }
@@ -484,7 +616,30 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
       LOG.debug("No subscriber for channel {}.", channel);
       return;
     }
+    emit(channel, emitter, message);
+  }
+
+  /**
+   * Passes a message to the emitter of a channel, recording the latency of every stage of its
+   * processing if metrics are enabled.
+   */
+  protected void emit(String channel, FlowableEmitter<T> emitter, T message) {
+    if (!metrics.isEnabled()) {
+      emitter.onNext(message);
+      return;
+    }
+    long dispatched = System.nanoTime();
     emitter.onNext(message);
+    long emitted = System.nanoTime();
+
+    long received = messageReceivedNanos;
+    long parsed = messageParsedNanos;
+    if (received != 0 && parsed - received >= 0) {
+      metrics.record(channel, StreamingMetrics.Stage.PARSE, parsed - received);
+      metrics.record(channel, StreamingMetrics.Stage.DISPATCH, dispatched - parsed);
+      metrics.record(channel, StreamingMetrics.Stage.TOTAL, emitted - received);
+    }
+    metrics.record(channel, StreamingMetrics.Stage.EMIT, emitted - dispatched);
   }
 
   protected void handleChannelError(String channel, Throwable t) {
@@ -574,4 +729,50 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   public void setAutoReconnect(boolean autoReconnect) {
     this.autoReconnect = autoReconnect;
   }
+
+  public StreamingMetrics getMetrics() {
+    return metrics;
+  }
+
+  public void setMetrics(StreamingMetrics metrics) {
+    this.metrics = metrics == null ? StreamingMetrics.NO_OP : metrics;
+  }
+
+  /**
+   * The local time the frame being handled was read, to stamp the receive time of the objects
+   * adapted from its messages. Only meaningful on the event loop thread while the frame is handled,
+   * i.e. in the operators applied synchronously to the channel's {@link Flowable}.
+   *
+   * @return The nanoseconds since the epoch, see {@link Timestamps#currentTimeNanos()}
+   */
+  public long getMessageReceiveTimeNanos() {
+    return messageReceiveTimeNanos;
+  }
+
+  /** @param frameListener Receives the raw text frames, after the listeners added before it. */
+  public synchronized void addFrameListener(FrameListener frameListener) {
+    FrameListener[] listeners = Arrays.copyOf(frameListeners, frameListeners.length + 1);
+    listeners[listeners.length - 1] = frameListener;
+    frameListeners = listeners;
+  }
+
+  /** @param frameListener A listener added before, the other listeners are kept. */
+  public synchronized void removeFrameListener(FrameListener frameListener) {
+    List<FrameListener> listeners = new ArrayList<>(Arrays.asList(frameListeners));
+    if (listeners.remove(frameListener)) {
+      frameListeners = listeners.toArray(NO_FRAME_LISTENERS);
+    }
+  }
+
+  public void setReconnectBackoff(ReconnectBackoff reconnectBackoff) {
+    this.reconnectBackoff = reconnectBackoff;
+  }
+
+  /**
+   * @param subscribeMessagesPerSecond Maximum number of subscribe messages sent per second when
+   *     resubscribing after a reconnection, 0 for no limit.
+   */
+  public void setSubscribeRateLimit(int subscribeMessagesPerSecond) {
+    this.subscribeMessagesPerSecond = subscribeMessagesPerSecond;
+  }
 }
@@ -0,0 +1,73 @@
+package info.bitrich.xchangestream.service.netty;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exponential reconnection backoff with full jitter: the n-th consecutive attempt waits a random
+ * delay between zero and {@code min(maxDelay, minDelay * 2^n)}. The first attempt therefore
+ * reconnects within milliseconds, while repeated failures back off up to the max delay without
+ * many clients reconnecting in lock-step.
+ *
+ * <p>The attempts are only reset once a connection has stayed up for the stable duration, so a
+ * venue accepting the handshake and closing straight away is not reconnected to in a tight loop.
+ */
+public final class ReconnectBackoff {
+
+  private final long minDelayNanos;
+  private final long maxDelayNanos;
+  private final long stableNanos;
+  private final AtomicInteger attempts = new AtomicInteger();
+  private volatile long connectedAtNanos;
+
+  /** A connection is considered stable once it has stayed up for the max delay. */
+  public ReconnectBackoff(Duration minDelay, Duration maxDelay) {
+    this(minDelay, maxDelay, maxDelay);
+  }
+
+  public ReconnectBackoff(Duration minDelay, Duration maxDelay, Duration stableDuration) {
+    if (minDelay.isNegative() || maxDelay.compareTo(minDelay) < 0) {
+      throw new IllegalArgumentException("Expected 0 <= minDelay <= maxDelay");
+    }
+    if (stableDuration.isNegative()) {
+      throw new IllegalArgumentException("Expected 0 <= stableDuration");
+    }
+    this.minDelayNanos = minDelay.toNanos();
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.stableNanos = stableDuration.toNanos();
+  }
+
+  /**
+   * @return The delay before the next attempt, counting the attempt. The attempts start over if
+   *     the connection lost since the last attempt had been stable.
+   */
+  public Duration nextDelay() {
+    long connectedAt = connectedAtNanos;
+    if (connectedAt != 0) {
+      connectedAtNanos = 0;
+      if (System.nanoTime() - connectedAt >= stableNanos) {
+        attempts.set(0);
+      }
+    }
+    int attempt = attempts.getAndIncrement();
+    double ceiling = Math.min((double) maxDelayNanos, minDelayNanos * Math.pow(2, attempt));
+    return Duration.ofNanos((long) (ThreadLocalRandom.current().nextDouble() * ceiling));
+  }
+
+  /** Called once a connection has been established. */
+  public void onConnected() {
+    connectedAtNanos = System.nanoTime();
+  }
+
+  /** Starts over from the first attempt. */
+  public void reset() {
+    connectedAtNanos = 0;
+    attempts.set(0);
+  }
+
+  /** @return Number of attempts since the last stable connection. */
+  public int getAttempts() {
+    return attempts.get();
+  }
+}
@@ -0,0 +1,211 @@
+package info.bitrich.xchangestream.service.netty;
+
+import info.bitrich.xchangestream.service.ConnectableService;
+import info.bitrich.xchangestream.service.exception.NotConnectedException;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opens several independent connections carrying the same subscriptions and forwards whichever copy
+ * of each message arrives first.
+ *
+ * <p>A reconnect of a single {@link NettyStreamingService} leaves a gap of at least the retry
+ * duration in its channels. With a redundant feed the other connection keeps delivering while one
+ * reconnects, and the faster of the two connections wins every message, which also cuts tail
+ * latency. Duplicates are recognised by the venue sequence number returned by the {@link
+ * SequenceExtractor}, see e.g. {@code BinanceStreamingService.SEQUENCE_EXTRACTOR}.
+ *
+ * @param <T> Message type of the underlying streaming services.
+ */
+public class RedundantStreamingService<T> extends ConnectableService {
+  private static final Logger LOG = LoggerFactory.getLogger(RedundantStreamingService.class);
+
+  private final List<NettyStreamingService<T>> connections;
+  private final SequenceExtractor<T> sequenceExtractor;
+  private final LongAdder[] forwarded;
+  private final LongAdder duplicates = new LongAdder();
+
+  public RedundantStreamingService(
+      Supplier<? extends NettyStreamingService<T>> connectionFactory,
+      SequenceExtractor<T> sequenceExtractor) {
+    this(2, connectionFactory, sequenceExtractor);
+  }
+
+  /**
+   * @param connectionCount Number of redundant connections to open.
+   * @param connectionFactory Creates a new, unconnected streaming service for every connection.
+   * @param sequenceExtractor Extracts the venue sequence number used to discard duplicates.
+   */
+  public RedundantStreamingService(
+      int connectionCount,
+      Supplier<? extends NettyStreamingService<T>> connectionFactory,
+      SequenceExtractor<T> sequenceExtractor) {
+    if (connectionCount < 1) {
+      throw new IllegalArgumentException("At least one connection is required");
+    }
+    List<NettyStreamingService<T>> services = new ArrayList<>(connectionCount);
+    this.forwarded = new LongAdder[connectionCount];
+    for (int i = 0; i < connectionCount; i++) {
+      services.add(connectionFactory.get());
+      forwarded[i] = new LongAdder();
+    }
+    this.connections = Collections.unmodifiableList(services);
+    this.sequenceExtractor = sequenceExtractor;
+  }
+
+  @Override
+  public void setBeforeConnectionHandler(Runnable beforeConnectionHandler) {
+    connections.forEach(
+        connection -> connection.setBeforeConnectionHandler(beforeConnectionHandler));
+  }
+
+  /**
+   * Completes once every connection attempt has finished and at least one connection is open.
+   * Connections which failed keep reconnecting on their own.
+   */
+  @Override
+  protected Completable openConnection() {
+    return Completable.merge(
+            connections.stream()
+                .map(connection -> connection.connect().onErrorComplete())
+                .collect(Collectors.toList()))
+        .andThen(
+            Completable.defer(
+                () ->
+                    isSocketOpen()
+                        ? Completable.complete()
+                        : Completable.error(new NotConnectedException())));
+  }
+
+  public Completable disconnect() {
+    return Completable.merge(
+        connections.stream().map(NettyStreamingService::disconnect).collect(Collectors.toList()));
+  }
+
+  /**
+   * Subscribes to the channel on every connection. Each subscriber gets its own de-duplication
+   * state; the stream fails only once the channel has failed on every connection. A connection
+   * which is down when the channel is subscribed, or which drops the subscription because it is not
+   * connected, subscribes again once it has reconnected.
+   */
+  public Flowable<T> subscribeChannel(String channelName, Object... args) {
+    return Flowable.create(
+        emitter -> {
+          FeedArbiter<T> arbiter = new FeedArbiter<>(sequenceExtractor);
+          AtomicInteger failed = new AtomicInteger();
+          CompositeDisposable disposables = new CompositeDisposable();
+          emitter.setDisposable(disposables);
+          for (int i = 0; i < connections.size(); i++) {
+            subscribeChannel(i, emitter, arbiter, failed, disposables, channelName, args);
+          }
+        },
+        BackpressureStrategy.BUFFER);
+  }
+
+  private void subscribeChannel(
+      int source,
+      FlowableEmitter<T> emitter,
+      FeedArbiter<T> arbiter,
+      AtomicInteger failed,
+      CompositeDisposable disposables,
+      String channelName,
+      Object... args) {
+    NettyStreamingService<T> connection = connections.get(source);
+    disposables.add(
+        connection
+            .subscribeChannel(channelName, args)
+            .subscribe(
+                message -> {
+                  synchronized (arbiter) {
+                    if (arbiter.accept(message, source == getLeader())) {
+                      forwarded[source].increment();
+                      emitter.onNext(message);
+                    } else {
+                      duplicates.increment();
+                    }
+                  }
+                },
+                throwable -> {
+                  if (throwable instanceof NotConnectedException && !emitter.isCancelled()) {
+                    LOG.info(
+                        "Channel {} will be subscribed on connection {} once it reconnects",
+                        channelName,
+                        source);
+                    // the connection may have come up since the subscription failed
+                    disposables.add(
+                        connection
+                            .subscribeConnectionSuccess()
+                            .mergeWith(
+                                Flowable.defer(
+                                    () ->
+                                        connection.isSocketOpen()
+                                            ? Flowable.just(new Object())
+                                            : Flowable.never()))
+                            .firstElement()
+                            .subscribe(
+                                reconnected ->
+                                    subscribeChannel(
+                                        source,
+                                        emitter,
+                                        arbiter,
+                                        failed,
+                                        disposables,
+                                        channelName,
+                                        args)));
+                    return;
+                  }
+                  LOG.warn(
+                      "Channel {} failed on connection {}: {}",
+                      channelName,
+                      source,
+                      throwable.toString());
+                  if (failed.incrementAndGet() == connections.size()) {
+                    emitter.tryOnError(throwable);
+                  }
+                }));
+  }
+
+  /** @return Index of the first open connection, which forwards messages without a sequence. */
+  public int getLeader() {
+    for (int i = 0; i < connections.size(); i++) {
+      if (connections.get(i).isSocketOpen()) {
+        return i;
+      }
+    }
+    return 0;
+  }
+
+  /** @return Number of messages which arrived first over the given connection. */
+  public long getForwardedCount(int connection) {
+    return forwarded[connection].sum();
+  }
+
+  /** @return Number of late or stale copies discarded. */
+  public long getDuplicateCount() {
+    return duplicates.sum();
+  }
+
+  public List<NettyStreamingService<T>> getConnections() {
+    return connections;
+  }
+
+  public boolean isSocketOpen() {
+    return connections.stream().anyMatch(NettyStreamingService::isSocketOpen);
+  }
+
+  public void useCompressedMessages(boolean compressedMessages) {
+    connections.forEach(connection -> connection.useCompressedMessages(compressedMessages));
+  }
+}
@@ -0,0 +1,30 @@
+package info.bitrich.xchangestream.service.netty;
+
+/**
+ * Extracts the venue sequence number (update id, sequence, event timestamp...) from a message, so
+ * that copies of the same message received over different connections can be recognised.
+ *
+ * @param <T> Message type of the streaming service.
+ */
+public interface SequenceExtractor<T> {
+
+  /** Returned by {@link #getSequence(Object)} for messages which carry no sequence number. */
+  long NO_SEQUENCE = Long.MIN_VALUE;
+
+  /**
+   * @return The sequence number of the message, which must strictly increase within the {@link
+   *     #getStream(Object) stream} of a channel, or {@link #NO_SEQUENCE}.
+   */
+  long getSequence(T message);
+
+  /**
+   * Some venues multiplex several independently sequenced streams over one channel, e.g. Coinbase
+   * Pro sequences every product separately.
+   *
+   * @return The key of the stream the sequence number belongs to, or null if the channel is a
+   *     single stream.
+   */
+  default String getStream(T message) {
+    return null;
+  }
+}
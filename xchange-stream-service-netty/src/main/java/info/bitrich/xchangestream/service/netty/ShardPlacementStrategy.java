@@ -0,0 +1,41 @@
+package info.bitrich.xchangestream.service.netty;
+
+import java.util.List;
+
+/** Decides which connection of a {@link ShardedStreamingService} a new channel is placed on. */
+public interface ShardPlacementStrategy {
+
+  /**
+   * Places a channel by the hash of its unique id, so a given channel (and therefore a given
+   * symbol) always lands on the same shard regardless of subscription order.
+   */
+  ShardPlacementStrategy HASH =
+      (channelId, shards) -> Math.floorMod(channelId.hashCode(), shards.size());
+
+  /**
+   * Places a channel on the shard with the lowest message rate, using the channel count to break
+   * ties (e.g. before any messages have been received).
+   */
+  ShardPlacementStrategy LEAST_LOADED =
+      (channelId, shards) -> {
+        int selected = 0;
+        for (int i = 1; i < shards.size(); i++) {
+          ShardStats candidate = shards.get(i);
+          ShardStats current = shards.get(selected);
+          int byRate = Double.compare(candidate.getMessageRate(), current.getMessageRate());
+          if (byRate < 0
+              || (byRate == 0 && candidate.getChannelCount() < current.getChannelCount())) {
+            selected = i;
+          }
+        }
+        return selected;
+      };
+
+  /**
+   * @param channelId Unique id of the channel, as returned by {@link
+   *     NettyStreamingService#getSubscriptionUniqueId(String, Object...)}.
+   * @param shards Current statistics of every shard, ordered by shard index.
+   * @return Index of the shard the channel should be placed on.
+   */
+  int selectShard(String channelId, List<ShardStats> shards);
+}
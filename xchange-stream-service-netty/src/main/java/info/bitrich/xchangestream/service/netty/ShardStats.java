@@ -0,0 +1,100 @@
+package info.bitrich.xchangestream.service.netty;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Throughput statistics of a single connection of a {@link ShardedStreamingService}. */
+public final class ShardStats {
+
+  private static final long RATE_SAMPLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final int index;
+  private final NettyStreamingService<?> service;
+  private final AtomicInteger channelCount = new AtomicInteger();
+  private final LongAdder messageCount = new LongAdder();
+
+  private long sampleNanos = System.nanoTime();
+  private long sampleCount;
+  private volatile double messageRate;
+
+  ShardStats(int index, NettyStreamingService<?> service) {
+    this.index = index;
+    this.service = service;
+  }
+
+  void onMessage() {
+    messageCount.increment();
+  }
+
+  /** @return Whether the channel was added, false if the shard already carries the maximum */
+  boolean tryAddChannel(int maxChannels) {
+    int count;
+    do {
+      count = channelCount.get();
+      if (count >= maxChannels) {
+        return false;
+      }
+    } while (!channelCount.compareAndSet(count, count + 1));
+    return true;
+  }
+
+  void onChannelRemoved() {
+    channelCount.decrementAndGet();
+  }
+
+  /** @return Position of the shard within its {@link ShardedStreamingService}. */
+  public int getIndex() {
+    return index;
+  }
+
+  /** @return Number of channels currently placed on the shard. */
+  public int getChannelCount() {
+    return channelCount.get();
+  }
+
+  /** @return Total number of messages delivered by the shard since it was created. */
+  public long getMessageCount() {
+    return messageCount.sum();
+  }
+
+  /**
+   * The message rate is re-sampled at most once per second, so the value lags the actual rate by up
+   * to a second.
+   *
+   * @return Messages per second delivered by the shard.
+   */
+  public double getMessageRate() {
+    long now = System.nanoTime();
+    synchronized (this) {
+      long elapsed = now - sampleNanos;
+      if (elapsed >= RATE_SAMPLE_NANOS) {
+        long count = messageCount.sum();
+        messageRate = (count - sampleCount) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+        sampleCount = count;
+        sampleNanos = now;
+      }
+    }
+    return messageRate;
+  }
+
+  public boolean isSocketOpen() {
+    return service.isSocketOpen();
+  }
+
+  @Override
+  public String toString() {
+    return "ShardStats{"
+        + "index="
+        + index
+        + ", channelCount="
+        + getChannelCount()
+        + ", messageCount="
+        + getMessageCount()
+        + ", messageRate="
+        + messageRate
+        + ", socketOpen="
+        + isSocketOpen()
+        + '}';
+  }
+}
@@ -0,0 +1,196 @@
+package info.bitrich.xchangestream.service.netty;
+
+import info.bitrich.xchangestream.service.ConnectableService;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Spreads channel subscriptions over several independent {@link NettyStreamingService} connections.
+ *
+ * <p>Many exchanges cap the number of streams or the message rate per connection, and a single
+ * socket carrying hundreds of busy channels serialises all of them onto one event loop. Each shard
+ * created by the factory owns its own socket and event loop group and reconnects and resubscribes
+ * its own channels independently, so a failure of one shard does not interrupt the channels placed
+ * on the others.
+ *
+ * <pre>{@code
+ * ShardedStreamingService<JsonNode> service =
+ *     new ShardedStreamingService<>(
+ *         4, () -> new KrakenStreamingService(false, API_URI, null), ShardPlacementStrategy.HASH);
+ * service.connect().blockingAwait();
+ * service.subscribeChannel("book-10", "XBT/USD").subscribe(...);
+ * }</pre>
+ *
+ * @param <T> Message type of the underlying streaming services.
+ */
+public class ShardedStreamingService<T> extends ConnectableService {
+  private static final Logger LOG = LoggerFactory.getLogger(ShardedStreamingService.class);
+
+  private final List<NettyStreamingService<T>> shards;
+  private final List<ShardStats> shardStats;
+  private final ShardPlacementStrategy placementStrategy;
+  private final int maxChannelsPerShard;
+  private final Map<String, Placement> placements = new ConcurrentHashMap<>();
+
+  /**
+   * A channel and the shard carrying it. The shard is chosen, and a slot reserved on it, when the
+   * channel gets its first subscriber, and the slot is released when the last one cancels.
+   */
+  private final class Placement {
+    final AtomicReference<ShardStats> stats = new AtomicReference<>();
+    final Flowable<T> flowable;
+
+    Placement(String channelId, String channelName, Object... args) {
+      this.flowable =
+          Flowable.defer(
+                  () -> {
+                    ShardStats reserved = reserve(channelId);
+                    stats.set(reserved);
+                    LOG.debug("Placing channel {} on shard {}", channelId, reserved.getIndex());
+                    return shards
+                        .get(reserved.getIndex())
+                        .subscribeChannel(channelName, args)
+                        .doOnNext(message -> reserved.onMessage())
+                        .doFinally(() -> release(reserved));
+                  })
+              .publish(1)
+              .refCount();
+    }
+
+    void release(ShardStats reserved) {
+      if (reserved != null && stats.compareAndSet(reserved, null)) {
+        reserved.onChannelRemoved();
+      }
+    }
+  }
+
+  public ShardedStreamingService(
+      int shardCount,
+      Supplier<? extends NettyStreamingService<T>> shardFactory,
+      ShardPlacementStrategy placementStrategy) {
+    this(shardCount, shardFactory, placementStrategy, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param shardCount Number of connections to open.
+   * @param shardFactory Creates a new, unconnected streaming service for every shard.
+   * @param placementStrategy Decides which shard a new channel is placed on.
+   * @param maxChannelsPerShard Maximum number of channels a single connection may carry, e.g. 1024
+   *     for Binance. Channels are moved to the emptiest shard when the selected one is full.
+   */
+  public ShardedStreamingService(
+      int shardCount,
+      Supplier<? extends NettyStreamingService<T>> shardFactory,
+      ShardPlacementStrategy placementStrategy,
+      int maxChannelsPerShard) {
+    if (shardCount < 1) {
+      throw new IllegalArgumentException("At least one shard is required");
+    }
+    List<NettyStreamingService<T>> services = new ArrayList<>(shardCount);
+    List<ShardStats> stats = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      NettyStreamingService<T> service = shardFactory.get();
+      services.add(service);
+      stats.add(new ShardStats(i, service));
+    }
+    this.shards = Collections.unmodifiableList(services);
+    this.shardStats = Collections.unmodifiableList(stats);
+    this.placementStrategy = placementStrategy;
+    this.maxChannelsPerShard = maxChannelsPerShard;
+  }
+
+  @Override
+  public void setBeforeConnectionHandler(Runnable beforeConnectionHandler) {
+    shards.forEach(shard -> shard.setBeforeConnectionHandler(beforeConnectionHandler));
+  }
+
+  @Override
+  protected Completable openConnection() {
+    return Completable.merge(
+        shards.stream().map(ConnectableService::connect).collect(Collectors.toList()));
+  }
+
+  public Completable disconnect() {
+    return Completable.merge(
+            shards.stream().map(NettyStreamingService::disconnect).collect(Collectors.toList()))
+        .doOnComplete(
+            () -> {
+              for (Placement placement : placements.values()) {
+                placement.release(placement.stats.get());
+              }
+              placements.clear();
+            });
+  }
+
+  /**
+   * Subscribes to a channel on the shard chosen by the placement strategy. Subsequent subscriptions
+   * to the same channel share the shard and the upstream subscription until all of them are
+   * cancelled. The channel only takes a slot of the shard while it is subscribed, and the
+   * subscription fails with an {@link IllegalStateException} if all the shards are full.
+   */
+  public Flowable<T> subscribeChannel(String channelName, Object... args) {
+    final String channelId = shards.get(0).getSubscriptionUniqueId(channelName, args);
+    return Flowable.defer(
+        () -> {
+          Placement placement =
+              placements.computeIfAbsent(channelId, id -> new Placement(id, channelName, args));
+          return placement.flowable;
+        });
+  }
+
+  /** Reserves a slot for the channel on the selected shard, or else on the emptiest one. */
+  private ShardStats reserve(String channelId) {
+    ShardStats selected = shardStats.get(placementStrategy.selectShard(channelId, shardStats));
+    if (selected.tryAddChannel(maxChannelsPerShard)) {
+      return selected;
+    }
+    List<ShardStats> byChannelCount = new ArrayList<>(shardStats);
+    byChannelCount.sort(Comparator.comparingInt(ShardStats::getChannelCount));
+    for (ShardStats stats : byChannelCount) {
+      if (stats.tryAddChannel(maxChannelsPerShard)) {
+        return stats;
+      }
+    }
+    throw new IllegalStateException(
+        "All " + shards.size() + " shards carry " + maxChannelsPerShard + " channels");
+  }
+
+  /** @return The shard currently carrying the channel, or null if the channel is not subscribed. */
+  public ShardStats getShard(String channelName, Object... args) {
+    Placement placement = placements.get(shards.get(0).getSubscriptionUniqueId(channelName, args));
+    return placement == null ? null : placement.stats.get();
+  }
+
+  /** @return Throughput statistics of every shard, ordered by shard index. */
+  public List<ShardStats> getShardStats() {
+    return shardStats;
+  }
+
+  /** @return The underlying streaming services, ordered by shard index. */
+  public List<NettyStreamingService<T>> getShards() {
+    return shards;
+  }
+
+  public boolean isSocketOpen() {
+    return shards.stream().allMatch(NettyStreamingService::isSocketOpen);
+  }
+
+  public void useCompressedMessages(boolean compressedMessages) {
+    shards.forEach(shard -> shard.useCompressedMessages(compressedMessages));
+  }
+
+  public void setAutoReconnect(boolean autoReconnect) {
+    shards.forEach(shard -> shard.setAutoReconnect(autoReconnect));
+  }
+}
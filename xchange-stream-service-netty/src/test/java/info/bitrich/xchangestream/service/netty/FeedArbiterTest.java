@@ -0,0 +1,50 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.junit.Test;
+
+public class FeedArbiterTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testFirstCopyWins() throws IOException {
+    FeedArbiter<JsonNode> arbiter =
+        new FeedArbiter<>(new JsonSequenceExtractor(null, "/data/u", "/data/E"));
+
+    assertThat(arbiter.accept(json("{\"data\":{\"u\":10}}"), false)).isTrue();
+    assertThat(arbiter.accept(json("{\"data\":{\"u\":10}}"), true)).isFalse();
+    assertThat(arbiter.accept(json("{\"data\":{\"u\":12}}"), true)).isTrue();
+    assertThat(arbiter.accept(json("{\"data\":{\"u\":11}}"), false)).isFalse();
+    assertThat(arbiter.accept(json("{\"data\":{\"E\":13}}"), false)).isTrue();
+  }
+
+  @Test
+  public void testStreamsAreSequencedSeparately() throws IOException {
+    FeedArbiter<JsonNode> arbiter =
+        new FeedArbiter<>(new JsonSequenceExtractor("/product_id", "/sequence"));
+
+    assertThat(arbiter.accept(json("{\"product_id\":\"BTC-USD\",\"sequence\":5}"), true)).isTrue();
+    assertThat(arbiter.accept(json("{\"product_id\":\"ETH-USD\",\"sequence\":3}"), true)).isTrue();
+    assertThat(arbiter.accept(json("{\"product_id\":\"ETH-USD\",\"sequence\":3}"), true))
+        .isFalse();
+    assertThat(arbiter.accept(json("{\"product_id\":\"BTC-USD\",\"sequence\":\"6\"}"), false))
+        .isTrue();
+  }
+
+  @Test
+  public void testUnsequencedMessagesFollowLeader() throws IOException {
+    FeedArbiter<JsonNode> arbiter = new FeedArbiter<>(new JsonSequenceExtractor(null, "/u"));
+
+    assertThat(arbiter.accept(json("{\"event\":\"heartbeat\"}"), true)).isTrue();
+    assertThat(arbiter.accept(json("{\"event\":\"heartbeat\"}"), false)).isFalse();
+  }
+
+  private JsonNode json(String json) throws IOException {
+    return mapper.readTree(json);
+  }
+}
@@ -0,0 +1,56 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class ReconnectBackoffTest {
+
+  @Test
+  public void testDelayGrowsUpToMaxAndResets() {
+    ReconnectBackoff backoff = new ReconnectBackoff(Duration.ofMillis(50), Duration.ofSeconds(1));
+
+    assertThat(backoff.nextDelay()).isLessThanOrEqualTo(Duration.ofMillis(50));
+    assertThat(backoff.nextDelay()).isLessThanOrEqualTo(Duration.ofMillis(100));
+    for (int i = 0; i < 100; i++) {
+      assertThat(backoff.nextDelay()).isLessThanOrEqualTo(Duration.ofSeconds(1));
+    }
+    assertThat(backoff.getAttempts()).isEqualTo(102);
+
+    backoff.reset();
+    assertThat(backoff.getAttempts()).isZero();
+    assertThat(backoff.nextDelay()).isLessThanOrEqualTo(Duration.ofMillis(50));
+  }
+
+  @Test
+  public void testAcceptThenCloseKeepsBackingOff() {
+    ReconnectBackoff backoff =
+        new ReconnectBackoff(Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ofHours(1));
+
+    for (int i = 0; i < 10; i++) {
+      backoff.onConnected();
+      backoff.nextDelay();
+    }
+    assertThat(backoff.getAttempts()).isEqualTo(10);
+  }
+
+  @Test
+  public void testStableConnectionResetsAttempts() {
+    ReconnectBackoff backoff =
+        new ReconnectBackoff(Duration.ofMillis(50), Duration.ofSeconds(1), Duration.ZERO);
+    backoff.nextDelay();
+    backoff.nextDelay();
+
+    for (int i = 0; i < 10; i++) {
+      backoff.onConnected();
+      assertThat(backoff.nextDelay()).isLessThanOrEqualTo(Duration.ofMillis(50));
+    }
+    assertThat(backoff.getAttempts()).isEqualTo(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMinDelayAboveMaxDelay() {
+    new ReconnectBackoff(Duration.ofSeconds(2), Duration.ofSeconds(1));
+  }
+}
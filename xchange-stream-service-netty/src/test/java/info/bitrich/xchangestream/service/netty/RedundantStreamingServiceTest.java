@@ -0,0 +1,122 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import info.bitrich.xchangestream.service.exception.NotConnectedException;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class RedundantStreamingServiceTest {
+
+  /** A connection whose state and messages are driven by the test. */
+  private static class StubConnection extends NettyStreamingService<Long> {
+
+    final PublishProcessor<Object> connectionSuccess = PublishProcessor.create();
+    final PublishProcessor<Long> messages = PublishProcessor.create();
+    volatile boolean open;
+    int subscriptions;
+
+    StubConnection() {
+      super("ws://localhost");
+    }
+
+    void reconnect() {
+      open = true;
+      connectionSuccess.onNext(new Object());
+    }
+
+    @Override
+    public Flowable<Long> subscribeChannel(String channelName, Object... args) {
+      subscriptions++;
+      return open ? messages : Flowable.error(new NotConnectedException());
+    }
+
+    @Override
+    public Flowable<Object> subscribeConnectionSuccess() {
+      return connectionSuccess;
+    }
+
+    @Override
+    public boolean isSocketOpen() {
+      return open;
+    }
+
+    @Override
+    protected String getChannelNameFromMessage(Long message) {
+      return null;
+    }
+
+    @Override
+    public String getSubscribeMessage(String channelName, Object... args) {
+      return channelName;
+    }
+
+    @Override
+    public String getUnsubscribeMessage(String channelName) {
+      return channelName;
+    }
+
+    @Override
+    public void messageHandler(String message) {}
+  }
+
+  @Test
+  public void testConnectionDownAtSubscribeJoinsOnReconnect() {
+    List<StubConnection> connections = new ArrayList<>();
+    RedundantStreamingService<Long> service =
+        new RedundantStreamingService<>(
+            () -> {
+              StubConnection connection = new StubConnection();
+              connections.add(connection);
+              return connection;
+            },
+            message -> message);
+    StubConnection up = connections.get(0);
+    StubConnection down = connections.get(1);
+    up.open = true;
+
+    TestSubscriber<Long> subscriber = service.subscribeChannel("trades").test();
+    up.messages.onNext(1L);
+    assertThat(down.subscriptions).isEqualTo(1);
+
+    down.reconnect();
+    assertThat(down.subscriptions).isEqualTo(2);
+    down.messages.onNext(2L);
+    up.messages.onNext(2L);
+    up.messages.onNext(3L);
+
+    subscriber.assertValues(1L, 2L, 3L).assertNoErrors();
+    assertThat(service.getForwardedCount(1)).isEqualTo(1);
+    assertThat(service.getDuplicateCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testConnectionsUpAfterFailureAreResubscribedRightAway() {
+    List<StubConnection> connections = new ArrayList<>();
+    RedundantStreamingService<Long> service =
+        new RedundantStreamingService<>(
+            () -> {
+              StubConnection connection =
+                  new StubConnection() {
+                    @Override
+                    public Flowable<Long> subscribeChannel(String channelName, Object... args) {
+                      Flowable<Long> channel = super.subscribeChannel(channelName, args);
+                      // comes up between the failure and the wait for its reconnection
+                      open = true;
+                      return channel;
+                    }
+                  };
+              connections.add(connection);
+              return connection;
+            },
+            message -> message);
+
+    service.subscribeChannel("trades").test().assertNoErrors();
+
+    assertThat(connections).extracting(c -> c.subscriptions).containsExactly(2, 2);
+  }
+}
@@ -0,0 +1,33 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ShardPlacementStrategyTest {
+
+  private final List<ShardStats> shards =
+      Arrays.asList(new ShardStats(0, null), new ShardStats(1, null), new ShardStats(2, null));
+
+  @Test
+  public void testHashIsStable() {
+    int shard = ShardPlacementStrategy.HASH.selectShard("btcusdt@depth", shards);
+    assertThat(shard).isBetween(0, 2);
+    shards.get(shard).tryAddChannel(Integer.MAX_VALUE);
+    assertThat(ShardPlacementStrategy.HASH.selectShard("btcusdt@depth", shards)).isEqualTo(shard);
+  }
+
+  @Test
+  public void testLeastLoadedUsesChannelCountWithoutTraffic() {
+    shards.get(0).tryAddChannel(Integer.MAX_VALUE);
+    shards.get(1).tryAddChannel(Integer.MAX_VALUE);
+    assertThat(ShardPlacementStrategy.LEAST_LOADED.selectShard("a", shards)).isEqualTo(2);
+
+    shards.get(2).tryAddChannel(Integer.MAX_VALUE);
+    shards.get(2).tryAddChannel(Integer.MAX_VALUE);
+    shards.get(0).onChannelRemoved();
+    assertThat(ShardPlacementStrategy.LEAST_LOADED.selectShard("b", shards)).isEqualTo(0);
+  }
+}
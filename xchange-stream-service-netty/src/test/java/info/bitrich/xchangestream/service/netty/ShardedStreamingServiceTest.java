@@ -0,0 +1,127 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ShardedStreamingServiceTest {
+
+  private static final class StubStreamingService extends NettyStreamingService<String> {
+
+    StubStreamingService() {
+      super("ws://localhost");
+    }
+
+    @Override
+    public Flowable<String> subscribeChannel(String channelName, Object... args) {
+      return Flowable.never();
+    }
+
+    @Override
+    protected String getChannelNameFromMessage(String message) {
+      return message;
+    }
+
+    @Override
+    public String getSubscribeMessage(String channelName, Object... args) {
+      return channelName;
+    }
+
+    @Override
+    public String getUnsubscribeMessage(String channelName) {
+      return channelName;
+    }
+
+    @Override
+    public void messageHandler(String message) {}
+  }
+
+  @Test
+  public void testDisconnectClearsChannelCounts() {
+    ShardedStreamingService<String> service =
+        new ShardedStreamingService<>(2, StubStreamingService::new, ShardPlacementStrategy.HASH, 1);
+    service.subscribeChannel("a").test();
+    service.subscribeChannel("b").test();
+    service.subscribeChannel("a").test();
+    assertThat(service.getShardStats())
+        .extracting(ShardStats::getChannelCount)
+        .containsExactly(1, 1);
+    service.subscribeChannel("c").test().assertError(IllegalStateException.class);
+
+    service.disconnect().blockingAwait();
+
+    assertThat(service.getShardStats())
+        .extracting(ShardStats::getChannelCount)
+        .containsExactly(0, 0);
+    assertThat(service.getShard("a")).isNull();
+    service.subscribeChannel("c").test();
+    assertThat(service.getShard("c")).isNotNull();
+  }
+
+  @Test
+  public void testOnlySubscribedChannelsTakeASlot() {
+    ShardedStreamingService<String> service =
+        new ShardedStreamingService<>(1, StubStreamingService::new, ShardPlacementStrategy.HASH, 1);
+    Flowable<String> a = service.subscribeChannel("a");
+    Flowable<String> b = service.subscribeChannel("b");
+    assertThat(service.getShardStats().get(0).getChannelCount()).isZero();
+
+    TestSubscriber<String> first = a.test();
+    TestSubscriber<String> second = a.test();
+    assertThat(service.getShardStats().get(0).getChannelCount()).isEqualTo(1);
+    b.test().assertError(IllegalStateException.class);
+
+    first.cancel();
+    assertThat(service.getShardStats().get(0).getChannelCount()).isEqualTo(1);
+    second.cancel();
+    assertThat(service.getShardStats().get(0).getChannelCount()).isZero();
+    assertThat(service.getShard("a")).isNull();
+    b.test().assertNoErrors();
+    assertThat(service.getShard("b")).isNotNull();
+  }
+
+  @Test
+  public void testConcurrentSubscriptionsDoNotOverfillShards() throws Exception {
+    ShardedStreamingService<String> service =
+        new ShardedStreamingService<>(
+            2, StubStreamingService::new, ShardPlacementStrategy.LEAST_LOADED, 10);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger failed = new AtomicInteger();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        String channel = "channel-" + i;
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return service
+                      .subscribeChannel(channel)
+                      .subscribe(message -> {}, e -> failed.incrementAndGet());
+                }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(failed).hasValue(80);
+    assertThat(service.getShardStats())
+        .extracting(ShardStats::getChannelCount)
+        .containsExactly(10, 10);
+  }
+}
@@ -0,0 +1,68 @@
+package info.bitrich.xchangestream.service.pubnub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Converts the Gson trees of the PubNub SDK into Jackson trees, without serializing them to text
+ * and parsing it again.
+ *
+ * <p>The numbers are converted from their text, so decimals keep their exact value and scale.
+ */
+final class GsonJsonNodes {
+
+  private static final JsonNodeFactory FACTORY = JsonNodeFactory.withExactBigDecimals(true);
+
+  private GsonJsonNodes() {}
+
+  static JsonNode toJsonNode(JsonElement element) {
+    if (element == null || element.isJsonNull()) {
+      return FACTORY.nullNode();
+    }
+    if (element.isJsonObject()) {
+      ObjectNode node = FACTORY.objectNode();
+      for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+        node.set(field.getKey(), toJsonNode(field.getValue()));
+      }
+      return node;
+    }
+    if (element.isJsonArray()) {
+      JsonArray array = element.getAsJsonArray();
+      ArrayNode node = FACTORY.arrayNode(array.size());
+      for (JsonElement item : array) {
+        node.add(toJsonNode(item));
+      }
+      return node;
+    }
+    JsonPrimitive primitive = element.getAsJsonPrimitive();
+    if (primitive.isBoolean()) {
+      return FACTORY.booleanNode(primitive.getAsBoolean());
+    }
+    if (primitive.isNumber()) {
+      return toNumberNode(primitive.getAsNumber().toString());
+    }
+    return FACTORY.textNode(primitive.getAsString());
+  }
+
+  private static JsonNode toNumberNode(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '.' || c == 'e' || c == 'E') {
+        return FACTORY.numberNode(new BigDecimal(text));
+      }
+    }
+    if (text.length() < 19) {
+      long value = Long.parseLong(text);
+      return value == (int) value ? FACTORY.numberNode((int) value) : FACTORY.numberNode(value);
+    }
+    return FACTORY.numberNode(new BigInteger(text));
+  }
+}
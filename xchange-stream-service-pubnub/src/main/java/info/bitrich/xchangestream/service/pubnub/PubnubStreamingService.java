@@ -1,8 +1,6 @@
 package info.bitrich.xchangestream.service.pubnub;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pubnub.api.PNConfiguration;
 import com.pubnub.api.PubNub;
 import com.pubnub.api.callbacks.SubscribeCallback;
@@ -20,7 +18,6 @@ import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableEmitter;
-import java.io.IOException;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,11 +31,8 @@ public class PubnubStreamingService {
   private final PubNub pubnub;
   private PNStatusCategory pnStatusCategory;
   private final Map<String, FlowableEmitter<JsonNode>> subscriptions = new ConcurrentHashMap<>();
-  private final ObjectMapper mapper;
 
   public PubnubStreamingService(String publicKey) {
-    mapper = new ObjectMapper();
-    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     PNConfiguration pnConfiguration = new PNConfiguration();
     pnConfiguration.setSubscribeKey(publicKey);
     pubnub = new PubNub(pnConfiguration);
@@ -55,7 +49,7 @@ public class PubnubStreamingService {
                   pnStatusCategory = pnStatus.getCategory();
                   LOG.debug(
                       "PubNub status: {} {}",
-                      pnStatusCategory.toString(),
+                      pnStatusCategory,
                       pnStatus.getStatusCode());
                   if (pnStatusCategory == PNStatusCategory.PNConnectedCategory) {
                     //              e.onComplete();
@@ -68,15 +62,10 @@ public class PubnubStreamingService {
                 public void message(PubNub pubNub, PNMessageResult pnMessageResult) {
                   String channelName = pnMessageResult.getChannel();
                   FlowableEmitter<JsonNode> subscription = subscriptions.get(channelName);
-                  LOG.debug("PubNub Message: {}", pnMessageResult.toString());
+                  LOG.debug("PubNub Message: {}", pnMessageResult);
                   if (subscription != null) {
-                    JsonNode jsonMessage = null;
-                    try {
-                      jsonMessage = mapper.readTree(pnMessageResult.getMessage().toString());
-                    } catch (IOException ex) {
-                      ex.printStackTrace();
-                    }
-                    subscription.onNext(jsonMessage);
+                    // converted from the Gson tree, the message is not serialized and parsed again
+                    subscription.onNext(GsonJsonNodes.toJsonNode(pnMessageResult.getMessage()));
                   } else {
                     LOG.debug("No subscriber for channel {}.", channelName);
                   }
@@ -84,33 +73,33 @@ public class PubnubStreamingService {
 
                 @Override
                 public void presence(PubNub pubNub, PNPresenceEventResult pnPresenceEventResult) {
-                  LOG.debug("PubNub presence: {}", pnPresenceEventResult.toString());
+                  LOG.debug("PubNub presence: {}", pnPresenceEventResult);
                 }
 
                 @Override
                 public void signal(PubNub pubnub, PNSignalResult pnSignalResult) {
-                  LOG.debug("PubNub signal: {}", pnSignalResult.toString());
+                  LOG.debug("PubNub signal: {}", pnSignalResult);
                 }
 
                 @Override
                 public void user(PubNub pubnub, PNUserResult pnUserResult) {
-                  LOG.debug("PubNub user: {}", pnUserResult.toString());
+                  LOG.debug("PubNub user: {}", pnUserResult);
                 }
 
                 @Override
                 public void space(PubNub pubnub, PNSpaceResult pnSpaceResult) {
-                  LOG.debug("PubNub space: {}", pnSpaceResult.toString());
+                  LOG.debug("PubNub space: {}", pnSpaceResult);
                 }
 
                 @Override
                 public void membership(PubNub pubnub, PNMembershipResult pnMembershipResult) {
-                  LOG.debug("PubNub membership: {}", pnMembershipResult.toString());
+                  LOG.debug("PubNub membership: {}", pnMembershipResult);
                 }
 
                 @Override
                 public void messageAction(
                     PubNub pubnub, PNMessageActionResult pnMessageActionResult) {
-                  LOG.debug("PubNub messageAction: {}", pnMessageActionResult.toString());
+                  LOG.debug("PubNub messageAction: {}", pnMessageActionResult);
                 }
               });
           e.onComplete();
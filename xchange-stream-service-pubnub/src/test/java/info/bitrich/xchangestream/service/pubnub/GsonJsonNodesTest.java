@@ -0,0 +1,30 @@
+package info.bitrich.xchangestream.service.pubnub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.gson.JsonParser;
+import java.math.BigDecimal;
+import org.junit.Test;
+
+public class GsonJsonNodesTest {
+
+  @Test
+  public void testToJsonNode() {
+    String json =
+        "{\"product_code\":\"BTC_JPY\",\"mid_price\":1012345.50,\"size\":0.01,"
+            + "\"asks\":[{\"price\":1012346,\"size\":1e-3}],\"id\":1234567890123,"
+            + "\"big\":12345678901234567890,\"open\":true,\"note\":null}";
+    JsonNode node = GsonJsonNodes.toJsonNode(new JsonParser().parse(json));
+
+    assertThat(node.get("product_code").asText()).isEqualTo("BTC_JPY");
+    assertThat(node.get("mid_price").decimalValue()).isEqualTo(new BigDecimal("1012345.50"));
+    assertThat(node.get("asks").get(0).get("price").isInt()).isTrue();
+    assertThat(node.get("asks").get(0).get("size").decimalValue())
+        .isEqualByComparingTo("0.001");
+    assertThat(node.get("id").isLong()).isTrue();
+    assertThat(node.get("big").isBigInteger()).isTrue();
+    assertThat(node.get("open").asBoolean()).isTrue();
+    assertThat(node.get("note").isNull()).isTrue();
+  }
+}
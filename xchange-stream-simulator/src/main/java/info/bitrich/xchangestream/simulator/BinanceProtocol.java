@@ -0,0 +1,100 @@
+package info.bitrich.xchangestream.simulator;
+
+import static info.bitrich.xchangestream.simulator.MarketModel.appendAmount;
+import static info.bitrich.xchangestream.simulator.MarketModel.appendPrice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Binance's combined streams: the streams are selected by the URI of the connection, and the book
+ * snapshots are fetched from the REST API, whose last update id the depth updates follow. A gap is
+ * detected by the client from the update ids.
+ */
+final class BinanceProtocol implements VenueProtocol {
+
+  private static final String DEPTH_PATH = "/api/v3/depth";
+
+  @Override
+  public void onConnect(SimulatorSession session, QueryStringDecoder request) {
+    List<String> streams = request.parameters().get("streams");
+    if (streams == null) {
+      return;
+    }
+    for (String stream : streams.get(0).split("/")) {
+      String[] parts = stream.split("@");
+      MarketModel market = session.market(parts[0].toUpperCase(Locale.ROOT));
+      if ("depth".equals(parts[1])) {
+        session.addFeed(() -> depthUpdate(stream, market));
+      } else if ("trade".equals(parts[1])) {
+        session.addFeed(() -> trade(session, stream, market));
+      }
+    }
+  }
+
+  @Override
+  public void onMessage(SimulatorSession session, JsonNode message) {}
+
+  @Override
+  public String onHttpRequest(ExchangeSimulator simulator, QueryStringDecoder request) {
+    List<String> symbol = request.parameters().get("symbol");
+    if (!DEPTH_PATH.equals(request.path()) || symbol == null) {
+      return null;
+    }
+    MarketModel market = simulator.market(symbol.get(0));
+    StringBuilder sb = new StringBuilder(64 * market.getDepth());
+    sb.append("{\"lastUpdateId\":").append(market.getUpdateId()).append(",\"bids\":[");
+    for (int level = 0, n = 0; level < market.getDepth(); level++) {
+      if (market.getBidAmount(level) != 0) {
+        appendLevel(sb, n++, market.getBidPrice(level), market.getBidAmount(level));
+      }
+    }
+    sb.append("],\"asks\":[");
+    for (int level = 0, n = 0; level < market.getDepth(); level++) {
+      if (market.getAskAmount(level) != 0) {
+        appendLevel(sb, n++, market.getAskPrice(level), market.getAskAmount(level));
+      }
+    }
+    return sb.append("]}").toString();
+  }
+
+  private static String depthUpdate(String stream, MarketModel market) {
+    market.change();
+    long time = System.currentTimeMillis();
+    StringBuilder sb = new StringBuilder(192);
+    sb.append("{\"stream\":\"").append(stream).append("\",\"data\":{\"e\":\"depthUpdate\",\"E\":");
+    sb.append(time).append(",\"s\":\"").append(market.getSymbol());
+    sb.append("\",\"U\":").append(market.getUpdateId());
+    sb.append(",\"u\":").append(market.getUpdateId());
+    sb.append(market.isChangeBid() ? ",\"b\":[" : ",\"b\":[],\"a\":[");
+    appendLevel(sb, 0, market.getChangePrice(), market.getChangeAmount());
+    sb.append(market.isChangeBid() ? "],\"a\":[]}}" : "]}}");
+    return sb.toString();
+  }
+
+  private static String trade(SimulatorSession session, String stream, MarketModel market) {
+    session.trade(market);
+    long time = System.currentTimeMillis();
+    StringBuilder sb = new StringBuilder(256);
+    sb.append("{\"stream\":\"").append(stream).append("\",\"data\":{\"e\":\"trade\",\"E\":");
+    sb.append(time).append(",\"s\":\"").append(market.getSymbol());
+    sb.append("\",\"t\":").append(market.getTradeId()).append(",\"p\":\"");
+    appendPrice(sb, market.getTradePrice()).append("\",\"q\":\"");
+    appendAmount(sb, market.getTradeAmount()).append("\",\"b\":");
+    sb.append(2 * market.getTradeId()).append(",\"a\":").append(2 * market.getTradeId() + 1);
+    sb.append(",\"T\":").append(time);
+    sb.append(",\"m\":").append(!market.isTradeBuy()).append(",\"M\":true}}");
+    return sb.toString();
+  }
+
+  private static void appendLevel(StringBuilder sb, int index, long price, long amount) {
+    if (index > 0) {
+      sb.append(',');
+    }
+    sb.append("[\"");
+    appendPrice(sb, price).append("\",\"");
+    appendAmount(sb, amount).append("\"]");
+  }
+}
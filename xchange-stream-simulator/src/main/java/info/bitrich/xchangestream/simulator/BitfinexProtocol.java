@@ -0,0 +1,104 @@
+package info.bitrich.xchangestream.simulator;
+
+import static info.bitrich.xchangestream.simulator.MarketModel.appendAmount;
+import static info.bitrich.xchangestream.simulator.MarketModel.appendPrice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * Bitfinex's WebSocket API v2: each subscription is acknowledged with the id of its channel, which
+ * prefixes its messages. Books are sent as a snapshot of [price, count, amount] levels, the asks
+ * with negative amounts, then as single levels, a count of 0 removing the level. Trades are sent as
+ * te events of [id, time, amount, price], the amount negative for sells.
+ */
+final class BitfinexProtocol implements VenueProtocol {
+
+  @Override
+  public void onConnect(SimulatorSession session, QueryStringDecoder request) {
+    session.send("{\"event\":\"info\",\"version\":2,\"platform\":{\"status\":1}}");
+  }
+
+  @Override
+  public void onMessage(SimulatorSession session, JsonNode message) {
+    if ("ping".equals(message.path("event").asText())) {
+      session.send("{\"event\":\"pong\",\"cid\":" + message.path("cid").asLong() + "}");
+    } else if ("subscribe".equals(message.path("event").asText())) {
+      String channel = message.path("channel").asText();
+      String pair = message.path("pair").asText();
+      int channelId = session.nextChannelId();
+      MarketModel market = session.market(pair);
+      if ("book".equals(channel)) {
+        session.send(
+            "{\"event\":\"subscribed\",\"channel\":\"book\",\"chanId\":"
+                + channelId
+                + ",\"symbol\":\"t"
+                + pair
+                + "\",\"prec\":\"P0\",\"freq\":\"F0\",\"len\":\""
+                + message.path("len").asText()
+                + "\",\"pair\":\""
+                + pair
+                + "\"}");
+        session.send(snapshot(channelId, market));
+        session.addFeed(() -> bookUpdate(channelId, market));
+      } else if ("trades".equals(channel)) {
+        session.send(
+            "{\"event\":\"subscribed\",\"channel\":\"trades\",\"chanId\":"
+                + channelId
+                + ",\"symbol\":\"t"
+                + pair
+                + "\",\"pair\":\""
+                + pair
+                + "\"}");
+        session.addFeed(() -> trade(session, channelId, market));
+      }
+    }
+  }
+
+  private static String snapshot(int channelId, MarketModel market) {
+    StringBuilder sb = new StringBuilder(64 * market.getDepth());
+    sb.append('[').append(channelId).append(",[");
+    int n = 0;
+    for (int level = 0; level < market.getDepth(); level++) {
+      if (market.getBidAmount(level) != 0) {
+        appendLevel(sb, n++, market.getBidPrice(level), 1, market.getBidAmount(level));
+      }
+    }
+    for (int level = 0; level < market.getDepth(); level++) {
+      if (market.getAskAmount(level) != 0) {
+        appendLevel(sb, n++, market.getAskPrice(level), 1, -market.getAskAmount(level));
+      }
+    }
+    return sb.append("]]").toString();
+  }
+
+  private static String bookUpdate(int channelId, MarketModel market) {
+    market.change();
+    boolean removed = market.getChangeAmount() == 0;
+    long amount = removed ? 1 : market.getChangeAmount();
+    StringBuilder sb = new StringBuilder(64);
+    sb.append('[').append(channelId).append(',');
+    appendLevel(
+        sb, 0, market.getChangePrice(), removed ? 0 : 1, market.isChangeBid() ? amount : -amount);
+    return sb.append(']').toString();
+  }
+
+  private static String trade(SimulatorSession session, int channelId, MarketModel market) {
+    session.trade(market);
+    long amount = market.isTradeBuy() ? market.getTradeAmount() : -market.getTradeAmount();
+    StringBuilder sb = new StringBuilder(96);
+    sb.append('[').append(channelId).append(",\"te\",[").append(market.getTradeId());
+    sb.append(',').append(System.currentTimeMillis()).append(',');
+    appendAmount(sb, amount).append(',');
+    return appendPrice(sb, market.getTradePrice()).append("]]").toString();
+  }
+
+  private static void appendLevel(StringBuilder sb, int index, long price, int count, long amount) {
+    if (index > 0) {
+      sb.append(',');
+    }
+    sb.append('[');
+    appendPrice(sb, price).append(',').append(count).append(',');
+    appendAmount(sb, amount).append(']');
+  }
+}
@@ -0,0 +1,96 @@
+package info.bitrich.xchangestream.simulator;
+
+import static info.bitrich.xchangestream.simulator.MarketModel.appendAmount;
+import static info.bitrich.xchangestream.simulator.MarketModel.appendPrice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.Instant;
+
+/**
+ * Coinbase Pro's WebSocket feed: a single subscribe message lists the channels, each with its
+ * products or with the products of the message. The level2 channel sends a snapshot of the book,
+ * then l2update messages; the matches channel sends the trades.
+ */
+final class CoinbaseProProtocol implements VenueProtocol {
+
+  @Override
+  public void onMessage(SimulatorSession session, JsonNode message) {
+    if (!"subscribe".equals(message.path("type").asText())) {
+      return;
+    }
+    for (JsonNode channel : message.path("channels")) {
+      String name = channel.isTextual() ? channel.asText() : channel.path("name").asText();
+      JsonNode productIds =
+          channel.has("product_ids") ? channel.get("product_ids") : message.path("product_ids");
+      for (JsonNode productId : productIds) {
+        subscribe(session, name, productId.asText());
+      }
+    }
+  }
+
+  private static void subscribe(SimulatorSession session, String channel, String productId) {
+    MarketModel market = session.market(productId);
+    if ("level2".equals(channel)) {
+      session.send(snapshot(market));
+      session.addFeed(() -> l2update(market));
+    } else if ("matches".equals(channel)) {
+      session.addFeed(() -> match(session, market));
+    }
+  }
+
+  private static String snapshot(MarketModel market) {
+    StringBuilder sb = new StringBuilder(64 * market.getDepth());
+    sb.append("{\"type\":\"snapshot\",\"product_id\":\"").append(market.getSymbol());
+    sb.append("\",\"bids\":[");
+    for (int level = 0, n = 0; level < market.getDepth(); level++) {
+      if (market.getBidAmount(level) != 0) {
+        appendLevel(sb, n++, market.getBidPrice(level), market.getBidAmount(level));
+      }
+    }
+    sb.append("],\"asks\":[");
+    for (int level = 0, n = 0; level < market.getDepth(); level++) {
+      if (market.getAskAmount(level) != 0) {
+        appendLevel(sb, n++, market.getAskPrice(level), market.getAskAmount(level));
+      }
+    }
+    return sb.append("]}").toString();
+  }
+
+  private static String l2update(MarketModel market) {
+    market.change();
+    StringBuilder sb = new StringBuilder(160);
+    sb.append("{\"type\":\"l2update\",\"product_id\":\"").append(market.getSymbol());
+    sb.append(
+        market.isChangeBid() ? "\",\"changes\":[[\"buy\",\"" : "\",\"changes\":[[\"sell\",\"");
+    appendPrice(sb, market.getChangePrice()).append("\",\"");
+    appendAmount(sb, market.getChangeAmount()).append("\"]],\"time\":\"");
+    return sb.append(Instant.now()).append("\"}").toString();
+  }
+
+  private static String match(SimulatorSession session, MarketModel market) {
+    session.trade(market);
+    long tradeId = market.getTradeId();
+    StringBuilder sb = new StringBuilder(256);
+    sb.append("{\"type\":\"match\",\"trade_id\":").append(tradeId);
+    sb.append(",\"maker_order_id\":\"m").append(tradeId);
+    sb.append("\",\"taker_order_id\":\"t").append(tradeId);
+    // the side of the maker
+    sb.append(
+        market.isTradeBuy()
+            ? "\",\"side\":\"sell\",\"size\":\""
+            : "\",\"side\":\"buy\",\"size\":\"");
+    appendAmount(sb, market.getTradeAmount()).append("\",\"price\":\"");
+    appendPrice(sb, market.getTradePrice()).append("\",\"product_id\":\"");
+    sb.append(market.getSymbol()).append("\",\"sequence\":").append(tradeId);
+    return sb.append(",\"time\":\"").append(Instant.now()).append("\"}").toString();
+  }
+
+  private static void appendLevel(StringBuilder sb, int index, long price, long amount) {
+    if (index > 0) {
+      sb.append(',');
+    }
+    sb.append("[\"");
+    appendPrice(sb, price).append("\",\"");
+    appendAmount(sb, amount).append("\"]");
+  }
+}
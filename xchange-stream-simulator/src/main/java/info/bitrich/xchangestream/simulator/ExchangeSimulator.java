@@ -0,0 +1,209 @@
+package info.bitrich.xchangestream.simulator;
+
+import info.bitrich.xchangestream.core.StreamingExchange;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketServerCompressionHandler;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.knowm.xchange.dto.marketdata.Trade;
+
+/**
+ * An in-process WebSocket server speaking the wire protocol of a {@link Venue}, so that the
+ * streaming exchanges can be load tested without network. It serves the snapshots and deltas of the
+ * subscribed books and the trades of their symbols at the configured rate, drops messages to
+ * simulate sequence gaps, closes the connections to exercise the reconnections and, if enabled,
+ * compresses the frames. The REST requests of the venue's streaming services, e.g. Binance's book
+ * snapshots, are answered on the same port.
+ *
+ * <pre>{@code
+ * try (ExchangeSimulator simulator = new ExchangeSimulator(Venue.KRAKEN, config)) {
+ *   simulator.start();
+ *   StreamingExchange exchange = simulator.createExchange();
+ *   exchange.connect().blockingAwait();
+ * }
+ * }</pre>
+ *
+ * The simulator runs on a single thread, named {@value #THREAD_NAME}, so that the markets need no
+ * synchronization; it formats well over 100,000 messages per second. The time at which each trade
+ * is flushed to the socket is kept for the latest {@value #SEND_TIMES_SIZE} trades, to measure the
+ * end-to-end latency of the client.
+ */
+public final class ExchangeSimulator implements AutoCloseable {
+
+  public static final String THREAD_NAME = "exchange-simulator";
+
+  static final int SEND_TIMES_SIZE = 1 << 20;
+  private static final int MAX_CONTENT_LENGTH = 65536;
+  /** Small, so that a slow client is paced by the socket rather than queued in it */
+  private static final int SEND_BUFFER_SIZE = 65536;
+
+  private final Venue venue;
+  private final SimulatorConfig config;
+  private final VenueProtocol protocol;
+  private final Map<String, MarketModel> markets = new HashMap<>();
+  private final AtomicLongArray sendTimes = new AtomicLongArray(SEND_TIMES_SIZE);
+  private final AtomicLong messagesSent = new AtomicLong();
+  private final AtomicLong messagesDropped = new AtomicLong();
+  private final AtomicLong connections = new AtomicLong();
+  private volatile long lastTradeId;
+
+  private EventLoopGroup group;
+  private Channel serverChannel;
+
+  public ExchangeSimulator(Venue venue, SimulatorConfig config) {
+    this.venue = venue;
+    this.config = config;
+    this.protocol = venue.newProtocol();
+  }
+
+  /** Listens on an ephemeral port of the loopback interface. */
+  public synchronized void start() throws InterruptedException {
+    if (group != null) {
+      throw new IllegalStateException("Simulator already started");
+    }
+    group = new NioEventLoopGroup(1, new DefaultThreadFactory(THREAD_NAME, true));
+    serverChannel =
+        new ServerBootstrap()
+            .group(group)
+            .channel(NioServerSocketChannel.class)
+            .childOption(ChannelOption.SO_SNDBUF, SEND_BUFFER_SIZE)
+            .childHandler(
+                new ChannelInitializer<SocketChannel>() {
+                  @Override
+                  protected void initChannel(SocketChannel ch) {
+                    ChannelPipeline pipeline = ch.pipeline();
+                    pipeline.addLast(new HttpServerCodec());
+                    pipeline.addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH));
+                    if (config.isCompression()) {
+                      pipeline.addLast(new WebSocketServerCompressionHandler());
+                    }
+                    pipeline.addLast(new SimulatorHandler(ExchangeSimulator.this));
+                  }
+                })
+            .bind("127.0.0.1", 0)
+            .sync()
+            .channel();
+  }
+
+  /** Closes the connections and stops the server. */
+  @Override
+  public synchronized void close() {
+    if (group != null) {
+      group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+      group = null;
+    }
+  }
+
+  public Venue getVenue() {
+    return venue;
+  }
+
+  public SimulatorConfig getConfig() {
+    return config;
+  }
+
+  public int getPort() {
+    return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+  }
+
+  /** @return the URI of the REST API, to set as the SSL URI of the exchange */
+  public String getHttpUri() {
+    return "http://127.0.0.1:" + getPort();
+  }
+
+  /** @return the URI of the WebSocket API, as expected by the venue's streaming exchange */
+  public String getWebSocketUri() {
+    return "ws://127.0.0.1:" + getPort() + venue.getWebSocketPath();
+  }
+
+  /** @return a streaming exchange of the venue connecting to this simulator, not yet connected */
+  public StreamingExchange createExchange() {
+    return venue.createExchange(this);
+  }
+
+  /**
+   * @return the {@link System#nanoTime()} at which the trade was flushed to the socket, or 0 if it
+   *     is unknown
+   */
+  public long getSendTimeNanos(Trade trade) {
+    if (trade.getOriginalAmount() == null) {
+      return 0;
+    }
+    long id = trade.getOriginalAmount().abs().movePointRight(MarketModel.AMOUNT_SCALE).longValue();
+    if (id <= 0 || id > lastTradeId || id <= lastTradeId - SEND_TIMES_SIZE) {
+      return 0;
+    }
+    return sendTimes.get((int) (id & (SEND_TIMES_SIZE - 1)));
+  }
+
+  /** @return the number of messages sent by the feeds, excluding snapshots and acknowledgements */
+  public long getMessagesSent() {
+    return messagesSent.get();
+  }
+
+  /** @return the number of messages dropped to simulate gaps */
+  public long getMessagesDropped() {
+    return messagesDropped.get();
+  }
+
+  /** @return the number of WebSocket connections accepted */
+  public long getConnections() {
+    return connections.get();
+  }
+
+  VenueProtocol getProtocol() {
+    return protocol;
+  }
+
+  MarketModel market(String symbol) {
+    return markets.computeIfAbsent(
+        symbol, s -> new MarketModel(s, config.getBookDepth(), config.getSeed()));
+  }
+
+  /** Advances the market by a trade with a new id. */
+  void trade(MarketModel market) {
+    long id = lastTradeId + 1;
+    sendTimes.lazySet((int) (id & (SEND_TIMES_SIZE - 1)), 0);
+    lastTradeId = id;
+    market.trade(id);
+  }
+
+  long getLastTradeId() {
+    return lastTradeId;
+  }
+
+  /** Stamps the trades after the given one, whose messages are about to be flushed. */
+  void stampSendTimes(long afterTradeId) {
+    long now = System.nanoTime();
+    for (long id = afterTradeId + 1; id <= lastTradeId; id++) {
+      sendTimes.lazySet((int) (id & (SEND_TIMES_SIZE - 1)), now);
+    }
+  }
+
+  void onConnected() {
+    connections.incrementAndGet();
+  }
+
+  void onSent() {
+    messagesSent.incrementAndGet();
+  }
+
+  void onDropped() {
+    messagesDropped.incrementAndGet();
+  }
+}
@@ -0,0 +1,11 @@
+package info.bitrich.xchangestream.simulator;
+
+/** A stream of messages paced on a connection, e.g. the updates of a book. */
+interface Feed {
+
+  /**
+   * Advances the market and formats the resulting message. The sequence numbers of a message are
+   * consumed even if the message is then dropped to simulate a gap.
+   */
+  String next();
+}
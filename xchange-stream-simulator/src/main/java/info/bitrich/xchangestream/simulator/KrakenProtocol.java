@@ -0,0 +1,120 @@
+package info.bitrich.xchangestream.simulator;
+
+import static info.bitrich.xchangestream.simulator.MarketModel.appendAmount;
+import static info.bitrich.xchangestream.simulator.MarketModel.appendPrice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * Kraken's public WebSocket API: each pair of a subscription is acknowledged with the id of its
+ * channel, which prefixes its messages. A book is sent as a snapshot of its levels on subscription,
+ * then as the changes of single levels.
+ */
+final class KrakenProtocol implements VenueProtocol {
+
+  private static final int DEFAULT_DEPTH = 10;
+
+  @Override
+  public void onConnect(SimulatorSession session, QueryStringDecoder request) {
+    session.send(
+        "{\"connectionID\":1,\"event\":\"systemStatus\","
+            + "\"status\":\"online\",\"version\":\"1.4.0\"}");
+  }
+
+  @Override
+  public void onMessage(SimulatorSession session, JsonNode message) {
+    String event = message.path("event").asText();
+    if ("ping".equals(event)) {
+      session.send("{\"event\":\"pong\",\"reqid\":" + message.path("reqid").asLong() + "}");
+    } else if ("subscribe".equals(event)) {
+      JsonNode subscription = message.path("subscription");
+      String name = subscription.path("name").asText();
+      int depth = subscription.path("depth").asInt(DEFAULT_DEPTH);
+      for (JsonNode pair : message.path("pair")) {
+        subscribe(session, message.path("reqid").asLong(), name, depth, pair.asText());
+      }
+    }
+  }
+
+  private static void subscribe(
+      SimulatorSession session, long reqid, String name, int depth, String pair) {
+    int channelId = session.nextChannelId();
+    String channelName = "book".equals(name) ? "book-" + depth : name;
+    session.send(
+        "{\"channelID\":"
+            + channelId
+            + ",\"channelName\":\""
+            + channelName
+            + "\",\"event\":\"subscriptionStatus\",\"pair\":\""
+            + pair
+            + "\",\"reqid\":"
+            + reqid
+            + ",\"status\":\"subscribed\",\"subscription\":{"
+            + ("book".equals(name) ? "\"depth\":" + depth + "," : "")
+            + "\"name\":\""
+            + name
+            + "\"}}");
+    MarketModel market = session.market(pair);
+    String suffix = "],\"" + channelName + "\",\"" + pair + "\"]";
+    if ("book".equals(name)) {
+      session.send(snapshot(channelId, market, Math.min(depth, market.getDepth()), suffix));
+      session.addFeed(() -> bookUpdate(channelId, market, suffix));
+    } else if ("trade".equals(name)) {
+      session.addFeed(() -> trade(session, channelId, market, suffix));
+    }
+  }
+
+  private static String snapshot(int channelId, MarketModel market, int depth, String suffix) {
+    String time = time();
+    StringBuilder sb = new StringBuilder(96 * depth);
+    sb.append('[').append(channelId).append(",{\"as\":[");
+    for (int level = 0, n = 0; level < depth; level++) {
+      if (market.getAskAmount(level) != 0) {
+        appendLevel(sb, n++, market.getAskPrice(level), market.getAskAmount(level), time);
+      }
+    }
+    sb.append("],\"bs\":[");
+    for (int level = 0, n = 0; level < depth; level++) {
+      if (market.getBidAmount(level) != 0) {
+        appendLevel(sb, n++, market.getBidPrice(level), market.getBidAmount(level), time);
+      }
+    }
+    return sb.append("]}").append(suffix.substring(1)).toString();
+  }
+
+  private static String bookUpdate(int channelId, MarketModel market, String suffix) {
+    market.change();
+    StringBuilder sb = new StringBuilder(96);
+    sb.append('[').append(channelId).append(market.isChangeBid() ? ",{\"b\":[" : ",{\"a\":[");
+    appendLevel(sb, 0, market.getChangePrice(), market.getChangeAmount(), time());
+    return sb.append("]}").append(suffix.substring(1)).toString();
+  }
+
+  private static String trade(
+      SimulatorSession session, int channelId, MarketModel market, String suffix) {
+    session.trade(market);
+    StringBuilder sb = new StringBuilder(128);
+    sb.append('[').append(channelId).append(",[[\"");
+    appendPrice(sb, market.getTradePrice()).append("\",\"");
+    appendAmount(sb, market.getTradeAmount()).append("\",\"").append(time());
+    sb.append(market.isTradeBuy() ? "\",\"b\",\"l\",\"\"]" : "\",\"s\",\"l\",\"\"]");
+    return sb.append(suffix).toString();
+  }
+
+  private static void appendLevel(
+      StringBuilder sb, int index, long price, long amount, String time) {
+    if (index > 0) {
+      sb.append(',');
+    }
+    sb.append("[\"");
+    appendPrice(sb, price).append("\",\"");
+    appendAmount(sb, amount).append("\",\"").append(time).append("\"]");
+  }
+
+  /** @return the current time in seconds, with microseconds */
+  private static String time() {
+    return MarketModel.appendDecimal(new StringBuilder(17), System.currentTimeMillis() * 1000, 6)
+        .toString();
+  }
+}
@@ -0,0 +1,168 @@
+package info.bitrich.xchangestream.simulator;
+
+import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.core.StreamingExchange;
+import info.bitrich.xchangestream.core.StreamingMarketDataService;
+import info.bitrich.xchangestream.service.metrics.LatencyHistogram;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * Measures a venue's streaming exchange against an {@link ExchangeSimulator}: the throughput of its
+ * order books and trades, the latency of the trades from their flush by the simulator to their
+ * emission to the subscriber, and the bytes allocated meanwhile by the threads other than the
+ * simulator's, i.e. by the client.
+ *
+ * <pre>{@code
+ * SimulatorConfig config = SimulatorConfig.builder().messagesPerSecond(100_000).build();
+ * LoadTestReport report =
+ *     new LoadTestDriver(Venue.KRAKEN, config).run(Duration.ofSeconds(5), Duration.ofSeconds(30));
+ * }</pre>
+ *
+ * Or from the command line, with the venue, the messages per second and the seconds to measure:
+ *
+ * <pre>
+ * java -cp ... info.bitrich.xchangestream.simulator.LoadTestDriver KRAKEN 100000 30
+ * </pre>
+ */
+public final class LoadTestDriver {
+
+  private final Venue venue;
+  private final SimulatorConfig config;
+  private final CurrencyPair currencyPair;
+
+  public LoadTestDriver(Venue venue, SimulatorConfig config) {
+    this(venue, config, venue.getDefaultPair());
+  }
+
+  public LoadTestDriver(Venue venue, SimulatorConfig config, CurrencyPair currencyPair) {
+    this.venue = venue;
+    this.config = config;
+    this.currencyPair = currencyPair;
+  }
+
+  /**
+   * Connects the exchange to a new simulator and subscribes to the book and the trades of the pair,
+   * then measures after the warm-up.
+   */
+  public LoadTestReport run(Duration warmUp, Duration duration) throws InterruptedException {
+    try (ExchangeSimulator simulator = new ExchangeSimulator(venue, config)) {
+      simulator.start();
+      StreamingExchange exchange = simulator.createExchange();
+      exchange
+          .connect(
+              ProductSubscription.create()
+                  .addOrderbook(currencyPair)
+                  .addTrades(currencyPair)
+                  .build())
+          .blockingAwait();
+
+      LongAdder orderBooks = new LongAdder();
+      LongAdder trades = new LongAdder();
+      LatencyHistogram tradeLatency = new LatencyHistogram();
+      StreamingMarketDataService marketDataService = exchange.getStreamingMarketDataService();
+      CompositeDisposable subscriptions = new CompositeDisposable();
+      subscriptions.add(
+          marketDataService.getOrderBook(currencyPair).subscribe(book -> orderBooks.increment()));
+      subscriptions.add(
+          marketDataService
+              .getTrades(currencyPair)
+              .subscribe(
+                  trade -> {
+                    long sendTime = simulator.getSendTimeNanos(trade);
+                    if (sendTime != 0) {
+                      tradeLatency.record(System.nanoTime() - sendTime);
+                    }
+                    trades.increment();
+                  }));
+      try {
+        Thread.sleep(warmUp.toMillis());
+        orderBooks.reset();
+        trades.reset();
+        tradeLatency.reset();
+        long messagesSent = simulator.getMessagesSent();
+        Map<Long, Long> allocated = allocatedBytes();
+        long start = System.nanoTime();
+
+        Thread.sleep(duration.toMillis());
+
+        long durationNanos = System.nanoTime() - start;
+        long orderBookCount = orderBooks.sum();
+        long tradeCount = trades.sum();
+        long allocatedBytes = allocatedBytesSince(allocated);
+        return new LoadTestReport(
+            venue,
+            config,
+            durationNanos,
+            simulator.getMessagesSent() - messagesSent,
+            orderBookCount,
+            tradeCount,
+            tradeLatency,
+            allocatedBytes,
+            simulator.getConnections());
+      } finally {
+        subscriptions.dispose();
+        exchange.disconnect().blockingAwait();
+      }
+    }
+  }
+
+  /**
+   * @return the bytes allocated so far by each live thread but the simulator's, or null if the JVM
+   *     doesn't measure them
+   */
+  private static Map<Long, Long> allocatedBytes() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (!(threads instanceof com.sun.management.ThreadMXBean)
+        || !((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled()) {
+      return null;
+    }
+    Map<Long, Long> allocated = new HashMap<>();
+    for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+      if (thread != null && !thread.getThreadName().startsWith(ExchangeSimulator.THREAD_NAME)) {
+        long bytes =
+            ((com.sun.management.ThreadMXBean) threads)
+                .getThreadAllocatedBytes(thread.getThreadId());
+        if (bytes >= 0) {
+          allocated.put(thread.getThreadId(), bytes);
+        }
+      }
+    }
+    return allocated;
+  }
+
+  /** @return the bytes allocated since, by the threads still alive, or -1 if unsupported */
+  private static long allocatedBytesSince(Map<Long, Long> start) {
+    Map<Long, Long> end = allocatedBytes();
+    if (start == null || end == null) {
+      return -1;
+    }
+    long bytes = 0;
+    for (Map.Entry<Long, Long> thread : end.entrySet()) {
+      bytes += thread.getValue() - start.getOrDefault(thread.getKey(), 0L);
+    }
+    return bytes;
+  }
+
+  /**
+   * The command line tool, whose arguments are the venue, the messages per second and the seconds
+   * to measure. The report is printed to the standard output rather than logged, so that it is
+   * shown whatever the logging configuration.
+   */
+  public static void main(String[] args) throws InterruptedException {
+    Venue venue = args.length > 0 ? Venue.valueOf(args[0]) : Venue.BINANCE;
+    int messagesPerSecond = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+    SimulatorConfig config = SimulatorConfig.builder().messagesPerSecond(messagesPerSecond).build();
+    LoadTestReport report =
+        new LoadTestDriver(venue, config).run(Duration.ofSeconds(5), Duration.ofSeconds(seconds));
+    System.out.println(report);
+  }
+}
@@ -0,0 +1,119 @@
+package info.bitrich.xchangestream.simulator;
+
+import info.bitrich.xchangestream.service.metrics.LatencyHistogram;
+import java.util.concurrent.TimeUnit;
+
+/** The measures of a {@link LoadTestDriver} run, over its measurement period. */
+public final class LoadTestReport {
+
+  private final Venue venue;
+  private final SimulatorConfig config;
+  private final long durationNanos;
+  private final long messagesSent;
+  private final long orderBooks;
+  private final long trades;
+  private final LatencyHistogram tradeLatency;
+  private final long allocatedBytes;
+  private final long connections;
+
+  LoadTestReport(
+      Venue venue,
+      SimulatorConfig config,
+      long durationNanos,
+      long messagesSent,
+      long orderBooks,
+      long trades,
+      LatencyHistogram tradeLatency,
+      long allocatedBytes,
+      long connections) {
+    this.venue = venue;
+    this.config = config;
+    this.durationNanos = durationNanos;
+    this.messagesSent = messagesSent;
+    this.orderBooks = orderBooks;
+    this.trades = trades;
+    this.tradeLatency = tradeLatency;
+    this.allocatedBytes = allocatedBytes;
+    this.connections = connections;
+  }
+
+  public Venue getVenue() {
+    return venue;
+  }
+
+  public SimulatorConfig getConfig() {
+    return config;
+  }
+
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /** @return the number of messages sent by the simulator's feeds */
+  public long getMessagesSent() {
+    return messagesSent;
+  }
+
+  /** @return the number of order books emitted by the exchange */
+  public long getOrderBooks() {
+    return orderBooks;
+  }
+
+  /** @return the number of trades emitted by the exchange */
+  public long getTrades() {
+    return trades;
+  }
+
+  /** @return the order books and trades emitted per second */
+  public double getUpdatesPerSecond() {
+    return (orderBooks + trades) * 1e9 / durationNanos;
+  }
+
+  /**
+   * @return the nanoseconds from the flush of a trade by the simulator to its emission by the
+   *     exchange
+   */
+  public LatencyHistogram getTradeLatency() {
+    return tradeLatency;
+  }
+
+  /** @return the bytes allocated by the threads other than the simulator's, -1 if unsupported */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /** @return the bytes allocated per order book or trade emitted, -1 if unsupported */
+  public double getAllocatedBytesPerUpdate() {
+    long updates = orderBooks + trades;
+    return allocatedBytes < 0 || updates == 0 ? -1 : (double) allocatedBytes / updates;
+  }
+
+  /** @return the number of connections accepted by the simulator, including the reconnections */
+  public long getConnections() {
+    return connections;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s over %.1fs: %d messages sent, %d order books, %d trades, %.0f updates/s,"
+            + " trade latency p50=%dus p99=%dus p99.9=%dus max=%dus,"
+            + " %.0f bytes allocated/update, %d connections",
+        venue,
+        durationNanos / 1e9,
+        messagesSent,
+        orderBooks,
+        trades,
+        getUpdatesPerSecond(),
+        micros(tradeLatency.getValueAtPercentile(50)),
+        micros(tradeLatency.getValueAtPercentile(99)),
+        micros(tradeLatency.getValueAtPercentile(99.9)),
+        micros(tradeLatency.getMaxValue()),
+        getAllocatedBytesPerUpdate(),
+        connections);
+  }
+
+  private static long micros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+}
@@ -0,0 +1,169 @@
+package info.bitrich.xchangestream.simulator;
+
+import java.util.Random;
+
+/**
+ * The book of a symbol, on a fixed grid of price ticks around the mid price, and the trades against
+ * it, from which the venues format their messages. Random but reproducible from the seed. Only used
+ * on the simulator's thread.
+ *
+ * <p>Prices and amounts are fixed point, in units of {@link #PRICE_SCALE} and {@link #AMOUNT_SCALE}
+ * decimals. The amount of a trade is its id, so that a client's trade can be matched with its send
+ * time whatever the venue's trade ids.
+ */
+final class MarketModel {
+
+  static final int PRICE_SCALE = 2;
+  static final int AMOUNT_SCALE = 8;
+
+  private static final long MID_PRICE = 941_500;
+  private static final int MAX_LEVEL_AMOUNT = 300_000_000;
+
+  private final String symbol;
+  private final long[] bids;
+  private final long[] asks;
+  private final Random random;
+  private long updateId;
+
+  private boolean changeBid;
+  private long changePrice;
+  private long changeAmount;
+
+  private long tradeId;
+  private boolean tradeBuy;
+  private long tradePrice;
+
+  MarketModel(String symbol, int depth, long seed) {
+    this.symbol = symbol;
+    this.bids = new long[depth];
+    this.asks = new long[depth];
+    this.random = new Random(seed ^ symbol.hashCode());
+    for (int level = 0; level < depth; level++) {
+      bids[level] = randomAmount();
+      asks[level] = randomAmount();
+    }
+  }
+
+  String getSymbol() {
+    return symbol;
+  }
+
+  int getDepth() {
+    return bids.length;
+  }
+
+  /** @return the id of the last change, which is 0 until the first one */
+  long getUpdateId() {
+    return updateId;
+  }
+
+  long getBidPrice(int level) {
+    return MID_PRICE - 1 - level;
+  }
+
+  long getAskPrice(int level) {
+    return MID_PRICE + 1 + level;
+  }
+
+  /** @return the amount at the level, 0 if it is empty */
+  long getBidAmount(int level) {
+    return bids[level];
+  }
+
+  /** @return the amount at the level, 0 if it is empty */
+  long getAskAmount(int level) {
+    return asks[level];
+  }
+
+  /** Changes the amount of a random level, emptying it once in 8 changes. */
+  void change() {
+    int level = random.nextInt(bids.length);
+    changeBid = random.nextBoolean();
+    changeAmount = random.nextInt(8) == 0 ? 0 : randomAmount();
+    if (changeBid) {
+      bids[level] = changeAmount;
+      changePrice = getBidPrice(level);
+    } else {
+      asks[level] = changeAmount;
+      changePrice = getAskPrice(level);
+    }
+    updateId++;
+  }
+
+  boolean isChangeBid() {
+    return changeBid;
+  }
+
+  long getChangePrice() {
+    return changePrice;
+  }
+
+  long getChangeAmount() {
+    return changeAmount;
+  }
+
+  /** Trades at the best price of a random side, without changing the book. */
+  void trade(long id) {
+    tradeId = id;
+    tradeBuy = random.nextBoolean();
+    tradePrice = tradeBuy ? getAskPrice(firstLevel(asks)) : getBidPrice(firstLevel(bids));
+  }
+
+  long getTradeId() {
+    return tradeId;
+  }
+
+  /** @return true if the taker bought */
+  boolean isTradeBuy() {
+    return tradeBuy;
+  }
+
+  long getTradePrice() {
+    return tradePrice;
+  }
+
+  long getTradeAmount() {
+    return tradeId;
+  }
+
+  private long randomAmount() {
+    return 1 + random.nextInt(MAX_LEVEL_AMOUNT);
+  }
+
+  private static int firstLevel(long[] amounts) {
+    for (int level = 0; level < amounts.length; level++) {
+      if (amounts[level] != 0) {
+        return level;
+      }
+    }
+    return 0;
+  }
+
+  static StringBuilder appendPrice(StringBuilder sb, long price) {
+    return appendDecimal(sb, price, PRICE_SCALE);
+  }
+
+  static StringBuilder appendAmount(StringBuilder sb, long amount) {
+    return appendDecimal(sb, amount, AMOUNT_SCALE);
+  }
+
+  /** Appends the fixed point value with all its decimals, e.g. 0.00012300 */
+  static StringBuilder appendDecimal(StringBuilder sb, long units, int scale) {
+    if (units < 0) {
+      sb.append('-');
+      units = -units;
+    }
+    String digits = Long.toString(units);
+    int integerDigits = digits.length() - scale;
+    if (integerDigits <= 0) {
+      sb.append("0.");
+      for (int i = integerDigits; i < 0; i++) {
+        sb.append('0');
+      }
+      return sb.append(digits);
+    }
+    return sb.append(digits, 0, integerDigits)
+        .append('.')
+        .append(digits, integerDigits, digits.length());
+  }
+}
@@ -0,0 +1,125 @@
+package info.bitrich.xchangestream.simulator;
+
+/** The rates and faults of the feeds served by an {@link ExchangeSimulator}. */
+public final class SimulatorConfig {
+
+  private final int messagesPerSecond;
+  private final int bookDepth;
+  private final long gapEvery;
+  private final long disconnectEvery;
+  private final boolean compression;
+  private final long seed;
+
+  private SimulatorConfig(Builder builder) {
+    this.messagesPerSecond = builder.messagesPerSecond;
+    this.bookDepth = builder.bookDepth;
+    this.gapEvery = builder.gapEvery;
+    this.disconnectEvery = builder.disconnectEvery;
+    this.compression = builder.compression;
+    this.seed = builder.seed;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** @return the messages sent per second on each connection, all its feeds together */
+  public int getMessagesPerSecond() {
+    return messagesPerSecond;
+  }
+
+  /** @return the number of price levels on each side of the books */
+  public int getBookDepth() {
+    return bookDepth;
+  }
+
+  /** @return the number of messages after which one is dropped, 0 if none is */
+  public long getGapEvery() {
+    return gapEvery;
+  }
+
+  /** @return the number of messages after which the connection is closed, 0 if it never is */
+  public long getDisconnectEvery() {
+    return disconnectEvery;
+  }
+
+  /** @return whether the permessage-deflate extension is accepted */
+  public boolean isCompression() {
+    return compression;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public String toString() {
+    return "SimulatorConfig{"
+        + "messagesPerSecond="
+        + messagesPerSecond
+        + ", bookDepth="
+        + bookDepth
+        + ", gapEvery="
+        + gapEvery
+        + ", disconnectEvery="
+        + disconnectEvery
+        + ", compression="
+        + compression
+        + ", seed="
+        + seed
+        + '}';
+  }
+
+  public static final class Builder {
+
+    private int messagesPerSecond = 10_000;
+    private int bookDepth = 25;
+    private long gapEvery;
+    private long disconnectEvery;
+    private boolean compression;
+    private long seed = 42;
+
+    public Builder messagesPerSecond(int messagesPerSecond) {
+      this.messagesPerSecond = messagesPerSecond;
+      return this;
+    }
+
+    public Builder bookDepth(int bookDepth) {
+      this.bookDepth = bookDepth;
+      return this;
+    }
+
+    public Builder gapEvery(long gapEvery) {
+      this.gapEvery = gapEvery;
+      return this;
+    }
+
+    public Builder disconnectEvery(long disconnectEvery) {
+      this.disconnectEvery = disconnectEvery;
+      return this;
+    }
+
+    public Builder compression(boolean compression) {
+      this.compression = compression;
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    public SimulatorConfig build() {
+      if (messagesPerSecond <= 0) {
+        throw new IllegalArgumentException("messagesPerSecond must be positive");
+      }
+      if (bookDepth <= 0) {
+        throw new IllegalArgumentException("bookDepth must be positive");
+      }
+      if (gapEvery < 0 || disconnectEvery < 0) {
+        throw new IllegalArgumentException("gapEvery and disconnectEvery must not be negative");
+      }
+      return new SimulatorConfig(this);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package info.bitrich.xchangestream.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
+import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
+import io.netty.util.CharsetUtil;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Upgrades the WebSocket requests to a {@link SimulatorSession}, and answers the REST ones. */
+final class SimulatorHandler extends SimpleChannelInboundHandler<Object> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SimulatorHandler.class);
+
+  private static final int MAX_FRAME_SIZE = 65536;
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final ExchangeSimulator simulator;
+  private WebSocketServerHandshaker handshaker;
+  private SimulatorSession session;
+
+  SimulatorHandler(ExchangeSimulator simulator) {
+    this.simulator = simulator;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, Object msg) throws IOException {
+    if (msg instanceof FullHttpRequest) {
+      handleHttpRequest(ctx, (FullHttpRequest) msg);
+    } else if (msg instanceof WebSocketFrame) {
+      handleFrame(ctx, (WebSocketFrame) msg);
+    }
+  }
+
+  private void handleHttpRequest(ChannelHandlerContext ctx, FullHttpRequest request) {
+    QueryStringDecoder uri = new QueryStringDecoder(request.uri());
+    if (HttpHeaderValues.WEBSOCKET.contentEqualsIgnoreCase(
+        request.headers().get(HttpHeaderNames.UPGRADE, ""))) {
+      handshaker =
+          new WebSocketServerHandshakerFactory(
+                  simulator.getWebSocketUri(), null, true, MAX_FRAME_SIZE)
+              .newHandshaker(request);
+      if (handshaker == null) {
+        WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
+        return;
+      }
+      session = new SimulatorSession(simulator, ctx.channel());
+      handshaker
+          .handshake(ctx.channel(), request)
+          .addListener(
+              future -> {
+                if (future.isSuccess()) {
+                  simulator.onConnected();
+                  simulator.getProtocol().onConnect(session, uri);
+                }
+              });
+      return;
+    }
+
+    String body = simulator.getProtocol().onHttpRequest(simulator, uri);
+    FullHttpResponse response =
+        body == null
+            ? new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND)
+            : new DefaultFullHttpResponse(
+                HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK,
+                Unpooled.copiedBuffer(body, CharsetUtil.UTF_8));
+    response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+    HttpUtil.setContentLength(response, response.content().readableBytes());
+    if (HttpUtil.isKeepAlive(request)) {
+      HttpUtil.setKeepAlive(response, true);
+      ctx.writeAndFlush(response);
+    } else {
+      ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+
+  private void handleFrame(ChannelHandlerContext ctx, WebSocketFrame frame) throws IOException {
+    if (frame instanceof CloseWebSocketFrame) {
+      session.stop();
+      handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain());
+    } else if (frame instanceof PingWebSocketFrame) {
+      ctx.writeAndFlush(new PongWebSocketFrame(frame.content().retain()));
+    } else if (frame instanceof TextWebSocketFrame) {
+      JsonNode message = mapper.readTree(((TextWebSocketFrame) frame).text());
+      simulator.getProtocol().onMessage(session, message);
+    }
+  }
+
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    if (session != null) {
+      session.stop();
+    }
+    super.channelInactive(ctx);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    LOG.warn(
+        "Closing the connection of the simulated {}: {}", simulator.getVenue(), cause.toString());
+    ctx.close();
+  }
+}
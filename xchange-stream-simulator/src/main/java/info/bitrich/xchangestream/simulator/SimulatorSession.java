@@ -0,0 +1,122 @@
+package info.bitrich.xchangestream.simulator;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A WebSocket connection to the simulator. Its feeds are paced together at the configured rate, in
+ * turn, by a timer ticking every millisecond on the simulator's thread, and the messages of a tick
+ * are flushed at once.
+ *
+ * <p>When the client doesn't keep up, i.e. the channel isn't writable, the messages aren't queued
+ * beyond 10 milliseconds' worth, so the rate achieved is the client's.
+ */
+final class SimulatorSession {
+
+  private static final long TICK_MICROS = 1000;
+
+  private final ExchangeSimulator simulator;
+  private final Channel channel;
+  private final SimulatorConfig config;
+  private final double messagesPerNano;
+  private final long maxBacklog;
+  private final List<Feed> feeds = new ArrayList<>();
+
+  private ScheduledFuture<?> pacing;
+  private long startNanos;
+  private long paced;
+  private long generated;
+  private int nextFeed;
+  private int channelIds;
+
+  SimulatorSession(ExchangeSimulator simulator, Channel channel) {
+    this.simulator = simulator;
+    this.channel = channel;
+    this.config = simulator.getConfig();
+    this.messagesPerNano = config.getMessagesPerSecond() / 1e9;
+    this.maxBacklog = Math.max(1, config.getMessagesPerSecond() / 100);
+  }
+
+  MarketModel market(String symbol) {
+    return simulator.market(symbol);
+  }
+
+  /** Advances the market by a trade, whose send time is stamped when it is flushed. */
+  void trade(MarketModel market) {
+    simulator.trade(market);
+  }
+
+  /** @return a new id for a channel of this connection, for the venues that number them */
+  int nextChannelId() {
+    return ++channelIds;
+  }
+
+  /** Sends a message right away, e.g. a subscription acknowledgement or a snapshot. */
+  void send(String message) {
+    channel.writeAndFlush(new TextWebSocketFrame(message));
+  }
+
+  /** Adds a feed to pace, starting the pacing with the first one. */
+  void addFeed(Feed feed) {
+    feeds.add(feed);
+    if (pacing == null) {
+      startNanos = System.nanoTime();
+      pacing =
+          channel
+              .eventLoop()
+              .scheduleAtFixedRate(this::tick, TICK_MICROS, TICK_MICROS, TimeUnit.MICROSECONDS);
+    }
+  }
+
+  void stop() {
+    if (pacing != null) {
+      pacing.cancel(false);
+    }
+  }
+
+  private void tick() {
+    if (!channel.isActive()) {
+      stop();
+      return;
+    }
+    long due = (long) ((System.nanoTime() - startNanos) * messagesPerNano);
+    if (due - paced > maxBacklog) {
+      paced = due - maxBacklog;
+    }
+    long lastTradeId = simulator.getLastTradeId();
+    boolean written = false;
+    while (paced < due && channel.isWritable()) {
+      paced++;
+      Feed feed = feeds.get(nextFeed);
+      nextFeed = (nextFeed + 1) % feeds.size();
+      String message = feed.next();
+      generated++;
+      if (config.getGapEvery() > 0 && generated % config.getGapEvery() == 0) {
+        simulator.onDropped();
+        continue;
+      }
+      channel.write(new TextWebSocketFrame(message));
+      simulator.onSent();
+      written = true;
+      if (config.getDisconnectEvery() > 0 && generated % config.getDisconnectEvery() == 0) {
+        break;
+      }
+    }
+    if (written) {
+      simulator.stampSendTimes(lastTradeId);
+      channel.flush();
+    }
+    if (config.getDisconnectEvery() > 0
+        && generated > 0
+        && generated % config.getDisconnectEvery() == 0) {
+      stop();
+      channel.writeAndFlush(new CloseWebSocketFrame()).addListener(ChannelFutureListener.CLOSE);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package info.bitrich.xchangestream.simulator;
+
+import info.bitrich.xchangestream.binance.BinanceStreamingExchange;
+import info.bitrich.xchangestream.bitfinex.BitfinexStreamingExchange;
+import info.bitrich.xchangestream.coinbasepro.CoinbaseProStreamingExchange;
+import info.bitrich.xchangestream.core.StreamingExchange;
+import info.bitrich.xchangestream.core.StreamingExchangeFactory;
+import info.bitrich.xchangestream.kraken.KrakenStreamingExchange;
+import java.util.function.Supplier;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/** The venues whose wire protocol the {@link ExchangeSimulator} speaks. */
+public enum Venue {
+  BINANCE(BinanceStreamingExchange.class, "/", CurrencyPair.BTC_USDT, BinanceProtocol::new),
+  KRAKEN(KrakenStreamingExchange.class, "/", CurrencyPair.BTC_USD, KrakenProtocol::new),
+  COINBASE_PRO(
+      CoinbaseProStreamingExchange.class, "/", CurrencyPair.BTC_USD, CoinbaseProProtocol::new),
+  BITFINEX(BitfinexStreamingExchange.class, "/ws/2", CurrencyPair.BTC_USD, BitfinexProtocol::new);
+
+  private final Class<? extends StreamingExchange> exchangeClass;
+  private final String webSocketPath;
+  private final CurrencyPair defaultPair;
+  private final Supplier<VenueProtocol> protocol;
+
+  Venue(
+      Class<? extends StreamingExchange> exchangeClass,
+      String webSocketPath,
+      CurrencyPair defaultPair,
+      Supplier<VenueProtocol> protocol) {
+    this.exchangeClass = exchangeClass;
+    this.webSocketPath = webSocketPath;
+    this.defaultPair = defaultPair;
+    this.protocol = protocol;
+  }
+
+  public Class<? extends StreamingExchange> getExchangeClass() {
+    return exchangeClass;
+  }
+
+  /** @return a pair listed on the venue */
+  public CurrencyPair getDefaultPair() {
+    return defaultPair;
+  }
+
+  String getWebSocketPath() {
+    return webSocketPath;
+  }
+
+  VenueProtocol newProtocol() {
+    return protocol.get();
+  }
+
+  /**
+   * Creates the venue's streaming exchange with its default specification, except for the URIs of
+   * its APIs, which are the simulator's, and the remote metadata, which isn't loaded.
+   */
+  StreamingExchange createExchange(ExchangeSimulator simulator) {
+    StreamingExchange exchange =
+        StreamingExchangeFactory.INSTANCE.createExchangeWithoutSpecification(exchangeClass);
+    ExchangeSpecification spec = exchange.getDefaultExchangeSpecification();
+    spec.setShouldLoadRemoteMetaData(false);
+    spec.setSslUri(simulator.getHttpUri());
+    spec.setExchangeSpecificParametersItem(
+        StreamingExchange.WEBSOCKET_API_URI, simulator.getWebSocketUri());
+    exchange.applySpecification(spec);
+    return exchange;
+  }
+}
@@ -0,0 +1,25 @@
+package info.bitrich.xchangestream.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.netty.handler.codec.http.QueryStringDecoder;
+
+/**
+ * The wire protocol of a venue: answers the connections, subscriptions and REST requests of a
+ * client with messages formatted from the simulator's markets. Called on the simulator's thread.
+ */
+interface VenueProtocol {
+
+  /**
+   * Called once the WebSocket handshake is written, e.g. to send a greeting or to start the feeds
+   * of streams selected by the URI.
+   */
+  default void onConnect(SimulatorSession session, QueryStringDecoder request) {}
+
+  /** Handles a JSON message sent by the client, e.g. a subscription. */
+  void onMessage(SimulatorSession session, JsonNode message);
+
+  /** @return the JSON body of the response to a REST request, or null if it is not found */
+  default String onHttpRequest(ExchangeSimulator simulator, QueryStringDecoder request) {
+    return null;
+  }
+}
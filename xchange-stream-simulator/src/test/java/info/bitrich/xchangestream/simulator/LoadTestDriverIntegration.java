@@ -0,0 +1,69 @@
+package info.bitrich.xchangestream.simulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class LoadTestDriverIntegration {
+
+  private static final Duration WARM_UP = Duration.ofMillis(500);
+  private static final Duration DURATION = Duration.ofSeconds(1);
+
+  private static SimulatorConfig.Builder config() {
+    return SimulatorConfig.builder().messagesPerSecond(2000).bookDepth(10);
+  }
+
+  private static LoadTestReport run(Venue venue, SimulatorConfig config) throws Exception {
+    LoadTestReport report = new LoadTestDriver(venue, config).run(WARM_UP, DURATION);
+    assertThat(report.getMessagesSent()).isPositive();
+    assertThat(report.getOrderBooks()).isPositive();
+    assertThat(report.getTrades()).isPositive();
+    assertThat(report.getTradeLatency().getCount()).isPositive();
+    return report;
+  }
+
+  @Test
+  public void testBinance() throws Exception {
+    run(Venue.BINANCE, config().build());
+  }
+
+  @Test
+  public void testKraken() throws Exception {
+    run(Venue.KRAKEN, config().build());
+  }
+
+  @Test
+  public void testCoinbasePro() throws Exception {
+    run(Venue.COINBASE_PRO, config().build());
+  }
+
+  @Test
+  public void testBitfinex() throws Exception {
+    run(Venue.BITFINEX, config().build());
+  }
+
+  @Test
+  public void testBinanceResyncsAfterGaps() throws Exception {
+    LoadTestReport report = run(Venue.BINANCE, config().gapEvery(100).build());
+    assertThat(report.getConnections()).isEqualTo(1);
+  }
+
+  @Test
+  public void testKrakenReconnects() throws Exception {
+    LoadTestReport report = run(Venue.KRAKEN, config().disconnectEvery(1000).build());
+    assertThat(report.getConnections()).isGreaterThan(1);
+  }
+
+  @Test
+  public void testCompressedFrames() throws Exception {
+    run(Venue.COINBASE_PRO, config().compression(true).build());
+  }
+
+  @Test
+  public void testAppendDecimal() {
+    assertThat(MarketModel.appendDecimal(new StringBuilder(), 941500, 2)).hasToString("9415.00");
+    assertThat(MarketModel.appendDecimal(new StringBuilder(), 123, 8)).hasToString("0.00000123");
+    assertThat(MarketModel.appendDecimal(new StringBuilder(), -12345, 4)).hasToString("-1.2345");
+  }
+}